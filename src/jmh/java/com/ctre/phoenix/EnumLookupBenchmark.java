@@ -0,0 +1,86 @@
+package com.ctre.phoenix;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ctre.phoenix.motion.SetValueMotionProfile;
+import com.ctre.phoenix.sensors.PigeonIMU_StatusFrame;
+
+/**
+ * Decodes a dense enum (direct table) and a sparse one (binary search) through EnumLookup,
+ * and through the search of values() it replaced.
+ *
+ * Run with the gc profiler, ./gradlew jmh -PjmhArgs="EnumLookup -prof gc", to see
+ * gc.alloc.rate.norm: 0 B/op for the lookups, and the values() clone for the searches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumLookupBenchmark {
+	private int[] _profileValues;
+	private int[] _frameValues;
+	private int _next;
+
+	@Setup
+	public void setUp() {
+		SetValueMotionProfile[] profiles = SetValueMotionProfile.values();
+		_profileValues = new int[profiles.length + 1];
+		for (int i = 0; i < profiles.length; ++i) {
+			_profileValues[i] = profiles[i].value;
+		}
+		_profileValues[profiles.length] = 99;
+
+		PigeonIMU_StatusFrame[] frames = PigeonIMU_StatusFrame.values();
+		_frameValues = new int[frames.length + 1];
+		for (int i = 0; i < frames.length; ++i) {
+			_frameValues[i] = frames[i].value;
+		}
+		_frameValues[frames.length] = 0x041000;
+	}
+
+	private int next(int[] values) {
+		if (++_next >= values.length) {
+			_next = 0;
+		}
+		return values[_next];
+	}
+
+	@Benchmark
+	public SetValueMotionProfile denseLookup() {
+		return SetValueMotionProfile.valueOf(next(_profileValues));
+	}
+
+	@Benchmark
+	public SetValueMotionProfile denseSearch() {
+		int value = next(_profileValues);
+		for (SetValueMotionProfile e : SetValueMotionProfile.values()) {
+			if (e.value == value) {
+				return e;
+			}
+		}
+		return SetValueMotionProfile.Invalid;
+	}
+
+	@Benchmark
+	public PigeonIMU_StatusFrame sparseLookup() {
+		return PigeonIMU_StatusFrame.valueOf(next(_frameValues));
+	}
+
+	@Benchmark
+	public PigeonIMU_StatusFrame sparseSearch() {
+		int value = next(_frameValues);
+		for (PigeonIMU_StatusFrame mode : PigeonIMU_StatusFrame.values()) {
+			if (mode.value == value) {
+				return mode;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,59 @@
+package com.ctre.phoenix;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Decodes every error code the library declares, plus a few unknown ones, through
+ * ErrorCode.valueOf and through the HashMap it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorCodeBenchmark {
+	private final HashMap<Integer, ErrorCode> _map = new HashMap<Integer, ErrorCode>();
+	private int[] _codes;
+	private int _next;
+
+	@Setup
+	public void setUp() {
+		ErrorCode[] values = ErrorCode.values();
+		_codes = new int[values.length + 3];
+		for (int i = 0; i < values.length; ++i) {
+			_codes[i] = values[i].value;
+			_map.put(values[i].value, values[i]);
+		}
+		_codes[values.length] = -1000;
+		_codes[values.length + 1] = 555;
+		_codes[values.length + 2] = 100000;
+	}
+
+	private int nextCode() {
+		int code = _codes[_next];
+		if (++_next == _codes.length) {
+			_next = 0;
+		}
+		return code;
+	}
+
+	@Benchmark
+	public ErrorCode lookupTable() {
+		return ErrorCode.valueOf(nextCode());
+	}
+
+	@Benchmark
+	public ErrorCode hashMap() {
+		ErrorCode retval = _map.get(nextCode());
+		if (retval != null)
+			return retval;
+		return ErrorCode.GeneralError;
+	}
+}
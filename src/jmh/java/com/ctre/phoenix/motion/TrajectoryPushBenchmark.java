@@ -0,0 +1,72 @@
+package com.ctre.phoenix.motion;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ctre.phoenix.motorcontrol.can.TalonSRX;
+import com.ctre.phoenix.platform.Backend;
+
+/**
+ * Pushes a 2000 point profile into a Talon's top buffer, from a TrajectoryPointBuffer
+ * in one pushMotionProfileTrajectories call and as a TrajectoryPoint per point.
+ *
+ * The simulation backend stands in for the native library.  Both paths make one backend
+ * call per point, so the difference is the Java side: unpacking the buffer against
+ * creating and reading TrajectoryPoint objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrajectoryPushBenchmark {
+	private static final int POINTS = 2000;
+
+	private TalonSRX _talon;
+	private TrajectoryPointBuffer _buffer;
+	private double[] _positions;
+	private double[] _velocities;
+
+	@Setup
+	public void setUp() {
+		Backend.useSimulation();
+		_talon = new TalonSRX(1);
+		_buffer = new TrajectoryPointBuffer(POINTS);
+		_positions = new double[POINTS];
+		_velocities = new double[POINTS];
+		for (int i = 0; i < POINTS; ++i) {
+			_positions[i] = i * 10.0;
+			_velocities[i] = 100.0;
+			_buffer.add(_positions[i], _velocities[i], 0, 0, 0, 0, 0, 0, i == POINTS - 1, i == 0, 10, false);
+		}
+	}
+
+	@Benchmark
+	public int bulk() {
+		_talon.clearMotionProfileTrajectories();
+		return _talon.pushMotionProfileTrajectories(_buffer);
+	}
+
+	@Benchmark
+	public int perPoint() {
+		_talon.clearMotionProfileTrajectories();
+		int pushed = 0;
+		for (int i = 0; i < POINTS; ++i) {
+			TrajectoryPoint point = new TrajectoryPoint();
+			point.position = _positions[i];
+			point.velocity = _velocities[i];
+			point.isLastPoint = (i == POINTS - 1);
+			point.zeroPos = (i == 0);
+			point.timeDur = 10;
+			if (_talon.pushMotionProfileTrajectory(point).value == 0) {
+				++pushed;
+			}
+		}
+		return pushed;
+	}
+}
@@ -0,0 +1,68 @@
+package com.ctre.phoenix.motorcontrol.can;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ctre.phoenix.motorcontrol.Faults;
+import com.ctre.phoenix.motorcontrol.MotorStatusSnapshot;
+import com.ctre.phoenix.platform.Backend;
+
+/**
+ * Reads the status of a 14 Talon drivetrain once per loop, through snapshot() and through
+ * the individual getters.
+ *
+ * The simulation backend stands in for the native library, so this measures the Java side
+ * of each approach, not the JNI transitions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatusReadBenchmark {
+	private static final int TALONS = 14;
+
+	private TalonSRX[] _talons;
+	private MotorStatusSnapshot[] _snapshots;
+	private final Faults _faults = new Faults();
+
+	@Setup
+	public void setUp() {
+		Backend.useSimulation();
+		_talons = new TalonSRX[TALONS];
+		_snapshots = new MotorStatusSnapshot[TALONS];
+		for (int i = 0; i < TALONS; ++i) {
+			_talons[i] = new TalonSRX(i + 1);
+			_snapshots[i] = new MotorStatusSnapshot();
+		}
+	}
+
+	@Benchmark
+	public void snapshot(Blackhole bh) {
+		for (int i = 0; i < TALONS; ++i) {
+			bh.consume(_talons[i].snapshot(_snapshots[i]));
+			bh.consume(_snapshots[i]);
+		}
+	}
+
+	@Benchmark
+	public void getters(Blackhole bh) {
+		for (TalonSRX talon : _talons) {
+			bh.consume(talon.getSelectedSensorPosition(0));
+			bh.consume(talon.getSelectedSensorVelocity(0));
+			bh.consume(talon.getClosedLoopError(0));
+			bh.consume(talon.getMotorOutputPercent());
+			bh.consume(talon.getBusVoltage());
+			bh.consume(talon.getOutputCurrent());
+			bh.consume(talon.getTemperature());
+			bh.consume(talon.getFaults(_faults));
+			bh.consume(_faults);
+		}
+	}
+}
@@ -0,0 +1,245 @@
+package com.ctre.phoenix;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background half of Logger, see Logger.setAsync().
+ *
+ * The logging thread only checks the per-origin rate limit and claims a slot in a fixed
+ * ring.  A Throwable for the call site is captured only for the first STACKS_PER_ORIGIN
+ * errors of an origin; later ones are deduplicated by code and origin alone.  Formatting
+ * the stack, deduplicating and crossing JNI all happen on the drain thread.
+ *
+ * At most MAX_ORIGINS origins are tracked, further ones share one rate limit.  The drain
+ * thread forgets origins that were quiet for ORIGIN_IDLE_NS.
+ */
+/* package */ class AsyncLogger {
+	private static final int CAPACITY = 256; /* power of two */
+	private static final long SUMMARY_PERIOD_NS = 1000000000L;
+	private static final long IDLE_PARK_NS = 10000000L;
+	private static final int STACKS_PER_ORIGIN = 4;
+	private static final int MAX_ORIGINS = 256;
+	private static final long ORIGIN_IDLE_NS = 10000000000L;
+
+	/** Ring slot, seq tells producers and the consumer whose turn it is */
+	private static final class Slot {
+		volatile long seq;
+		ErrorCode code;
+		String origin;
+		Throwable site;
+	}
+
+	/** Rate limit state of one origin */
+	private static final class OriginLimit {
+		volatile long windowStartNs;
+		final AtomicInteger count = new AtomicInteger();
+		final AtomicLong dropped = new AtomicLong();
+		final AtomicInteger stacks = new AtomicInteger();
+		OriginLimit(long now) {
+			windowStartNs = now;
+		}
+	}
+
+	/** Occurrences of one (code, origin, call site) since it was last printed */
+	private static final class Repeat {
+		final ErrorCode code;
+		final String origin;
+		long suppressed;
+		long lastSeenNs;
+		Repeat(ErrorCode code, String origin) {
+			this.code = code;
+			this.origin = origin;
+		}
+	}
+
+	private final Slot[] _ring = new Slot[CAPACITY];
+	private final AtomicLong _head = new AtomicLong();
+	private long _tail = 0; /* drain thread only */
+
+	private final ConcurrentHashMap<String, OriginLimit> _limits = new ConcurrentHashMap<String, OriginLimit>();
+	/* shared by origins beyond MAX_ORIGINS */
+	private final OriginLimit _otherLimit = new OriginLimit(System.nanoTime());
+	/* dropped counts of forgotten origins */
+	private final AtomicLong _retiredDropped = new AtomicLong();
+	private volatile int _maxPerSecond = 10;
+	private final AtomicLong _overflowCount = new AtomicLong();
+
+	private final HashMap<String, Repeat> _repeats = new HashMap<String, Repeat>(); /* drain thread only */
+	private final Thread _thread;
+	private volatile boolean _running = true;
+
+	AsyncLogger() {
+		for (int i = 0; i < CAPACITY; ++i) {
+			_ring[i] = new Slot();
+			_ring[i].seq = i;
+		}
+		_thread = new Thread(this::drain, "Phoenix Logger");
+		_thread.setDaemon(true);
+		_thread.start();
+	}
+
+	void setMaxPerSecond(int maxPerSecond) {
+		_maxPerSecond = maxPerSecond;
+	}
+
+	long getDroppedCount() {
+		long dropped = _overflowCount.get() + _retiredDropped.get() + _otherLimit.dropped.get();
+		for (OriginLimit limit : _limits.values()) {
+			dropped += limit.dropped.get();
+		}
+		return dropped;
+	}
+
+	/**
+	 * Queue an error, called on the logging thread.
+	 */
+	void offer(ErrorCode code, String origin) {
+		String key = (origin != null) ? origin : "";
+		long now = System.nanoTime();
+		OriginLimit limit = _limits.get(key);
+		if (limit == null) {
+			if (_limits.size() >= MAX_ORIGINS) {
+				limit = _otherLimit;
+			} else {
+				OriginLimit created = new OriginLimit(now);
+				limit = _limits.putIfAbsent(key, created);
+				if (limit == null) {
+					limit = created;
+				}
+			}
+		}
+		if (now - limit.windowStartNs >= 1000000000L) {
+			/* racing threads may both reset, which only lets a few extra through */
+			limit.windowStartNs = now;
+			limit.count.set(0);
+		}
+		if (limit.count.incrementAndGet() > _maxPerSecond) {
+			limit.dropped.incrementAndGet();
+			return;
+		}
+
+		/* claim a slot, see Vyukov's bounded MPMC queue */
+		long pos = _head.get();
+		Slot slot;
+		for (;;) {
+			slot = _ring[(int) pos & (CAPACITY - 1)];
+			long diff = slot.seq - pos;
+			if (diff == 0) {
+				if (_head.compareAndSet(pos, pos + 1)) {
+					break;
+				}
+				pos = _head.get();
+			} else if (diff < 0) {
+				/* full, drain thread is behind */
+				_overflowCount.incrementAndGet();
+				return;
+			} else {
+				pos = _head.get();
+			}
+		}
+		slot.code = code;
+		slot.origin = origin;
+		slot.site = (limit.stacks.get() < STACKS_PER_ORIGIN && limit.stacks.incrementAndGet() <= STACKS_PER_ORIGIN)
+				? new Throwable() : null;
+		slot.seq = pos + 1;
+	}
+
+	void close() {
+		_running = false;
+		LockSupport.unpark(_thread);
+		try {
+			_thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drain() {
+		long nextSummary = System.nanoTime() + SUMMARY_PERIOD_NS;
+		while (true) {
+			boolean any = false;
+			for (;;) {
+				Slot slot = _ring[(int) _tail & (CAPACITY - 1)];
+				if (slot.seq != _tail + 1) {
+					break;
+				}
+				ErrorCode code = slot.code;
+				String origin = slot.origin;
+				Throwable site = slot.site;
+				slot.code = null;
+				slot.origin = null;
+				slot.site = null;
+				slot.seq = _tail + CAPACITY;
+				++_tail;
+				any = true;
+				handle(code, origin, site);
+			}
+			long now = System.nanoTime();
+			if (now - nextSummary >= 0 || !_running) {
+				summarize(now);
+				nextSummary = now + SUMMARY_PERIOD_NS;
+			}
+			if (!_running && !any) {
+				break;
+			}
+			if (!any) {
+				LockSupport.parkNanos(this, IDLE_PARK_NS);
+			}
+		}
+	}
+
+	private void handle(ErrorCode code, String origin, Throwable site) {
+		StackTraceElement[] stack = (site != null) ? site.getStackTrace() : new StackTraceElement[0];
+		String callSite = "";
+		for (StackTraceElement e : stack) {
+			String cls = e.getClassName();
+			if (!cls.equals(AsyncLogger.class.getName()) && !cls.equals(Logger.class.getName())) {
+				callSite = e.toString();
+				break;
+			}
+		}
+		String key = code.value + "|" + origin + "|" + callSite;
+		Repeat repeat = _repeats.get(key);
+		long now = System.nanoTime();
+		if (repeat != null) {
+			++repeat.suppressed;
+			repeat.lastSeenNs = now;
+			return;
+		}
+		repeat = new Repeat(code, origin);
+		repeat.lastSeenNs = now;
+		_repeats.put(key, repeat);
+
+		String text = (site != null) ? java.util.Arrays.toString(stack).replaceAll(",", "\n") : "";
+		Logger.emit(code, origin, text);
+	}
+
+	private void summarize(long now) {
+		Iterator<Map.Entry<String, Repeat>> it = _repeats.entrySet().iterator();
+		while (it.hasNext()) {
+			Repeat repeat = it.next().getValue();
+			if (repeat.suppressed > 0) {
+				Logger.emit(repeat.code, repeat.origin + " (repeated " + repeat.suppressed + " times)", "");
+				repeat.suppressed = 0;
+			} else if (now - repeat.lastSeenNs >= SUMMARY_PERIOD_NS) {
+				/* quiet for a full period, print it again next time it happens */
+				it.remove();
+			}
+		}
+		Iterator<OriginLimit> limits = _limits.values().iterator();
+		while (limits.hasNext()) {
+			OriginLimit limit = limits.next();
+			if (now - limit.windowStartNs >= ORIGIN_IDLE_NS) {
+				/* counts a producer adds after removal are lost, which only undercounts */
+				limits.remove();
+				_retiredDropped.addAndGet(limit.dropped.get());
+			}
+		}
+	}
+}
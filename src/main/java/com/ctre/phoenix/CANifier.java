@@ -28,6 +28,7 @@ import com.ctre.phoenix.CANifierConfiguration;
 import com.ctre.phoenix.VelocityPeriod;
 import com.ctre.phoenix.ErrorCollection;
 import com.ctre.phoenix.ParamEnum;
+import com.ctre.phoenix.platform.Backend;
 
 /**
  * CTRE CANifier
@@ -36,6 +37,9 @@ import com.ctre.phoenix.ParamEnum;
  */
 public class CANifier {
 	private long m_handle;
+	private final ICANifierBackend m_backend = Backend.getCANifier();
+	private final ControlFramePeriods<CANifierControlFrame> _controlFramePeriods = new ControlFramePeriods<CANifierControlFrame>(
+			CANifierControlFrame.values(), e -> e.value);
 
 
 	
@@ -56,18 +60,15 @@ public class CANifier {
 		 */
 		LEDChannelC(2);
 
+		/** Keep singleton lookup to quickly decode enum via int */
+		private static final EnumLookup<LEDChannel> _lookup = new EnumLookup<LEDChannel>(LEDChannel.values(), e -> e.value, null);
 		/**
 		 * Get the LED Channel from a specified value
 		 * @param value integer value to get LEDChannel from
 		 * @return LEDChannel of specified value
 		 */
 		public static LEDChannel valueOf(int value) {
-			for (LEDChannel mode : values()) {
-				if (mode.value == value) {
-					return mode;
-				}
-			}
-			return null;
+			return _lookup.get(value);
 		}
 
 		/**
@@ -105,18 +106,15 @@ public class CANifier {
 		 */
 		PWMChannel3(3);
 
+		/** Keep singleton lookup to quickly decode enum via int */
+		private static final EnumLookup<PWMChannel> _lookup = new EnumLookup<PWMChannel>(PWMChannel.values(), e -> e.value, null);
 		/**
 		 * Get the PWM Channel from a specified value
 		 * @param value integer value to get pwm channel from
 		 * @return PWM Channel of specified value
 		 */
 		public static PWMChannel valueOf(int value) {
-			for (PWMChannel mode : values()) {
-				if (mode.value == value) {
-					return mode;
-				}
-			}
-			return null;
+			return _lookup.get(value);
 		}
 
 		/**
@@ -187,18 +185,15 @@ public class CANifier {
 		 */
 		SPI_CLK_PWM0P (CANifierJNI.GeneralPin.SPI_CLK_PWM0P.value);
 
+		/** Keep singleton lookup to quickly decode enum via int */
+		private static final EnumLookup<GeneralPin> _lookup = new EnumLookup<GeneralPin>(GeneralPin.values(), e -> e.value, null);
 		/**
 		 * Gets the GeneralPin of a specified value
 		 * @param value integer value of GeneralPin
 		 * @return GeneralPin of specified value
 		 */
 		public static GeneralPin valueOf(int value) {
-			for (GeneralPin mode : values()) {
-				if (mode.value == value) {
-					return mode;
-				}
-			}
-			return null;
+			return _lookup.get(value);
 		}
 
 		/**
@@ -273,7 +268,7 @@ public class CANifier {
 	 * @param deviceId	The CAN Device ID of the CANifier.
 	 */
 	public CANifier(int deviceId) {
-		m_handle = CANifierJNI.JNI_new_CANifier(deviceId);
+		m_handle = m_backend.JNI_new_CANifier(deviceId);
 		m_deviceNumber = deviceId;
 	}
 
@@ -282,7 +277,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
     public ErrorCode DestroyObject() {
-        return ErrorCode.valueOf(CANifierJNI.JNI_destroy_CANifier(m_handle));
+        return ErrorCode.valueOf(m_backend.JNI_destroy_CANifier(m_handle));
     }
 
 	/**
@@ -300,7 +295,7 @@ public class CANifier {
 		}
 		int dutyCycle = (int) (percentOutput * 1023); // [0,1023]
 
-		CANifierJNI.JNI_SetLEDOutput(m_handle, dutyCycle, ledChannel.value);
+		m_backend.JNI_SetLEDOutput(m_handle, dutyCycle, ledChannel.value);
 	}
 
 	/**
@@ -310,7 +305,7 @@ public class CANifier {
 	 * @param outputEnable	Whether this pin is an output. "True" enables output.
 	 */
 	public void setGeneralOutput(GeneralPin outputPin, boolean outputValue, boolean outputEnable) {
-		CANifierJNI.JNI_SetGeneralOutput(m_handle, outputPin.value, outputValue, outputEnable);
+		m_backend.JNI_SetGeneralOutput(m_handle, outputPin.value, outputValue, outputEnable);
 	}
 
 	/**
@@ -319,7 +314,7 @@ public class CANifier {
 	 * @param isOutputBits A boolean bit mask that sets the pins to be outputs or inputs.  A bit of 1 enables output.
 	 */
 	public void setGeneralOutputs(int outputBits, int isOutputBits) {
-		CANifierJNI.JNI_SetGeneralOutputs(m_handle, outputBits, isOutputBits);
+		m_backend.JNI_SetGeneralOutputs(m_handle, outputBits, isOutputBits);
 	}
 
 	/**
@@ -327,7 +322,7 @@ public class CANifier {
 	 * @param allPins A structure to fill with the current state of all pins.
 	 */
 	public void getGeneralInputs(PinValues allPins) {
-		CANifierJNI.JNI_GetGeneralInputs(m_handle, _tempPins);
+		m_backend.JNI_GetGeneralInputs(m_handle, _tempPins);
 		allPins.LIMF = _tempPins[GeneralPin.LIMF.value];
 		allPins.LIMR = _tempPins[GeneralPin.LIMR.value];
 		allPins.QUAD_A = _tempPins[GeneralPin.QUAD_A.value];
@@ -347,7 +342,7 @@ public class CANifier {
 	 * @return The state of the pin.
 	 */
 	public boolean getGeneralInput(GeneralPin inputPin) {
-		return CANifierJNI.JNI_GetGeneralInput(m_handle, inputPin.value);
+		return m_backend.JNI_GetGeneralInput(m_handle, inputPin.value);
 	}
 
 	/**
@@ -360,7 +355,7 @@ public class CANifier {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode getLastError() {
-		int retval = CANifierJNI.JNI_GetLastError(m_handle);
+		int retval = m_backend.JNI_GetLastError(m_handle);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -382,7 +377,7 @@ public class CANifier {
 
 		int dutyCyc10bit = (int) (1023 * dutyCycle);
 
-		CANifierJNI.JNI_SetPWMOutput(m_handle, (int) pwmChannel, dutyCyc10bit);
+		m_backend.JNI_SetPWMOutput(m_handle, (int) pwmChannel, dutyCyc10bit);
 	}
 
 	/**
@@ -396,7 +391,7 @@ public class CANifier {
 			pwmChannel = 0;
 		}
 
-		CANifierJNI.JNI_EnablePWMOutput(m_handle, (int) pwmChannel, bEnable);
+		m_backend.JNI_EnablePWMOutput(m_handle, (int) pwmChannel, bEnable);
 	}
 
 	/**
@@ -405,7 +400,7 @@ public class CANifier {
 	 * @param pulseWidthAndPeriod	Double array to hold Duty Cycle [0] and Period [1].
 	 */
 	public void getPWMInput(PWMChannel pwmChannel, double[] pulseWidthAndPeriod) {
-		CANifierJNI.JNI_GetPWMInput(m_handle, pwmChannel.value, pulseWidthAndPeriod);
+		m_backend.JNI_GetPWMInput(m_handle, pwmChannel.value, pulseWidthAndPeriod);
 	}
 	
 	/**
@@ -413,7 +408,7 @@ public class CANifier {
 	 * @return Position of encoder 
 	 */
 	public int getQuadraturePosition() {
-		return CANifierJNI.JNI_GetQuadraturePosition(m_handle);
+		return m_backend.JNI_GetQuadraturePosition(m_handle);
 	}
 	
 	/**
@@ -426,7 +421,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setQuadraturePosition(int newPosition, int timeoutMs) {
-		return ErrorCode.valueOf(CANifierJNI.JNI_SetQuadraturePosition(m_handle, newPosition, timeoutMs));
+		return ErrorCode.valueOf(m_backend.JNI_SetQuadraturePosition(m_handle, newPosition, timeoutMs));
 	}
 	
 	/**
@@ -434,7 +429,7 @@ public class CANifier {
 	 * @return Velocity of encoder
 	 */
 	public int getQuadratureVelocity() {
-		return CANifierJNI.JNI_GetQuadratureVelocity(m_handle);
+		return m_backend.JNI_GetQuadratureVelocity(m_handle);
 	}
 	
 	/**
@@ -453,7 +448,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configVelocityMeasurementPeriod(VelocityPeriod period, int timeoutMs) {
-		int retval = CANifierJNI.JNI_ConfigVelocityMeasurementPeriod(m_handle, period.value, timeoutMs);
+		int retval = m_backend.JNI_ConfigVelocityMeasurementPeriod(m_handle, period.value, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -487,7 +482,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configVelocityMeasurementWindow(int windowSize, int timeoutMs) {
-		int retval = CANifierJNI.JNI_ConfigVelocityMeasurementWindow(m_handle, windowSize, timeoutMs);
+		int retval = m_backend.JNI_ConfigVelocityMeasurementWindow(m_handle, windowSize, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -517,7 +512,7 @@ public class CANifier {
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configClearPositionOnLimitF(boolean clearPositionOnLimitF, int timeoutMs) {
-        int retval = CANifierJNI.JNI_ConfigClearPositionOnLimitF(m_handle, clearPositionOnLimitF, timeoutMs);
+        int retval = m_backend.JNI_ConfigClearPositionOnLimitF(m_handle, clearPositionOnLimitF, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     /**
@@ -532,7 +527,7 @@ public class CANifier {
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configClearPositionOnLimitR(boolean clearPositionOnLimitR, int timeoutMs) {
-        int retval = CANifierJNI.JNI_ConfigClearPositionOnLimitR(m_handle, clearPositionOnLimitR, timeoutMs);
+        int retval = m_backend.JNI_ConfigClearPositionOnLimitR(m_handle, clearPositionOnLimitR, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     /**
@@ -547,7 +542,7 @@ public class CANifier {
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configClearPositionOnQuadIdx(boolean clearPositionOnQuadIdx, int timeoutMs) {
-        int retval = CANifierJNI.JNI_ConfigClearPositionOnQuadIdx(m_handle, clearPositionOnQuadIdx, timeoutMs);
+        int retval = m_backend.JNI_ConfigClearPositionOnQuadIdx(m_handle, clearPositionOnQuadIdx, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
 	/**
@@ -568,7 +563,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSetCustomParam(int newValue, int paramIndex, int timeoutMs) {
-		int retval = CANifierJNI.JNI_ConfigSetCustomParam(m_handle, newValue, paramIndex, timeoutMs);
+		int retval = m_backend.JNI_ConfigSetCustomParam(m_handle, newValue, paramIndex, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -606,7 +601,7 @@ public class CANifier {
 	 * @return Value of the custom param.
 	 */
 	public int configGetCustomParam(int paramIndex, int timeoutMs) {
-		int retval = CANifierJNI.JNI_ConfigGetCustomParam(m_handle, paramIndex, timeoutMs);
+		int retval = m_backend.JNI_ConfigGetCustomParam(m_handle, paramIndex, timeoutMs);
 		return retval;
 	}
 	/**
@@ -693,7 +688,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSetParameter(int param, double value, int subValue, int ordinal, int timeoutMs) {
-		int retval = CANifierJNI.JNI_ConfigSetParameter(m_handle, param, value, subValue, ordinal,
+		int retval = m_backend.JNI_ConfigSetParameter(m_handle, param, value, subValue, ordinal,
 				timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
@@ -736,7 +731,7 @@ public class CANifier {
 	 * @return Value of parameter.
 	 */
 	public double configGetParameter(ParamEnum param, int ordinal, int timeoutMs) {
-		return CANifierJNI.JNI_ConfigGetParameter(m_handle, param.value, ordinal, timeoutMs);
+		return m_backend.JNI_ConfigGetParameter(m_handle, param.value, ordinal, timeoutMs);
 	}
 	/**
 	 * Gets a parameter. Generally this is not used.
@@ -769,7 +764,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setStatusFramePeriod(CANifierStatusFrame statusFrame, int periodMs, int timeoutMs) {
-		int retval = CANifierJNI.JNI_SetStatusFramePeriod(m_handle, statusFrame.value, periodMs, timeoutMs);
+		int retval = m_backend.JNI_SetStatusFramePeriod(m_handle, statusFrame.value, periodMs, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -799,7 +794,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setStatusFramePeriod(int statusFrame, int periodMs, int timeoutMs) {
-		int retval = CANifierJNI.JNI_SetStatusFramePeriod(m_handle, statusFrame, periodMs, timeoutMs);
+		int retval = m_backend.JNI_SetStatusFramePeriod(m_handle, statusFrame, periodMs, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -828,7 +823,7 @@ public class CANifier {
 	 * @return Period of the given status frame.
 	 */
 	public int getStatusFramePeriod(CANifierStatusFrame frame, int timeoutMs) {
-		return CANifierJNI.JNI_GetStatusFramePeriod(m_handle, frame.value, timeoutMs);
+		return m_backend.JNI_GetStatusFramePeriod(m_handle, frame.value, timeoutMs);
 	}
 	/**
 	 * Gets the period of the given status frame.
@@ -852,8 +847,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setControlFramePeriod(CANifierControlFrame frame, int periodMs) {
-		int retval = CANifierJNI.JNI_SetControlFramePeriod(m_handle, frame.value, periodMs);
-		return ErrorCode.valueOf(retval);
+		return setControlFramePeriod(frame.value, periodMs);
 	}
 	/**
 	 * Sets the period of the given control frame.
@@ -865,9 +859,24 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setControlFramePeriod(int frame, int periodMs) {
-		int retval = CANifierJNI.JNI_SetControlFramePeriod(m_handle, frame, periodMs);
+		int retval = m_backend.JNI_SetControlFramePeriod(m_handle, frame, periodMs);
+		if (retval == ErrorCode.OK.value) {
+			_controlFramePeriods.set(frame, periodMs);
+		}
 		return ErrorCode.valueOf(retval);
 	}
+	/**
+	 * Gets the period of the given control frame, as last set through this object.
+	 * The device does not report control frame periods, so this is what the
+	 * robot API was asked to send.
+	 *
+	 * @param frame
+	 *            Frame to read.
+	 * @return Period in ms of the frame, 0 if never set.
+	 */
+	public int getControlFramePeriod(int frame) {
+		return _controlFramePeriods.get(frame, 0);
+	}
 
 	/**
 	 * Gets the firmware version of the device.
@@ -875,7 +884,7 @@ public class CANifier {
 	 * @return Firmware version of device.
 	 */
 	public int getFirmwareVersion() {
-		return CANifierJNI.JNI_GetFirmwareVersion(m_handle);
+		return m_backend.JNI_GetFirmwareVersion(m_handle);
 	}
 
 	/**
@@ -884,7 +893,7 @@ public class CANifier {
 	 * @return Has a Device Reset Occurred?
 	 */
 	public boolean hasResetOccurred() {
-		return CANifierJNI.JNI_HasResetOccurred(m_handle);
+		return m_backend.JNI_HasResetOccurred(m_handle);
 	}
 
 	// ------ Faults ----------//
@@ -896,7 +905,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode getFaults(CANifierFaults toFill) {
-		int bits = CANifierJNI.JNI_GetFaults(m_handle);
+		int bits = m_backend.JNI_GetFaults(m_handle);
 		toFill.update(bits);
 		return getLastError();
 	}
@@ -908,7 +917,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode getStickyFaults(CANifierStickyFaults toFill) {
-		int bits = CANifierJNI.JNI_GetStickyFaults(m_handle);
+		int bits = m_backend.JNI_GetStickyFaults(m_handle);
 		toFill.update(bits);
 		return getLastError();
 	}
@@ -923,7 +932,7 @@ public class CANifier {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode clearStickyFaults(int timeoutMs) {
-		int retval = CANifierJNI.JNI_ClearStickyFaults(m_handle, timeoutMs);
+		int retval = m_backend.JNI_ClearStickyFaults(m_handle, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -933,7 +942,7 @@ public class CANifier {
 	 * @return The bus voltage value (in volts).
 	 */
 	public double getBusVoltage() {
-		return CANifierJNI.JNI_GetBusVoltage(m_handle);
+		return m_backend.JNI_GetBusVoltage(m_handle);
 	}
 
 	/**
@@ -1024,7 +1033,7 @@ public class CANifier {
      * @return Error Code generated by function. 0 indicates no error. 
      */
 	public ErrorCode configFactoryDefault(int timeoutMs) {
-	    return ErrorCode.valueOf(CANifierJNI.JNI_ConfigFactoryDefault(m_handle, timeoutMs));
+	    return ErrorCode.valueOf(m_backend.JNI_ConfigFactoryDefault(m_handle, timeoutMs));
 	}
     /**
      * Configures all peristant settings to defaults (overloaded so timeoutMs is 50 ms).
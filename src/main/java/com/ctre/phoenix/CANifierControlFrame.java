@@ -13,18 +13,15 @@ public enum CANifierControlFrame {
 	 */ 
 	Control_2_PwmOutput(0x040040);
 
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<CANifierControlFrame> _lookup = new EnumLookup<CANifierControlFrame>(CANifierControlFrame.values(), e -> e.value, null);
 	/**
 	 * CANifier Control Frame of specified value
 	 * @param value Value of CANifier Control Frame
 	 * @return CANifier control frame of specified value
 	 */
 	public static CANifierControlFrame valueOf(int value) {
-		for (CANifierControlFrame frame : values()) {
-			if (frame.value == value) {
-				return frame;
-			}
-		}
-		return null;
+		return _lookup.get(value);
 	}
 
 	/**
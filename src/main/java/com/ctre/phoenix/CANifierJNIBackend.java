@@ -0,0 +1,109 @@
+package com.ctre.phoenix;
+
+/**
+ * ICANifierBackend implemented with the CTRE_PhoenixCCI natives.
+ */
+public class CANifierJNIBackend implements ICANifierBackend {
+	public long JNI_new_CANifier(int deviceNumber) {
+		return CANifierJNI.JNI_new_CANifier(deviceNumber);
+	}
+	public int JNI_destroy_CANifier(long handle) {
+		return CANifierJNI.JNI_destroy_CANifier(handle);
+	}
+	public void JNI_SetLEDOutput(long handle, int dutyCycle, int ledChannel) {
+		CANifierJNI.JNI_SetLEDOutput(handle, dutyCycle, ledChannel);
+	}
+	public void JNI_SetGeneralOutputs(long handle, int outputBits, int isOutputBits) {
+		CANifierJNI.JNI_SetGeneralOutputs(handle, outputBits, isOutputBits);
+	}
+	public void JNI_SetGeneralOutput(long handle, int outputPin, boolean outputValue, boolean outputEnable) {
+		CANifierJNI.JNI_SetGeneralOutput(handle, outputPin, outputValue, outputEnable);
+	}
+	public void JNI_SetPWMOutput(long handle, int pwmChannel, int dutyCycle) {
+		CANifierJNI.JNI_SetPWMOutput(handle, pwmChannel, dutyCycle);
+	}
+	public void JNI_EnablePWMOutput(long handle, int pwmChannel, boolean bEnable) {
+		CANifierJNI.JNI_EnablePWMOutput(handle, pwmChannel, bEnable);
+	}
+	public void JNI_GetGeneralInputs(long handle, boolean[] allPins) {
+		CANifierJNI.JNI_GetGeneralInputs(handle, allPins);
+	}
+	public boolean JNI_GetGeneralInput(long handl, int inputPin) {
+		return CANifierJNI.JNI_GetGeneralInput(handl, inputPin);
+	}
+	public void JNI_GetPWMInput(long handle, int pwmChannel, double[] pulseWidthAndPeriod) {
+		CANifierJNI.JNI_GetPWMInput(handle, pwmChannel, pulseWidthAndPeriod);
+	}
+	public int JNI_GetLastError(long handle) {
+		return CANifierJNI.JNI_GetLastError(handle);
+	}
+	public double JNI_GetBatteryVoltage(long handle) {
+		return CANifierJNI.JNI_GetBatteryVoltage(handle);
+	}
+	public int JNI_GetQuadraturePosition(long handle) {
+		return CANifierJNI.JNI_GetQuadraturePosition(handle);
+	}
+	public int JNI_SetQuadraturePosition(long handle, int newPosition, int timeoutMs) {
+		return CANifierJNI.JNI_SetQuadraturePosition(handle, newPosition, timeoutMs);
+	}
+	public int JNI_GetQuadratureVelocity(long handle) {
+		return CANifierJNI.JNI_GetQuadratureVelocity(handle);
+	}
+	public int JNI_ConfigVelocityMeasurementPeriod(long handle, int period, int timeoutMs) {
+		return CANifierJNI.JNI_ConfigVelocityMeasurementPeriod(handle, period, timeoutMs);
+	}
+	public int JNI_ConfigVelocityMeasurementWindow(long handle, int windowSize, int timeoutMs) {
+		return CANifierJNI.JNI_ConfigVelocityMeasurementWindow(handle, windowSize, timeoutMs);
+	}
+	public int JNI_ConfigClearPositionOnLimitF(long handle, boolean clearPositionOnLimitF, int timeoutMs) {
+		return CANifierJNI.JNI_ConfigClearPositionOnLimitF(handle, clearPositionOnLimitF, timeoutMs);
+	}
+	public int JNI_ConfigClearPositionOnLimitR(long handle, boolean clearPositionOnLimitR, int timeoutMs) {
+		return CANifierJNI.JNI_ConfigClearPositionOnLimitR(handle, clearPositionOnLimitR, timeoutMs);
+	}
+	public int JNI_ConfigClearPositionOnQuadIdx(long handle, boolean clearPositionOnQuadIdx, int timeoutMs) {
+		return CANifierJNI.JNI_ConfigClearPositionOnQuadIdx(handle, clearPositionOnQuadIdx, timeoutMs);
+	}
+	public int JNI_ConfigSetCustomParam(long handle, int newValue, int paramIndex, int timeoutMs) {
+		return CANifierJNI.JNI_ConfigSetCustomParam(handle, newValue, paramIndex, timeoutMs);
+	}
+	public int JNI_ConfigGetCustomParam(long handle, int paramIndex, int timoutMs) {
+		return CANifierJNI.JNI_ConfigGetCustomParam(handle, paramIndex, timoutMs);
+	}
+	public int JNI_ConfigSetParameter(long handle, int param, double value, int subValue, int ordinal, int timeoutMs) {
+		return CANifierJNI.JNI_ConfigSetParameter(handle, param, value, subValue, ordinal, timeoutMs);
+	}
+	public double JNI_ConfigGetParameter(long handle, int param, int ordinal, int timeoutMs) {
+		return CANifierJNI.JNI_ConfigGetParameter(handle, param, ordinal, timeoutMs);
+	}
+	public int JNI_ConfigFactoryDefault(long handle, int timeoutMs) {
+		return CANifierJNI.JNI_ConfigFactoryDefault(handle, timeoutMs);
+	}
+	public int JNI_SetStatusFramePeriod(long handle, int statusFrame, int periodMs, int timeoutMs) {
+		return CANifierJNI.JNI_SetStatusFramePeriod(handle, statusFrame, periodMs, timeoutMs);
+	}
+	public int JNI_GetStatusFramePeriod(long handle, int frame, int timeoutMs) {
+		return CANifierJNI.JNI_GetStatusFramePeriod(handle, frame, timeoutMs);
+	}
+	public int JNI_SetControlFramePeriod(long handle, int frame, int periodMs) {
+		return CANifierJNI.JNI_SetControlFramePeriod(handle, frame, periodMs);
+	}
+	public int JNI_GetFirmwareVersion(long handle) {
+		return CANifierJNI.JNI_GetFirmwareVersion(handle);
+	}
+	public boolean JNI_HasResetOccurred(long handle) {
+		return CANifierJNI.JNI_HasResetOccurred(handle);
+	}
+	public int JNI_GetFaults(long handle) {
+		return CANifierJNI.JNI_GetFaults(handle);
+	}
+	public int JNI_GetStickyFaults(long handle) {
+		return CANifierJNI.JNI_GetStickyFaults(handle);
+	}
+	public int JNI_ClearStickyFaults(long handle, int timeoutMs) {
+		return CANifierJNI.JNI_ClearStickyFaults(handle, timeoutMs);
+	}
+	public double JNI_GetBusVoltage(long handle) {
+		return CANifierJNI.JNI_GetBusVoltage(handle);
+	}
+}
@@ -33,18 +33,15 @@ public enum CANifierStatusFrame {
 	 */
 	Status_8_Misc(0x0415C0);
 
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<CANifierStatusFrame> _lookup = new EnumLookup<CANifierStatusFrame>(CANifierStatusFrame.values(), e -> e.value, null);
 	/**
 	 * Get the CANifier Status frame from a specified value  
 	 * @param value integer value of CANifier status frame
 	 * @return CANifier status frame of specified value
 	 */
 	public static CANifierStatusFrame valueOf(int value) {
-		for (CANifierStatusFrame frame : values()) {
-			if (frame.value == value) {
-				return frame;
-			}
-		}
-		return null;
+		return _lookup.get(value);
 	}
 
 	/**
@@ -7,11 +7,18 @@ public class CTREJNIWrapper {
     if (!libraryLoaded) {
       try {
         System.loadLibrary("CTRE_PhoenixCCI");
+        libraryLoaded = true;
       } catch (UnsatisfiedLinkError e) {
-        e.printStackTrace();
-        System.exit(1);
+        /* leave the natives unbound, see com.ctre.phoenix.platform.Backend */
+        System.err.println("CTRE_PhoenixCCI could not be loaded: " + e.getMessage());
       }
-      libraryLoaded = true;
     }
   }
+
+  /**
+   * @return true if CTRE_PhoenixCCI was loaded and its natives can be called.
+   */
+  public static boolean isLibraryLoaded() {
+    return libraryLoaded;
+  }
 }
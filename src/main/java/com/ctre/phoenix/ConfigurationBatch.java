@@ -0,0 +1,240 @@
+package com.ctre.phoenix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+import com.ctre.phoenix.motorcontrol.can.TalonSRX;
+import com.ctre.phoenix.motorcontrol.can.TalonSRXConfiguration;
+import com.ctre.phoenix.motorcontrol.can.VictorSPX;
+import com.ctre.phoenix.motorcontrol.can.VictorSPXConfiguration;
+import com.ctre.phoenix.sensors.PigeonIMU;
+import com.ctre.phoenix.sensors.PigeonIMUConfiguration;
+
+/**
+ * Configures many devices at once.
+ *
+ * Calling configAllSettings on each device in turn blocks for every parameter's
+ * acknowledgement, so configuration time grows with the number of devices.
+ * A batch instead works in two passes:
+ *	send:   every device is sent its configuration with timeoutMs of 0, so nothing blocks.
+ *	verify: up to parallelism devices at a time read their settings back with the caller's
+ *	        timeoutMs.  Settings that did not take are sent again and confirmed.
+ *
+ * Motor controllers added to a batch have their configuration cache enabled (see
+ * enableConfigCache).  The read back fills the cache, so the verify pass only resends
+ * settings that differ from it, and a later batch only sends settings that changed.
+ *
+ * A device may be added to a batch once, so no two threads configure it at the same time.
+ *
+ * Example:
+ *	ConfigurationBatch batch = new ConfigurationBatch(4);
+ *	batch.add(_leftMaster, _driveConfigs);
+ *	batch.add(_rightMaster, _driveConfigs);
+ *	batch.add(_pigeon, _pigeonConfigs);
+ *	ErrorCollection[] errors = batch.apply(30);
+ */
+public class ConfigurationBatch {
+
+	/** Device and the configuration to give it */
+	private interface Entry {
+		/** Send every setting without waiting for acknowledgements */
+		ErrorCode send();
+		/** Read the settings back and confirm any that did not take */
+		ErrorCode verify(int timeoutMs);
+	}
+
+	private final List<Entry> _entries = new ArrayList<Entry>();
+	private final List<Object> _devices = new ArrayList<Object>();
+	private final int _parallelism;
+
+	/**
+	 * Constructor for ConfigurationBatch
+	 * @param parallelism Maximum number of devices to verify at the same time.
+	 */
+	public ConfigurationBatch(int parallelism) {
+		_parallelism = (parallelism < 1) ? 1 : parallelism;
+	}
+
+	/**
+	 * Add a Talon SRX to the batch
+	 * @param device Device to configure, its configuration cache is enabled
+	 * @param allConfigs Configuration to apply
+	 * @return index of the device's ErrorCollection in apply's result
+	 * @throws IllegalArgumentException if the device is already in the batch
+	 */
+	public int add(final TalonSRX device, final TalonSRXConfiguration allConfigs) {
+		device.enableConfigCache(true);
+		final TalonSRXConfiguration readBack = new TalonSRXConfiguration();
+		return add(device, new Entry() {
+			public ErrorCode send() {
+				return device.configAllSettings(allConfigs, 0);
+			}
+			public ErrorCode verify(int timeoutMs) {
+				/* fills the cache, so only settings that did not take are sent again */
+				device.getAllConfigs(readBack, timeoutMs);
+				return device.configAllSettings(allConfigs, timeoutMs);
+			}
+		});
+	}
+	/**
+	 * Add a Victor SPX to the batch
+	 * @param device Device to configure, its configuration cache is enabled
+	 * @param allConfigs Configuration to apply
+	 * @return index of the device's ErrorCollection in apply's result
+	 * @throws IllegalArgumentException if the device is already in the batch
+	 */
+	public int add(final VictorSPX device, final VictorSPXConfiguration allConfigs) {
+		device.enableConfigCache(true);
+		final VictorSPXConfiguration readBack = new VictorSPXConfiguration();
+		return add(device, new Entry() {
+			public ErrorCode send() {
+				return device.configAllSettings(allConfigs, 0);
+			}
+			public ErrorCode verify(int timeoutMs) {
+				/* fills the cache, so only settings that did not take are sent again */
+				device.getAllConfigs(readBack, timeoutMs);
+				return device.configAllSettings(allConfigs, timeoutMs);
+			}
+		});
+	}
+	/**
+	 * Add a Pigeon IMU to the batch
+	 * @param device Device to configure
+	 * @param allConfigs Configuration to apply
+	 * @return index of the device's ErrorCollection in apply's result
+	 * @throws IllegalArgumentException if the device is already in the batch
+	 */
+	public int add(final PigeonIMU device, final PigeonIMUConfiguration allConfigs) {
+		final PigeonIMUConfiguration readBack = new PigeonIMUConfiguration();
+		return add(device, new Entry() {
+			public ErrorCode send() {
+				return device.configAllSettings(allConfigs, 0);
+			}
+			public ErrorCode verify(int timeoutMs) {
+				device.getAllConfigs(readBack, timeoutMs);
+				if (device.getLastError() == ErrorCode.OK && readBack.toString().equals(allConfigs.toString())) {
+					return ErrorCode.OK;
+				}
+				return device.configAllSettings(allConfigs, timeoutMs);
+			}
+		});
+	}
+	/**
+	 * Add a CANifier to the batch
+	 * @param device Device to configure
+	 * @param allConfigs Configuration to apply
+	 * @return index of the device's ErrorCollection in apply's result
+	 * @throws IllegalArgumentException if the device is already in the batch
+	 */
+	public int add(final CANifier device, final CANifierConfiguration allConfigs) {
+		final CANifierConfiguration readBack = new CANifierConfiguration();
+		return add(device, new Entry() {
+			public ErrorCode send() {
+				return device.configAllSettings(allConfigs, 0);
+			}
+			public ErrorCode verify(int timeoutMs) {
+				device.getAllConfigs(readBack, timeoutMs);
+				if (device.getLastError() == ErrorCode.OK && readBack.toString().equals(allConfigs.toString())) {
+					return ErrorCode.OK;
+				}
+				return device.configAllSettings(allConfigs, timeoutMs);
+			}
+		});
+	}
+
+	private int add(Object device, Entry entry) {
+		for (Object added : _devices) {
+			if (added == device) {
+				throw new IllegalArgumentException("Device is already in the batch");
+			}
+		}
+		_devices.add(device);
+		_entries.add(entry);
+		return _entries.size() - 1;
+	}
+
+	/**
+	 * @return number of devices in the batch
+	 */
+	public int size() {
+		return _entries.size();
+	}
+
+	/**
+	 * Remove all devices from the batch
+	 */
+	public void clear() {
+		_entries.clear();
+		_devices.clear();
+	}
+
+	/**
+	 * Configure every device in the batch.  This blocks until all devices are verified.
+	 *
+	 * @param timeoutMs
+	 *            Timeout value in ms of each read back and confirmed setting in the verify
+	 *            pass.  If zero, devices are only sent their configuration, without verifying.
+	 * @return One ErrorCollection per device, in the order devices were added.
+	 */
+	public ErrorCollection[] apply(int timeoutMs) {
+		final int count = _entries.size();
+		final ErrorCollection[] retval = new ErrorCollection[count];
+
+		/* send pass, nothing blocks */
+		for (int i = 0; i < count; ++i) {
+			final Entry entry = _entries.get(i);
+			retval[i] = new ErrorCollection();
+			retval[i].NewError(run(i, () -> entry.send()));
+		}
+		if (timeoutMs == 0 || count == 0) {
+			return retval;
+		}
+
+		/* verify pass, several devices at a time */
+		final ErrorCode[] verified = new ErrorCode[count];
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(count);
+		for (int i = 0; i < count; ++i) {
+			final int idx = i;
+			final Entry entry = _entries.get(i);
+			tasks.add(() -> {
+				verified[idx] = run(idx, () -> entry.verify(timeoutMs));
+				return null;
+			});
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(Math.min(_parallelism, count), DAEMON_THREADS);
+		try {
+			pool.invokeAll(tasks);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			pool.shutdownNow();
+		}
+
+		for (int i = 0; i < count; ++i) {
+			retval[i].NewError(verified[i] != null ? verified[i] : ErrorCode.GeneralError);
+		}
+		return retval;
+	}
+
+	/** Run one device's pass, logging anything it throws */
+	private static ErrorCode run(int idx, Supplier<ErrorCode> pass) {
+		try {
+			return pass.get();
+		} catch (RuntimeException e) {
+			Logger.log(ErrorCode.GeneralError, "ConfigurationBatch device " + idx + ": " + e);
+			return ErrorCode.GeneralError;
+		}
+	}
+
+	private static final ThreadFactory DAEMON_THREADS = (r) -> {
+		Thread t = new Thread(r, "Phoenix ConfigurationBatch");
+		t.setDaemon(true);
+		return t;
+	};
+}
@@ -0,0 +1,56 @@
+package com.ctre.phoenix;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/**
+ * Control frame periods last set through a device object, kept by control frame enum ordinal.
+ *
+ * Devices do not report their control frame periods, so each device object remembers
+ * what it set.  Frames are passed as their int value, as the setControlFramePeriod()
+ * overloads take them, and decoded through an EnumLookup so nothing is boxed.
+ * A value that is not one of the enum's frames is not remembered.
+ */
+public final class ControlFramePeriods<E extends Enum<E>> {
+	/* period of a frame never set */
+	private static final int UNSET = -1;
+
+	private final EnumLookup<E> _lookup;
+	private final int[] _periodsMs;
+
+	/**
+	 * Constructor for ControlFramePeriods
+	 * @param frames The control frame enum's values()
+	 * @param toValue Function returning a frame's int value
+	 */
+	public ControlFramePeriods(E[] frames, ToIntFunction<E> toValue) {
+		_lookup = new EnumLookup<E>(frames, toValue, null);
+		_periodsMs = new int[frames.length];
+		Arrays.fill(_periodsMs, UNSET);
+	}
+
+	/**
+	 * Remember a period that the device accepted
+	 * @param frame Control frame value
+	 * @param periodMs Period in ms
+	 */
+	public void set(int frame, int periodMs) {
+		E e = _lookup.get(frame);
+		if (e != null) {
+			_periodsMs[e.ordinal()] = periodMs;
+		}
+	}
+
+	/**
+	 * @param frame Control frame value
+	 * @param defaultMs Period to return if none was set
+	 * @return period in ms last set for the frame, or defaultMs
+	 */
+	public int get(int frame, int defaultMs) {
+		E e = _lookup.get(frame);
+		if (e == null || _periodsMs[e.ordinal()] == UNSET) {
+			return defaultMs;
+		}
+		return _periodsMs[e.ordinal()];
+	}
+}
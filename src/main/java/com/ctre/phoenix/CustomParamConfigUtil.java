@@ -18,4 +18,16 @@ public class CustomParamConfigUtil {
 	 * @return Whether CustomParam1 is different
 	 */
 	public static boolean customParam1Different (CustomParamConfiguration settings) { return (!(settings.customParam1 == _default.customParam1)) || !settings.enableOptimizations; }
+	/**
+	 * @param settings Settings to compare
+	 * @param reference Settings to compare against
+	 * @return Whether CustomParam0 is different
+	 */
+	public static boolean customParam0Different (CustomParamConfiguration settings, CustomParamConfiguration reference) { return (!(settings.customParam0 == reference.customParam0)) || !settings.enableOptimizations; }
+	/**
+	 * @param settings Settings to compare
+	 * @param reference Settings to compare against
+	 * @return Whether CustomParam1 is different
+	 */
+	public static boolean customParam1Different (CustomParamConfiguration settings, CustomParamConfiguration reference) { return (!(settings.customParam1 == reference.customParam1)) || !settings.enableOptimizations; }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package com.ctre.phoenix;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.ctre.phoenix.motorcontrol.IMotorController;
+import com.ctre.phoenix.motorcontrol.can.TalonSRX;
+import com.ctre.phoenix.motorcontrol.can.VictorSPX;
+import com.ctre.phoenix.sensors.PigeonIMU;
+
+/**
+ * Registry of the robot's CAN devices, looked up by type and CAN ID or by a user tag.
+ *
+ * Registration is synchronized and publishes a new immutable snapshot, so lookups and
+ * iteration never lock and never see a half-registered device.
+ * The arrays returned by getMotorControllers(), getPigeonIMUs() and getCANifiers() are
+ * shared snapshots and must not be modified.
+ *
+ * Example:
+ *	DeviceRegistry.register(_leftMaster, "leftMaster");
+ *	DeviceRegistry.register(_pigeon);
+ *	TalonSRX left = DeviceRegistry.getTalonSRX(1);
+ *	for (IMotorController mc : DeviceRegistry.getMotorControllers()) { ... }
+ */
+public class DeviceRegistry {
+	/** CAN IDs are six bits */
+	private static final int ID_COUNT = 64;
+
+	/** Immutable view of the registry */
+	private static final class Snapshot {
+		final IMotorController[] motorControllers;
+		final PigeonIMU[] pigeons;
+		final CANifier[] canifiers;
+		final TalonSRX[] talonsById = new TalonSRX[ID_COUNT];
+		final VictorSPX[] victorsById = new VictorSPX[ID_COUNT];
+		final PigeonIMU[] pigeonsById = new PigeonIMU[ID_COUNT];
+		final CANifier[] canifiersById = new CANifier[ID_COUNT];
+		final HashMap<String, Object> byTag;
+
+		Snapshot(List<IMotorController> motorControllers, List<PigeonIMU> pigeons, List<CANifier> canifiers,
+				HashMap<String, Object> byTag) {
+			this.motorControllers = motorControllers.toArray(new IMotorController[motorControllers.size()]);
+			this.pigeons = pigeons.toArray(new PigeonIMU[pigeons.size()]);
+			this.canifiers = canifiers.toArray(new CANifier[canifiers.size()]);
+			this.byTag = new HashMap<String, Object>(byTag);
+			for (IMotorController mc : this.motorControllers) {
+				if (mc instanceof TalonSRX) {
+					talonsById[id(mc.getDeviceID())] = (TalonSRX) mc;
+				} else if (mc instanceof VictorSPX) {
+					victorsById[id(mc.getDeviceID())] = (VictorSPX) mc;
+				}
+			}
+			for (PigeonIMU pigeon : this.pigeons) {
+				pigeonsById[id(pigeon.getDeviceID())] = pigeon;
+			}
+			for (CANifier canifier : this.canifiers) {
+				canifiersById[id(canifier.getDeviceID())] = canifier;
+			}
+		}
+	}
+
+	private static final List<IMotorController> _motorControllers = new ArrayList<IMotorController>();
+	private static final List<PigeonIMU> _pigeons = new ArrayList<PigeonIMU>();
+	private static final List<CANifier> _canifiers = new ArrayList<CANifier>();
+	private static final HashMap<String, Object> _byTag = new HashMap<String, Object>();
+	private static volatile Snapshot _snapshot = new Snapshot(_motorControllers, _pigeons, _canifiers, _byTag);
+
+	private static int id(int deviceNumber) {
+		return deviceNumber & (ID_COUNT - 1);
+	}
+	private static void publish() {
+		_snapshot = new Snapshot(_motorControllers, _pigeons, _canifiers, _byTag);
+	}
+	private static void tag(Object device, String tag) {
+		if (tag != null) {
+			_byTag.put(tag, device);
+		}
+	}
+
+	/**
+	 * Add a motor controller to the registry
+	 * @param mc Motor controller to add
+	 */
+	public static void register(IMotorController mc) {
+		register(mc, null);
+	}
+	/**
+	 * Add a motor controller to the registry
+	 * @param mc Motor controller to add
+	 * @param tag Name to look it up by, replaces any device with the same tag.  May be null.
+	 */
+	public static synchronized void register(IMotorController mc, String tag) {
+		if (!_motorControllers.contains(mc)) {
+			_motorControllers.add(mc);
+		}
+		tag(mc, tag);
+		publish();
+	}
+	/**
+	 * Add a PigeonIMU to the registry
+	 * @param pigeon PigeonIMU to add
+	 */
+	public static void register(PigeonIMU pigeon) {
+		register(pigeon, null);
+	}
+	/**
+	 * Add a PigeonIMU to the registry
+	 * @param pigeon PigeonIMU to add
+	 * @param tag Name to look it up by, replaces any device with the same tag.  May be null.
+	 */
+	public static synchronized void register(PigeonIMU pigeon, String tag) {
+		if (!_pigeons.contains(pigeon)) {
+			_pigeons.add(pigeon);
+		}
+		tag(pigeon, tag);
+		publish();
+	}
+	/**
+	 * Add a CANifier to the registry
+	 * @param canifier CANifier to add
+	 */
+	public static void register(CANifier canifier) {
+		register(canifier, null);
+	}
+	/**
+	 * Add a CANifier to the registry
+	 * @param canifier CANifier to add
+	 * @param tag Name to look it up by, replaces any device with the same tag.  May be null.
+	 */
+	public static synchronized void register(CANifier canifier, String tag) {
+		if (!_canifiers.contains(canifier)) {
+			_canifiers.add(canifier);
+		}
+		tag(canifier, tag);
+		publish();
+	}
+
+	/**
+	 * Remove a device and its tags from the registry
+	 * @param device Device to remove
+	 */
+	public static synchronized void unregister(Object device) {
+		_motorControllers.remove(device);
+		_pigeons.remove(device);
+		_canifiers.remove(device);
+		_byTag.values().removeIf(d -> d == device);
+		publish();
+	}
+	/**
+	 * Remove every device from the registry
+	 */
+	public static synchronized void clear() {
+		_motorControllers.clear();
+		_pigeons.clear();
+		_canifiers.clear();
+		_byTag.clear();
+		publish();
+	}
+
+	//--- Lookup ---/
+	/**
+	 * @param deviceNumber CAN ID
+	 * @return registered TalonSRX with the CAN ID, or null
+	 */
+	public static TalonSRX getTalonSRX(int deviceNumber) {
+		return _snapshot.talonsById[id(deviceNumber)];
+	}
+	/**
+	 * @param deviceNumber CAN ID
+	 * @return registered VictorSPX with the CAN ID, or null
+	 */
+	public static VictorSPX getVictorSPX(int deviceNumber) {
+		return _snapshot.victorsById[id(deviceNumber)];
+	}
+	/**
+	 * @param deviceNumber CAN ID
+	 * @return registered PigeonIMU with the CAN ID, or null
+	 */
+	public static PigeonIMU getPigeonIMU(int deviceNumber) {
+		return _snapshot.pigeonsById[id(deviceNumber)];
+	}
+	/**
+	 * @param deviceNumber CAN ID
+	 * @return registered CANifier with the CAN ID, or null
+	 */
+	public static CANifier getCANifier(int deviceNumber) {
+		return _snapshot.canifiersById[id(deviceNumber)];
+	}
+	/**
+	 * @param tag Name given at registration
+	 * @return device registered with the tag, or null
+	 */
+	public static Object get(String tag) {
+		return _snapshot.byTag.get(tag);
+	}
+
+	//--- Iteration ---/
+	/**
+	 * @return every registered motor controller, in registration order.  Do not modify.
+	 */
+	public static IMotorController[] getMotorControllers() {
+		return _snapshot.motorControllers;
+	}
+	/**
+	 * @return every registered PigeonIMU, in registration order.  Do not modify.
+	 */
+	public static PigeonIMU[] getPigeonIMUs() {
+		return _snapshot.pigeons;
+	}
+	/**
+	 * @return every registered CANifier, in registration order.  Do not modify.
+	 */
+	public static CANifier[] getCANifiers() {
+		return _snapshot.canifiers;
+	}
+}
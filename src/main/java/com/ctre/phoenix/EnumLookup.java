@@ -0,0 +1,154 @@
+package com.ctre.phoenix;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/**
+ * Lookup from an int value to the enum constant holding it, for the valueOf(int) of
+ * enums that carry an int value.
+ *
+ * The table is built once from values() when the enum is initialized, so decoding
+ * never clones the values() array or boxes the key.  Values spanning a small range are
+ * kept in a table indexed by (value - min).  Sparse values, such as frame IDs, are kept
+ * sorted and found with a binary search, unless a direct table is forced, as for
+ * ErrorCode which is decoded on every call and has few enough values to afford one.
+ *
+ * When several constants share a value, the last one declared wins, as when the
+ * constants are put in a map in declaration order, unless firstDeclaredWins is set.
+ *
+ * Example:
+ *	private static final EnumLookup<MyEnum> _lookup = new EnumLookup<MyEnum>(values(), e -> e.value, Unknown);
+ *	public static MyEnum valueOf(int value) {
+ *		return _lookup.get(value);
+ *	}
+ */
+public final class EnumLookup<E extends Enum<E>> {
+	/** Widest range of values kept in a direct table, per constant */
+	private static final int MAX_SPAN_PER_VALUE = 4;
+	/** Widest range of values always kept in a direct table */
+	private static final int MAX_DIRECT_SPAN = 64;
+	/** Widest range of values kept in a direct table when one is forced */
+	private static final int MAX_FORCED_SPAN = 4096;
+
+	private final E _unknown;
+	private final int _minValue;
+	/* direct table indexed by (value - _minValue), null if sparse */
+	private final E[] _table;
+	/* sorted values and their constants, if sparse */
+	private final int[] _keys;
+	private final E[] _constants;
+
+	/**
+	 * Constructor for EnumLookup, the last constant declared for a value wins
+	 * @param values The enum's values()
+	 * @param toValue Function returning a constant's int value
+	 * @param unknown Constant returned for values no constant holds, may be null
+	 */
+	public EnumLookup(E[] values, ToIntFunction<E> toValue, E unknown) {
+		this(values, toValue, unknown, false);
+	}
+	/**
+	 * Constructor for EnumLookup
+	 * @param values The enum's values()
+	 * @param toValue Function returning a constant's int value
+	 * @param unknown Constant returned for values no constant holds, may be null
+	 * @param firstDeclaredWins true to decode a shared value to the first constant declared
+	 *        for it, as a search of values() does, false for the last
+	 */
+	public EnumLookup(E[] values, ToIntFunction<E> toValue, E unknown, boolean firstDeclaredWins) {
+		this(values, toValue, unknown, firstDeclaredWins, false);
+	}
+	/**
+	 * Constructor for EnumLookup
+	 * @param values The enum's values()
+	 * @param toValue Function returning a constant's int value
+	 * @param unknown Constant returned for values no constant holds, may be null
+	 * @param firstDeclaredWins true to decode a shared value to the first constant declared
+	 *        for it, as a search of values() does, false for the last
+	 * @param forceDirect true to keep a direct table whatever the range of values,
+	 *        up to MAX_FORCED_SPAN
+	 */
+	public EnumLookup(E[] values, ToIntFunction<E> toValue, E unknown, boolean firstDeclaredWins, boolean forceDirect) {
+		_unknown = unknown;
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (E e : values) {
+			int value = toValue.applyAsInt(e);
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		if (values.length == 0) {
+			min = 0;
+			max = -1;
+		}
+		_minValue = min;
+		long span = (long) max - min + 1;
+		if (span <= MAX_DIRECT_SPAN || span <= (long) values.length * MAX_SPAN_PER_VALUE
+				|| (forceDirect && span <= MAX_FORCED_SPAN)) {
+			_table = Arrays.copyOf(values, (int) span);
+			Arrays.fill(_table, unknown);
+			boolean[] filled = new boolean[(int) span];
+			for (E e : values) {
+				int idx = toValue.applyAsInt(e) - min;
+				if (!firstDeclaredWins || !filled[idx]) {
+					_table[idx] = e;
+					filled[idx] = true;
+				}
+			}
+			_keys = null;
+			_constants = null;
+		} else {
+			/* insertion sort, stable so constants of a value stay in declaration order */
+			int[] keys = new int[values.length];
+			E[] constants = Arrays.copyOf(values, values.length);
+			int count = 0;
+			for (E e : values) {
+				int value = toValue.applyAsInt(e);
+				int i = count;
+				while (i > 0 && keys[i - 1] > value) {
+					keys[i] = keys[i - 1];
+					constants[i] = constants[i - 1];
+					--i;
+				}
+				keys[i] = value;
+				constants[i] = e;
+				++count;
+			}
+			/* keep one constant per value */
+			int unique = 0;
+			for (int i = 0; i < count; ++i) {
+				if (unique > 0 && keys[unique - 1] == keys[i]) {
+					if (!firstDeclaredWins) {
+						constants[unique - 1] = constants[i];
+					}
+				} else {
+					keys[unique] = keys[i];
+					constants[unique] = constants[i];
+					++unique;
+				}
+			}
+			_table = null;
+			_keys = Arrays.copyOf(keys, unique);
+			_constants = Arrays.copyOf(constants, unique);
+		}
+	}
+
+	/**
+	 * @param value Value to decode
+	 * @return Constant holding value, or the unknown constant
+	 */
+	public E get(int value) {
+		if (_table != null) {
+			int idx = value - _minValue;
+			if (idx >= 0 && idx < _table.length) {
+				return _table[idx];
+			}
+			return _unknown;
+		}
+		int idx = Arrays.binarySearch(_keys, value);
+		if (idx >= 0) {
+			return _constants[idx];
+		}
+		return _unknown;
+	}
+}
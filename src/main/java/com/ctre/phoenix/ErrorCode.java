@@ -1,7 +1,5 @@
 package com.ctre.phoenix;
 
-import java.util.HashMap;
-
 /**
  * All the codes available to CTRE products
  */
@@ -79,21 +77,12 @@ public enum ErrorCode {
     public final int value; //!< Hold the integral value of an enum instance.
     /** private c'tor for above declarations */
 	private ErrorCode(int initValue) {this.value = initValue;	}
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, ErrorCode> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, ErrorCode>();
-		for (ErrorCode type : ErrorCode.values()) {
-			_map.put(type.value, type);
-		}
-    }
+	/** Keep singleton lookup to quickly decode enum via int, unknown codes decode to GeneralError.
+	 * Decoded after every call, so kept in a direct table despite its sparse values */
+	private static final EnumLookup<ErrorCode> _lookup = new EnumLookup<ErrorCode>(ErrorCode.values(), e -> e.value, GeneralError, false, true);
     /** public lookup to convert int to enum */
 	public static ErrorCode valueOf(int value) {
-		ErrorCode retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return GeneralError;
+		return _lookup.get(value);
 	}
 
 	/** @return the first nonzero error code */
@@ -29,18 +29,15 @@ public interface GadgeteerUartClient
 		private int value; 
 		private GadgeteerProxyType(int value) { this.value = value; }
 		
+		/** Keep singleton lookup to quickly decode enum via int */
+		private static final EnumLookup<GadgeteerProxyType> _lookup = new EnumLookup<GadgeteerProxyType>(GadgeteerProxyType.values(), e -> e.value, Unknown);
 		/**
 		 * Get GadgeteerProxyType of specified value
 		 * @param value Value of GadgeteerProxyType
 		 * @return GadgeteerProxyType of specified value
 		 */
 		public static GadgeteerProxyType valueOf(int value) {
-			for (GadgeteerProxyType e : GadgeteerProxyType.values()) {
-				if (e.value == value) {
-					return e;
-				}
-			}
-			return Unknown;
+			return _lookup.get(value);
 		}
 	};
 
@@ -68,18 +65,15 @@ public interface GadgeteerUartClient
 		private int value; 
 		private GadgeteerConnection(int value) { this.value = value; } 
 
+		/** Keep singleton lookup to quickly decode enum via int */
+		private static final EnumLookup<GadgeteerConnection> _lookup = new EnumLookup<GadgeteerConnection>(GadgeteerConnection.values(), e -> e.value, Unknown);
 		/**
 		 * Get GadgeteerConnection of specified value
 		 * @param value Value of GadgeteerConnection
 		 * @return GadgeteerConnection of specified value
 		 */
 		public static GadgeteerConnection valueOf(int value) {
-			for (GadgeteerConnection e : GadgeteerConnection.values()) {
-				if (e.value == value) {
-					return e;
-				}
-			}
-			return Unknown;
+			return _lookup.get(value);
 		}
 	};
 
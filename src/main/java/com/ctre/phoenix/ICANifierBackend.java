@@ -0,0 +1,43 @@
+package com.ctre.phoenix;
+
+/**
+ * Operations behind every CANifier object.
+ * Mirrors CANifierJNI so the natives can be replaced, for example by a simulated device.
+ * See com.ctre.phoenix.platform.Backend for selecting the implementation.
+ */
+public interface ICANifierBackend {
+	long JNI_new_CANifier(int deviceNumber);
+	int JNI_destroy_CANifier(long handle);
+	void JNI_SetLEDOutput(long handle, int dutyCycle, int ledChannel);
+	void JNI_SetGeneralOutputs(long handle, int outputBits, int isOutputBits);
+	void JNI_SetGeneralOutput(long handle, int outputPin, boolean outputValue, boolean outputEnable);
+	void JNI_SetPWMOutput(long handle, int pwmChannel, int dutyCycle);
+	void JNI_EnablePWMOutput(long handle, int pwmChannel, boolean bEnable);
+	void JNI_GetGeneralInputs(long handle, boolean[] allPins);
+	boolean JNI_GetGeneralInput(long handl, int inputPin);
+	void JNI_GetPWMInput(long handle, int pwmChannel, double[] pulseWidthAndPeriod);
+	int JNI_GetLastError(long handle);
+	double JNI_GetBatteryVoltage(long handle);
+	int JNI_GetQuadraturePosition(long handle);
+	int JNI_SetQuadraturePosition(long handle, int newPosition, int timeoutMs);
+	int JNI_GetQuadratureVelocity(long handle);
+	int JNI_ConfigVelocityMeasurementPeriod(long handle, int period, int timeoutMs);
+	int JNI_ConfigVelocityMeasurementWindow(long handle, int windowSize, int timeoutMs);
+	int JNI_ConfigClearPositionOnLimitF(long handle, boolean clearPositionOnLimitF, int timeoutMs);
+	int JNI_ConfigClearPositionOnLimitR(long handle, boolean clearPositionOnLimitR, int timeoutMs);
+	int JNI_ConfigClearPositionOnQuadIdx(long handle, boolean clearPositionOnQuadIdx, int timeoutMs);
+	int JNI_ConfigSetCustomParam(long handle, int newValue, int paramIndex, int timeoutMs);
+	int JNI_ConfigGetCustomParam(long handle, int paramIndex, int timoutMs);
+	int JNI_ConfigSetParameter(long handle, int param, double value, int subValue, int ordinal, int timeoutMs);
+	double JNI_ConfigGetParameter(long handle, int param, int ordinal, int timeoutMs);
+	int JNI_ConfigFactoryDefault(long handle, int timeoutMs);
+	int JNI_SetStatusFramePeriod(long handle, int statusFrame, int periodMs, int timeoutMs);
+	int JNI_GetStatusFramePeriod(long handle, int frame, int timeoutMs);
+	int JNI_SetControlFramePeriod(long handle, int frame, int periodMs);
+	int JNI_GetFirmwareVersion(long handle);
+	boolean JNI_HasResetOccurred(long handle);
+	int JNI_GetFaults(long handle);
+	int JNI_GetStickyFaults(long handle);
+	int JNI_ClearStickyFaults(long handle, int timeoutMs);
+	double JNI_GetBusVoltage(long handle);
+}
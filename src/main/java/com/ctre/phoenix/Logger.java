@@ -2,9 +2,18 @@ package com.ctre.phoenix;
 
 /**
  * Object to handle error logging
+ *
+ * By default log() formats the stack and calls into the DS logger on the calling thread.
+ * After setAsync(true), log() only queues the error and a background thread does the rest,
+ * printing each (code, origin, call site) once per second with a repeat count and dropping
+ * errors beyond the per-origin rate limit.
  */
 public class Logger
 {
+	private static volatile AsyncLogger _async = null;
+	private static int _maxPerSecond = 10;
+	private static long _droppedBefore = 0;
+
 	/**
 	 * Logs an entry into the Phoenix DS Error/Logger stream
 	 * @param code Error code to log.  If OKAY is passed, no action is taken.
@@ -14,15 +23,63 @@ public class Logger
 	public static ErrorCode log(ErrorCode code, String origin) {
 		/* only take action if the error code is nonzero */
 		if (code != ErrorCode.OK) {
+			AsyncLogger async = _async;
+			if (async != null) {
+				async.offer(code, origin);
+				return ErrorCode.OK;
+			}
 			String stack = java.util.Arrays.toString(Thread.currentThread().getStackTrace());
 			stack = stack.replaceAll(",", "\n");
-			int errCode = code.value;
-			return ErrorCode.valueOf(CTRLoggerJNI.JNI_Logger_Log(errCode, origin, stack));
+			return emit(code, origin, stack);
 		}
 		/* otherwise return OK */
 		return ErrorCode.OK;
 	}
 
+	/* package */ static ErrorCode emit(ErrorCode code, String origin, String stack) {
+		int errCode = code.value;
+		if (!CTREJNIWrapper.isLibraryLoaded()) {
+			/* no DS logger without the native library */
+			System.err.println(code + " (" + errCode + ") " + origin + "\n" + stack);
+			return ErrorCode.OK;
+		}
+		return ErrorCode.valueOf(CTRLoggerJNI.JNI_Logger_Log(errCode, origin, stack));
+	}
+
+	/**
+	 * Move logging off the calling thread.
+	 * @param enable true to queue errors for a background thread, false to log synchronously.
+	 * 			Disabling prints everything already queued before returning.
+	 */
+	public static synchronized void setAsync(boolean enable) {
+		if (enable && _async == null) {
+			AsyncLogger async = new AsyncLogger();
+			async.setMaxPerSecond(_maxPerSecond);
+			_async = async;
+		} else if (!enable && _async != null) {
+			AsyncLogger async = _async;
+			_async = null;
+			async.close();
+			_droppedBefore += async.getDroppedCount();
+		}
+	}
+	/**
+	 * Limit how many errors of one origin are queued per second in async mode.
+	 * @param maxPerSecond Errors per origin per second, default 10.
+	 */
+	public static synchronized void setRateLimit(int maxPerSecond) {
+		_maxPerSecond = maxPerSecond;
+		if (_async != null) {
+			_async.setMaxPerSecond(maxPerSecond);
+		}
+	}
+	/**
+	 * @return number of errors dropped in async mode, by the rate limit or because the queue was full.
+	 */
+	public static synchronized long getDroppedCount() {
+		return _droppedBefore + ((_async != null) ? _async.getDroppedCount() : 0);
+	}
+
 	//public static void close() {
 	//	//CTRLoggerJNI.JNI_Logger_Close();
 	//}
@@ -1,7 +1,5 @@
 package com.ctre.phoenix;
 
-import java.util.HashMap;
-
 /** 
 * Enum for velocity periods used for CANifier 
 */ 
@@ -49,25 +47,15 @@ public enum VelocityPeriod {
 	VelocityPeriod(int initValue) { 
 		this.value = initValue; 
 	} 
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, VelocityPeriod> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, VelocityPeriod>();
-		for (VelocityPeriod type : VelocityPeriod.values()) {
-			_map.put(type.value, type);
-		}
-    }
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<VelocityPeriod> _lookup = new EnumLookup<VelocityPeriod>(VelocityPeriod.values(), e -> e.value, Period_100Ms);
 	/**
 	 * Get velocityPeriod of specified value
 	 * @param value value of VelocityPeriod
 	 * @return VelocityPeriod of specified value
 	 */
 	public static VelocityPeriod valueOf(int value) {
-		VelocityPeriod retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return Period_100Ms;
+		return _lookup.get(value);
 	}
 	/**
 	 * Get VelocityPeriod of specified value
@@ -0,0 +1,32 @@
+package com.ctre.phoenix.canbus;
+
+/**
+ * Conversions between frame periods and CAN bus load.
+ *
+ * Every Phoenix frame is an extended (29 bit ID) frame with up to 8 data bytes, which is
+ * 131 bits on the wire.  Bit stuffing adds at most one bit per four after the start of
+ * frame and before the CRC delimiter, so a frame is counted as 160 bits to stay on the
+ * safe side of the real load.
+ */
+public class CANBusLoad {
+	/** Bit rate of the robot CAN bus */
+	public static final int BITRATE = 1000000;
+	/** Worst case bits of an extended frame with 8 data bytes, including stuff bits */
+	public static final int BITS_PER_FRAME = 160;
+
+	/**
+	 * @param periodMs Period of a frame, 0 if the frame is disabled
+	 * @return frames per second sent at that period
+	 */
+	public static double framesPerSecond(int periodMs) {
+		return (periodMs > 0) ? (1000.0 / periodMs) : 0;
+	}
+
+	/**
+	 * @param framesPerSecond Frames sent on the bus per second
+	 * @return percentage of the bus bandwidth used by the frames
+	 */
+	public static double loadPercent(double framesPerSecond) {
+		return framesPerSecond * BITS_PER_FRAME * 100.0 / BITRATE;
+	}
+}
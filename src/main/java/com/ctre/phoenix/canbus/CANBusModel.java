@@ -0,0 +1,344 @@
+package com.ctre.phoenix.canbus;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+import com.ctre.phoenix.CANifier;
+import com.ctre.phoenix.CANifierControlFrame;
+import com.ctre.phoenix.CANifierStatusFrame;
+import com.ctre.phoenix.DeviceRegistry;
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.Logger;
+import com.ctre.phoenix.motorcontrol.ControlFrameEnhanced;
+import com.ctre.phoenix.motorcontrol.IMotorController;
+import com.ctre.phoenix.motorcontrol.StatusFrame;
+import com.ctre.phoenix.motorcontrol.StatusFrameEnhanced;
+import com.ctre.phoenix.motorcontrol.can.BaseMotorController;
+import com.ctre.phoenix.motorcontrol.can.TalonSRX;
+import com.ctre.phoenix.sensors.PigeonIMU;
+import com.ctre.phoenix.sensors.PigeonIMU_ControlFrame;
+import com.ctre.phoenix.sensors.PigeonIMU_StatusFrame;
+
+/**
+ * Model of the periodic traffic on the CAN bus, and a budget check against it.
+ *
+ * Status frame periods are read from each device with getStatusFramePeriod().  A frame
+ * whose period could not be read is kept as unread rather than as not sent, and fails
+ * checkBudget() because the load is then unknown.  Control
+ * frame periods are those set through setControlFramePeriod() and
+ * changeMotionControlFramePeriod(), see BaseMotorController.getControlFramePeriod().
+ * Frames and devices that are not Phoenix devices can be added with addDevice() and
+ * addFrame(), so a bus can also be modelled without hardware, e.g. in a unit test.
+ *
+ * Frames are kept in flat arrays and the load is a single pass over them, so the model
+ * can be rebuilt and checked after every configuration change.
+ * Load is counted as in CANBusLoad: 1 Mbps and worst case bit stuffing.
+ *
+ * Example:
+ *	CANBusModel model = new CANBusModel();
+ *	model.addRegistry(0);
+ *	if (model.checkBudget(60, 80) != ErrorCode.OK) { model.printReport(System.out); }
+ */
+public class CANBusModel {
+	private static final int[] TALON_STATUS_FRAMES;
+	private static final int[] VICTOR_STATUS_FRAMES;
+	private static final int[] MOT_CONTROL_FRAMES;
+	private static final int[] PIGEON_STATUS_FRAMES;
+	private static final int[] PIGEON_CONTROL_FRAMES;
+	private static final int[] CANIFIER_STATUS_FRAMES;
+	private static final int[] CANIFIER_CONTROL_FRAMES;
+	/* period of a status frame that could not be read */
+	private static final int UNREAD = -1;
+
+	/* Several enum entries share a frame, keep each frame once */
+	static {
+		int[] values = new int[StatusFrameEnhanced.values().length];
+		int count = 0;
+		for (StatusFrameEnhanced frame : StatusFrameEnhanced.values()) {
+			values[count++] = frame.value;
+		}
+		TALON_STATUS_FRAMES = distinct(values, count);
+
+		values = new int[StatusFrame.values().length];
+		count = 0;
+		for (StatusFrame frame : StatusFrame.values()) {
+			values[count++] = frame.value;
+		}
+		VICTOR_STATUS_FRAMES = distinct(values, count);
+
+		values = new int[ControlFrameEnhanced.values().length];
+		count = 0;
+		for (ControlFrameEnhanced frame : ControlFrameEnhanced.values()) {
+			values[count++] = frame.value;
+		}
+		MOT_CONTROL_FRAMES = distinct(values, count);
+
+		values = new int[PigeonIMU_StatusFrame.values().length];
+		count = 0;
+		for (PigeonIMU_StatusFrame frame : PigeonIMU_StatusFrame.values()) {
+			values[count++] = frame.value;
+		}
+		PIGEON_STATUS_FRAMES = distinct(values, count);
+
+		values = new int[PigeonIMU_ControlFrame.values().length];
+		count = 0;
+		for (PigeonIMU_ControlFrame frame : PigeonIMU_ControlFrame.values()) {
+			values[count++] = frame.value;
+		}
+		PIGEON_CONTROL_FRAMES = distinct(values, count);
+
+		values = new int[CANifierStatusFrame.values().length];
+		count = 0;
+		for (CANifierStatusFrame frame : CANifierStatusFrame.values()) {
+			values[count++] = frame.value;
+		}
+		CANIFIER_STATUS_FRAMES = distinct(values, count);
+
+		values = new int[CANifierControlFrame.values().length];
+		count = 0;
+		for (CANifierControlFrame frame : CANifierControlFrame.values()) {
+			values[count++] = frame.value;
+		}
+		CANIFIER_CONTROL_FRAMES = distinct(values, count);
+	}
+	private static int[] distinct(int[] values, int count) {
+		int[] sorted = Arrays.copyOf(values, count);
+		Arrays.sort(sorted);
+		int unique = 0;
+		for (int i = 0; i < sorted.length; ++i) {
+			if (unique == 0 || sorted[unique - 1] != sorted[i]) {
+				sorted[unique++] = sorted[i];
+			}
+		}
+		return Arrays.copyOf(sorted, unique);
+	}
+
+	private String[] _deviceNames = new String[16];
+	private int _deviceCount = 0;
+	private int[] _frameDevice = new int[128];
+	private int[] _frames = new int[128];
+	private int[] _periodsMs = new int[128];
+	private boolean[] _control = new boolean[128];
+	private int _frameCount = 0;
+	private int _unreadCount = 0;
+	private ErrorCode _readError = ErrorCode.OK;
+
+	/**
+	 * Remove every device and frame from the model
+	 */
+	public void clear() {
+		Arrays.fill(_deviceNames, 0, _deviceCount, null);
+		_deviceCount = 0;
+		_frameCount = 0;
+		_unreadCount = 0;
+		_readError = ErrorCode.OK;
+	}
+
+	/**
+	 * Add a device to attach frames to
+	 * @param name Name of the device in reports
+	 * @return index of the device, see addFrame()
+	 */
+	public int addDevice(String name) {
+		if (_deviceCount == _deviceNames.length) {
+			_deviceNames = Arrays.copyOf(_deviceNames, _deviceCount * 2);
+		}
+		_deviceNames[_deviceCount] = name;
+		return _deviceCount++;
+	}
+	/**
+	 * Add a periodic frame of a device
+	 * @param device Index of the device from addDevice()
+	 * @param frame Frame ID, used in reports
+	 * @param control true if the robot sends the frame, false if the device does
+	 * @param periodMs Period of the frame, 0 if it is not sent
+	 */
+	public void addFrame(int device, int frame, boolean control, int periodMs) {
+		if (_frameCount == _frames.length) {
+			int capacity = _frameCount * 2;
+			_frameDevice = Arrays.copyOf(_frameDevice, capacity);
+			_frames = Arrays.copyOf(_frames, capacity);
+			_periodsMs = Arrays.copyOf(_periodsMs, capacity);
+			_control = Arrays.copyOf(_control, capacity);
+		}
+		_frameDevice[_frameCount] = device;
+		_frames[_frameCount] = frame;
+		_periodsMs[_frameCount] = periodMs;
+		_control[_frameCount] = control;
+		++_frameCount;
+	}
+	/**
+	 * Add a status frame read from a device, as unread if the read failed
+	 */
+	private void addStatusFrame(int device, int frame, int periodMs, ErrorCode err) {
+		if (err != ErrorCode.OK) {
+			++_unreadCount;
+			if (_readError == ErrorCode.OK) {
+				_readError = err;
+			}
+			periodMs = UNREAD;
+		}
+		addFrame(device, frame, false, periodMs);
+	}
+
+	/**
+	 * Add a motor controller's status and control frames
+	 * @param mc Motor controller to add
+	 * @param timeoutMs Timeout value in ms passed to getStatusFramePeriod()
+	 */
+	public void add(BaseMotorController mc, int timeoutMs) {
+		int device = addDevice(mc.getClass().getSimpleName() + " " + mc.getDeviceID());
+		int[] statusFrames = (mc instanceof TalonSRX) ? TALON_STATUS_FRAMES : VICTOR_STATUS_FRAMES;
+		for (int frame : statusFrames) {
+			int periodMs = mc.getStatusFramePeriod(frame, timeoutMs);
+			addStatusFrame(device, frame, periodMs, mc.getLastError());
+		}
+		for (int frame : MOT_CONTROL_FRAMES) {
+			addFrame(device, frame, true, mc.getControlFramePeriod(frame));
+		}
+	}
+	/**
+	 * Add a PigeonIMU's status and control frames
+	 * @param pigeon PigeonIMU to add
+	 * @param timeoutMs Timeout value in ms passed to getStatusFramePeriod()
+	 */
+	public void add(PigeonIMU pigeon, int timeoutMs) {
+		int device = addDevice("PigeonIMU " + pigeon.getDeviceID());
+		for (int frame : PIGEON_STATUS_FRAMES) {
+			int periodMs = pigeon.getStatusFramePeriod(PigeonIMU_StatusFrame.valueOf(frame), timeoutMs);
+			addStatusFrame(device, frame, periodMs, pigeon.getLastError());
+		}
+		for (int frame : PIGEON_CONTROL_FRAMES) {
+			addFrame(device, frame, true, pigeon.getControlFramePeriod(frame));
+		}
+	}
+	/**
+	 * Add a CANifier's status and control frames
+	 * @param canifier CANifier to add
+	 * @param timeoutMs Timeout value in ms passed to getStatusFramePeriod()
+	 */
+	public void add(CANifier canifier, int timeoutMs) {
+		int device = addDevice("CANifier " + canifier.getDeviceID());
+		for (int frame : CANIFIER_STATUS_FRAMES) {
+			int periodMs = canifier.getStatusFramePeriod(CANifierStatusFrame.valueOf(frame), timeoutMs);
+			addStatusFrame(device, frame, periodMs, canifier.getLastError());
+		}
+		for (int frame : CANIFIER_CONTROL_FRAMES) {
+			addFrame(device, frame, true, canifier.getControlFramePeriod(frame));
+		}
+	}
+	/**
+	 * Add every device in DeviceRegistry
+	 * @param timeoutMs Timeout value in ms passed to getStatusFramePeriod()
+	 */
+	public void addRegistry(int timeoutMs) {
+		for (IMotorController mc : DeviceRegistry.getMotorControllers()) {
+			if (mc instanceof BaseMotorController) {
+				add((BaseMotorController) mc, timeoutMs);
+			}
+		}
+		for (PigeonIMU pigeon : DeviceRegistry.getPigeonIMUs()) {
+			add(pigeon, timeoutMs);
+		}
+		for (CANifier canifier : DeviceRegistry.getCANifiers()) {
+			add(canifier, timeoutMs);
+		}
+	}
+
+	/**
+	 * @return number of devices in the model
+	 */
+	public int getDeviceCount() {
+		return _deviceCount;
+	}
+	/**
+	 * @return number of frames in the model, including those not sent
+	 */
+	public int getFrameCount() {
+		return _frameCount;
+	}
+	/**
+	 * @return number of status frames whose period could not be read, see checkBudget()
+	 */
+	public int getUnreadFrameCount() {
+		return _unreadCount;
+	}
+	/**
+	 * @return frames per second on the bus
+	 */
+	public double getFramesPerSecond() {
+		double framesPerSecond = 0;
+		for (int i = 0; i < _frameCount; ++i) {
+			framesPerSecond += CANBusLoad.framesPerSecond(_periodsMs[i]);
+		}
+		return framesPerSecond;
+	}
+	/**
+	 * @param device Index of the device
+	 * @return frames per second sent by or to the device
+	 */
+	public double getFramesPerSecond(int device) {
+		double framesPerSecond = 0;
+		for (int i = 0; i < _frameCount; ++i) {
+			if (_frameDevice[i] == device) {
+				framesPerSecond += CANBusLoad.framesPerSecond(_periodsMs[i]);
+			}
+		}
+		return framesPerSecond;
+	}
+	/**
+	 * @return percentage of the bus bandwidth used by the modelled frames
+	 */
+	public double getLoadPercent() {
+		return CANBusLoad.loadPercent(getFramesPerSecond());
+	}
+
+	/**
+	 * Compare the modelled bus load to a budget, logging if it is exceeded.
+	 * @param warnPercent Load above which a warning is logged
+	 * @param maxPercent Load above which an error is logged
+	 * @return OK within budget, GeneralWarning above warnPercent, CAN_OVERFLOW above maxPercent,
+	 *         or the error of the first failed read if any status frame period is unread
+	 */
+	public ErrorCode checkBudget(double warnPercent, double maxPercent) {
+		if (_unreadCount > 0) {
+			Logger.log(_readError, "CANBusModel: " + _unreadCount + " status frame periods could not be read");
+			return _readError;
+		}
+		double load = getLoadPercent();
+		ErrorCode retval = ErrorCode.OK;
+		double budget = 0;
+		if (load > maxPercent) {
+			retval = ErrorCode.CAN_OVERFLOW;
+			budget = maxPercent;
+		} else if (load > warnPercent) {
+			retval = ErrorCode.GeneralWarning;
+			budget = warnPercent;
+		}
+		if (retval != ErrorCode.OK) {
+			Logger.log(retval, String.format("CANBusModel: %.1f%% bus load exceeds %.1f%%", load, budget));
+		}
+		return retval;
+	}
+
+	/**
+	 * Print each device's frames, its share of the bus and the total load.
+	 * @param out Stream to print to
+	 */
+	public void printReport(PrintStream out) {
+		for (int device = 0; device < _deviceCount; ++device) {
+			double framesPerSecond = getFramesPerSecond(device);
+			out.println(String.format("%-16s %7.1f frames/s %5.1f%%", _deviceNames[device], framesPerSecond,
+					CANBusLoad.loadPercent(framesPerSecond)));
+			for (int i = 0; i < _frameCount; ++i) {
+				if (_frameDevice[i] == device && _periodsMs[i] == UNREAD) {
+					out.println(String.format("  status  0x%06X unread", _frames[i]));
+				} else if (_frameDevice[i] == device && _periodsMs[i] > 0) {
+					out.println(String.format("  %s 0x%06X %4dms", _control[i] ? "control" : "status ", _frames[i],
+							_periodsMs[i]));
+				}
+			}
+		}
+		out.println(String.format("Total %.1f frames/s, %.1f%% bus load", getFramesPerSecond(), getLoadPercent()));
+	}
+}
@@ -0,0 +1,715 @@
+package com.ctre.phoenix.canbus;
+
+import java.io.PrintStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.ctre.phoenix.CANifierStatusFrame;
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ErrorCollection;
+import com.ctre.phoenix.ICANifierBackend;
+import com.ctre.phoenix.motorcontrol.RemoteSensorSource;
+import com.ctre.phoenix.motorcontrol.StatusFrameEnhanced;
+import com.ctre.phoenix.motorcontrol.can.IMotControllerBackend;
+import com.ctre.phoenix.platform.Backend;
+import com.ctre.phoenix.sensors.IPigeonImuBackend;
+import com.ctre.phoenix.sensors.PigeonIMU_StatusFrame;
+
+/**
+ * Measures how often the application reads each status frame of each device, then sets
+ * every status frame period to the slowest one that still gives each read fresh data.
+ *
+ * install() wraps the current backends so that every getter call is counted against the
+ * status frame that carries its value.  Reads of the same frame within 1ms of each other
+ * count once, since no frame is sent faster than that.  Only devices created after
+ * install() are profiled.
+ *
+ * Frames that are never read are slowed to the maximum period, so run the robot through
+ * every mode that reads the bus (autonomous, teleop, test) before calling apply().
+ * A motor controller's Status_1_General is never slowed, since followers track it.
+ * Neither are frames read by another device rather than by the application: a frame
+ * that a motor controller uses as a remote sensor (a Pigeon's YPR and GyroAccum, a
+ * Talon's Status_2_Feedback0, a CANifier's quadrature and PWM inputs) is never counted
+ * as read, and slowing it would starve the closed loop using it.  Frames selected through
+ * configRemoteFeedbackFilter() on a profiled motor controller are kept automatically, any
+ * other frame can be kept with keepStatusFrame().
+ * Frames whose period cannot be read are left unchanged and reported as unread.
+ * Counting adds a few hundred ns to each getter, so only install the profiler while tuning.
+ *
+ * Example:
+ *	StatusFrameProfiler profiler = StatusFrameProfiler.install();
+ *	... create devices, run the robot ...
+ *	profiler.apply(30);
+ *	profiler.printReport(System.out);
+ */
+public class StatusFrameProfiler {
+	/** Reads of one frame closer than this are the same read */
+	private static final long COALESCE_NS = 1000000;
+
+	private static final StatusFrameEnhanced[] TALON_FRAMES = {
+		StatusFrameEnhanced.Status_1_General,
+		StatusFrameEnhanced.Status_2_Feedback0,
+		StatusFrameEnhanced.Status_3_Quadrature,
+		StatusFrameEnhanced.Status_4_AinTempVbat,
+		StatusFrameEnhanced.Status_8_PulseWidth,
+		StatusFrameEnhanced.Status_9_MotProfBuffer,
+		StatusFrameEnhanced.Status_10_Targets,
+		StatusFrameEnhanced.Status_12_Feedback1,
+		StatusFrameEnhanced.Status_13_Base_PIDF0,
+		StatusFrameEnhanced.Status_14_Turn_PIDF1,
+	};
+	private static final StatusFrameEnhanced[] VICTOR_FRAMES = {
+		StatusFrameEnhanced.Status_1_General,
+		StatusFrameEnhanced.Status_2_Feedback0,
+		StatusFrameEnhanced.Status_4_AinTempVbat,
+		StatusFrameEnhanced.Status_9_MotProfBuffer,
+		StatusFrameEnhanced.Status_10_Targets,
+		StatusFrameEnhanced.Status_12_Feedback1,
+		StatusFrameEnhanced.Status_13_Base_PIDF0,
+		StatusFrameEnhanced.Status_14_Turn_PIDF1,
+	};
+	/* BiasedStatus_4_Mag shares its frame with RawStatus_4_Mag */
+	private static final PigeonIMU_StatusFrame[] PIGEON_FRAMES = {
+		PigeonIMU_StatusFrame.CondStatus_1_General,
+		PigeonIMU_StatusFrame.CondStatus_2_GeneralCompass,
+		PigeonIMU_StatusFrame.CondStatus_3_GeneralAccel,
+		PigeonIMU_StatusFrame.CondStatus_6_SensorFusion,
+		PigeonIMU_StatusFrame.CondStatus_9_SixDeg_YPR,
+		PigeonIMU_StatusFrame.CondStatus_10_SixDeg_Quat,
+		PigeonIMU_StatusFrame.CondStatus_11_GyroAccum,
+		PigeonIMU_StatusFrame.RawStatus_4_Mag,
+		PigeonIMU_StatusFrame.BiasedStatus_2_Gyro,
+		PigeonIMU_StatusFrame.BiasedStatus_6_Accel,
+	};
+
+	/* period of a status frame that could not be read */
+	private static final int UNREAD = -1;
+
+	/** Status frame that carries the value returned by a backend getter */
+	private static final class Route {
+		final int frame;
+		final int argIndex;
+		final int stride;
+
+		/**
+		 * @param frame Frame of the value
+		 * @param argIndex Argument that selects between frames (pidIdx or channel), or -1
+		 * @param stride Distance between the frames selected by the argument
+		 */
+		Route(int frame, int argIndex, int stride) {
+			this.frame = frame;
+			this.argIndex = argIndex;
+			this.stride = stride;
+		}
+		int frameOf(Object[] args) {
+			if (argIndex < 0) {
+				return frame;
+			}
+			return frame + ((Integer) args[argIndex]) * stride;
+		}
+	}
+
+	private static HashMap<String, Route> motControllerRoutes() {
+		int general = StatusFrameEnhanced.Status_1_General.value;
+		int feedback = StatusFrameEnhanced.Status_2_Feedback0.value;
+		int feedbackStride = StatusFrameEnhanced.Status_12_Feedback1.value - feedback;
+		int quad = StatusFrameEnhanced.Status_3_Quadrature.value;
+		int ain = StatusFrameEnhanced.Status_4_AinTempVbat.value;
+		int pulse = StatusFrameEnhanced.Status_8_PulseWidth.value;
+		int buffer = StatusFrameEnhanced.Status_9_MotProfBuffer.value;
+		int targets = StatusFrameEnhanced.Status_10_Targets.value;
+		int pidf = StatusFrameEnhanced.Status_13_Base_PIDF0.value;
+		int pidfStride = StatusFrameEnhanced.Status_14_Turn_PIDF1.value - pidf;
+
+		HashMap<String, Route> routes = new HashMap<String, Route>();
+		routes.put("GetMotorOutputPercent", new Route(general, -1, 0));
+		routes.put("GetFaults", new Route(general, -1, 0));
+		routes.put("IsFwdLimitSwitchClosed", new Route(general, -1, 0));
+		routes.put("IsRevLimitSwitchClosed", new Route(general, -1, 0));
+		routes.put("GetSelectedSensorPosition", new Route(feedback, 1, feedbackStride));
+		routes.put("GetSelectedSensorVelocity", new Route(feedback, 1, feedbackStride));
+		routes.put("GetOutputCurrent", new Route(feedback, -1, 0));
+		routes.put("GetStickyFaults", new Route(feedback, -1, 0));
+		routes.put("GetQuadraturePosition", new Route(quad, -1, 0));
+		routes.put("GetQuadratureVelocity", new Route(quad, -1, 0));
+		routes.put("GetPinStateQuadA", new Route(quad, -1, 0));
+		routes.put("GetPinStateQuadB", new Route(quad, -1, 0));
+		routes.put("GetPinStateQuadIdx", new Route(quad, -1, 0));
+		routes.put("GetAnalogIn", new Route(ain, -1, 0));
+		routes.put("GetAnalogInRaw", new Route(ain, -1, 0));
+		routes.put("GetAnalogInVel", new Route(ain, -1, 0));
+		routes.put("GetTemperature", new Route(ain, -1, 0));
+		routes.put("GetBusVoltage", new Route(ain, -1, 0));
+		routes.put("GetPulseWidthPosition", new Route(pulse, -1, 0));
+		routes.put("GetPulseWidthVelocity", new Route(pulse, -1, 0));
+		routes.put("GetPulseWidthRiseToFallUs", new Route(pulse, -1, 0));
+		routes.put("GetPulseWidthRiseToRiseUs", new Route(pulse, -1, 0));
+		routes.put("GetMotionProfileStatus", new Route(buffer, -1, 0));
+		routes.put("GetMotionProfileStatus2", new Route(buffer, -1, 0));
+		routes.put("GetActiveTrajectoryPosition", new Route(targets, -1, 0));
+		routes.put("GetActiveTrajectoryVelocity", new Route(targets, -1, 0));
+		routes.put("GetActiveTrajectoryHeading", new Route(targets, -1, 0));
+		routes.put("GetActiveTrajectoryPosition3", new Route(targets, -1, 0));
+		routes.put("GetActiveTrajectoryVelocity3", new Route(targets, -1, 0));
+		routes.put("GetActiveTrajectoryArbFeedFwd3", new Route(targets, -1, 0));
+		routes.put("GetClosedLoopTarget", new Route(targets, -1, 0));
+		routes.put("GetClosedLoopError", new Route(pidf, 1, pidfStride));
+		routes.put("GetIntegralAccumulator", new Route(pidf, 1, pidfStride));
+		routes.put("GetErrorDerivative", new Route(pidf, 1, pidfStride));
+		return routes;
+	}
+	private static HashMap<String, Route> pigeonRoutes() {
+		int general = PigeonIMU_StatusFrame.CondStatus_1_General.value;
+		int compass = PigeonIMU_StatusFrame.CondStatus_2_GeneralCompass.value;
+		int mag = PigeonIMU_StatusFrame.RawStatus_4_Mag.value;
+
+		HashMap<String, Route> routes = new HashMap<String, Route>();
+		routes.put("JNI_GetGeneralStatus", new Route(general, -1, 0));
+		routes.put("JNI_GetTemp", new Route(general, -1, 0));
+		routes.put("JNI_GetUpTime", new Route(general, -1, 0));
+		routes.put("JNI_GetState", new Route(general, -1, 0));
+		routes.put("JNI_GetResetCount", new Route(general, -1, 0));
+		routes.put("JNI_GetResetFlags", new Route(general, -1, 0));
+		routes.put("JNI_GetFaults", new Route(general, -1, 0));
+		routes.put("JNI_GetStickyFaults", new Route(general, -1, 0));
+		routes.put("JNI_GetAbsoluteCompassHeading", new Route(compass, -1, 0));
+		routes.put("JNI_GetCompassHeading", new Route(compass, -1, 0));
+		routes.put("JNI_GetCompassFieldStrength", new Route(compass, -1, 0));
+		routes.put("JNI_GetAccelerometerAngles",
+				new Route(PigeonIMU_StatusFrame.CondStatus_3_GeneralAccel.value, -1, 0));
+		routes.put("JNI_GetFusedHeading", new Route(PigeonIMU_StatusFrame.CondStatus_6_SensorFusion.value, -1, 0));
+		routes.put("JNI_GetYawPitchRoll", new Route(PigeonIMU_StatusFrame.CondStatus_9_SixDeg_YPR.value, -1, 0));
+		routes.put("JNI_Get6dQuaternion", new Route(PigeonIMU_StatusFrame.CondStatus_10_SixDeg_Quat.value, -1, 0));
+		routes.put("JNI_GetAccumGyro", new Route(PigeonIMU_StatusFrame.CondStatus_11_GyroAccum.value, -1, 0));
+		routes.put("JNI_GetRawMagnetometer", new Route(mag, -1, 0));
+		routes.put("JNI_GetBiasedMagnetometer", new Route(mag, -1, 0));
+		routes.put("JNI_GetRawGyro", new Route(PigeonIMU_StatusFrame.BiasedStatus_2_Gyro.value, -1, 0));
+		routes.put("JNI_GetBiasedAccelerometer", new Route(PigeonIMU_StatusFrame.BiasedStatus_6_Accel.value, -1, 0));
+		return routes;
+	}
+	private static HashMap<String, Route> canifierRoutes() {
+		int general1 = CANifierStatusFrame.Status_1_General.value;
+		int general2 = CANifierStatusFrame.Status_2_General.value;
+		int pwm = CANifierStatusFrame.Status_3_PwmInputs0.value;
+		int pwmStride = CANifierStatusFrame.Status_4_PwmInputs1.value - pwm;
+
+		HashMap<String, Route> routes = new HashMap<String, Route>();
+		routes.put("JNI_GetBatteryVoltage", new Route(general1, -1, 0));
+		routes.put("JNI_GetBusVoltage", new Route(general1, -1, 0));
+		routes.put("JNI_GetFaults", new Route(general1, -1, 0));
+		routes.put("JNI_GetStickyFaults", new Route(general1, -1, 0));
+		routes.put("JNI_GetGeneralInputs", new Route(general2, -1, 0));
+		routes.put("JNI_GetGeneralInput", new Route(general2, -1, 0));
+		routes.put("JNI_GetQuadraturePosition", new Route(general2, -1, 0));
+		routes.put("JNI_GetQuadratureVelocity", new Route(general2, -1, 0));
+		routes.put("JNI_GetPWMInput", new Route(pwm, 1, pwmStride));
+		return routes;
+	}
+
+	/** Frames of another device that a motor controller's remote feedback filter reads */
+	private static final class RemoteUse {
+		final long handle;
+		final int remoteOrdinal;
+		final String[] types;
+		final int deviceNumber;
+		final int[] frames;
+
+		RemoteUse(long handle, int remoteOrdinal, String[] types, int deviceNumber, int[] frames) {
+			this.handle = handle;
+			this.remoteOrdinal = remoteOrdinal;
+			this.types = types;
+			this.deviceNumber = deviceNumber;
+			this.frames = frames;
+		}
+		boolean reads(Device device, int frame) {
+			if (device.deviceNumber != deviceNumber) {
+				return false;
+			}
+			for (String type : types) {
+				if (type.equals(device.type)) {
+					for (int f : frames) {
+						if (f == frame) {
+							return true;
+						}
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * @return frames of the remote device that carry the sensor, empty if none
+	 */
+	private static int[] remoteFrames(RemoteSensorSource source) {
+		switch (source) {
+			case TalonSRX_SelectedSensor:
+				return new int[] { StatusFrameEnhanced.Status_2_Feedback0.value };
+			case Pigeon_Yaw:
+			case Pigeon_Pitch:
+			case Pigeon_Roll:
+			case GadgeteerPigeon_Yaw:
+			case GadgeteerPigeon_Pitch:
+			case GadgeteerPigeon_Roll:
+				return new int[] { PigeonIMU_StatusFrame.CondStatus_9_SixDeg_YPR.value,
+						PigeonIMU_StatusFrame.CondStatus_11_GyroAccum.value };
+			case CANifier_Quadrature:
+				return new int[] { CANifierStatusFrame.Status_2_General.value };
+			case CANifier_PWMInput0:
+			case CANifier_PWMInput1:
+			case CANifier_PWMInput2:
+			case CANifier_PWMInput3:
+				int pwmStride = CANifierStatusFrame.Status_4_PwmInputs1.value - CANifierStatusFrame.Status_3_PwmInputs0.value;
+				return new int[] { CANifierStatusFrame.Status_3_PwmInputs0.value
+						+ (source.value - RemoteSensorSource.CANifier_PWMInput0.value) * pwmStride };
+			default:
+				return new int[0];
+		}
+	}
+	private static String[] remoteTypes(RemoteSensorSource source) {
+		switch (source) {
+			case TalonSRX_SelectedSensor:
+				return new String[] { "TalonSRX", "VictorSPX" };
+			case CANifier_Quadrature:
+			case CANifier_PWMInput0:
+			case CANifier_PWMInput1:
+			case CANifier_PWMInput2:
+			case CANifier_PWMInput3:
+				return new String[] { "CANifier" };
+			default:
+				return new String[] { "PigeonIMU" };
+		}
+	}
+
+	/** Device created through the profiled backends */
+	private abstract static class Device {
+		final String type;
+		final long handle;
+		final int deviceNumber;
+		final int[] frames;
+		final String[] frameNames;
+		final int keptFrame;
+		final boolean[] pinned;
+		final AtomicLongArray reads;
+		final AtomicLongArray lastReadNs;
+		final int[] periodsBefore;
+		final int[] periodsAfter;
+
+		/**
+		 * @param keptFrame Frame whose period is never lengthened, or -1
+		 */
+		Device(String type, long handle, int deviceNumber, Enum<?>[] frameEnums, int[] frames, int keptFrame) {
+			this.type = type;
+			this.handle = handle;
+			this.deviceNumber = deviceNumber;
+			this.frames = frames;
+			this.keptFrame = keptFrame;
+			frameNames = new String[frames.length];
+			for (int i = 0; i < frames.length; ++i) {
+				frameNames[i] = frameEnums[i].name();
+			}
+			pinned = new boolean[frames.length];
+			reads = new AtomicLongArray(frames.length);
+			lastReadNs = new AtomicLongArray(frames.length);
+			periodsBefore = new int[frames.length];
+			periodsAfter = new int[frames.length];
+			reset();
+		}
+		void reset() {
+			for (int i = 0; i < frames.length; ++i) {
+				reads.set(i, 0);
+				lastReadNs.set(i, Long.MIN_VALUE);
+			}
+		}
+		void record(int frame, long nowNs) {
+			for (int i = 0; i < frames.length; ++i) {
+				if (frames[i] == frame) {
+					long last = lastReadNs.get(i);
+					if (last == Long.MIN_VALUE || nowNs - last >= COALESCE_NS) {
+						lastReadNs.set(i, nowNs);
+						reads.incrementAndGet(i);
+					}
+					return;
+				}
+			}
+		}
+		abstract int getPeriod(int frame, int timeoutMs);
+		abstract int getLastError();
+		abstract int setPeriod(int frame, int periodMs, int timeoutMs);
+	}
+
+	/** Forwards every call to the wrapped backend and counts the reads */
+	private final class Recorder implements InvocationHandler {
+		private final Object _target;
+		private final HashMap<Method, Route> _routes = new HashMap<Method, Route>();
+
+		Recorder(Class<?> backendClass, Object target, HashMap<String, Route> routes) {
+			_target = target;
+			for (Method method : backendClass.getMethods()) {
+				Route route = routes.get(method.getName());
+				if (route != null) {
+					_routes.put(method, route);
+				}
+			}
+		}
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object retval;
+			try {
+				retval = method.invoke(_target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+			Route route = _routes.get(method);
+			if (route != null) {
+				Device device = _devices.get(args[0]);
+				if (device != null) {
+					device.record(route.frameOf(args), System.nanoTime());
+				}
+			} else {
+				onCall(method.getName(), args, retval);
+			}
+			return retval;
+		}
+	}
+
+	private final IMotControllerBackend _motController;
+	private final IPigeonImuBackend _pigeonImu;
+	private final ICANifierBackend _canifier;
+	private final ConcurrentHashMap<Long, Device> _devices = new ConcurrentHashMap<Long, Device>();
+	private final List<Device> _order = new ArrayList<Device>();
+	private final List<RemoteUse> _remoteUses = new ArrayList<RemoteUse>();
+	private volatile long _startNs = System.nanoTime();
+	private int _minPeriodMs = 10;
+	private int _maxPeriodMs = 255;
+	private boolean _applied = false;
+
+	/**
+	 * Wrap the current backends with a profiler and select the wrapped backends,
+	 * see com.ctre.phoenix.platform.Backend.  Create devices after this call.
+	 * @return profiler counting the reads of devices created from now on
+	 */
+	public static StatusFrameProfiler install() {
+		StatusFrameProfiler profiler = new StatusFrameProfiler(Backend.getMotController(), Backend.getPigeonImu(),
+				Backend.getCANifier());
+		Backend.use(profiler.wrap(IMotControllerBackend.class, profiler._motController, motControllerRoutes()),
+				profiler.wrap(IPigeonImuBackend.class, profiler._pigeonImu, pigeonRoutes()),
+				profiler.wrap(ICANifierBackend.class, profiler._canifier, canifierRoutes()),
+				Backend.getBuffTrajPointStream());
+		return profiler;
+	}
+
+	private StatusFrameProfiler(IMotControllerBackend motController, IPigeonImuBackend pigeonImu,
+			ICANifierBackend canifier) {
+		_motController = motController;
+		_pigeonImu = pigeonImu;
+		_canifier = canifier;
+	}
+
+	private <T> T wrap(Class<T> backendClass, T target, HashMap<String, Route> routes) {
+		Object proxy = Proxy.newProxyInstance(backendClass.getClassLoader(), new Class<?>[] { backendClass },
+				new Recorder(backendClass, target, routes));
+		return backendClass.cast(proxy);
+	}
+
+	/** Track devices as they are created and destroyed */
+	private void onCall(String name, Object[] args, Object retval) {
+		if (name.equals("Create")) {
+			long handle = (Long) retval;
+			int baseArbId = (Integer) args[0];
+			boolean talon = (baseArbId & 0xFFFF0000) == 0x02040000;
+			StatusFrameEnhanced[] frames = talon ? TALON_FRAMES : VICTOR_FRAMES;
+			int[] values = new int[frames.length];
+			for (int i = 0; i < frames.length; ++i) {
+				values[i] = frames[i].value;
+			}
+			add(new Device(talon ? "TalonSRX" : "VictorSPX", handle, baseArbId & 0x3F, frames, values,
+					StatusFrameEnhanced.Status_1_General.value) {
+				int getPeriod(int frame, int timeoutMs) {
+					return _motController.GetStatusFramePeriod(handle, frame, timeoutMs);
+				}
+				int getLastError() {
+					return _motController.GetLastError(handle);
+				}
+				int setPeriod(int frame, int periodMs, int timeoutMs) {
+					return _motController.SetStatusFramePeriod(handle, frame, periodMs, timeoutMs);
+				}
+			});
+		} else if (name.equals("JNI_new_PigeonImu") || name.equals("JNI_new_PigeonImu_Talon")) {
+			long handle = (Long) retval;
+			int[] values = new int[PIGEON_FRAMES.length];
+			for (int i = 0; i < PIGEON_FRAMES.length; ++i) {
+				values[i] = PIGEON_FRAMES[i].value;
+			}
+			add(new Device("PigeonIMU", handle, (Integer) args[0], PIGEON_FRAMES, values, -1) {
+				int getPeriod(int frame, int timeoutMs) {
+					return _pigeonImu.JNI_GetStatusFramePeriod(handle, frame, timeoutMs);
+				}
+				int getLastError() {
+					return _pigeonImu.JNI_GetLastError(handle);
+				}
+				int setPeriod(int frame, int periodMs, int timeoutMs) {
+					return _pigeonImu.JNI_SetStatusFramePeriod(handle, frame, periodMs, timeoutMs);
+				}
+			});
+		} else if (name.equals("JNI_new_CANifier")) {
+			long handle = (Long) retval;
+			CANifierStatusFrame[] frames = CANifierStatusFrame.values();
+			int[] values = new int[frames.length];
+			for (int i = 0; i < frames.length; ++i) {
+				values[i] = frames[i].value;
+			}
+			add(new Device("CANifier", handle, (Integer) args[0], frames, values, -1) {
+				int getPeriod(int frame, int timeoutMs) {
+					return _canifier.JNI_GetStatusFramePeriod(handle, frame, timeoutMs);
+				}
+				int getLastError() {
+					return _canifier.JNI_GetLastError(handle);
+				}
+				int setPeriod(int frame, int periodMs, int timeoutMs) {
+					return _canifier.JNI_SetStatusFramePeriod(handle, frame, periodMs, timeoutMs);
+				}
+			});
+		} else if (name.equals("ConfigRemoteFeedbackFilter") && ((Integer) retval) == 0) {
+			RemoteSensorSource source = RemoteSensorSource.valueOf((Integer) args[2]);
+			setRemoteUse(new RemoteUse((Long) args[0], (Integer) args[3], remoteTypes(source), (Integer) args[1],
+					remoteFrames(source)));
+		} else if (name.startsWith("JNI_destroy_")) {
+			Device device = _devices.remove(args[0]);
+			if (device != null) {
+				synchronized (this) {
+					_order.remove(device);
+				}
+			}
+		}
+	}
+	private synchronized void add(Device device) {
+		_devices.put(device.handle, device);
+		_order.add(device);
+	}
+	/** Replace what a motor controller's remote filter reads */
+	private synchronized void setRemoteUse(RemoteUse use) {
+		for (int i = 0; i < _remoteUses.size(); ++i) {
+			RemoteUse old = _remoteUses.get(i);
+			if (old.handle == use.handle && old.remoteOrdinal == use.remoteOrdinal) {
+				_remoteUses.remove(i);
+				break;
+			}
+		}
+		_remoteUses.add(use);
+	}
+	/**
+	 * @return true if apply() must not lengthen the period of the device's frame
+	 */
+	private synchronized boolean isKept(Device device, int i) {
+		if (device.frames[i] == device.keptFrame || device.pinned[i]) {
+			return true;
+		}
+		for (RemoteUse use : _remoteUses) {
+			if (use.reads(device, device.frames[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+	private synchronized Device device(int idx) {
+		return _order.get(idx);
+	}
+
+	/**
+	 * Limit the periods chosen by apply().
+	 * @param minPeriodMs Fastest period to choose, however often a frame is read
+	 * @param maxPeriodMs Period of frames that are never read, at most 255
+	 */
+	public synchronized void setPeriodLimits(int minPeriodMs, int maxPeriodMs) {
+		_minPeriodMs = minPeriodMs;
+		_maxPeriodMs = maxPeriodMs;
+	}
+
+	/**
+	 * Never lengthen the period of a status frame, for frames read by something the
+	 * profiler does not see.  Frames read through a profiled motor controller's remote
+	 * feedback filter are kept without this call.
+	 * @param idx Index of the device
+	 * @param frame Status frame value
+	 */
+	public synchronized void keepStatusFrame(int idx, int frame) {
+		Device device = _order.get(idx);
+		for (int i = 0; i < device.frames.length; ++i) {
+			if (device.frames[i] == frame) {
+				device.pinned[i] = true;
+				return;
+			}
+		}
+		throw new IllegalArgumentException("Status frame " + frame + " is not managed for this device");
+	}
+
+	/**
+	 * Forget all reads and start measuring again.
+	 */
+	public synchronized void reset() {
+		for (Device device : _order) {
+			device.reset();
+		}
+		_startNs = System.nanoTime();
+	}
+
+	/**
+	 * @return number of profiled devices, in creation order
+	 */
+	public synchronized int getDeviceCount() {
+		return _order.size();
+	}
+	/**
+	 * @param idx Index of the device
+	 * @return CAN ID of the device
+	 */
+	public int getDeviceNumber(int idx) {
+		return device(idx).deviceNumber;
+	}
+	/**
+	 * @param idx Index of the device
+	 * @return status frames of the device managed by the profiler
+	 */
+	public int[] getStatusFrames(int idx) {
+		return device(idx).frames.clone();
+	}
+	/**
+	 * @param idx Index of the device
+	 * @param frame Status frame value
+	 * @return reads of the frame per second since install() or reset()
+	 */
+	public double getReadRate(int idx, int frame) {
+		return getReadCount(device(idx), frame) * 1e9 / elapsedNs();
+	}
+	/**
+	 * @param idx Index of the device
+	 * @param frame Status frame value
+	 * @return slowest period in ms that keeps up with the reads of the frame.
+	 *         apply() never lengthens a motor controller's Status_1_General, a frame
+	 *         used as a remote sensor, or a frame kept with keepStatusFrame().
+	 */
+	public int getRecommendedPeriodMs(int idx, int frame) {
+		return recommend(getReadCount(device(idx), frame), elapsedNs());
+	}
+
+	private long elapsedNs() {
+		return Math.max(1, System.nanoTime() - _startNs);
+	}
+	private static long getReadCount(Device device, int frame) {
+		for (int i = 0; i < device.frames.length; ++i) {
+			if (device.frames[i] == frame) {
+				return device.reads.get(i);
+			}
+		}
+		return 0;
+	}
+	private synchronized int recommend(long reads, long elapsedNs) {
+		if (reads == 0) {
+			return _maxPeriodMs;
+		}
+		long periodMs = elapsedNs / reads / 1000000;
+		return (int) Math.max(_minPeriodMs, Math.min(_maxPeriodMs, periodMs));
+	}
+
+	/**
+	 * Set every status frame of every profiled device to its recommended period.
+	 * The periods in use before the call are kept for printReport().
+	 * A frame whose current period cannot be read is left unchanged.
+	 * @param timeoutMs Timeout value in ms used to read and confirm each period.
+	 * @return Worst error of any device, including failed reads.
+	 */
+	public ErrorCode apply(int timeoutMs) {
+		ErrorCollection errors = new ErrorCollection();
+		long elapsedNs = elapsedNs();
+		Device[] devices;
+		synchronized (this) {
+			devices = _order.toArray(new Device[_order.size()]);
+		}
+		for (Device device : devices) {
+			for (int i = 0; i < device.frames.length; ++i) {
+				int periodMs = recommend(device.reads.get(i), elapsedNs);
+				device.periodsBefore[i] = device.getPeriod(device.frames[i], timeoutMs);
+				ErrorCode err = ErrorCode.valueOf(device.getLastError());
+				if (err != ErrorCode.OK) {
+					errors.NewError(err);
+					device.periodsBefore[i] = UNREAD;
+					device.periodsAfter[i] = UNREAD;
+					continue;
+				}
+				if (isKept(device, i)) {
+					periodMs = Math.min(periodMs, device.periodsBefore[i]);
+				}
+				device.periodsAfter[i] = periodMs;
+				errors.NewError(device.setPeriod(device.frames[i], periodMs, timeoutMs));
+			}
+		}
+		synchronized (this) {
+			_applied = true;
+		}
+		return errors._worstError;
+	}
+
+	/**
+	 * @return load in percent of the managed status frames before the last apply(),
+	 *         without frames whose period could not be read
+	 */
+	public synchronized double getLoadBeforePercent() {
+		double framesPerSecond = 0;
+		for (Device device : _order) {
+			for (int periodMs : device.periodsBefore) {
+				framesPerSecond += CANBusLoad.framesPerSecond(periodMs);
+			}
+		}
+		return CANBusLoad.loadPercent(framesPerSecond);
+	}
+	/**
+	 * @return load in percent of the managed status frames after the last apply(),
+	 *         without frames whose period could not be read
+	 */
+	public synchronized double getLoadAfterPercent() {
+		double framesPerSecond = 0;
+		for (Device device : _order) {
+			for (int periodMs : device.periodsAfter) {
+				framesPerSecond += CANBusLoad.framesPerSecond(periodMs);
+			}
+		}
+		return CANBusLoad.loadPercent(framesPerSecond);
+	}
+
+	/**
+	 * Print each device's read rates and periods, and the bus load before and after apply().
+	 * @param out Stream to print to
+	 */
+	public synchronized void printReport(PrintStream out) {
+		long elapsedNs = elapsedNs();
+		for (Device device : _order) {
+			out.println(device.type + " " + device.deviceNumber);
+			for (int i = 0; i < device.frames.length; ++i) {
+				long reads = device.reads.get(i);
+				String line = String.format("  %-28s %8.1f reads/s", device.frameNames[i], reads * 1e9 / elapsedNs);
+				if (_applied && device.periodsBefore[i] == UNREAD) {
+					line += "  period not read, unchanged";
+				} else if (_applied) {
+					line += String.format("  %4dms -> %4dms", device.periodsBefore[i], device.periodsAfter[i]);
+				} else if (isKept(device, i)) {
+					line += String.format("  recommended %4dms or faster", recommend(reads, elapsedNs));
+				} else {
+					line += String.format("  recommended %4dms", recommend(reads, elapsedNs));
+				}
+				out.println(line);
+			}
+		}
+		if (_applied) {
+			out.println(String.format("Status frame bus load: %.1f%% -> %.1f%%", getLoadBeforePercent(),
+					getLoadAfterPercent()));
+		}
+	}
+}
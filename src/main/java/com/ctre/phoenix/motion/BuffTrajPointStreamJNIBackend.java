@@ -0,0 +1,22 @@
+package com.ctre.phoenix.motion;
+
+/**
+ * IBuffTrajPointStreamBackend implemented with the CTRE_PhoenixCCI natives.
+ */
+public class BuffTrajPointStreamJNIBackend implements IBuffTrajPointStreamBackend {
+	public long Create1() {
+		return BuffTrajPointStreamJNI.Create1();
+	}
+	public void DestroyAll() {
+		BuffTrajPointStreamJNI.DestroyAll();
+	}
+	public int Destroy(long handle) {
+		return BuffTrajPointStreamJNI.Destroy(handle);
+	}
+	public int Clear(long handle) {
+		return BuffTrajPointStreamJNI.Clear(handle);
+	}
+	public int Write(long handle, double position, double velocity, double arbFeedFwd, double auxiliaryPos, double auxiliaryVel, double auxiliaryArbFeedFwd, int profileSlotSelect0, int profileSlotSelect1, boolean isLastPoint, boolean zeroPos, int timeDur, boolean useAuxPID) {
+		return BuffTrajPointStreamJNI.Write(handle, position, velocity, arbFeedFwd, auxiliaryPos, auxiliaryVel, auxiliaryArbFeedFwd, profileSlotSelect0, profileSlotSelect1, isLastPoint, zeroPos, timeDur, useAuxPID);
+	}
+}
@@ -2,17 +2,18 @@ package com.ctre.phoenix.motion;
 
 import com.ctre.phoenix.ErrorCode;
 import com.ctre.phoenix.motion.TrajectoryPoint;
-import com.ctre.phoenix.motion.BuffTrajPointStreamJNI;
+import com.ctre.phoenix.platform.Backend;
 
 /**
  * Stream of trajectory points for Talon/Victor motion profiling.
  */
 public class BufferedTrajectoryPointStream{
     private long m_handle;
+    private final IBuffTrajPointStreamBackend m_backend = Backend.getBuffTrajPointStream();
 
     public BufferedTrajectoryPointStream()
     {
-        m_handle = BuffTrajPointStreamJNI.Create1();
+        m_handle = m_backend.Create1();
     }
 	/**
 	 * Clear all trajectory points.
@@ -20,7 +21,7 @@ public class BufferedTrajectoryPointStream{
 	 */
     public ErrorCode Clear()
     {
-        return ErrorCode.valueOf(BuffTrajPointStreamJNI.Clear(m_handle));
+        return ErrorCode.valueOf(m_backend.Clear(m_handle));
     }
 	/**
 	 * Write a single trajectory point into the buffer.
@@ -29,7 +30,7 @@ public class BufferedTrajectoryPointStream{
 	 */
     public ErrorCode Write(TrajectoryPoint trajPt)
     {
-        int status = BuffTrajPointStreamJNI.Write(m_handle,
+        int status = m_backend.Write(m_handle,
             trajPt.position,
             trajPt.velocity,
             trajPt.arbFeedFwd,
@@ -43,6 +44,22 @@ public class BufferedTrajectoryPointStream{
             trajPt.timeDur,
             trajPt.useAuxPID);
         return ErrorCode.valueOf(status);
+    }
+	/**
+	 * Write a single trajectory point into the buffer from primitive members,
+	 * so generators need not create a TrajectoryPoint.  See TrajectoryPoint for each member.
+	 * @return nonzero error code if operation fails.
+	 */
+    public ErrorCode Write(double position, double velocity, double arbFeedFwd,
+            double auxiliaryPos, double auxiliaryVel, double auxiliaryArbFeedFwd,
+            int profileSlotSelect0, int profileSlotSelect1,
+            boolean isLastPoint, boolean zeroPos, int timeDur, boolean useAuxPID)
+    {
+        int status = m_backend.Write(m_handle, position, velocity, arbFeedFwd,
+            auxiliaryPos, auxiliaryVel, auxiliaryArbFeedFwd,
+            profileSlotSelect0, profileSlotSelect1,
+            isLastPoint, zeroPos, timeDur, useAuxPID);
+        return ErrorCode.valueOf(status);
     }
 	/**
 	 * Writes an array of trajectory point into the buffer.
@@ -73,6 +90,49 @@ public class BufferedTrajectoryPointStream{
     public ErrorCode Write(TrajectoryPoint[] trajPts){
         return Write(trajPts, trajPts.length);
     }
+	/**
+	 * Writes a range of a struct-of-arrays trajectory into the buffer.
+	 * No TrajectoryPoint objects are created.
+ 	 * @param trajPts 	Trajectory points to write.
+ 	 * @param from  Index of first point to write.
+ 	 * @param to  Index after the last point to write.  This is capped against the array size.
+	 * @return nonzero error code if operation fails.
+	 */
+    public ErrorCode Write(TrajectoryPointArray trajPts, int from, int to)
+    {
+        ErrorCode retval = ErrorCode.OK;
+
+        if(to > trajPts.size()){to = trajPts.size();}
+
+        for (int i = from; i < to; ++i) {
+            /* insert next pt */
+            int status = m_backend.Write(m_handle,
+                trajPts.position[i],
+                trajPts.velocity[i],
+                trajPts.arbFeedFwd[i],
+                trajPts.auxiliaryPos[i],
+                trajPts.auxiliaryVel[i],
+                trajPts.auxiliaryArbFeedFwd[i],
+                trajPts.profileSlotSelect0[i],
+                trajPts.profileSlotSelect1[i],
+                trajPts.isLastPoint(i),
+                trajPts.isZeroPos(i),
+                trajPts.timeDur[i],
+                trajPts.isUseAuxPID(i));
+            /* save first nonzero error code */
+            if (retval == ErrorCode.OK) { retval = ErrorCode.valueOf(status); }
+        }
+
+        return retval;
+    }
+	/**
+ 	 * Writes a struct-of-arrays trajectory into the buffer.
+ 	 * @param trajPts 	Trajectory points to write.
+ 	 * @return nonzero error code if operation fails.
+	 */
+    public ErrorCode Write(TrajectoryPointArray trajPts){
+        return Write(trajPts, 0, trajPts.size());
+    }
 
     /**
      * @return handle of object
@@ -0,0 +1,14 @@
+package com.ctre.phoenix.motion;
+
+/**
+ * Operations behind every buffered trajectory point stream object.
+ * Mirrors BuffTrajPointStreamJNI so the natives can be replaced, for example by a simulated device.
+ * See com.ctre.phoenix.platform.Backend for selecting the implementation.
+ */
+public interface IBuffTrajPointStreamBackend {
+	long Create1();
+	void DestroyAll();
+	int Destroy(long handle);
+	int Clear(long handle);
+	int Write(long handle, double position, double velocity, double arbFeedFwd, double auxiliaryPos, double auxiliaryVel, double auxiliaryArbFeedFwd, int profileSlotSelect0, int profileSlotSelect1, boolean isLastPoint, boolean zeroPos, int timeDur, boolean useAuxPID);
+}
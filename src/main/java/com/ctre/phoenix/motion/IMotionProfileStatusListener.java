@@ -0,0 +1,15 @@
+package com.ctre.phoenix.motion;
+
+/**
+ * Interface for receiving motion profile status changes from a MotionProfileStatusView
+ */
+public interface IMotionProfileStatusListener {
+	/**
+	 * Called from MotionProfileStatusView.update() when hasUnderrun, isLast or
+	 * outputEnable differ from the previous update.
+	 *
+	 * @param status View holding the new status
+	 * @param changed Bitwise OR of MotionProfileStatusView.HAS_UNDERRUN, IS_LAST and OUTPUT_ENABLE
+	 */
+	void onMotionProfileStatusChanged(MotionProfileStatusView status, int changed);
+}
@@ -0,0 +1,23 @@
+package com.ctre.phoenix.motion;
+
+import com.ctre.phoenix.motorcontrol.can.BaseMotorController;
+
+/**
+ * Interface for receiving motion profile buffer warnings from a MotionProfilePump
+ */
+public interface IUnderrunListener {
+	/**
+	 * Called once when a motor controller's buffered points are predicted to run out
+	 * within the pump's lead time.  Called again only after the buffer has recovered.
+	 *
+	 * @param motorController Motor controller whose buffer is running low
+	 * @param msToEmpty Predicted time in ms until the buffer is empty
+	 */
+	void onUnderrunPredicted(BaseMotorController motorController, int msToEmpty);
+	/**
+	 * Called once when a motor controller's hasUnderrun flag is set.
+	 *
+	 * @param motorController Motor controller that underran
+	 */
+	void onUnderrun(BaseMotorController motorController);
+}
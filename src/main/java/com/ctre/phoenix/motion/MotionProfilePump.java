@@ -0,0 +1,327 @@
+package com.ctre.phoenix.motion;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.Logger;
+import com.ctre.phoenix.motorcontrol.can.BaseMotorController;
+
+/**
+ * Calls processMotionProfileBuffer() for many motor controllers from one thread, at a
+ * rate adapted to how fast their buffers drain.
+ *
+ * Each pass funnels every controller's top buffer into its bottom buffer and reads its
+ * motion profile status.  The next pass is scheduled at half the duration of the fastest
+ * active trajectory point, as processMotionProfileBuffer() recommends, or sooner if a
+ * buffer is about to run out.  With no profile running the pump polls at its maximum period.
+ *
+ * The time left in each buffer is predicted from the buffered point count and the
+ * active point's duration.  Listeners are told when that drops under the lead time
+ * (so the application can push more points or hold the executer), and when a controller
+ * actually underruns.  Near the end of a profile the buffer also drains, so a listener
+ * that has already pushed the last point can ignore the prediction.
+ * An exception thrown by a listener is logged through Logger and does not stop the pump
+ * or keep other listeners and controllers from being served.
+ *
+ * Example:
+ *	MotionProfilePump pump = new MotionProfilePump();
+ *	pump.add(_leftMaster);
+ *	pump.add(_rightMaster);
+ *	pump.start();
+ */
+public class MotionProfilePump {
+	private static final Entry[] NO_ENTRIES = new Entry[0];
+	private static final IUnderrunListener[] NO_LISTENERS = new IUnderrunListener[0];
+	/** Point duration assumed until a controller reports one */
+	private static final int DEFAULT_POINT_MS = 10;
+
+	/** Motor controller and what the pump last saw of it */
+	private static final class Entry {
+		final BaseMotorController mc;
+		final MotionProfileStatusView status;
+		int pointMs = DEFAULT_POINT_MS;
+		int msToEmpty = Integer.MAX_VALUE;
+		boolean predicted = false;
+		long predictedCount = 0;
+		long underrunCount = 0;
+
+		Entry(BaseMotorController mc) {
+			this.mc = mc;
+			this.status = new MotionProfileStatusView(mc);
+		}
+	}
+
+	private final long _minPeriodNs;
+	private final long _maxPeriodNs;
+	private volatile Entry[] _entries = NO_ENTRIES;
+	private volatile IUnderrunListener[] _listeners = NO_LISTENERS;
+	private volatile int _leadMs = 50;
+	private volatile long _periodNs;
+	private volatile long _passCount = 0;
+
+	private volatile Thread _thread = null;
+	private volatile boolean _running = false;
+
+	/**
+	 * Constructor for MotionProfilePump
+	 * @param minPeriodMs Shortest time between passes
+	 * @param maxPeriodMs Time between passes when no profile is running
+	 */
+	public MotionProfilePump(int minPeriodMs, int maxPeriodMs) {
+		if (minPeriodMs <= 0 || maxPeriodMs < minPeriodMs) {
+			throw new IllegalArgumentException("periods must be positive and minPeriodMs <= maxPeriodMs");
+		}
+		_minPeriodNs = minPeriodMs * 1000000L;
+		_maxPeriodNs = maxPeriodMs * 1000000L;
+		_periodNs = _maxPeriodNs;
+	}
+	/**
+	 * Constructor for MotionProfilePump, polling between every 1ms and every 20ms.
+	 */
+	public MotionProfilePump() {
+		this(1, 20);
+	}
+
+	/**
+	 * Add a motor controller to pump
+	 * @param mc Motor controller to add
+	 */
+	public synchronized void add(BaseMotorController mc) {
+		Entry[] old = _entries;
+		for (Entry e : old) {
+			if (e.mc == mc) {
+				return;
+			}
+		}
+		Entry[] entries = new Entry[old.length + 1];
+		System.arraycopy(old, 0, entries, 0, old.length);
+		entries[old.length] = new Entry(mc);
+		_entries = entries;
+	}
+	/**
+	 * Stop pumping a motor controller
+	 * @param mc Motor controller to remove
+	 */
+	public synchronized void remove(BaseMotorController mc) {
+		Entry[] old = _entries;
+		int count = 0;
+		Entry[] entries = new Entry[old.length];
+		for (Entry e : old) {
+			if (e.mc != mc) {
+				entries[count++] = e;
+			}
+		}
+		_entries = Arrays.copyOf(entries, count);
+	}
+	/**
+	 * Add a listener to call on predicted and actual underruns.
+	 * Listeners are called from the pump thread.
+	 * @param listener Listener to add
+	 */
+	public synchronized void addListener(IUnderrunListener listener) {
+		IUnderrunListener[] old = _listeners;
+		IUnderrunListener[] listeners = new IUnderrunListener[old.length + 1];
+		System.arraycopy(old, 0, listeners, 0, old.length);
+		listeners[old.length] = listener;
+		_listeners = listeners;
+	}
+	/**
+	 * @param leadMs Buffered time under which an underrun is predicted
+	 */
+	public void setUnderrunLeadMs(int leadMs) {
+		_leadMs = leadMs;
+	}
+
+	/**
+	 * Start pumping from a daemon thread.
+	 * If the pump is still finishing a stop() made from a listener, waits for it first.
+	 */
+	public synchronized void start() {
+		Thread thread = _thread;
+		if (thread == Thread.currentThread()) {
+			/* stopped and restarted from a listener, keep pumping */
+			_running = true;
+			return;
+		}
+		if (thread != null) {
+			if (_running) {
+				return;
+			}
+			join(thread);
+		}
+		_running = true;
+		_thread = new Thread(this::run, "MotionProfilePump");
+		_thread.setDaemon(true);
+		_thread.start();
+	}
+	/**
+	 * Stop pumping.  Blocks until the current pass completes, unless called from a
+	 * listener, in which case the pump stops once the current pass returns.
+	 */
+	public synchronized void stop() {
+		Thread thread = _thread;
+		if (thread == null) {
+			return;
+		}
+		_running = false;
+		if (thread == Thread.currentThread()) {
+			return;
+		}
+		LockSupport.unpark(thread);
+		join(thread);
+		_thread = null;
+	}
+	private static void join(Thread thread) {
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	/**
+	 * @return true if started
+	 */
+	public boolean isRunning() {
+		return _running;
+	}
+
+	private void run() {
+		try {
+			loop();
+		} finally {
+			/* not synchronized, stop() holds the monitor while joining this thread */
+			if (_thread == Thread.currentThread()) {
+				_thread = null;
+			}
+		}
+	}
+
+	private void loop() {
+		long next = System.nanoTime();
+		while (_running) {
+			long now = System.nanoTime();
+			while (_running && now < next) {
+				LockSupport.parkNanos(this, next - now);
+				now = System.nanoTime();
+			}
+			if (!_running) {
+				break;
+			}
+			long periodNs;
+			try {
+				periodNs = pump();
+			} catch (RuntimeException ex) {
+				/* keep pumping, the other controllers' profiles depend on it */
+				Logger.log(ErrorCode.GeneralError, "MotionProfilePump: " + ex);
+				periodNs = _minPeriodNs;
+			}
+			/* schedule from this pass' start, but never in the past */
+			next = Math.max(next + periodNs, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Run one pass over every motor controller.  The pump thread calls this,
+	 * but it can also be called from the caller's own loop instead of start().
+	 * @return time in ns until the next pass should run
+	 */
+	public long pump() {
+		Entry[] entries = _entries;
+		IUnderrunListener[] listeners = _listeners;
+		int leadMs = _leadMs;
+		long periodNs = _maxPeriodNs;
+		for (Entry e : entries) {
+			e.mc.processMotionProfileBuffer();
+			MotionProfileStatusView status = e.status;
+			status.update();
+
+			if ((status.getChanged() & MotionProfileStatusView.HAS_UNDERRUN) != 0 && status.hasUnderrun()) {
+				++e.underrunCount;
+				for (IUnderrunListener listener : listeners) {
+					try {
+						listener.onUnderrun(e.mc);
+					} catch (RuntimeException ex) {
+						Logger.log(ErrorCode.GeneralError, "MotionProfilePump: " + ex);
+					}
+				}
+			}
+
+			boolean enabled = status.getOutputEnableValue() == SetValueMotionProfile.Enable.value;
+			int buffered = status.getBtmBufferCnt() + status.getTopBufferCnt();
+			if (!enabled || status.isLast()) {
+				/* nothing is draining the buffer */
+				e.msToEmpty = Integer.MAX_VALUE;
+				e.predicted = false;
+				continue;
+			}
+			if (status.getTimeDurMs() > 0) {
+				e.pointMs = status.getTimeDurMs();
+			}
+			e.msToEmpty = buffered * e.pointMs;
+
+			/* twice per point, and at least four times before the buffer runs out */
+			periodNs = Math.min(periodNs, e.pointMs * 1000000L / 2);
+			if (buffered > 0) {
+				periodNs = Math.min(periodNs, e.msToEmpty * 1000000L / 4);
+			}
+
+			boolean predicted = e.msToEmpty < leadMs;
+			if (predicted && !e.predicted) {
+				++e.predictedCount;
+				for (IUnderrunListener listener : listeners) {
+					try {
+						listener.onUnderrunPredicted(e.mc, e.msToEmpty);
+					} catch (RuntimeException ex) {
+						Logger.log(ErrorCode.GeneralError, "MotionProfilePump: " + ex);
+					}
+				}
+			}
+			e.predicted = predicted;
+		}
+		periodNs = Math.max(_minPeriodNs, periodNs);
+		_periodNs = periodNs;
+		++_passCount;
+		return periodNs;
+	}
+
+	/**
+	 * @return number of motor controllers pumped
+	 */
+	public int getCount() {
+		return _entries.length;
+	}
+	/**
+	 * @return time in ms the last pass chose until the next one
+	 */
+	public double getPeriodMs() {
+		return _periodNs / 1e6;
+	}
+	/**
+	 * @return number of passes run
+	 */
+	public long getPassCount() {
+		return _passCount;
+	}
+	/**
+	 * @param idx Index of the motor controller, in the order added
+	 * @return predicted ms until the motor controller's buffer is empty, Integer.MAX_VALUE if not draining
+	 */
+	public int getMsToEmpty(int idx) {
+		return _entries[idx].msToEmpty;
+	}
+	/**
+	 * @param idx Index of the motor controller, in the order added
+	 * @return number of underruns predicted
+	 */
+	public long getPredictedCount(int idx) {
+		return _entries[idx].predictedCount;
+	}
+	/**
+	 * @param idx Index of the motor controller, in the order added
+	 * @return number of underruns seen
+	 */
+	public long getUnderrunCount(int idx) {
+		return _entries[idx].underrunCount;
+	}
+}
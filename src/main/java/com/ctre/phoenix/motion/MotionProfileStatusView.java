@@ -0,0 +1,218 @@
+package com.ctre.phoenix.motion;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.motorcontrol.can.BaseMotorController;
+
+/**
+ * Motion profile status of one motor controller, read without decoding.
+ *
+ * update() fills the raw status array with getMotionProfileStatus(int[]) and fields are
+ * decoded only when their getter is called, so polling allocates nothing.  Unlike
+ * MotionProfileStatus, outputEnable is also available as its raw value.
+ *
+ * update() compares hasUnderrun, isLast and outputEnable against the previous update and
+ * calls each listener once per update in which any of them changed.  The first update
+ * compares against a cleared status (no underrun, not last, Disable).
+ *
+ * A view is meant to be updated and read from one thread.
+ *
+ * Example:
+ *	MotionProfileStatusView status = new MotionProfileStatusView(_talon);
+ *	status.addListener((view, changed) -> {
+ *		if ((changed & MotionProfileStatusView.HAS_UNDERRUN) != 0 && view.hasUnderrun()) { ... }
+ *	});
+ *	// control loop
+ *	status.update();
+ */
+public class MotionProfileStatusView {
+	/** Change flag, hasUnderrun changed */
+	public static final int HAS_UNDERRUN = 0x1;
+	/** Change flag, isLast changed */
+	public static final int IS_LAST = 0x2;
+	/** Change flag, outputEnable changed */
+	public static final int OUTPUT_ENABLE = 0x4;
+
+	/** Length of the raw status array, see BaseMotorController.getMotionProfileStatus(int[]) */
+	public static final int RAW_LENGTH = 11;
+
+	private static final int TOP_BUFFER_REM = 0;
+	private static final int TOP_BUFFER_CNT = 1;
+	private static final int BTM_BUFFER_CNT = 2;
+	private static final int HAS_UNDERRUN_IDX = 3;
+	private static final int IS_UNDERRUN = 4;
+	private static final int ACTIVE_POINT_VALID = 5;
+	private static final int IS_LAST_IDX = 6;
+	private static final int PROFILE_SLOT_SELECT = 7;
+	private static final int OUTPUT_ENABLE_IDX = 8;
+	private static final int TIME_DUR_MS = 9;
+	private static final int PROFILE_SLOT_SELECT1 = 10;
+
+	private static final IMotionProfileStatusListener[] NO_LISTENERS = new IMotionProfileStatusListener[0];
+
+	private final BaseMotorController _mc;
+	private final int[] _raw = new int[RAW_LENGTH];
+	private boolean _hasUnderrun = false;
+	private boolean _isLast = false;
+	private int _outputEnable = SetValueMotionProfile.Disable.value;
+	private int _changed = 0;
+	private ErrorCode _lastError = ErrorCode.OK;
+	private volatile IMotionProfileStatusListener[] _listeners = NO_LISTENERS;
+
+	/**
+	 * Constructor for MotionProfileStatusView
+	 * @param mc Motor controller to read the status of
+	 */
+	public MotionProfileStatusView(BaseMotorController mc) {
+		_mc = mc;
+	}
+
+	/**
+	 * Add a listener to call when hasUnderrun, isLast or outputEnable change.
+	 * Listeners are called from the thread calling update().
+	 * @param listener Listener to add
+	 */
+	public synchronized void addListener(IMotionProfileStatusListener listener) {
+		IMotionProfileStatusListener[] old = _listeners;
+		IMotionProfileStatusListener[] listeners = new IMotionProfileStatusListener[old.length + 1];
+		System.arraycopy(old, 0, listeners, 0, old.length);
+		listeners[old.length] = listener;
+		_listeners = listeners;
+	}
+
+	/**
+	 * Read the motor controller's motion profile status and notify listeners of changes.
+	 * @return Error Code generated by getMotionProfileStatus.
+	 */
+	public ErrorCode update() {
+		_lastError = _mc.getMotionProfileStatus(_raw);
+
+		boolean hasUnderrun = _raw[HAS_UNDERRUN_IDX] != 0;
+		boolean isLast = _raw[IS_LAST_IDX] != 0;
+		int outputEnable = _raw[OUTPUT_ENABLE_IDX];
+		int changed = 0;
+		if (hasUnderrun != _hasUnderrun) { changed |= HAS_UNDERRUN; }
+		if (isLast != _isLast) { changed |= IS_LAST; }
+		if (outputEnable != _outputEnable) { changed |= OUTPUT_ENABLE; }
+		_hasUnderrun = hasUnderrun;
+		_isLast = isLast;
+		_outputEnable = outputEnable;
+		_changed = changed;
+
+		if (changed != 0) {
+			for (IMotionProfileStatusListener listener : _listeners) {
+				listener.onMotionProfileStatusChanged(this, changed);
+			}
+		}
+		return _lastError;
+	}
+
+	/**
+	 * @return Motor controller this view reads
+	 */
+	public BaseMotorController getMotorController() {
+		return _mc;
+	}
+	/**
+	 * @return Error Code of the last update()
+	 */
+	public ErrorCode getLastError() {
+		return _lastError;
+	}
+	/**
+	 * @return Change flags of the last update(), 0 if nothing changed
+	 */
+	public int getChanged() {
+		return _changed;
+	}
+
+	/**
+	 * @return The available empty slots in the top trajectory buffer
+	 */
+	public int getTopBufferRem() {
+		return _raw[TOP_BUFFER_REM];
+	}
+	/**
+	 * @return The number of points in the top trajectory buffer
+	 */
+	public int getTopBufferCnt() {
+		return _raw[TOP_BUFFER_CNT];
+	}
+	/**
+	 * @return The number of points in the low level controller buffer
+	 */
+	public int getBtmBufferCnt() {
+		return _raw[BTM_BUFFER_CNT];
+	}
+	/**
+	 * @return true if isUnderrun was set since the flag was last cleared
+	 */
+	public boolean hasUnderrun() {
+		return _raw[HAS_UNDERRUN_IDX] != 0;
+	}
+	/**
+	 * @return true if the controller needed a point but its buffer was empty
+	 */
+	public boolean isUnderrun() {
+		return _raw[IS_UNDERRUN] != 0;
+	}
+	/**
+	 * @return true if the active trajectory point is not empty
+	 */
+	public boolean isActivePointValid() {
+		return _raw[ACTIVE_POINT_VALID] != 0;
+	}
+	/**
+	 * @return true if the active trajectory point is the last point of the profile
+	 */
+	public boolean isLast() {
+		return _raw[IS_LAST_IDX] != 0;
+	}
+	/**
+	 * @return The selected PID[0] profile slot of current profile
+	 */
+	public int getProfileSlotSelect() {
+		return _raw[PROFILE_SLOT_SELECT];
+	}
+	/**
+	 * @return The current output mode of the motion profile executer
+	 */
+	public SetValueMotionProfile getOutputEnable() {
+		return SetValueMotionProfile.valueOf(_raw[OUTPUT_ENABLE_IDX]);
+	}
+	/**
+	 * @return The current output mode of the motion profile executer, see SetValueMotionProfile.value
+	 */
+	public int getOutputEnableValue() {
+		return _raw[OUTPUT_ENABLE_IDX];
+	}
+	/**
+	 * @return The duration in ms of current trajectory point
+	 */
+	public int getTimeDurMs() {
+		return _raw[TIME_DUR_MS];
+	}
+	/**
+	 * @return The selected auxiliary PID[1] profile slot of current profile
+	 */
+	public int getProfileSlotSelect1() {
+		return _raw[PROFILE_SLOT_SELECT1];
+	}
+
+	/**
+	 * Decode every field into a MotionProfileStatus
+	 * @param statusToFill Status to fill
+	 */
+	public void copyTo(MotionProfileStatus statusToFill) {
+		statusToFill.topBufferRem = getTopBufferRem();
+		statusToFill.topBufferCnt = getTopBufferCnt();
+		statusToFill.btmBufferCnt = getBtmBufferCnt();
+		statusToFill.hasUnderrun = hasUnderrun();
+		statusToFill.isUnderrun = isUnderrun();
+		statusToFill.activePointValid = isActivePointValid();
+		statusToFill.isLast = isLast();
+		statusToFill.profileSlotSelect = getProfileSlotSelect();
+		statusToFill.outputEnable = getOutputEnable();
+		statusToFill.timeDurMs = getTimeDurMs();
+		statusToFill.profileSlotSelect1 = getProfileSlotSelect1();
+	}
+}
@@ -0,0 +1,312 @@
+package com.ctre.phoenix.motion;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ILoopable;
+import com.ctre.phoenix.motorcontrol.ControlMode;
+import com.ctre.phoenix.motorcontrol.can.BaseMotorController;
+
+/**
+ * Streams an unbounded motion profile into a motor controller while it runs.
+ *
+ * A producer thread (e.g. a path follower) offers points into a bounded single-producer,
+ * single-consumer ring of primitive columns.  offer() never blocks and never allocates,
+ * it returns false when the ring is full so the producer can back off.
+ *
+ * process() is the consumer and is called periodically, either directly from the control
+ * loop or by a scheduler as an ILoopable.  Each call moves points from the ring into the
+ * API's top level buffer, keeping no more than the top buffer target there so that newly
+ * offered points are not queued behind a long backlog, then funnels them into the
+ * controller with processMotionProfileBuffer().
+ *
+ * The executer is enabled once minBufferedPts points are in the controller.  If the
+ * producer falls behind and fewer than the low water mark remain buffered, the executer
+ * is put in Hold until the buffer refills, so the controller holds position instead of
+ * underrunning.  Once a point with isLastPoint has been queued, the profile is allowed to
+ * drain to its end.
+ *
+ * Example:
+ *	MotionProfileStreamer streamer = new MotionProfileStreamer(_talon, 512);
+ *	streamer.start(10, ControlMode.MotionProfile);
+ *	// producer thread
+ *	while (!streamer.offer(pos, vel, 10)) { ... }
+ *	// control loop, twice as fast as the point duration
+ *	streamer.process();
+ */
+public class MotionProfileStreamer implements ILoopable {
+	private static final int FLAG_IS_LAST_POINT = 0x1;
+	private static final int FLAG_ZERO_POS = 0x2;
+	private static final int FLAG_USE_AUX_PID = 0x4;
+
+	private static final int STATE_STOPPED = 0;
+	private static final int STATE_ARMED = 1;
+	private static final int STATE_RUNNING = 2;
+	private static final int STATE_HOLDING = 3;
+
+	private final BaseMotorController _mc;
+	private final MotionProfileStatusView _status;
+
+	/* ring, written by the producer at _tail and read by the consumer at _head */
+	private final int _mask;
+	private final double[] _position;
+	private final double[] _velocity;
+	private final double[] _arbFeedFwd;
+	private final double[] _auxiliaryPos;
+	private final double[] _auxiliaryVel;
+	private final double[] _auxiliaryArbFeedFwd;
+	private final int[] _profileSlotSelect0;
+	private final int[] _profileSlotSelect1;
+	private final int[] _timeDur;
+	private final int[] _flags;
+	private volatile long _head = 0;
+	private volatile long _tail = 0;
+	/* producer's last read of _head, so offer() rarely reads the consumer's counter */
+	private long _headCache = 0;
+
+	/* consumer state */
+	private ControlMode _mode = ControlMode.MotionProfile;
+	private int _state = STATE_STOPPED;
+	private int _minBufferedPts = 10;
+	private int _lowWaterPts = 5;
+	private int _topBufferTarget = 64;
+	private boolean _lastQueued = false;
+	private long _holdCount = 0;
+	private long _pushedCount = 0;
+
+	/**
+	 * Constructor for MotionProfileStreamer
+	 * @param mc Motor controller to stream to
+	 * @param capacity Points the ring holds, rounded up to a power of two
+	 */
+	public MotionProfileStreamer(BaseMotorController mc, int capacity) {
+		_mc = mc;
+		_status = new MotionProfileStatusView(mc);
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		_mask = size - 1;
+		_position = new double[size];
+		_velocity = new double[size];
+		_arbFeedFwd = new double[size];
+		_auxiliaryPos = new double[size];
+		_auxiliaryVel = new double[size];
+		_auxiliaryArbFeedFwd = new double[size];
+		_profileSlotSelect0 = new int[size];
+		_profileSlotSelect1 = new int[size];
+		_timeDur = new int[size];
+		_flags = new int[size];
+	}
+
+	/**
+	 * @param lowWaterPts Buffered points below which the executer is held, until
+	 *        minBufferedPts are buffered again.  Defaults to half of minBufferedPts.
+	 */
+	public synchronized void setLowWaterPts(int lowWaterPts) {
+		_lowWaterPts = lowWaterPts;
+	}
+	/**
+	 * @param topBufferTarget Most points to keep in the API's top level buffer.
+	 *        Further points wait in the ring.
+	 */
+	public synchronized void setTopBufferTarget(int topBufferTarget) {
+		_topBufferTarget = topBufferTarget;
+	}
+
+	//--- Producer ---/
+	/**
+	 * Offer a point to stream.  Only one thread may offer points.
+	 * See TrajectoryPoint for the meaning of each member.
+	 * @return false if the ring is full, in which case the point is not queued
+	 */
+	public boolean offer(double position, double velocity, double arbFeedFwd,
+			double auxiliaryPos, double auxiliaryVel, double auxiliaryArbFeedFwd,
+			int profileSlotSelect0, int profileSlotSelect1,
+			boolean isLastPoint, boolean zeroPos, int timeDur, boolean useAuxPID) {
+		long tail = _tail;
+		if (tail - _headCache > _mask) {
+			_headCache = _head;
+			if (tail - _headCache > _mask) {
+				return false;
+			}
+		}
+		int idx = (int) tail & _mask;
+		_position[idx] = position;
+		_velocity[idx] = velocity;
+		_arbFeedFwd[idx] = arbFeedFwd;
+		_auxiliaryPos[idx] = auxiliaryPos;
+		_auxiliaryVel[idx] = auxiliaryVel;
+		_auxiliaryArbFeedFwd[idx] = auxiliaryArbFeedFwd;
+		_profileSlotSelect0[idx] = profileSlotSelect0;
+		_profileSlotSelect1[idx] = profileSlotSelect1;
+		_timeDur[idx] = timeDur;
+		_flags[idx] = (isLastPoint ? FLAG_IS_LAST_POINT : 0)
+				| (zeroPos ? FLAG_ZERO_POS : 0)
+				| (useAuxPID ? FLAG_USE_AUX_PID : 0);
+		/* publish the point */
+		_tail = tail + 1;
+		return true;
+	}
+	/**
+	 * Offer a point to stream, using slot 0 and no auxiliary PID.
+	 * @param position Position to servo to, in sensor units
+	 * @param velocity Velocity to feed forward, in sensor units per 100ms
+	 * @param timeDur Duration of the point in ms
+	 * @return false if the ring is full, in which case the point is not queued
+	 */
+	public boolean offer(double position, double velocity, int timeDur) {
+		return offer(position, velocity, 0, 0, 0, 0, 0, 0, false, false, timeDur, false);
+	}
+	/**
+	 * @return number of points that can be offered without being refused
+	 */
+	public int remainingCapacity() {
+		return (int) (_mask + 1 - (_tail - _head));
+	}
+	/**
+	 * @return number of points offered but not yet pushed to the motor controller
+	 */
+	public int size() {
+		return (int) (_tail - _head);
+	}
+
+	//--- Consumer ---/
+	/**
+	 * Clear the controller's buffers and the ring, and put the controller in the given
+	 * motion profile mode with the executer disabled.  process() enables it once
+	 * minBufferedPts are in the controller.
+	 * Call before the producer starts offering points.
+	 * @param minBufferedPts Points in the controller before the executer is enabled
+	 * @param motionProfControlMode MotionProfile or MotionProfileArc
+	 * @return Error Code generated by clearing the buffers.
+	 */
+	public synchronized ErrorCode start(int minBufferedPts, ControlMode motionProfControlMode) {
+		ErrorCode retval = _mc.clearMotionProfileTrajectories();
+		_mc.clearMotionProfileHasUnderrun(0);
+		_head = _tail;
+		_mode = motionProfControlMode;
+		_minBufferedPts = minBufferedPts;
+		_lowWaterPts = Math.max(1, minBufferedPts / 2);
+		_lastQueued = false;
+		_state = STATE_ARMED;
+		_mc.set(_mode, SetValueMotionProfile.Disable.value);
+		return retval;
+	}
+	/**
+	 * Stop streaming and hold the executer at its current point.
+	 * Points still in the ring are discarded.
+	 */
+	public synchronized void stop() {
+		if (_state != STATE_STOPPED) {
+			_mc.set(_mode, SetValueMotionProfile.Hold.value);
+		}
+		_state = STATE_STOPPED;
+		_head = _tail;
+	}
+
+	/**
+	 * Move points from the ring to the motor controller and manage the executer.
+	 * Call this twice as fast as the point duration.
+	 * @return number of points pushed to the motor controller
+	 */
+	public synchronized int process() {
+		if (_state == STATE_STOPPED) {
+			return 0;
+		}
+		int pushed = 0;
+		long head = _head;
+		long tail = _tail;
+		int room = _topBufferTarget - _mc.getMotionProfileTopLevelBufferCount();
+		while (head < tail && pushed < room) {
+			int idx = (int) head & _mask;
+			int flags = _flags[idx];
+			ErrorCode err = _mc.pushMotionProfileTrajectory(_position[idx], _velocity[idx], _arbFeedFwd[idx],
+					_auxiliaryPos[idx], _auxiliaryVel[idx], _auxiliaryArbFeedFwd[idx],
+					_profileSlotSelect0[idx], _profileSlotSelect1[idx],
+					(flags & FLAG_IS_LAST_POINT) != 0, (flags & FLAG_ZERO_POS) != 0, _timeDur[idx],
+					(flags & FLAG_USE_AUX_PID) != 0);
+			if (err != ErrorCode.OK) {
+				/* top buffer is full, try again next time */
+				break;
+			}
+			if ((flags & FLAG_IS_LAST_POINT) != 0) {
+				_lastQueued = true;
+			}
+			++head;
+			++pushed;
+		}
+		/* release the slots to the producer */
+		_head = head;
+		_pushedCount += pushed;
+
+		_mc.processMotionProfileBuffer();
+		_status.update();
+		int btmBufferCnt = _status.getBtmBufferCnt();
+		int topBufferCnt = _status.getTopBufferCnt();
+		int buffered = btmBufferCnt + topBufferCnt + (int) (tail - head);
+
+		switch (_state) {
+			case STATE_ARMED:
+			case STATE_HOLDING:
+				if (btmBufferCnt >= _minBufferedPts || (_lastQueued && topBufferCnt == 0)) {
+					_mc.set(_mode, SetValueMotionProfile.Enable.value);
+					_state = STATE_RUNNING;
+				}
+				break;
+			case STATE_RUNNING:
+				if (!_lastQueued && buffered < _lowWaterPts) {
+					_mc.set(_mode, SetValueMotionProfile.Hold.value);
+					_state = STATE_HOLDING;
+					++_holdCount;
+				}
+				break;
+		}
+		return pushed;
+	}
+
+	/**
+	 * @return true if the executer is enabled and following the profile
+	 */
+	public synchronized boolean isRunning() {
+		return _state == STATE_RUNNING;
+	}
+	/**
+	 * @return true if the executer is held waiting for the producer
+	 */
+	public synchronized boolean isHolding() {
+		return _state == STATE_HOLDING;
+	}
+	/**
+	 * @return number of times the executer was held because the producer fell behind
+	 */
+	public synchronized long getHoldCount() {
+		return _holdCount;
+	}
+	/**
+	 * @return number of points pushed to the motor controller since construction
+	 */
+	public synchronized long getPushedCount() {
+		return _pushedCount;
+	}
+
+	//--- Loopable ---/
+	/**
+	 * Nothing to do at start, see start()
+	 */
+	public void onStart() {
+	}
+	/**
+	 * Stream points to the motor controller
+	 */
+	public void onLoop() {
+		process();
+	}
+	/**
+	 * @return false, a stream has no end
+	 */
+	public boolean isDone() {
+		return false;
+	}
+	/**
+	 * Hold the executer
+	 */
+	public void onStop() {
+		stop();
+	}
+}
@@ -1,5 +1,7 @@
 package com.ctre.phoenix.motion;
 
+import com.ctre.phoenix.EnumLookup;
+
 /**
  * Choose what value to set to the motion profile
  */
@@ -35,18 +37,15 @@ public enum SetValueMotionProfile {
 	SetValueMotionProfile(int initValue) {
 		this.value = initValue;
 	}
-	
+
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<SetValueMotionProfile> _lookup = new EnumLookup<SetValueMotionProfile>(SetValueMotionProfile.values(), e -> e.value, Invalid);
 	/**
 	 * Get SetValueMotionProfile from specified value
 	 * @param value value to get SetValueMotionProfile
 	 * @return SetValueMotionProfile of specified value
 	 */
 	public static SetValueMotionProfile valueOf(int value) {
-		for (SetValueMotionProfile e : SetValueMotionProfile.values()) {
-			if (e.value == value) {
-				return e;
-			}
-		}
-		return Invalid;
+		return _lookup.get(value);
 	}
 }
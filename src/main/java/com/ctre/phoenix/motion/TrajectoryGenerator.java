@@ -0,0 +1,330 @@
+package com.ctre.phoenix.motion;
+
+import com.ctre.phoenix.ErrorCode;
+
+/**
+ * Generates motion profiles on the robot and writes them as primitives into a
+ * BufferedTrajectoryPointStream, TrajectoryPointArray or MotionProfileStreamer, without
+ * TrajectoryPoint objects.
+ *
+ * Moves use the same parameters as Motion Magic (see configMotionCruiseVelocity,
+ * configMotionAcceleration and configMotionSCurveStrength):
+ *	Curve strength 0 gives a trapezoidal velocity profile.
+ *	Curve strength 1 to 8 smooths the trapezoid with a moving average whose width is that
+ *	fraction of 8 of the time to reach cruise velocity, limiting jerk.  The move takes that
+ *	much longer.
+ *
+ * Every point is evaluated in closed form, so a profile costs a few branches and
+ * multiplies per point and can be re-planned while the robot is running.
+ * Arc profiles also fill the auxiliary (heading) members, the heading changing in
+ * proportion to the distance travelled, as a two-wheel robot does when driving an arc.
+ *
+ * Example:
+ *	TrajectoryGenerator gen = new TrajectoryGenerator();
+ *	gen.setCruiseVelocity(1500);
+ *	gen.setAcceleration(3000);
+ *	gen.setSCurveStrength(4);
+ *	gen.planArc(0, 40960, 0, 3600);
+ *	gen.write(_stream, true);
+ *	_talon.startMotionProfile(_stream, 10, ControlMode.MotionProfileArc);
+ */
+public class TrajectoryGenerator {
+	private double _cruiseVelocity = 1000;
+	private double _acceleration = 1000;
+	private int _curveStrength = 0;
+	private int _durationMs = 10;
+	private int _profileSlotSelect0 = 0;
+	private int _profileSlotSelect1 = 0;
+
+	/* planned move, in seconds and sensor units */
+	private double _startPos = 0;
+	private double _sign = 1;
+	private double _distance = 0;
+	private double _accel = 0;
+	private double _peakVel = 0;
+	private double _accelTime = 0;
+	private double _cruiseEndTime = 0;
+	private double _rampTime = 0;
+	private double _accelDistance = 0;
+	private double _window = 0;
+	private boolean _arc = false;
+	private double _startHeading = 0;
+	private double _headingPerUnit = 0;
+	private int _pointCount = 1;
+
+	/* point filled by sample() */
+	private double _pos;
+	private double _vel;
+	private double _auxPos;
+	private double _auxVel;
+
+	//--- Parameters ---/
+	/**
+	 * @param sensorUnitsPer100ms Cruise velocity, as in configMotionCruiseVelocity
+	 */
+	public void setCruiseVelocity(double sensorUnitsPer100ms) {
+		_cruiseVelocity = Math.abs(sensorUnitsPer100ms);
+	}
+	/**
+	 * @param sensorUnitsPer100msPerSec Acceleration and deceleration, as in configMotionAcceleration
+	 */
+	public void setAcceleration(double sensorUnitsPer100msPerSec) {
+		_acceleration = Math.abs(sensorUnitsPer100msPerSec);
+	}
+	/**
+	 * @param curveStrength 0 for a trapezoidal profile, 1 to 8 for increasing smoothing,
+	 *        as in configMotionSCurveStrength
+	 */
+	public void setSCurveStrength(int curveStrength) {
+		_curveStrength = Math.max(0, Math.min(8, curveStrength));
+	}
+	/**
+	 * @param durationMs Duration of each point, which is the time between points
+	 */
+	public void setPointDurationMs(int durationMs) {
+		_durationMs = Math.max(1, durationMs);
+	}
+	/**
+	 * @param profileSlotSelect0 Slot of the primary PID written to every point
+	 * @param profileSlotSelect1 Slot of the auxiliary PID written to every point
+	 */
+	public void setProfileSlots(int profileSlotSelect0, int profileSlotSelect1) {
+		_profileSlotSelect0 = profileSlotSelect0;
+		_profileSlotSelect1 = profileSlotSelect1;
+	}
+
+	//--- Planning ---/
+	/**
+	 * Plan a straight move.  Trapezoidal or S-curve, depending on curve strength.
+	 * @param startPosition Position at the start of the move, in sensor units
+	 * @param distance Signed distance to move, in sensor units
+	 */
+	public void plan(double startPosition, double distance) {
+		_startPos = startPosition;
+		_sign = (distance < 0) ? -1 : 1;
+		_distance = Math.abs(distance);
+		/* parameters are per 100ms, plan per second */
+		double cruise = _cruiseVelocity * 10;
+		_accel = _acceleration * 10;
+		if (_distance == 0 || cruise == 0 || _accel == 0) {
+			_peakVel = 0;
+			_accelTime = 0;
+			_cruiseEndTime = 0;
+			_rampTime = 0;
+			_accelDistance = 0;
+			_window = 0;
+			_arc = false;
+			_pointCount = 1;
+			return;
+		}
+		_peakVel = Math.min(cruise, Math.sqrt(_distance * _accel));
+		_accelTime = _peakVel / _accel;
+		_accelDistance = 0.5 * _accel * _accelTime * _accelTime;
+		_cruiseEndTime = _accelTime + (_distance - 2 * _accelDistance) / _peakVel;
+		_rampTime = _cruiseEndTime + _accelTime;
+		_window = (cruise / _accel) * _curveStrength / 8;
+		_arc = false;
+		double total = _rampTime + _window;
+		_pointCount = (int) Math.ceil(total * 1000 / _durationMs) + 1;
+	}
+	/**
+	 * Plan an arc for a two-wheel robot, filling the auxiliary (heading) members of each point.
+	 * The heading changes in proportion to distance travelled.
+	 * @param startPosition Position at the start of the move, in sensor units
+	 * @param distance Signed distance along the arc, in sensor units
+	 * @param startHeading Heading at the start of the move, in auxiliary sensor units
+	 * @param headingChange Signed heading change over the arc, in auxiliary sensor units
+	 */
+	public void planArc(double startPosition, double distance, double startHeading, double headingChange) {
+		plan(startPosition, distance);
+		_arc = true;
+		_startHeading = startHeading;
+		_headingPerUnit = (_distance > 0) ? headingChange / _distance : 0;
+	}
+
+	/**
+	 * @return number of points in the planned profile
+	 */
+	public int getPointCount() {
+		return _pointCount;
+	}
+	/**
+	 * @return duration of the planned profile in ms
+	 */
+	public double getDurationMs() {
+		return (_rampTime + _window) * 1000;
+	}
+
+	//--- Evaluation ---/
+	/* Unfiltered trapezoid, distance travelled after t seconds */
+	private double trapezoid(double t) {
+		if (t <= 0) {
+			return 0;
+		} else if (t < _accelTime) {
+			return 0.5 * _accel * t * t;
+		} else if (t < _cruiseEndTime) {
+			return _accelDistance + _peakVel * (t - _accelTime);
+		} else if (t < _rampTime) {
+			double left = _rampTime - t;
+			return _distance - 0.5 * _accel * left * left;
+		}
+		return _distance;
+	}
+	/* Unfiltered trapezoid, velocity after t seconds */
+	private double trapezoidVelocity(double t) {
+		if (t <= 0 || t >= _rampTime) {
+			return 0;
+		} else if (t < _accelTime) {
+			return _accel * t;
+		} else if (t < _cruiseEndTime) {
+			return _peakVel;
+		}
+		return _accel * (_rampTime - t);
+	}
+	/* Integral of trapezoid() from 0 to t */
+	private double integral(double t) {
+		if (t <= 0) {
+			return 0;
+		}
+		double ta = Math.min(t, _accelTime);
+		double q = _accel * ta * ta * ta / 6;
+		if (t <= _accelTime) {
+			return q;
+		}
+		double tc = Math.min(t, _cruiseEndTime) - _accelTime;
+		q += _accelDistance * tc + 0.5 * _peakVel * tc * tc;
+		if (t <= _cruiseEndTime) {
+			return q;
+		}
+		double decel = _rampTime - _cruiseEndTime;
+		double left = Math.max(0, _rampTime - t);
+		double td = Math.min(t, _rampTime) - _cruiseEndTime;
+		q += _distance * td - _accel / 6 * (decel * decel * decel - left * left * left);
+		if (t <= _rampTime) {
+			return q;
+		}
+		return q + _distance * (t - _rampTime);
+	}
+
+	/*
+	 * Fill _pos, _vel, _auxPos, _auxVel for time t in seconds.
+	 * The S-curve is the average of the trapezoid over the preceding window.
+	 */
+	private void sample(double t) {
+		double dist;
+		double vel;
+		if (_window > 0) {
+			if (t >= _rampTime + _window) {
+				dist = _distance;
+				vel = 0;
+			} else {
+				dist = (integral(t) - integral(t - _window)) / _window;
+				vel = (trapezoid(t) - trapezoid(t - _window)) / _window;
+			}
+		} else {
+			dist = trapezoid(t);
+			vel = trapezoidVelocity(t);
+		}
+		_pos = _startPos + _sign * dist;
+		/* per 100ms */
+		_vel = _sign * vel / 10;
+		if (_arc) {
+			_auxPos = _startHeading + _headingPerUnit * dist;
+			_auxVel = _headingPerUnit * vel / 10;
+		} else {
+			_auxPos = 0;
+			_auxVel = 0;
+		}
+	}
+
+	/**
+	 * @param timeMs Time since the start of the planned profile
+	 * @return planned position in sensor units
+	 */
+	public double getPosition(double timeMs) {
+		sample(timeMs / 1000);
+		return _pos;
+	}
+	/**
+	 * @param timeMs Time since the start of the planned profile
+	 * @return planned velocity in sensor units per 100ms
+	 */
+	public double getVelocity(double timeMs) {
+		sample(timeMs / 1000);
+		return _vel;
+	}
+
+	//--- Output ---/
+	/**
+	 * Append the planned profile to a stream.
+	 * @param stream Stream to write to
+	 * @param zeroPos true to zero the selected sensor on the first point
+	 * @return first nonzero error code of the stream
+	 */
+	public ErrorCode write(BufferedTrajectoryPointStream stream, boolean zeroPos) {
+		ErrorCode retval = ErrorCode.OK;
+		double dt = _durationMs / 1000.0;
+		int last = _pointCount - 1;
+		for (int i = 0; i <= last; ++i) {
+			sample(i * dt);
+			ErrorCode er = stream.Write(_pos, _vel, 0, _auxPos, _auxVel, 0,
+					_profileSlotSelect0, _profileSlotSelect1,
+					i == last, zeroPos && i == 0, _durationMs, _arc);
+			if (retval == ErrorCode.OK) { retval = er; }
+		}
+		return retval;
+	}
+	/**
+	 * Offer the planned profile to a streamer, from a given point until the streamer is full.
+	 * Call again with the returned index when the streamer has room.
+	 * @param streamer Streamer to offer points to
+	 * @param fromPoint Index of the first point to offer
+	 * @param zeroPos true to zero the selected sensor on the first point
+	 * @return index of the next point to offer, getPointCount() once all are offered
+	 */
+	public int write(MotionProfileStreamer streamer, int fromPoint, boolean zeroPos) {
+		double dt = _durationMs / 1000.0;
+		int last = _pointCount - 1;
+		int i = fromPoint;
+		for (; i <= last; ++i) {
+			sample(i * dt);
+			if (!streamer.offer(_pos, _vel, 0, _auxPos, _auxVel, 0,
+					_profileSlotSelect0, _profileSlotSelect1,
+					i == last, zeroPos && i == 0, _durationMs, _arc)) {
+				break;
+			}
+		}
+		return i;
+	}
+	/**
+	 * Append the planned profile to an array.
+	 * @param trajPts Array to fill
+	 * @param zeroPos true to zero the selected sensor on the first point
+	 * @return false if the array is too small, in which case nothing is written
+	 */
+	public boolean write(TrajectoryPointArray trajPts, boolean zeroPos) {
+		int from = trajPts.size();
+		if (from + _pointCount > trajPts.getCapacity()) {
+			return false;
+		}
+		double dt = _durationMs / 1000.0;
+		for (int i = 0; i < _pointCount; ++i) {
+			sample(i * dt);
+			int idx = from + i;
+			trajPts.position[idx] = _pos;
+			trajPts.velocity[idx] = _vel;
+			trajPts.arbFeedFwd[idx] = 0;
+			trajPts.auxiliaryPos[idx] = _auxPos;
+			trajPts.auxiliaryVel[idx] = _auxVel;
+			trajPts.auxiliaryArbFeedFwd[idx] = 0;
+			trajPts.profileSlotSelect0[idx] = _profileSlotSelect0;
+			trajPts.profileSlotSelect1[idx] = _profileSlotSelect1;
+			trajPts.timeDur[idx] = _durationMs;
+			trajPts.setLastPoint(idx, i == _pointCount - 1);
+			trajPts.setZeroPos(idx, zeroPos && i == 0);
+			trajPts.setUseAuxPID(idx, _arc);
+		}
+		trajPts.setSize(from + _pointCount);
+		return true;
+	}
+}
@@ -0,0 +1,138 @@
+package com.ctre.phoenix.motion;
+
+/**
+ * Fixed capacity collection of trajectory points stored as parallel primitive columns
+ * (struct-of-arrays).  Use this instead of TrajectoryPoint[] when building large profiles,
+ * so that no per-point objects are created.
+ *
+ * The columns are public so generators can fill them directly.  The boolean members of
+ * each point are bit-packed, one bit per point, see isLastPoint(int) and setLastPoint(int, boolean).
+ * See TrajectoryPoint for the meaning of each column.
+ */
+public class TrajectoryPointArray {
+	public final double[] position;
+	public final double[] velocity;
+	public final double[] arbFeedFwd;
+	public final double[] auxiliaryPos;
+	public final double[] auxiliaryVel;
+	public final double[] auxiliaryArbFeedFwd;
+	public final int[] profileSlotSelect0;
+	public final int[] profileSlotSelect1;
+	public final int[] timeDur;
+
+	private final long[] _isLastPoint;
+	private final long[] _zeroPos;
+	private final long[] _useAuxPID;
+
+	private final int _capacity;
+	private int _count = 0;
+
+	/**
+	 * Constructor for TrajectoryPointArray
+	 * @param capacity Maximum number of points the array can hold.
+	 */
+	public TrajectoryPointArray(int capacity) {
+		_capacity = capacity;
+		position = new double[capacity];
+		velocity = new double[capacity];
+		arbFeedFwd = new double[capacity];
+		auxiliaryPos = new double[capacity];
+		auxiliaryVel = new double[capacity];
+		auxiliaryArbFeedFwd = new double[capacity];
+		profileSlotSelect0 = new int[capacity];
+		profileSlotSelect1 = new int[capacity];
+		timeDur = new int[capacity];
+		int words = (capacity + 63) >>> 6;
+		_isLastPoint = new long[words];
+		_zeroPos = new long[words];
+		_useAuxPID = new long[words];
+	}
+
+	/**
+	 * @return Maximum number of points the array can hold.
+	 */
+	public int getCapacity() {
+		return _capacity;
+	}
+	/**
+	 * @return Number of points currently in the array.
+	 */
+	public int size() {
+		return _count;
+	}
+	/**
+	 * Sets the number of valid points.  Use this after filling the columns directly.
+	 * @param count Number of valid points, capped to [0,capacity].
+	 */
+	public void setSize(int count) {
+		if (count < 0) { count = 0; }
+		if (count > _capacity) { count = _capacity; }
+		_count = count;
+	}
+	/**
+	 * Remove all points.  Flags are cleared, the other columns are left as is.
+	 */
+	public void clear() {
+		_count = 0;
+		java.util.Arrays.fill(_isLastPoint, 0);
+		java.util.Arrays.fill(_zeroPos, 0);
+		java.util.Arrays.fill(_useAuxPID, 0);
+	}
+
+	/**
+	 * Append a point to the end of the array.
+	 * @return false if array is full.
+	 */
+	public boolean add(double position, double velocity, double arbFeedFwd,
+			double auxiliaryPos, double auxiliaryVel, double auxiliaryArbFeedFwd,
+			int profileSlotSelect0, int profileSlotSelect1,
+			boolean isLastPoint, boolean zeroPos, int timeDur, boolean useAuxPID) {
+		if (_count >= _capacity) {
+			return false;
+		}
+		int idx = _count;
+		this.position[idx] = position;
+		this.velocity[idx] = velocity;
+		this.arbFeedFwd[idx] = arbFeedFwd;
+		this.auxiliaryPos[idx] = auxiliaryPos;
+		this.auxiliaryVel[idx] = auxiliaryVel;
+		this.auxiliaryArbFeedFwd[idx] = auxiliaryArbFeedFwd;
+		this.profileSlotSelect0[idx] = profileSlotSelect0;
+		this.profileSlotSelect1[idx] = profileSlotSelect1;
+		this.timeDur[idx] = timeDur;
+		setLastPoint(idx, isLastPoint);
+		setZeroPos(idx, zeroPos);
+		setUseAuxPID(idx, useAuxPID);
+		++_count;
+		return true;
+	}
+	/**
+	 * Append a point to the end of the array.
+	 * @param trajPt Trajectory point to copy in.
+	 * @return false if array is full.
+	 */
+	public boolean add(TrajectoryPoint trajPt) {
+		return add(trajPt.position, trajPt.velocity, trajPt.arbFeedFwd,
+				trajPt.auxiliaryPos, trajPt.auxiliaryVel, trajPt.auxiliaryArbFeedFwd,
+				trajPt.profileSlotSelect0, trajPt.profileSlotSelect1,
+				trajPt.isLastPoint, trajPt.zeroPos, trajPt.timeDur, trajPt.useAuxPID);
+	}
+
+	public boolean isLastPoint(int idx) { return getBit(_isLastPoint, idx); }
+	public boolean isZeroPos(int idx) { return getBit(_zeroPos, idx); }
+	public boolean isUseAuxPID(int idx) { return getBit(_useAuxPID, idx); }
+	public void setLastPoint(int idx, boolean value) { setBit(_isLastPoint, idx, value); }
+	public void setZeroPos(int idx, boolean value) { setBit(_zeroPos, idx, value); }
+	public void setUseAuxPID(int idx, boolean value) { setBit(_useAuxPID, idx, value); }
+
+	private static boolean getBit(long[] bits, int idx) {
+		return (bits[idx >>> 6] & (1L << idx)) != 0;
+	}
+	private static void setBit(long[] bits, int idx, boolean value) {
+		if (value) {
+			bits[idx >>> 6] |= (1L << idx);
+		} else {
+			bits[idx >>> 6] &= ~(1L << idx);
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package com.ctre.phoenix.motion;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Fixed capacity container of trajectory points packed into a direct (off-heap) ByteBuffer.
+ * Use this instead of an array of TrajectoryPoint objects when streaming large profiles,
+ * so that no per-point objects are created.
+ *
+ * Each point occupies POINT_SIZE (64) bytes in native byte order, laid out as...
+ *
+ *	offset  0: double position				(sensor units)
+ *	offset  8: double velocity				(sensor units per 100ms)
+ *	offset 16: double arbFeedFwd			[-1,+1]
+ *	offset 24: double auxiliaryPos			(sensor units)
+ *	offset 32: double auxiliaryVel			(sensor units per 100ms)
+ *	offset 40: double auxiliaryArbFeedFwd	[-1,+1]
+ *	offset 48: int    profileSlotSelect0
+ *	offset 52: int    profileSlotSelect1
+ *	offset 56: int    timeDur				(ms)
+ *	offset 60: int    flags					bit0: isLastPoint, bit1: zeroPos, bit2: useAuxPID
+ *
+ * See TrajectoryPoint for the meaning of each member.
+ */
+public class TrajectoryPointBuffer {
+	/** Size of one packed trajectory point in bytes. */
+	public static final int POINT_SIZE = 64;
+
+	/** Byte offset of position (double) within a point. */
+	public static final int POSITION_OFFSET = 0;
+	/** Byte offset of velocity (double) within a point. */
+	public static final int VELOCITY_OFFSET = 8;
+	/** Byte offset of arbFeedFwd (double) within a point. */
+	public static final int ARB_FEED_FWD_OFFSET = 16;
+	/** Byte offset of auxiliaryPos (double) within a point. */
+	public static final int AUXILIARY_POS_OFFSET = 24;
+	/** Byte offset of auxiliaryVel (double) within a point. */
+	public static final int AUXILIARY_VEL_OFFSET = 32;
+	/** Byte offset of auxiliaryArbFeedFwd (double) within a point. */
+	public static final int AUXILIARY_ARB_FEED_FWD_OFFSET = 40;
+	/** Byte offset of profileSlotSelect0 (int) within a point. */
+	public static final int PROFILE_SLOT_SELECT0_OFFSET = 48;
+	/** Byte offset of profileSlotSelect1 (int) within a point. */
+	public static final int PROFILE_SLOT_SELECT1_OFFSET = 52;
+	/** Byte offset of timeDur (int, ms) within a point. */
+	public static final int TIME_DUR_OFFSET = 56;
+	/** Byte offset of the FLAG_* bits (int) within a point. */
+	public static final int FLAGS_OFFSET = 60;
+
+	/** Flag bit set if the point is the last one of the profile. */
+	public static final int FLAG_IS_LAST_POINT = 0x1;
+	/** Flag bit set to zero the selected sensor before the point is applied. */
+	public static final int FLAG_ZERO_POS = 0x2;
+	/** Flag bit set to have the auxiliary PID run along with the primary. */
+	public static final int FLAG_USE_AUX_PID = 0x4;
+
+	private final ByteBuffer _buffer;
+	private final int _capacity;
+	private int _count = 0;
+
+	/**
+	 * Constructor for TrajectoryPointBuffer
+	 * @param capacity Maximum number of points the buffer can hold.
+	 */
+	public TrajectoryPointBuffer(int capacity) {
+		_capacity = capacity;
+		_buffer = ByteBuffer.allocateDirect(capacity * POINT_SIZE).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * @return backing buffer, laid out as described in the class documentation.
+	 */
+	public ByteBuffer getBuffer() {
+		return _buffer;
+	}
+	/**
+	 * @return Maximum number of points the buffer can hold.
+	 */
+	public int getCapacity() {
+		return _capacity;
+	}
+	/**
+	 * @return Number of points currently in the buffer.
+	 */
+	public int size() {
+		return _count;
+	}
+	/**
+	 * Sets the number of valid points.  Use this after filling the backing buffer directly.
+	 * @param count Number of valid points, capped to [0,capacity].
+	 */
+	public void setSize(int count) {
+		if (count < 0) { count = 0; }
+		if (count > _capacity) { count = _capacity; }
+		_count = count;
+	}
+	/**
+	 * Remove all points.  The backing memory is kept.
+	 */
+	public void clear() {
+		_count = 0;
+	}
+
+	/**
+	 * Append a point to the end of the buffer.
+	 * See TrajectoryPoint for the meaning of each member.
+	 * @return false if buffer is full.
+	 */
+	public boolean add(double position, double velocity, double arbFeedFwd,
+			double auxiliaryPos, double auxiliaryVel, double auxiliaryArbFeedFwd,
+			int profileSlotSelect0, int profileSlotSelect1,
+			boolean isLastPoint, boolean zeroPos, int timeDur, boolean useAuxPID) {
+		if (_count >= _capacity) {
+			return false;
+		}
+		int base = _count * POINT_SIZE;
+		_buffer.putDouble(base + POSITION_OFFSET, position);
+		_buffer.putDouble(base + VELOCITY_OFFSET, velocity);
+		_buffer.putDouble(base + ARB_FEED_FWD_OFFSET, arbFeedFwd);
+		_buffer.putDouble(base + AUXILIARY_POS_OFFSET, auxiliaryPos);
+		_buffer.putDouble(base + AUXILIARY_VEL_OFFSET, auxiliaryVel);
+		_buffer.putDouble(base + AUXILIARY_ARB_FEED_FWD_OFFSET, auxiliaryArbFeedFwd);
+		_buffer.putInt(base + PROFILE_SLOT_SELECT0_OFFSET, profileSlotSelect0);
+		_buffer.putInt(base + PROFILE_SLOT_SELECT1_OFFSET, profileSlotSelect1);
+		_buffer.putInt(base + TIME_DUR_OFFSET, timeDur);
+		int flags = 0;
+		flags |= isLastPoint ? FLAG_IS_LAST_POINT : 0;
+		flags |= zeroPos ? FLAG_ZERO_POS : 0;
+		flags |= useAuxPID ? FLAG_USE_AUX_PID : 0;
+		_buffer.putInt(base + FLAGS_OFFSET, flags);
+		++_count;
+		return true;
+	}
+	/**
+	 * Append a point to the end of the buffer.
+	 * @param trajPt Trajectory point to copy in.
+	 * @return false if buffer is full.
+	 */
+	public boolean add(TrajectoryPoint trajPt) {
+		return add(trajPt.position, trajPt.velocity, trajPt.arbFeedFwd,
+				trajPt.auxiliaryPos, trajPt.auxiliaryVel, trajPt.auxiliaryArbFeedFwd,
+				trajPt.profileSlotSelect0, trajPt.profileSlotSelect1,
+				trajPt.isLastPoint, trajPt.zeroPos, trajPt.timeDur, trajPt.useAuxPID);
+	}
+
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return position (sensor units)
+	 */
+	public double getPosition(int idx) { return _buffer.getDouble(idx * POINT_SIZE + POSITION_OFFSET); }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return velocity (sensor units per 100ms)
+	 */
+	public double getVelocity(int idx) { return _buffer.getDouble(idx * POINT_SIZE + VELOCITY_OFFSET); }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return arbitrary feed forward [-1,+1]
+	 */
+	public double getArbFeedFwd(int idx) { return _buffer.getDouble(idx * POINT_SIZE + ARB_FEED_FWD_OFFSET); }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return auxiliary position (sensor units)
+	 */
+	public double getAuxiliaryPos(int idx) { return _buffer.getDouble(idx * POINT_SIZE + AUXILIARY_POS_OFFSET); }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return auxiliary velocity (sensor units per 100ms)
+	 */
+	public double getAuxiliaryVel(int idx) { return _buffer.getDouble(idx * POINT_SIZE + AUXILIARY_VEL_OFFSET); }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return auxiliary arbitrary feed forward [-1,+1]
+	 */
+	public double getAuxiliaryArbFeedFwd(int idx) { return _buffer.getDouble(idx * POINT_SIZE + AUXILIARY_ARB_FEED_FWD_OFFSET); }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return slot of the primary PID
+	 */
+	public int getProfileSlotSelect0(int idx) { return _buffer.getInt(idx * POINT_SIZE + PROFILE_SLOT_SELECT0_OFFSET); }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return slot of the auxiliary PID
+	 */
+	public int getProfileSlotSelect1(int idx) { return _buffer.getInt(idx * POINT_SIZE + PROFILE_SLOT_SELECT1_OFFSET); }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return duration of the point (ms)
+	 */
+	public int getTimeDur(int idx) { return _buffer.getInt(idx * POINT_SIZE + TIME_DUR_OFFSET); }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return true if FLAG_IS_LAST_POINT is set
+	 */
+	public boolean isLastPoint(int idx) { return (getFlags(idx) & FLAG_IS_LAST_POINT) != 0; }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return true if FLAG_ZERO_POS is set
+	 */
+	public boolean isZeroPos(int idx) { return (getFlags(idx) & FLAG_ZERO_POS) != 0; }
+	/**
+	 * @param idx Index of the point, in [0,size())
+	 * @return true if FLAG_USE_AUX_PID is set
+	 */
+	public boolean isUseAuxPID(int idx) { return (getFlags(idx) & FLAG_USE_AUX_PID) != 0; }
+
+	private int getFlags(int idx) {
+		return _buffer.getInt(idx * POINT_SIZE + FLAGS_OFFSET);
+	}
+}
@@ -0,0 +1,175 @@
+package com.ctre.phoenix.motorcontrol;
+
+import com.ctre.phoenix.DeviceRegistry;
+import com.ctre.phoenix.ILoopable;
+import com.ctre.phoenix.motorcontrol.can.BaseMotorController;
+
+/**
+ * Polls the fault flags of every motor controller in DeviceRegistry (GroupMotorControllers).
+ *
+ * Each scan() reads raw fault and sticky fault bit fields into int arrays and compares them
+ * to the previous scan with XOR.  Listeners are called only for motor controllers whose
+ * flags changed, so a fleet without new faults costs one poll and one compare per device.
+ * The first scan reports every flag that is already set.
+ *
+ * State is kept per device, so registering or unregistering devices between scans only
+ * reports transitions of newly registered devices.  Indices passed to listeners and to
+ * getFaults() are those of the registry snapshot of the last scan.
+ */
+public class FaultScanner implements ILoopable
+{
+	private static final IFaultListener[] NO_LISTENERS = new IFaultListener[0];
+
+	private volatile IFaultListener[] _listeners = NO_LISTENERS;
+	private static final IMotorController[] NO_DEVICES = new IMotorController[0];
+
+	private IMotorController[] _devices = NO_DEVICES;
+	private int[] _faults = new int[0];
+	private int[] _stickyFaults = new int[0];
+	private final Faults _tempFaults = new Faults();
+	private final StickyFaults _tempStickyFaults = new StickyFaults();
+
+	/**
+	 * Add a listener to call on fault transitions
+	 * @param listener Listener to add
+	 */
+	public synchronized void addListener(IFaultListener listener)
+	{
+		IFaultListener[] old = _listeners;
+		IFaultListener[] listeners = new IFaultListener[old.length + 1];
+		System.arraycopy(old, 0, listeners, 0, old.length);
+		listeners[old.length] = listener;
+		_listeners = listeners;
+	}
+	/**
+	 * Remove all listeners
+	 */
+	public synchronized void removeAllListeners()
+	{
+		_listeners = NO_LISTENERS;
+	}
+
+	/**
+	 * Poll every registered motor controller and call listeners for those whose flags changed.
+	 * @return number of motor controllers whose flags changed
+	 */
+	public int scan()
+	{
+		IMotorController[] all = DeviceRegistry.getMotorControllers();
+		int count = all.length;
+		if (all != _devices) {
+			remap(all);
+		}
+		int[] faults = _faults;
+		int[] stickyFaults = _stickyFaults;
+		IFaultListener[] listeners = _listeners;
+		int transitions = 0;
+		for (int i = 0; i < count; ++i) {
+			IMotorController mc = all[i];
+			int bits;
+			int stickyBits;
+			if (mc instanceof BaseMotorController) {
+				BaseMotorController bmc = (BaseMotorController) mc;
+				bits = bmc.getFaultBits();
+				stickyBits = bmc.getStickyFaultBits();
+			} else {
+				mc.getFaults(_tempFaults);
+				mc.getStickyFaults(_tempStickyFaults);
+				bits = _tempFaults.toBitfield();
+				stickyBits = _tempStickyFaults.toBitfield();
+			}
+			int changed = bits ^ faults[i];
+			int changedSticky = stickyBits ^ stickyFaults[i];
+			if ((changed | changedSticky) == 0) {
+				continue;
+			}
+			faults[i] = bits;
+			stickyFaults[i] = stickyBits;
+			++transitions;
+			for (IFaultListener listener : listeners) {
+				listener.onFaultTransition(i, mc, bits, changed, stickyBits, changedSticky);
+			}
+		}
+		return transitions;
+	}
+
+	/**
+	 * Move the state of each device to its index in a new registry snapshot.
+	 * Devices registered since last scan start from no faults.
+	 */
+	private void remap(IMotorController[] all)
+	{
+		IMotorController[] old = _devices;
+		int[] faults = new int[all.length];
+		int[] stickyFaults = new int[all.length];
+		for (int i = 0; i < all.length; ++i) {
+			for (int j = 0; j < old.length; ++j) {
+				if (old[j] == all[i]) {
+					faults[i] = _faults[j];
+					stickyFaults[i] = _stickyFaults[j];
+					break;
+				}
+			}
+		}
+		_devices = all;
+		_faults = faults;
+		_stickyFaults = stickyFaults;
+	}
+
+	/**
+	 * @param index Index of the motor controller in GroupMotorControllers
+	 * @return fault flags from the last scan
+	 */
+	public int getFaults(int index)
+	{
+		return (index < _faults.length) ? _faults[index] : 0;
+	}
+	/**
+	 * @param index Index of the motor controller in GroupMotorControllers
+	 * @return sticky fault flags from the last scan
+	 */
+	public int getStickyFaults(int index)
+	{
+		return (index < _stickyFaults.length) ? _stickyFaults[index] : 0;
+	}
+	/**
+	 * @return true if any motor controller had a fault flag set at the last scan
+	 */
+	public boolean hasAnyFault()
+	{
+		for (int bits : _faults) {
+			if (bits != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	//--- Loopable ---/
+	/**
+	 * Nothing to do at start
+	 */
+	public void onStart()
+	{
+	}
+	/**
+	 * Scan all motor controllers
+	 */
+	public void onLoop()
+	{
+		scan();
+	}
+	/**
+	 * @return false, this is never done
+	 */
+	public boolean isDone()
+	{
+		return false;
+	}
+	/**
+	 * Nothing to do at stop
+	 */
+	public void onStop()
+	{
+	}
+}
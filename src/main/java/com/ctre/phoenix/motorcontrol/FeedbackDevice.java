@@ -1,6 +1,6 @@
 package com.ctre.phoenix.motorcontrol;
 
-import java.util.HashMap;
+import com.ctre.phoenix.EnumLookup;
 
 /**
  * Choose the feedback device for a selected sensor
@@ -70,25 +70,15 @@ public enum FeedbackDevice {
 	{
 		this.value = initValue;
 	}
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, FeedbackDevice> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, FeedbackDevice>();
-		for (FeedbackDevice type : FeedbackDevice.values()) {
-			_map.put(type.value, type);
-		}
-    }
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<FeedbackDevice> _lookup = new EnumLookup<FeedbackDevice>(FeedbackDevice.values(), e -> e.value, QuadEncoder);
 	/**
 	 * Get FeedbackDevice from specified value
 	 * @param value Value of FeedbackDevice
 	 * @return FeedbackDevice of specified value
 	 */
 	public static FeedbackDevice valueOf(int value) {
-		FeedbackDevice retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return QuadEncoder;
+		return _lookup.get(value);
 	}
 	/**
 	 * Get FeedbackDevice from specified value
@@ -1,37 +1,37 @@
 package com.ctre.phoenix.motorcontrol;
 
-import java.util.*;
+import com.ctre.phoenix.DeviceRegistry;
 
 /**
  * Group of motor controllers
+ *
+ * This is the motor controller part of {@link DeviceRegistry}.
  */
 public class GroupMotorControllers
 {
-	static List<IMotorController> _ms = new ArrayList<IMotorController>();
-	
 	/**
 	 * Add motor controller to the group
 	 * @param mc motor controller to add
 	 */
 	public static void register(IMotorController mc)
 	{
-		_ms.add(mc);
+		DeviceRegistry.register(mc);
 	}
-	
+
 	/**
 	 * @return number of motorcontrollers in group
 	 */
 	public static int getCount()
 	{
-		return _ms.size();
+		return DeviceRegistry.getMotorControllers().length;
 	}
-	
+
 	/**
 	 * @param idx Index of motor controller to get
 	 * @return Motor controller at specified index
 	 */
 	public static IMotorController get(int idx)
 	{
-		return _ms.get(idx);
+		return DeviceRegistry.getMotorControllers()[idx];
 	}
-}
\ No newline at end of file
+}
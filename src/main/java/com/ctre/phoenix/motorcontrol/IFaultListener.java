@@ -0,0 +1,21 @@
+package com.ctre.phoenix.motorcontrol;
+
+/**
+ * Interface for receiving fault transitions from a FaultScanner
+ */
+public interface IFaultListener
+{
+	/**
+	 * Called when any fault or sticky fault flag of a motor controller changes.
+	 * Bit fields are in the layout of {@link Faults#update(int)} and {@link StickyFaults#update(int)}.
+	 *
+	 * @param index Index of the motor controller in GroupMotorControllers
+	 * @param motorController Motor controller whose flags changed
+	 * @param faults Current fault flags
+	 * @param changedFaults Fault flags that changed since the previous scan
+	 * @param stickyFaults Current sticky fault flags
+	 * @param changedStickyFaults Sticky fault flags that changed since the previous scan
+	 */
+	void onFaultTransition(int index, IMotorController motorController, int faults, int changedFaults,
+			int stickyFaults, int changedStickyFaults);
+}
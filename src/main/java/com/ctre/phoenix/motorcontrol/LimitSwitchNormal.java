@@ -1,6 +1,6 @@
 package com.ctre.phoenix.motorcontrol;
 
-import java.util.HashMap;
+import com.ctre.phoenix.EnumLookup;
 
 /**
  * Choose whether the limit switch is normally
@@ -34,25 +34,15 @@ public enum LimitSwitchNormal {
 	LimitSwitchNormal(int value) {
 		this.value = value;
 	}
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, LimitSwitchNormal> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, LimitSwitchNormal>();
-		for (LimitSwitchNormal type : LimitSwitchNormal.values()) {
-			_map.put(type.value, type);
-		}
-    }
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<LimitSwitchNormal> _lookup = new EnumLookup<LimitSwitchNormal>(LimitSwitchNormal.values(), e -> e.value, NormallyOpen);
     /**
      * Get LimitSwitchNormal of specified value
      * @param value Value of LimitSwitchNormal
      * @return LimitSwitchNormal of specified value
      */
 	public static LimitSwitchNormal valueOf(int value) {
-		LimitSwitchNormal retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return NormallyOpen;
+		return _lookup.get(value);
     }
     /**
      * Get LimitSwitchNormal of specified value
@@ -1,6 +1,6 @@
 package com.ctre.phoenix.motorcontrol;
 
-import java.util.HashMap;
+import com.ctre.phoenix.EnumLookup;
 
 /**
  * Choose the limit switch source for a motor controller
@@ -38,25 +38,15 @@ public enum LimitSwitchSource {
 	LimitSwitchSource(int value) {
 		this.value = value;
 	}
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, LimitSwitchSource> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, LimitSwitchSource>();
-		for (LimitSwitchSource type : LimitSwitchSource.values()) {
-			_map.put(type.value, type);
-		}
-	}
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<LimitSwitchSource> _lookup = new EnumLookup<LimitSwitchSource>(LimitSwitchSource.values(), e -> e.value, FeedbackConnector);
 	/**
 	 * Get LimitSwitchSource of specified value
 	 * @param value Value of LimitSwitchSource
 	 * @return LimitSwitchSource of specified value
 	 */
 	public static LimitSwitchSource valueOf(int value) {
-		LimitSwitchSource retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return FeedbackConnector;
+		return _lookup.get(value);
 	}
 	/**
 	 * Get LimitSwitchSource of specified value
@@ -0,0 +1,54 @@
+package com.ctre.phoenix.motorcontrol;
+
+/**
+ * Aggregated status of a master and its followers.
+ * This is simply a data transfer object, filled by
+ * {@link com.ctre.phoenix.motorcontrol.can.MotorGroup#snapshot(MotorGroupSnapshot)}.
+ *
+ * Caller should allocate one snapshot per group and reuse it every loop.
+ */
+public class MotorGroupSnapshot {
+	/**
+	 * Signals of the master.
+	 */
+	public final MotorStatusSnapshot master = new MotorStatusSnapshot();
+	/**
+	 * Number of motor controllers in the group, including the master.
+	 */
+	public int memberCount;
+	/**
+	 * Sum of the output current of every member that measures it (in amps).
+	 */
+	public double totalOutputCurrent;
+	/**
+	 * Highest output current of any member (in amps).
+	 */
+	public double maxOutputCurrent;
+	/**
+	 * Highest temperature of any member (in 'C).
+	 */
+	public double maxTemperature;
+	/**
+	 * Fault flags of every member OR'd together, see {@link Faults#update(int)}.
+	 */
+	public int faults;
+	/**
+	 * Number of members with any fault flag set.
+	 */
+	public int faultedCount;
+
+	/**
+	 * @return string representation of the snapshot
+	 */
+	public String toString() {
+		StringBuilder work = new StringBuilder();
+		work.append(" Members:"); work.append(memberCount);
+		work.append(" TotalOutputCurrent:"); work.append(totalOutputCurrent);
+		work.append(" MaxOutputCurrent:"); work.append(maxOutputCurrent);
+		work.append(" MaxTemperature:"); work.append(maxTemperature);
+		work.append(" Faults:"); work.append(faults);
+		work.append(" FaultedCount:"); work.append(faultedCount);
+		work.append(" Master:"); work.append(master.toString());
+		return work.toString();
+	}
+}
@@ -0,0 +1,66 @@
+package com.ctre.phoenix.motorcontrol;
+
+/**
+ * Snapshot of the commonly polled motor controller signals.
+ * This is simply a data transfer object, filled by
+ * {@link com.ctre.phoenix.motorcontrol.can.BaseMotorController#snapshot(MotorStatusSnapshot)}.
+ *
+ * Caller should allocate one snapshot per motor controller and reuse it every loop.
+ */
+public class MotorStatusSnapshot {
+	/**
+	 * Position of the primary (PID[0]) selected sensor (in sensor units).
+	 */
+	public int selectedSensorPosition;
+	/**
+	 * Velocity of the primary (PID[0]) selected sensor (in sensor units per 100ms).
+	 */
+	public int selectedSensorVelocity;
+	/**
+	 * Closed-loop error of the primary (PID[0]) loop.
+	 */
+	public int closedLoopError;
+	/**
+	 * Output of the motor controller (in percent, [-1,+1]).
+	 */
+	public double motorOutputPercent;
+	/**
+	 * Bus voltage seen by the device (in volts).
+	 */
+	public double busVoltage;
+	/**
+	 * Output current of the motor controller (in amps).
+	 */
+	public double outputCurrent;
+	/**
+	 * Temperature of the motor controller (in 'C).
+	 */
+	public double temperature;
+	/**
+	 * Fault flags as a bit field, see {@link Faults#update(int)}.
+	 */
+	public int faults;
+
+	/**
+	 * @return applied voltage to motor in volts.
+	 */
+	public double getMotorOutputVoltage() {
+		return busVoltage * motorOutputPercent;
+	}
+
+	/**
+	 * @return string representation of the snapshot
+	 */
+	public String toString() {
+		StringBuilder work = new StringBuilder();
+		work.append(" Position:"); work.append(selectedSensorPosition);
+		work.append(" Velocity:"); work.append(selectedSensorVelocity);
+		work.append(" ClosedLoopError:"); work.append(closedLoopError);
+		work.append(" MotorOutputPercent:"); work.append(motorOutputPercent);
+		work.append(" BusVoltage:"); work.append(busVoltage);
+		work.append(" OutputCurrent:"); work.append(outputCurrent);
+		work.append(" Temperature:"); work.append(temperature);
+		work.append(" Faults:"); work.append(faults);
+		return work.toString();
+	}
+}
@@ -1,6 +1,6 @@
 package com.ctre.phoenix.motorcontrol;
 
-import java.util.HashMap;
+import com.ctre.phoenix.EnumLookup;
 
 /**
  * Choose the remote feedback device for a motor controller
@@ -44,25 +44,15 @@ public enum RemoteFeedbackDevice {
 	{
 		this.value = initValue;
 	}
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, RemoteFeedbackDevice> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, RemoteFeedbackDevice>();
-		for (RemoteFeedbackDevice type : RemoteFeedbackDevice.values()) {
-			_map.put(type.value, type);
-		}
-	}
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<RemoteFeedbackDevice> _lookup = new EnumLookup<RemoteFeedbackDevice>(RemoteFeedbackDevice.values(), e -> e.value, RemoteSensor0);
 	/**
 	 * Get RemoteFeedbackDevice from specified value
 	 * @param value Value of RemoteFeedbackDevice
 	 * @return RemoteFeedbackDevice of specified value
 	 */
 	public static RemoteFeedbackDevice valueOf(int value) {
-		RemoteFeedbackDevice retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return RemoteSensor0;
+		return _lookup.get(value);
 	}
 	/**
 	 * Get RemoteFeedbackDevice from specified value
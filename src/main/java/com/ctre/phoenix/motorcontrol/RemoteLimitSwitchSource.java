@@ -1,6 +1,6 @@
 package com.ctre.phoenix.motorcontrol;
 
-import java.util.HashMap;
+import com.ctre.phoenix.EnumLookup;
 
 /**
  * Choose the remote limit switch source for a motor controller
@@ -33,25 +33,15 @@ public enum RemoteLimitSwitchSource {
 	RemoteLimitSwitchSource(int value) {
 		this.value = value;
 	}
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, RemoteLimitSwitchSource> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, RemoteLimitSwitchSource>();
-		for (RemoteLimitSwitchSource type : RemoteLimitSwitchSource.values()) {
-			_map.put(type.value, type);
-		}
-    }
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<RemoteLimitSwitchSource> _lookup = new EnumLookup<RemoteLimitSwitchSource>(RemoteLimitSwitchSource.values(), e -> e.value, Deactivated);
     /**
      * Get RemoteLimitSwitchSource of specified value
      * @param value Value of RemoteLimitSwitchSource
      * @return RemoteLimitSwitchSource of specified value
      */
 	public static RemoteLimitSwitchSource valueOf(int value) {
-		RemoteLimitSwitchSource retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return Deactivated;
+		return _lookup.get(value);
 	}
     /**
      * Get RemoteLimitSwitchSource of specified value
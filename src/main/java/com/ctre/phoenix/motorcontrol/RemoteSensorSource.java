@@ -1,6 +1,6 @@
 package com.ctre.phoenix.motorcontrol;
 
-import java.util.HashMap;
+import com.ctre.phoenix.EnumLookup;
 
 /**
  * Choose the remote sensor source for a motor controller 
@@ -81,25 +81,15 @@ public enum RemoteSensorSource {
 	{
 		this.value = value;
 	}
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, RemoteSensorSource> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, RemoteSensorSource>();
-		for (RemoteSensorSource type : RemoteSensorSource.values()) {
-			_map.put(type.value, type);
-		}
-	}
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<RemoteSensorSource> _lookup = new EnumLookup<RemoteSensorSource>(RemoteSensorSource.values(), e -> e.value, Off);
 	/**
 	 * Get RemoteSensorSource of specified value
 	 * @param value Value of RemoteSensorSource
 	 * @return RemoteSensorSource of specified value
 	 */
 	public static RemoteSensorSource valueOf(int value) {
-		RemoteSensorSource retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return Off;
+		return _lookup.get(value);
 	}
 	/**
 	 * Get RemoteSensorSource of specified value
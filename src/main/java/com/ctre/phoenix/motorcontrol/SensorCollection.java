@@ -2,7 +2,7 @@ package com.ctre.phoenix.motorcontrol;
 
 import com.ctre.phoenix.ErrorCode;
 import com.ctre.phoenix.motorcontrol.can.BaseMotorController;
-import com.ctre.phoenix.motorcontrol.can.MotControllerJNI;
+import com.ctre.phoenix.motorcontrol.can.IMotControllerBackend;
 
 /**
  * Collection of sensors available to a motor controller.
@@ -17,6 +17,7 @@ import com.ctre.phoenix.motorcontrol.can.MotControllerJNI;
 public class SensorCollection {
 
 	private long _handle;
+	private IMotControllerBackend _backend;
 
 	/**
 	 * Constructor for SensorCollection
@@ -24,6 +25,7 @@ public class SensorCollection {
 	 */
 	public SensorCollection(BaseMotorController motorController) {
 		_handle = motorController.getHandle();
+		_backend = motorController.getBackend();
 
 	}
 
@@ -37,7 +39,7 @@ public class SensorCollection {
 	 */
 
 	public int getAnalogIn() {
-		return MotControllerJNI.GetAnalogIn(_handle);
+		return _backend.GetAnalogIn(_handle);
 	}
 
 	/**
@@ -53,7 +55,7 @@ public class SensorCollection {
 	 */
 
 	public ErrorCode setAnalogPosition(int newPosition, int timeoutMs) {
-		int retval = MotControllerJNI.SetAnalogPosition(_handle, newPosition, timeoutMs);
+		int retval = _backend.SetAnalogPosition(_handle, newPosition, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -65,7 +67,7 @@ public class SensorCollection {
 	 */
 
 	public int getAnalogInRaw() {
-		return MotControllerJNI.GetAnalogInRaw(_handle);
+		return _backend.GetAnalogInRaw(_handle);
 	}
 
 	/**
@@ -76,7 +78,7 @@ public class SensorCollection {
 	 */
 
 	public int getAnalogInVel() {
-		return MotControllerJNI.GetAnalogInVel(_handle);
+		return _backend.GetAnalogInVel(_handle);
 	}
 
 	/**
@@ -87,7 +89,7 @@ public class SensorCollection {
 	 */
 
 	public int getQuadraturePosition() {
-		return MotControllerJNI.GetQuadraturePosition(_handle);
+		return _backend.GetQuadraturePosition(_handle);
 	}
 
 	/**
@@ -105,7 +107,7 @@ public class SensorCollection {
 	 */
 
 	public ErrorCode setQuadraturePosition(int newPosition, int timeoutMs) {
-		int retval = MotControllerJNI.SetQuadraturePosition(_handle, newPosition, timeoutMs);
+		int retval = _backend.SetQuadraturePosition(_handle, newPosition, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -265,7 +267,7 @@ public class SensorCollection {
 	 */
 
 	public int getQuadratureVelocity() {
-		return MotControllerJNI.GetQuadratureVelocity(_handle);
+		return _backend.GetQuadratureVelocity(_handle);
 	}
 
 	/**
@@ -276,7 +278,7 @@ public class SensorCollection {
 	 */
 
 	public int getPulseWidthPosition() {
-		return MotControllerJNI.GetPulseWidthPosition(_handle);
+		return _backend.GetPulseWidthPosition(_handle);
 	}
 
 	/**
@@ -291,7 +293,7 @@ public class SensorCollection {
 	 * @return  an ErrErrorCode
 	 */
 	public ErrorCode setPulseWidthPosition(int newPosition, int timeoutMs) {
-		int retval = MotControllerJNI.SetPulseWidthPosition(_handle, newPosition, timeoutMs);
+		int retval = _backend.SetPulseWidthPosition(_handle, newPosition, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -303,7 +305,7 @@ public class SensorCollection {
 	 */
 
 	public int getPulseWidthVelocity() {
-		return MotControllerJNI.GetPulseWidthVelocity(_handle);
+		return _backend.GetPulseWidthVelocity(_handle);
 	}
 
 	/**
@@ -313,7 +315,7 @@ public class SensorCollection {
 	 */
 
 	public int getPulseWidthRiseToFallUs() {
-		return MotControllerJNI.GetPulseWidthRiseToFallUs(_handle);
+		return _backend.GetPulseWidthRiseToFallUs(_handle);
 	}
 
 	/**
@@ -323,7 +325,7 @@ public class SensorCollection {
 	 */
 
 	public int getPulseWidthRiseToRiseUs() {
-		return MotControllerJNI.GetPulseWidthRiseToRiseUs(_handle);
+		return _backend.GetPulseWidthRiseToRiseUs(_handle);
 	}
 
 	/**
@@ -333,7 +335,7 @@ public class SensorCollection {
 	 */
 
 	public boolean getPinStateQuadA() {
-		return MotControllerJNI.GetPinStateQuadA(_handle) != 0;
+		return _backend.GetPinStateQuadA(_handle) != 0;
 	}
 
 	/**
@@ -343,7 +345,7 @@ public class SensorCollection {
 	 */
 
 	public boolean getPinStateQuadB() {
-		return MotControllerJNI.GetPinStateQuadB(_handle) != 0;
+		return _backend.GetPinStateQuadB(_handle) != 0;
 	}
 
 	/**
@@ -353,7 +355,7 @@ public class SensorCollection {
 	 */
 
 	public boolean getPinStateQuadIdx() {
-		return MotControllerJNI.GetPinStateQuadIdx(_handle) != 0;
+		return _backend.GetPinStateQuadIdx(_handle) != 0;
 	}
 
 	/**
@@ -364,7 +366,7 @@ public class SensorCollection {
 	 */
 
 	public boolean isFwdLimitSwitchClosed() {
-		return MotControllerJNI.IsFwdLimitSwitchClosed(_handle) != 0;
+		return _backend.IsFwdLimitSwitchClosed(_handle) != 0;
 	}
 
 	/**
@@ -375,6 +377,6 @@ public class SensorCollection {
 	 */
 
 	public boolean isRevLimitSwitchClosed() {
-		return MotControllerJNI.IsRevLimitSwitchClosed(_handle) != 0;
+		return _backend.IsRevLimitSwitchClosed(_handle) != 0;
 	}
 }
@@ -1,6 +1,6 @@
 package com.ctre.phoenix.motorcontrol;
 
-import java.util.HashMap;
+import com.ctre.phoenix.EnumLookup;
 
 /**
  * Choose the sensor term for a motor controller
@@ -35,25 +35,15 @@ public enum SensorTerm {
 	{
 		this.value = value;
 	}
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, SensorTerm> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, SensorTerm>();
-		for (SensorTerm type : SensorTerm.values()) {
-			_map.put(type.value, type);
-		}
-	}
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<SensorTerm> _lookup = new EnumLookup<SensorTerm>(SensorTerm.values(), e -> e.value, Sum0);
 	/**
 	 * Get SensorTerm of specified value
 	 * @param value Value of SensorTerm
 	 * @return SensorTerm of specified value
 	 */
 	public static SensorTerm valueOf(int value) {
-		SensorTerm retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return Sum0;
+		return _lookup.get(value);
 	}
 	/**
 	 * Get SensorTerm of specified value
@@ -1,6 +1,6 @@
 package com.ctre.phoenix.motorcontrol;
 
-import java.util.HashMap;
+import com.ctre.phoenix.EnumLookup;
 
 /**
  * Choose the velocity measurement period for a sensor
@@ -51,25 +51,15 @@ public enum VelocityMeasPeriod {
 	{
 		this.value = value;
 	}
-    /** Keep singleton map to quickly lookup enum via int */
-    private static HashMap<Integer, VelocityMeasPeriod> _map = null;
-	/** static c'tor, prepare the map */
-    static {
-    	_map = new HashMap<Integer, VelocityMeasPeriod>();
-		for (VelocityMeasPeriod type : VelocityMeasPeriod.values()) {
-			_map.put(type.value, type);
-		}
-	}
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<VelocityMeasPeriod> _lookup = new EnumLookup<VelocityMeasPeriod>(VelocityMeasPeriod.values(), e -> e.value, Period_100Ms);
 	/**
 	 * Get VelocityMeasPeriod of specified value
 	 * @param value Value of VelocityMeasPeriod
 	 * @return VelocityMeasPeriod of specified value
 	 */
 	public static VelocityMeasPeriod valueOf(int value) {
-		VelocityMeasPeriod retval = _map.get(value);
-		if (retval != null)
-			return retval;
-		return Period_100Ms;
+		return _lookup.get(value);
 	}
 	/**
 	 * Get VelocityMeasPeriod of specified value
@@ -1,6 +1,7 @@
 package com.ctre.phoenix.motorcontrol.can;
 
 import com.ctre.phoenix.motorcontrol.ControlFrame;
+import com.ctre.phoenix.motorcontrol.ControlFrameEnhanced;
 import com.ctre.phoenix.motorcontrol.ControlMode;
 import com.ctre.phoenix.motorcontrol.DemandType;
 import com.ctre.phoenix.motorcontrol.Faults;
@@ -10,6 +11,7 @@ import com.ctre.phoenix.motorcontrol.IMotorController;
 import com.ctre.phoenix.motorcontrol.InvertType;
 import com.ctre.phoenix.motorcontrol.LimitSwitchNormal;
 import com.ctre.phoenix.motorcontrol.LimitSwitchSource;
+import com.ctre.phoenix.motorcontrol.MotorStatusSnapshot;
 import com.ctre.phoenix.motorcontrol.NeutralMode;
 import com.ctre.phoenix.motorcontrol.RemoteFeedbackDevice;
 import com.ctre.phoenix.motorcontrol.RemoteLimitSwitchSource;
@@ -19,12 +21,15 @@ import com.ctre.phoenix.motorcontrol.StatusFrame;
 import com.ctre.phoenix.motorcontrol.StatusFrameEnhanced;
 import com.ctre.phoenix.motorcontrol.StickyFaults;
 import com.ctre.phoenix.motorcontrol.VelocityMeasPeriod;
-import com.ctre.phoenix.motorcontrol.can.MotControllerJNI;
+import com.ctre.phoenix.platform.Backend;
 import com.ctre.phoenix.ParamEnum;
 import com.ctre.phoenix.motion.BufferedTrajectoryPointStream;
 import com.ctre.phoenix.motion.MotionProfileStatus;
+import com.ctre.phoenix.motion.MotionProfileStatusView;
 import com.ctre.phoenix.motion.SetValueMotionProfile;
 import com.ctre.phoenix.motion.TrajectoryPoint;
+import com.ctre.phoenix.motion.TrajectoryPointBuffer;
+import com.ctre.phoenix.ControlFramePeriods;
 import com.ctre.phoenix.ErrorCode;
 import com.ctre.phoenix.ErrorCollection;
 import com.ctre.phoenix.ParamEnum;
@@ -44,9 +49,33 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * Device handle
 	 */
 	protected long m_handle;
+	/**
+	 * Backend the device handle belongs to
+	 */
+	protected final IMotControllerBackend m_backend = Backend.getMotController();
 
 	private int [] _motionProfStats = new int[11];
 
+	private boolean _demandCacheEnabled = false;
+	private long _demandRefreshPeriodNs = 0;
+	private boolean _demandCacheValid = false;
+	private ControlMode _lastMode;
+	private double _lastDemand0;
+	private DemandType _lastDemand1Type;
+	private double _lastDemand1;
+	private long _lastDemandSentNs;
+	private long _suppressedDemandCount = 0;
+	private long _forwardedDemandCount = 0;
+
+	private boolean _configCacheEnabled = false;
+	private BaseMotorControllerConfiguration _configCache = null;
+	private boolean _configCacheWritten = false;
+	private boolean _configReadTracking = false;
+	private ErrorCode _configReadError = ErrorCode.OK;
+
+	private final ControlFramePeriods<ControlFrameEnhanced> _controlFramePeriods = new ControlFramePeriods<ControlFrameEnhanced>(
+			ControlFrameEnhanced.values(), e -> e.value);
+
 	// --------------------- Constructors -----------------------------//
 	/**
 	 * Constructor for motor controllers.
@@ -54,7 +83,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @param arbId
 	 */
 	public BaseMotorController(int arbId) {
-		m_handle = MotControllerJNI.Create(arbId);
+		m_handle = m_backend.Create(arbId);
 		_arbId = arbId;
 	}
 
@@ -63,11 +92,11 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
     public ErrorCode DestroyObject() {
-        return ErrorCode.valueOf(MotControllerJNI.JNI_destroy_MotController(m_handle));
+        return ErrorCode.valueOf(m_backend.JNI_destroy_MotController(m_handle));
     }
 
     //public static void DestroyAllMotControllers() {
-    //    MotControllerJNI.JNI_destroy_AllMotControllers();
+    //    m_backend.JNI_destroy_AllMotControllers();
     //}
 
 	/**
@@ -77,13 +106,20 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 		return m_handle;
 	}
 
+	/**
+	 * @return backend that owns the CCI handle.
+	 */
+	public IMotControllerBackend getBackend() {
+		return m_backend;
+	}
+
 	/**
 	 * Returns the Device ID
 	 *
 	 * @return Device number.
 	 */
 	public int getDeviceID() {
-		return MotControllerJNI.GetDeviceNumber(m_handle);
+		return m_backend.GetDeviceNumber(m_handle);
 	}
 
 	// ------ Set output routines. ----------//
@@ -170,10 +206,31 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 		m_sendMode = mode;
 		int work;
 
+		if (_demandCacheEnabled) {
+			long now = System.nanoTime();
+			if (_demandCacheValid &&
+				mode == _lastMode &&
+				demand0 == _lastDemand0 &&
+				demand1Type == _lastDemand1Type &&
+				demand1 == _lastDemand1 &&
+				(now - _lastDemandSentNs) < _demandRefreshPeriodNs) {
+				/* nothing changed and refresh period has not elapsed, skip the native call */
+				++_suppressedDemandCount;
+				return;
+			}
+			_lastMode = mode;
+			_lastDemand0 = demand0;
+			_lastDemand1Type = demand1Type;
+			_lastDemand1 = demand1;
+			_lastDemandSentNs = now;
+			_demandCacheValid = true;
+		}
+		++_forwardedDemandCount;
+
 		switch (m_controlMode) {
 		case PercentOutput:
 			// case TimedPercentOutput:
-			MotControllerJNI.Set_4(m_handle, m_sendMode.value, demand0, demand1, demand1Type.value);
+			m_backend.Set_4(m_handle, m_sendMode.value, demand0, demand1, demand1Type.value);
 			break;
 		case Follower:
 			/* did caller specify device ID */
@@ -187,27 +244,58 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 			}
 			/* single precision guarantees 16bits of integral precision,
 		   * so float/double cast on work is safe */
-			MotControllerJNI.Set_4(m_handle, m_sendMode.value, (double)work, demand1, demand1Type.value);
+			m_backend.Set_4(m_handle, m_sendMode.value, (double)work, demand1, demand1Type.value);
 			break;
 		case Velocity:
 		case Position:
 		case MotionMagic:
 		case MotionProfile:
 		case MotionProfileArc:
-			MotControllerJNI.Set_4(m_handle, m_sendMode.value, demand0, demand1, demand1Type.value);
+			m_backend.Set_4(m_handle, m_sendMode.value, demand0, demand1, demand1Type.value);
 			break;
 		case Current:
-			MotControllerJNI.SetDemand(m_handle, m_sendMode.value, (int) (1000. * demand0), 0); /* milliamps */
+			m_backend.SetDemand(m_handle, m_sendMode.value, (int) (1000. * demand0), 0); /* milliamps */
 			break;
 		case Disabled:
 			/* fall thru... */
 		default:
-			MotControllerJNI.SetDemand(m_handle, m_sendMode.value, 0, 0);
+			m_backend.SetDemand(m_handle, m_sendMode.value, 0, 0);
 			break;
 		}
 
 	}
 
+	/**
+	 * Enables suppression of redundant set() calls.
+	 * When enabled, a set() call whose control mode and demands match the previous call is
+	 * not sent to the motor controller, unless refreshPeriodMs has elapsed since the last
+	 * call that was sent.
+	 *
+	 * By default this feature is disabled.
+	 *
+	 * @param enable Whether to suppress redundant set() calls.
+	 * @param refreshPeriodMs Period in ms after which an unchanged demand is sent again.
+	 */
+	public void enableDemandCache(boolean enable, int refreshPeriodMs) {
+		_demandCacheEnabled = enable;
+		_demandRefreshPeriodNs = refreshPeriodMs * 1000000L;
+		_demandCacheValid = false;
+	}
+
+	/**
+	 * @return Number of set() calls that were suppressed by the demand cache.
+	 */
+	public long getSuppressedDemandCount() {
+		return _suppressedDemandCount;
+	}
+
+	/**
+	 * @return Number of set() calls that were sent to the motor controller.
+	 */
+	public long getForwardedDemandCount() {
+		return _forwardedDemandCount;
+	}
+
 	/**
 	 * Neutral the motor output by setting control mode to disabled.
 	 */
@@ -223,7 +311,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 *            throttle is neutral (ie brake/coast)
 	 **/
 	public void setNeutralMode(NeutralMode neutralMode) {
-		MotControllerJNI.SetNeutralMode(m_handle, neutralMode.value);
+		m_backend.SetNeutralMode(m_handle, neutralMode.value);
 	}
 	/**
 	 * Enables a future feature called "Heading Hold".
@@ -236,7 +324,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	@Deprecated
 	public void enableHeadingHold(boolean enable) {
 		/* this routine is moot as the Set() call updates the signal on each call */
-		//MotControllerJNI.EnableHeadingHold(m_handle, enable ? 1 : 0);
+		//m_backend.EnableHeadingHold(m_handle, enable ? 1 : 0);
 	}
 	/**
 	 * For now this simply updates the CAN signal to the motor controller.
@@ -248,7 +336,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	@Deprecated
 	public void selectDemandType(boolean value) {
 		/* this routine is moot as the Set() call updates the signal on each call */
-		//MotControllerJNI.SelectDemandType(m_handle, value ? 1 : 0);
+		//m_backend.SelectDemandType(m_handle, value ? 1 : 0);
 	}
 
 	// ------ Invert behavior ----------//
@@ -262,7 +350,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 *            Indicates whether to invert the phase of the sensor.
 	 */
 	public void setSensorPhase(boolean PhaseSensor) {
-		MotControllerJNI.SetSensorPhase(m_handle, PhaseSensor);
+		m_backend.SetSensorPhase(m_handle, PhaseSensor);
 	}
 
 	/**
@@ -304,7 +392,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 */
 	public void setInverted(InvertType invertType){
 		_invert = invertType;
-		MotControllerJNI.SetInverted_2(m_handle, invertType.value);
+		m_backend.SetInverted_2(m_handle, invertType.value);
 	}
 	
 	/**
@@ -322,7 +410,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 				break;
 			}
 		}
-		return MotControllerJNI.GetInverted(m_handle);
+		return m_backend.GetInverted(m_handle);
 	}
 	
     //----- Factory Default Configuration -----//
@@ -338,7 +426,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configFactoryDefault(int timeoutMs){
-		int retval = MotControllerJNI.ConfigFactoryDefault(m_handle, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigFactoryDefault(m_handle, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -351,7 +440,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 */
 	public ErrorCode configFactoryDefault() {
         int timeoutMs = 50;
-		int retval = MotControllerJNI.ConfigFactoryDefault(m_handle, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigFactoryDefault(m_handle, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -369,7 +459,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configOpenloopRamp(double secondsFromNeutralToFull, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigOpenLoopRamp(m_handle, secondsFromNeutralToFull, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigOpenLoopRamp(m_handle, secondsFromNeutralToFull, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -398,7 +489,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configClosedloopRamp(double secondsFromNeutralToFull, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigClosedLoopRamp(m_handle, secondsFromNeutralToFull, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigClosedLoopRamp(m_handle, secondsFromNeutralToFull, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -426,7 +518,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configPeakOutputForward(double percentOut, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigPeakOutputForward(m_handle, percentOut, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigPeakOutputForward(m_handle, percentOut, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -453,7 +546,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configPeakOutputReverse(double percentOut, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigPeakOutputReverse(m_handle, percentOut, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigPeakOutputReverse(m_handle, percentOut, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -479,7 +573,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configNominalOutputForward(double percentOut, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigNominalOutputForward(m_handle, percentOut, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigNominalOutputForward(m_handle, percentOut, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -506,7 +601,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configNominalOutputReverse(double percentOut, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigNominalOutputReverse(m_handle, percentOut, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigNominalOutputReverse(m_handle, percentOut, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -534,7 +630,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configNeutralDeadband(double percentDeadband, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigNeutralDeadband(m_handle, percentDeadband, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigNeutralDeadband(m_handle, percentDeadband, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -566,7 +663,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configVoltageCompSaturation(double voltage, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigVoltageCompSaturation(m_handle, voltage, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigVoltageCompSaturation(m_handle, voltage, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -597,7 +695,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configVoltageMeasurementFilter(int filterWindowSamples, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigVoltageMeasurementFilter(m_handle, filterWindowSamples, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigVoltageMeasurementFilter(m_handle, filterWindowSamples, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -623,7 +722,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 *            Enable state of voltage compensation.
 	 **/
 	public void enableVoltageCompensation(boolean enable) {
-		MotControllerJNI.EnableVoltageCompensation(m_handle, enable);
+		m_backend.EnableVoltageCompensation(m_handle, enable);
 	}
 
 	// ------ General Status ----------//
@@ -633,7 +732,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return The bus voltage value (in volts).
 	 */
 	public double getBusVoltage() {
-		return MotControllerJNI.GetBusVoltage(m_handle);
+		return m_backend.GetBusVoltage(m_handle);
 	}
 
 	/**
@@ -642,7 +741,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Output of the motor controller (in percent).
 	 */
 	public double getMotorOutputPercent() {
-		return MotControllerJNI.GetMotorOutputPercent(m_handle);
+		return m_backend.GetMotorOutputPercent(m_handle);
 	}
 
 	/**
@@ -658,7 +757,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return The output current (in amps).
 	 */
 	protected double getOutputCurrent() {
-		return MotControllerJNI.GetOutputCurrent(m_handle);
+		return m_backend.GetOutputCurrent(m_handle);
 	}
 
 	/**
@@ -667,7 +766,28 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Temperature of the motor controller (in 'C)
 	 */
 	public double getTemperature() {
-		return MotControllerJNI.GetTemperature(m_handle);
+		return m_backend.GetTemperature(m_handle);
+	}
+
+	/**
+	 * Snapshot the commonly polled signals of the motor controller in one call.
+	 * The signals are read from the same cached status frames as the individual getters,
+	 * so no CAN traffic is generated.
+	 *
+	 * @param toFill
+	 *            Caller's object to fill.  Reuse the same object every loop to avoid garbage.
+	 * @return Last Error Code generated by a function.
+	 */
+	public ErrorCode snapshot(MotorStatusSnapshot toFill) {
+		toFill.selectedSensorPosition = m_backend.GetSelectedSensorPosition(m_handle, 0);
+		toFill.selectedSensorVelocity = m_backend.GetSelectedSensorVelocity(m_handle, 0);
+		toFill.closedLoopError = m_backend.GetClosedLoopError(m_handle, 0);
+		toFill.motorOutputPercent = m_backend.GetMotorOutputPercent(m_handle);
+		toFill.busVoltage = m_backend.GetBusVoltage(m_handle);
+		toFill.outputCurrent = m_backend.GetOutputCurrent(m_handle);
+		toFill.temperature = m_backend.GetTemperature(m_handle);
+		toFill.faults = m_backend.GetFaults(m_handle);
+		return getLastError();
 	}
 
 	// ------ sensor selection ----------//
@@ -686,7 +806,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSelectedFeedbackSensor(RemoteFeedbackDevice feedbackDevice, int pidIdx, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigSelectedFeedbackSensor(m_handle, feedbackDevice.value, pidIdx, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigSelectedFeedbackSensor(m_handle, feedbackDevice.value, pidIdx, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -717,7 +838,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSelectedFeedbackSensor(FeedbackDevice feedbackDevice, int pidIdx, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigSelectedFeedbackSensor(m_handle, feedbackDevice.value, pidIdx, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigSelectedFeedbackSensor(m_handle, feedbackDevice.value, pidIdx, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -753,7 +875,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSelectedFeedbackCoefficient(double coefficient, int pidIdx, int timeoutMs) {
-	  int retval = MotControllerJNI.ConfigSelectedFeedbackCoefficient(m_handle, coefficient, pidIdx, timeoutMs);
+	  clearConfigCache();
+	  int retval = m_backend.ConfigSelectedFeedbackCoefficient(m_handle, coefficient, pidIdx, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -794,7 +917,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 */
 	public ErrorCode configRemoteFeedbackFilter(int deviceID, RemoteSensorSource remoteSensorSource, int remoteOrdinal,
 			int timeoutMs) {
-		int retval = MotControllerJNI.ConfigRemoteFeedbackFilter(m_handle, deviceID, remoteSensorSource.value, remoteOrdinal,
+		clearConfigCache();
+		int retval = m_backend.ConfigRemoteFeedbackFilter(m_handle, deviceID, remoteSensorSource.value, remoteOrdinal,
 				timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
@@ -832,7 +956,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSensorTerm(SensorTerm sensorTerm, FeedbackDevice feedbackDevice, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigSensorTerm(m_handle, sensorTerm.value, feedbackDevice.value, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigSensorTerm(m_handle, sensorTerm.value, feedbackDevice.value, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -895,7 +1020,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Position of selected sensor (in raw sensor units).
 	 */
 	public int getSelectedSensorPosition(int pidIdx) {
-		return MotControllerJNI.GetSelectedSensorPosition(m_handle, pidIdx);
+		return m_backend.GetSelectedSensorPosition(m_handle, pidIdx);
 	}
 	/**
 	 * Get the selected sensor position (in raw sensor units).
@@ -916,7 +1041,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * See Phoenix-Documentation for how to interpret.
 	 */
 	public int getSelectedSensorVelocity(int pidIdx) {
-		return MotControllerJNI.GetSelectedSensorVelocity(m_handle, pidIdx);
+		return m_backend.GetSelectedSensorVelocity(m_handle, pidIdx);
 	}
 	/**
 	 * Get the selected sensor velocity.
@@ -943,7 +1068,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setSelectedSensorPosition(int sensorPos, int pidIdx, int timeoutMs) {
-		int retval = MotControllerJNI.SetSelectedSensorPosition(m_handle, sensorPos, pidIdx, timeoutMs);
+		int retval = m_backend.SetSelectedSensorPosition(m_handle, sensorPos, pidIdx, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -970,8 +1095,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setControlFramePeriod(ControlFrame frame, int periodMs) {
-		int retval = MotControllerJNI.SetControlFramePeriod(m_handle, frame.value, periodMs);
-		return ErrorCode.valueOf(retval);
+		return setControlFramePeriod(frame.value, periodMs);
 	}
 
 	/**
@@ -990,10 +1114,41 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setControlFramePeriod(int frame, int periodMs) {
-		int retval = MotControllerJNI.SetControlFramePeriod(m_handle, frame, periodMs);
+		int retval = m_backend.SetControlFramePeriod(m_handle, frame, periodMs);
+		if (retval == ErrorCode.OK.value) {
+			_controlFramePeriods.set(frame, periodMs);
+		}
 		return ErrorCode.valueOf(retval);
 	}
 
+	/**
+	 * Gets the period of the given control frame, as last set through this object.
+	 * The controller does not report control frame periods, so this is what the
+	 * robot API was asked to send.
+	 *
+	 * Control_3_General is sent every 10ms until changed.  Other control frames
+	 * are only sent when a feature uses them and report 0 until their period is set.
+	 * Control_6_MotProfAddTrajPoint reports the period of changeMotionControlFramePeriod().
+	 *
+	 * @param frame
+	 *            Frame to read.
+	 * @return Period in ms of the frame, 0 if not sent periodically.
+	 */
+	public int getControlFramePeriod(int frame) {
+		return _controlFramePeriods.get(frame, (frame == ControlFrame.Control_3_General.value) ? 10 : 0);
+	}
+	/**
+	 * Gets the period of the given control frame, as last set through this object.
+	 * See getControlFramePeriod(int).
+	 *
+	 * @param frame
+	 *            Frame to read.
+	 * @return Period in ms of the frame, 0 if not sent periodically.
+	 */
+	public int getControlFramePeriod(ControlFrame frame) {
+		return getControlFramePeriod(frame.value);
+	}
+
 	/**
 	 * Sets the period of the given status frame.
 	 *
@@ -1014,7 +1169,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setStatusFramePeriod(int frameValue, int periodMs, int timeoutMs) {
-		int retval = MotControllerJNI.SetStatusFramePeriod(m_handle, frameValue, periodMs, timeoutMs);
+		int retval = m_backend.SetStatusFramePeriod(m_handle, frameValue, periodMs, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1079,7 +1234,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Period of the given status frame.
 	 */
 	public int getStatusFramePeriod(int frame, int timeoutMs) {
-		return MotControllerJNI.GetStatusFramePeriod(m_handle, frame, timeoutMs);
+		return m_backend.GetStatusFramePeriod(m_handle, frame, timeoutMs);
 	}
 	/**
 	 * Gets the period of the given status frame.
@@ -1105,7 +1260,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Period of the given status frame.
 	 */
 	public int getStatusFramePeriod(StatusFrame frame, int timeoutMs) {
-		return MotControllerJNI.GetStatusFramePeriod(m_handle, frame.value, timeoutMs);
+		return m_backend.GetStatusFramePeriod(m_handle, frame.value, timeoutMs);
 	}
 	/**
 	 * Gets the period of the given status frame.
@@ -1131,7 +1286,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Period of the given status frame.
 	 */
 	public int getStatusFramePeriod(StatusFrameEnhanced frame, int timeoutMs) {
-		return MotControllerJNI.GetStatusFramePeriod(m_handle, frame.value, timeoutMs);
+		return m_backend.GetStatusFramePeriod(m_handle, frame.value, timeoutMs);
 	}
 	/**
 	 * Gets the period of the given status frame.
@@ -1160,7 +1315,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configVelocityMeasurementPeriod(VelocityMeasPeriod period, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigVelocityMeasurementPeriod(m_handle, period.value, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigVelocityMeasurementPeriod(m_handle, period.value, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1191,7 +1347,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configVelocityMeasurementWindow(int windowSize, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigVelocityMeasurementWindow(m_handle, windowSize, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigVelocityMeasurementWindow(m_handle, windowSize, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1275,7 +1432,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 */
 	public ErrorCode configReverseLimitSwitchSource(RemoteLimitSwitchSource type, LimitSwitchNormal normalOpenOrClose,
 			int deviceID, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigReverseLimitSwitchSource(m_handle, type.value, normalOpenOrClose.value,
+		clearConfigCache();
+		int retval = m_backend.ConfigReverseLimitSwitchSource(m_handle, type.value, normalOpenOrClose.value,
 				deviceID, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
@@ -1375,7 +1533,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 */
 	protected ErrorCode configForwardLimitSwitchSource(int typeValue, int normalOpenOrCloseValue, int deviceID,
 			int timeoutMs) {
-		int retval = MotControllerJNI.ConfigForwardLimitSwitchSource(m_handle, typeValue, normalOpenOrCloseValue,
+		clearConfigCache();
+		int retval = m_backend.ConfigForwardLimitSwitchSource(m_handle, typeValue, normalOpenOrCloseValue,
 				deviceID, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
@@ -1406,7 +1565,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 */
 	protected ErrorCode configReverseLimitSwitchSource(int typeValue, int normalOpenOrCloseValue, int deviceID,
 			int timeoutMs) {
-		int retval = MotControllerJNI.ConfigReverseLimitSwitchSource(m_handle, typeValue, normalOpenOrCloseValue,
+		clearConfigCache();
+		int retval = m_backend.ConfigReverseLimitSwitchSource(m_handle, typeValue, normalOpenOrCloseValue,
 				deviceID, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
@@ -1418,7 +1578,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 *            Enable state for limit switches.
 	 **/
 	public void overrideLimitSwitchesEnable(boolean enable) {
-		MotControllerJNI.OverrideLimitSwitchesEnable(m_handle, enable);
+		m_backend.OverrideLimitSwitchesEnable(m_handle, enable);
 	}
 
 	// ------ soft limit ----------//
@@ -1434,7 +1594,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configForwardSoftLimitThreshold(int forwardSensorLimit, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigForwardSoftLimitThreshold(m_handle, forwardSensorLimit, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigForwardSoftLimitThreshold(m_handle, forwardSensorLimit, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1461,7 +1622,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configReverseSoftLimitThreshold(int reverseSensorLimit, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigReverseSoftLimitThreshold(m_handle, reverseSensorLimit, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigReverseSoftLimitThreshold(m_handle, reverseSensorLimit, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1488,7 +1650,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configForwardSoftLimitEnable(boolean enable, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigForwardSoftLimitEnable(m_handle, enable, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigForwardSoftLimitEnable(m_handle, enable, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1515,7 +1678,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configReverseSoftLimitEnable(boolean enable, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigReverseSoftLimitEnable(m_handle, enable, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigReverseSoftLimitEnable(m_handle, enable, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1539,7 +1703,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 *            Enable state for soft limit switches.
 	 */
 	public void overrideSoftLimitsEnable(boolean enable) {
-		MotControllerJNI.OverrideSoftLimitsEnable(m_handle, enable);
+		m_backend.OverrideSoftLimitsEnable(m_handle, enable);
 	}
 
 	// ------ Current Lim ----------//
@@ -1563,7 +1727,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode config_kP(int slotIdx, double value, int timeoutMs) {
-		int retval = MotControllerJNI.Config_kP(m_handle, slotIdx,  value, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.Config_kP(m_handle, slotIdx,  value, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1601,7 +1766,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode config_kI(int slotIdx, double value, int timeoutMs) {
-		int retval = MotControllerJNI.Config_kI(m_handle, slotIdx,  value, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.Config_kI(m_handle, slotIdx,  value, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1641,7 +1807,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode config_kD(int slotIdx, double value, int timeoutMs) {
-		int retval = MotControllerJNI.Config_kD(m_handle, slotIdx,  value, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.Config_kD(m_handle, slotIdx,  value, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1680,7 +1847,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode config_kF(int slotIdx, double value, int timeoutMs) {
-		int retval = MotControllerJNI.Config_kF(m_handle, slotIdx,  value, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.Config_kF(m_handle, slotIdx,  value, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1719,7 +1887,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode config_IntegralZone(int slotIdx, int izone, int timeoutMs) {
-		int retval = MotControllerJNI.Config_IntegralZone(m_handle, slotIdx,  izone, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.Config_IntegralZone(m_handle, slotIdx,  izone, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1754,7 +1923,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configAllowableClosedloopError(int slotIdx, int allowableClosedLoopError, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigAllowableClosedloopError(m_handle, slotIdx, allowableClosedLoopError,
+		clearConfigCache();
+		int retval = m_backend.ConfigAllowableClosedloopError(m_handle, slotIdx, allowableClosedLoopError,
 				timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
@@ -1788,7 +1958,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configMaxIntegralAccumulator(int slotIdx, double iaccum, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigMaxIntegralAccumulator(m_handle, slotIdx, iaccum, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigMaxIntegralAccumulator(m_handle, slotIdx, iaccum, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1823,7 +1994,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configClosedLoopPeakOutput(int slotIdx, double percentOut, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigClosedLoopPeakOutput(m_handle, slotIdx, percentOut, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigClosedLoopPeakOutput(m_handle, slotIdx, percentOut, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1860,7 +2032,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
   	public ErrorCode configClosedLoopPeriod(int slotIdx, int loopTimeMs, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigClosedLoopPeriod(m_handle, slotIdx, loopTimeMs, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigClosedLoopPeriod(m_handle, slotIdx, loopTimeMs, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1938,7 +2111,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setIntegralAccumulator(double iaccum, int pidIdx, int timeoutMs) {
-		int retval = MotControllerJNI.SetIntegralAccumulator(m_handle,  iaccum, pidIdx, timeoutMs);
+		int retval = m_backend.SetIntegralAccumulator(m_handle,  iaccum, pidIdx, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1977,7 +2150,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Closed-loop error value.
 	 */
 	public int getClosedLoopError(int pidIdx) {
-		return MotControllerJNI.GetClosedLoopError(m_handle, pidIdx);
+		return m_backend.GetClosedLoopError(m_handle, pidIdx);
 	}
 	/**
 	 * Gets the closed-loop error. The units depend on which control mode is in
@@ -2009,7 +2182,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Integral accumulator value (Closed-loop error X 1ms).
 	 */
 	public double getIntegralAccumulator(int pidIdx) {
-		return MotControllerJNI.GetIntegralAccumulator(m_handle, pidIdx);
+		return m_backend.GetIntegralAccumulator(m_handle, pidIdx);
 	}
 	/**
 	 * Gets the iaccum value.
@@ -2030,7 +2203,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return The error derivative value.
 	 */
 	public double getErrorDerivative(int pidIdx) {
-		return MotControllerJNI.GetErrorDerivative(m_handle, pidIdx);
+		return m_backend.GetErrorDerivative(m_handle, pidIdx);
 	}
 	/**
 	 * Gets the derivative of the closed-loop error.
@@ -2052,7 +2225,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 *            0 for Primary closed-loop. 1 for auxiliary closed-loop.
 	 **/
 	public void selectProfileSlot(int slotIdx, int pidIdx) {
-		MotControllerJNI.SelectProfileSlot(m_handle, slotIdx, pidIdx);
+		m_backend.SelectProfileSlot(m_handle, slotIdx, pidIdx);
 	}
 
 	/**
@@ -2063,7 +2236,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return The closed loop target.
 	 */
 	public double getClosedLoopTarget(int pidIdx) {
-		double value = MotControllerJNI.GetClosedLoopTarget(m_handle, pidIdx);
+		double value = m_backend.GetClosedLoopTarget(m_handle, pidIdx);
 		if(m_controlMode == ControlMode.Current){
 			value = value / 1000; //convert back to amps
 		}
@@ -2086,7 +2259,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return The Active Trajectory Position in sensor units.
 	 */
 	public int getActiveTrajectoryPosition() {
-		return MotControllerJNI.GetActiveTrajectoryPosition(m_handle);
+		return m_backend.GetActiveTrajectoryPosition(m_handle);
 	}
 
 	/**
@@ -2098,7 +2271,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return The Active Trajectory Position in sensor units.
 	 */
 	public int getActiveTrajectoryPosition(int pidIdx) {
-		return MotControllerJNI.GetActiveTrajectoryPosition3(m_handle, pidIdx);
+		return m_backend.GetActiveTrajectoryPosition3(m_handle, pidIdx);
 	}
 
 	/**
@@ -2108,7 +2281,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return The Active Trajectory Velocity in sensor units per 100ms.
 	 */
 	public int getActiveTrajectoryVelocity() {
-		return MotControllerJNI.GetActiveTrajectoryVelocity(m_handle);
+		return m_backend.GetActiveTrajectoryVelocity(m_handle);
 	}
 
 	/**
@@ -2120,7 +2293,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return The Active Trajectory Velocity in sensor units per 100ms.
 	 */
 	public int getActiveTrajectoryVelocity(int pidIdx) {
-		return MotControllerJNI.GetActiveTrajectoryVelocity3(m_handle, pidIdx);
+		return m_backend.GetActiveTrajectoryVelocity3(m_handle, pidIdx);
 	}
 
 	/**
@@ -2132,7 +2305,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 */
 	@Deprecated
 	public double getActiveTrajectoryHeading() {
-		return MotControllerJNI.GetActiveTrajectoryHeading(m_handle);
+		return m_backend.GetActiveTrajectoryHeading(m_handle);
 	}
 
 	/**
@@ -2143,7 +2316,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * 			(where 0.01 is 1%).
 	 */
 	public double getActiveTrajectoryArbFeedFwd() {
-		return MotControllerJNI.GetActiveTrajectoryArbFeedFwd3(m_handle, 0);
+		return m_backend.GetActiveTrajectoryArbFeedFwd3(m_handle, 0);
 	}
 
 	/**
@@ -2156,7 +2329,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * 			(where 0.01 is 1%).
 	 */
 	public double getActiveTrajectoryArbFeedFwd(int pidIdx) {
-		return MotControllerJNI.GetActiveTrajectoryArbFeedFwd3(m_handle, pidIdx);
+		return m_backend.GetActiveTrajectoryArbFeedFwd3(m_handle, pidIdx);
 	}
 
 	// ------ Motion Profile Settings used in Motion Magic and Motion Profile ----------//
@@ -2174,7 +2347,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configMotionCruiseVelocity(int sensorUnitsPer100ms, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigMotionCruiseVelocity(m_handle, sensorUnitsPer100ms, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigMotionCruiseVelocity(m_handle, sensorUnitsPer100ms, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -2204,7 +2378,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configMotionAcceleration(int sensorUnitsPer100msPerSec, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigMotionAcceleration(m_handle, sensorUnitsPer100msPerSec, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigMotionAcceleration(m_handle, sensorUnitsPer100msPerSec, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -2235,7 +2410,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configMotionSCurveStrength(int curveStrength, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigMotionSCurveStrength(m_handle, curveStrength, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigMotionSCurveStrength(m_handle, curveStrength, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -2260,7 +2436,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode clearMotionProfileTrajectories() {
-		int retval = MotControllerJNI.ClearMotionProfileTrajectories(m_handle);
+		int retval = m_backend.ClearMotionProfileTrajectories(m_handle);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -2273,7 +2449,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return number of trajectory points in the top buffer.
 	 */
 	public int getMotionProfileTopLevelBufferCount() {
-		return MotControllerJNI.GetMotionProfileTopLevelBufferCount(m_handle);
+		return m_backend.GetMotionProfileTopLevelBufferCount(m_handle);
 	}
 	/**
 	 * Push another trajectory point into the top level buffer (which is emptied
@@ -2310,9 +2486,76 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 *         full due to kMotionProfileTopBufferCapacity.
 	 */
 	public ErrorCode pushMotionProfileTrajectory(TrajectoryPoint trajPt) {
-		int retval = MotControllerJNI.PushMotionProfileTrajectory3(m_handle, trajPt.position, trajPt.velocity, trajPt.arbFeedFwd, trajPt.auxiliaryPos, trajPt.auxiliaryVel, trajPt.auxiliaryArbFeedFwd, trajPt.profileSlotSelect0, trajPt.profileSlotSelect1, trajPt.isLastPoint, trajPt.zeroPos, trajPt.timeDur, trajPt.useAuxPID);
+		int retval = m_backend.PushMotionProfileTrajectory3(m_handle, trajPt.position, trajPt.velocity, trajPt.arbFeedFwd, trajPt.auxiliaryPos, trajPt.auxiliaryVel, trajPt.auxiliaryArbFeedFwd, trajPt.profileSlotSelect0, trajPt.profileSlotSelect1, trajPt.isLastPoint, trajPt.zeroPos, trajPt.timeDur, trajPt.useAuxPID);
+		return ErrorCode.valueOf(retval);
+	}
+	/**
+	 * Push another trajectory point into the top level buffer from primitive members,
+	 * so streaming callers need not create a TrajectoryPoint.
+	 * See pushMotionProfileTrajectory(TrajectoryPoint) for the meaning of each member.
+	 * @return CTR_OKAY if trajectory point push ok. ErrorCode if buffer is
+	 *         full due to kMotionProfileTopBufferCapacity.
+	 */
+	public ErrorCode pushMotionProfileTrajectory(double position, double velocity, double arbFeedFwd,
+			double auxiliaryPos, double auxiliaryVel, double auxiliaryArbFeedFwd,
+			int profileSlotSelect0, int profileSlotSelect1,
+			boolean isLastPoint, boolean zeroPos, int timeDur, boolean useAuxPID) {
+		int retval = m_backend.PushMotionProfileTrajectory3(m_handle, position, velocity, arbFeedFwd, auxiliaryPos,
+				auxiliaryVel, auxiliaryArbFeedFwd, profileSlotSelect0, profileSlotSelect1, isLastPoint, zeroPos,
+				timeDur, useAuxPID);
 		return ErrorCode.valueOf(retval);
 	}
+	/**
+	 * Push a range of packed trajectory points into the top level buffer.
+	 * No TrajectoryPoint objects are created, so large profiles can be streamed
+	 * without generating garbage.  See pushMotionProfileTrajectory(TrajectoryPoint)
+	 * for the meaning of each point member.
+	 *
+	 * Pushing stops at the first failure (typically because the top buffer is full),
+	 * so caller can resume from the returned count later.
+	 *
+	 * CTRE_PhoenixCCI has no bulk entry point, so this still makes one native call per
+	 * point, the same as pushing each point with pushMotionProfileTrajectory.  What it saves
+	 * is the TrajectoryPoint garbage, not JNI transitions.
+	 *
+	 * @param trajPts	Packed trajectory points to push.
+	 * @param startIdx	Index of first point to push.
+	 * @param count		Number of points to push.  This is capped against the buffer size.
+	 * @return Number of points pushed.
+	 */
+	public int pushMotionProfileTrajectories(TrajectoryPointBuffer trajPts, int startIdx, int count) {
+		int endIdx = startIdx + count;
+		if (endIdx > trajPts.size()) { endIdx = trajPts.size(); }
+
+		int idx = startIdx;
+		for (; idx < endIdx; ++idx) {
+			int retval = m_backend.PushMotionProfileTrajectory3(m_handle,
+					trajPts.getPosition(idx),
+					trajPts.getVelocity(idx),
+					trajPts.getArbFeedFwd(idx),
+					trajPts.getAuxiliaryPos(idx),
+					trajPts.getAuxiliaryVel(idx),
+					trajPts.getAuxiliaryArbFeedFwd(idx),
+					trajPts.getProfileSlotSelect0(idx),
+					trajPts.getProfileSlotSelect1(idx),
+					trajPts.isLastPoint(idx),
+					trajPts.isZeroPos(idx),
+					trajPts.getTimeDur(idx),
+					trajPts.isUseAuxPID(idx));
+			if (retval != ErrorCode.OK.value) {
+				break;
+			}
+		}
+		return idx - startIdx;
+	}
+	/**
+	 * Push all packed trajectory points into the top level buffer.
+	 * @param trajPts	Packed trajectory points to push.
+	 * @return Number of points pushed.
+	 */
+	public int pushMotionProfileTrajectories(TrajectoryPointBuffer trajPts) {
+		return pushMotionProfileTrajectories(trajPts, 0, trajPts.size());
+	}
 
 	/**
 	 * Simple one-shot firing of a complete MP.
@@ -2344,7 +2587,9 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return nonzero error code if operation fails.
      */
 	public ErrorCode startMotionProfile(BufferedTrajectoryPointStream stream, int minBufferedPts, ControlMode motionProfControlMode) {
-		int retval = MotControllerJNI.StartMotionProfile(m_handle, stream.getHandle(), minBufferedPts, motionProfControlMode.value);
+		/* motor controller applies its own control mode, so next set() must be sent */
+		_demandCacheValid = false;
+		int retval = m_backend.StartMotionProfile(m_handle, stream.getHandle(), minBufferedPts, motionProfControlMode.value);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -2358,7 +2603,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return true if MP was started using StartMotionProfile, and it has completed execution (MPE is now in "hold").
 	 */
 	public boolean isMotionProfileFinished() {
-		return MotControllerJNI.IsMotionProfileFinished(m_handle);
+		return m_backend.IsMotionProfileFinished(m_handle);
 	}
 
 	/**
@@ -2370,7 +2615,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return number of trajectory points in the top buffer.
 	 */
 	public boolean isMotionProfileTopLevelBufferFull() {
-		return MotControllerJNI.IsMotionProfileTopLevelBufferFull(m_handle);
+		return m_backend.IsMotionProfileTopLevelBufferFull(m_handle);
 	}
 
 	/**
@@ -2383,7 +2628,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * utilize threading.
 	 */
 	public void processMotionProfileBuffer() {
-		MotControllerJNI.ProcessMotionProfileBuffer(m_handle);
+		m_backend.ProcessMotionProfileBuffer(m_handle);
 	}
 	/**
 	 * Retrieve all status information.
@@ -2431,7 +2676,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode getMotionProfileStatus(MotionProfileStatus statusToFill) {
-		int retval = MotControllerJNI.GetMotionProfileStatus2(m_handle, _motionProfStats);
+		int retval = m_backend.GetMotionProfileStatus2(m_handle, _motionProfStats);
 		statusToFill.topBufferRem = _motionProfStats[0];
 		statusToFill.topBufferCnt = _motionProfStats[1];
 		statusToFill.btmBufferCnt = _motionProfStats[2];
@@ -2445,6 +2690,23 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 		statusToFill.profileSlotSelect1 = _motionProfStats[10];
 		return ErrorCode.valueOf(retval);
 	}
+	/**
+	 * Get the raw motion profile status without decoding it, so it can be polled
+	 * without generating garbage.  The array holds the members of MotionProfileStatus
+	 * in declaration order, booleans as 0 or 1 and outputEnable as SetValueMotionProfile.value.
+	 * See MotionProfileStatusView for decoding and change notification.
+	 *
+	 * @param statusToFill Array of at least MotionProfileStatusView.RAW_LENGTH ints to fill
+	 * @return Error Code generated by function. 0 indicates no error.
+	 *         InvalidParamValue, without reading the status, if the array is too short.
+	 */
+	public ErrorCode getMotionProfileStatus(int[] statusToFill) {
+		if (statusToFill == null || statusToFill.length < MotionProfileStatusView.RAW_LENGTH) {
+			return ErrorCode.InvalidParamValue;
+		}
+		int retval = m_backend.GetMotionProfileStatus2(m_handle, statusToFill);
+		return ErrorCode.valueOf(retval);
+	}
 
 	/**
 	 * Clear the "Has Underrun" flag. Typically this is called after application
@@ -2457,7 +2719,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode clearMotionProfileHasUnderrun(int timeoutMs) {
-		int retval = MotControllerJNI.ClearMotionProfileHasUnderrun(m_handle, timeoutMs);
+		int retval = m_backend.ClearMotionProfileHasUnderrun(m_handle, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -2482,7 +2744,10 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode changeMotionControlFramePeriod(int periodMs) {
-		int retval = MotControllerJNI.ChangeMotionControlFramePeriod(m_handle, periodMs);
+		int retval = m_backend.ChangeMotionControlFramePeriod(m_handle, periodMs);
+		if (retval == ErrorCode.OK.value) {
+			_controlFramePeriods.set(ControlFrame.Control_6_MotProfAddTrajPoint.value, periodMs);
+		}
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -2502,7 +2767,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configMotionProfileTrajectoryPeriod(int baseTrajDurationMs, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigMotionProfileTrajectoryPeriod(m_handle, baseTrajDurationMs, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigMotionProfileTrajectoryPeriod(m_handle, baseTrajDurationMs, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -2536,7 +2802,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configMotionProfileTrajectoryInterpolationEnable(boolean enable, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigMotionProfileTrajectoryInterpolationEnable(m_handle, enable, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigMotionProfileTrajectoryInterpolationEnable(m_handle, enable, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -2574,7 +2841,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configFeedbackNotContinuous(boolean feedbackNotContinuous, int timeoutMs) {
-        int retval = MotControllerJNI.ConfigFeedbackNotContinuous(m_handle, feedbackNotContinuous, timeoutMs);
+        clearConfigCache();
+        int retval = m_backend.ConfigFeedbackNotContinuous(m_handle, feedbackNotContinuous, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     
@@ -2590,7 +2858,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configRemoteSensorClosedLoopDisableNeutralOnLOS(boolean remoteSensorClosedLoopDisableNeutralOnLOS, int timeoutMs) {
-        int retval = MotControllerJNI.ConfigRemoteSensorClosedLoopDisableNeutralOnLOS(m_handle, remoteSensorClosedLoopDisableNeutralOnLOS, timeoutMs);
+        clearConfigCache();
+        int retval = m_backend.ConfigRemoteSensorClosedLoopDisableNeutralOnLOS(m_handle, remoteSensorClosedLoopDisableNeutralOnLOS, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     /**
@@ -2605,7 +2874,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configClearPositionOnLimitF(boolean clearPositionOnLimitF, int timeoutMs) {
-        int retval = MotControllerJNI.ConfigClearPositionOnLimitF(m_handle, clearPositionOnLimitF, timeoutMs);
+        clearConfigCache();
+        int retval = m_backend.ConfigClearPositionOnLimitF(m_handle, clearPositionOnLimitF, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     
@@ -2621,7 +2891,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configClearPositionOnLimitR(boolean clearPositionOnLimitR, int timeoutMs) {
-        int retval = MotControllerJNI.ConfigClearPositionOnLimitR(m_handle, clearPositionOnLimitR, timeoutMs);
+        clearConfigCache();
+        int retval = m_backend.ConfigClearPositionOnLimitR(m_handle, clearPositionOnLimitR, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     
@@ -2637,7 +2908,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configClearPositionOnQuadIdx(boolean clearPositionOnQuadIdx, int timeoutMs) {
-        int retval = MotControllerJNI.ConfigClearPositionOnQuadIdx(m_handle, clearPositionOnQuadIdx, timeoutMs);
+        clearConfigCache();
+        int retval = m_backend.ConfigClearPositionOnQuadIdx(m_handle, clearPositionOnQuadIdx, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     
@@ -2653,7 +2925,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configLimitSwitchDisableNeutralOnLOS(boolean limitSwitchDisableNeutralOnLOS, int timeoutMs) {
-        int retval = MotControllerJNI.ConfigLimitSwitchDisableNeutralOnLOS(m_handle, limitSwitchDisableNeutralOnLOS, timeoutMs);
+        clearConfigCache();
+        int retval = m_backend.ConfigLimitSwitchDisableNeutralOnLOS(m_handle, limitSwitchDisableNeutralOnLOS, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     
@@ -2669,7 +2942,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configSoftLimitDisableNeutralOnLOS(boolean softLimitDisableNeutralOnLOS, int timeoutMs) {
-        int retval = MotControllerJNI.ConfigSoftLimitDisableNeutralOnLOS(m_handle, softLimitDisableNeutralOnLOS, timeoutMs);
+        clearConfigCache();
+        int retval = m_backend.ConfigSoftLimitDisableNeutralOnLOS(m_handle, softLimitDisableNeutralOnLOS, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     
@@ -2686,7 +2960,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configPulseWidthPeriod_EdgesPerRot(int pulseWidthPeriod_EdgesPerRot, int timeoutMs) {
-        int retval = MotControllerJNI.ConfigPulseWidthPeriod_EdgesPerRot(m_handle, pulseWidthPeriod_EdgesPerRot, timeoutMs);
+        clearConfigCache();
+        int retval = m_backend.ConfigPulseWidthPeriod_EdgesPerRot(m_handle, pulseWidthPeriod_EdgesPerRot, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
     
@@ -2703,7 +2978,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error.
      */
     public ErrorCode configPulseWidthPeriod_FilterWindowSz(int pulseWidthPeriod_FilterWindowSz, int timeoutMs) {
-        int retval = MotControllerJNI.ConfigPulseWidthPeriod_FilterWindowSz(m_handle, pulseWidthPeriod_FilterWindowSz, timeoutMs);
+        clearConfigCache();
+        int retval = m_backend.ConfigPulseWidthPeriod_FilterWindowSz(m_handle, pulseWidthPeriod_FilterWindowSz, timeoutMs);
         return ErrorCode.valueOf(retval);
     }
 	// ------ error ----------//
@@ -2715,7 +2991,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Last Error Code generated by a function.
 	 */
 	public ErrorCode getLastError() {
-		int retval = MotControllerJNI.GetLastError(m_handle);
+		int retval = m_backend.GetLastError(m_handle);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -2728,7 +3004,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Last Error Code generated by a function.
 	 */
 	public ErrorCode getFaults(Faults toFill) {
-		int bits = MotControllerJNI.GetFaults(m_handle);
+		int bits = m_backend.GetFaults(m_handle);
 		toFill.update(bits);
 		return getLastError();
 	}
@@ -2741,11 +3017,31 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Last Error Code generated by a function.
 	 */
 	public ErrorCode getStickyFaults(StickyFaults toFill) {
-		int bits = MotControllerJNI.GetStickyFaults(m_handle);
+		int bits = m_backend.GetStickyFaults(m_handle);
 		toFill.update(bits);
 		return getLastError();
 	}
 
+	/**
+	 * Polls the fault flags as a bit field, see {@link Faults#update(int)}.
+	 * Unlike getFaults(), this does not fill an object or fetch the last error,
+	 * so it is suited to scanning many motor controllers every loop.
+	 *
+	 * @return Fault flags as a bit field.
+	 */
+	public int getFaultBits() {
+		return m_backend.GetFaults(m_handle);
+	}
+
+	/**
+	 * Polls the sticky fault flags as a bit field, see {@link StickyFaults#update(int)}.
+	 *
+	 * @return Sticky fault flags as a bit field.
+	 */
+	public int getStickyFaultBits() {
+		return m_backend.GetStickyFaults(m_handle);
+	}
+
 	/**
 	 * Clears all sticky faults.
 	 *
@@ -2756,7 +3052,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Last Error Code generated by a function.
 	 */
 	public ErrorCode clearStickyFaults(int timeoutMs) {
-		int retval = MotControllerJNI.ClearStickyFaults(m_handle, timeoutMs);
+		int retval = m_backend.ClearStickyFaults(m_handle, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -2777,7 +3073,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 *         0x0102.
 	 */
 	public int getFirmwareVersion() {
-		return MotControllerJNI.GetFirmwareVersion(m_handle);
+		return m_backend.GetFirmwareVersion(m_handle);
 	}
 
 	/**
@@ -2786,7 +3082,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Has a Device Reset Occurred?
 	 */
 	public boolean hasResetOccurred() {
-		return MotControllerJNI.HasResetOccurred(m_handle);
+		return m_backend.HasResetOccurred(m_handle);
 	}
 
 	//------ Custom Persistent Params ----------//
@@ -2808,7 +3104,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSetCustomParam(int newValue, int paramIndex, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigSetCustomParam(m_handle, newValue, paramIndex, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigSetCustomParam(m_handle, newValue, paramIndex, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -2841,7 +3138,7 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Value of the custom param.
 	 */
 	public int configGetCustomParam(int paramIndex, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigGetCustomParam(m_handle, paramIndex, timeoutMs);
+		int retval = m_backend.ConfigGetCustomParam(m_handle, paramIndex, timeoutMs);
 		return retval;
 	}
 	/**
@@ -2918,7 +3215,8 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSetParameter(int param, double value, int subValue, int ordinal, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigSetParameter(m_handle, param,  value, subValue, ordinal,
+		clearConfigCache();
+		int retval = m_backend.ConfigSetParameter(m_handle, param,  value, subValue, ordinal,
 				timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
@@ -2982,7 +3280,11 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
 	 * @return Value of parameter.
 	 */
 	public double configGetParameter(int param, int ordinal, int timeoutMs) {
-		return MotControllerJNI.ConfigGetParameter(m_handle, param, ordinal, timeoutMs);
+		double value = m_backend.ConfigGetParameter(m_handle, param, ordinal, timeoutMs);
+		if (_configReadTracking && _configReadError == ErrorCode.OK) {
+			_configReadError = getLastError();
+		}
+		return value;
 	}
 	/**
 	 * Gets a parameter.
@@ -3076,82 +3378,197 @@ public abstract class BaseMotorController implements com.ctre.phoenix.motorcontr
      * @return Error Code generated by function. 0 indicates no error. 
      */
     protected ErrorCode baseConfigAllSettings(BaseMotorControllerConfiguration allConfigs, int timeoutMs) {
+        return baseConfigAllSettings(allConfigs, null, timeoutMs);
+    }
+
+    /**
+     * Configures all base persistant settings, sending only the settings that differ
+     * from the last known device configuration.
+     *
+	 * @param allConfigs        Object with all of the base persistant settings
+	 * @param lastKnown         Last known configuration of the device.  If null, the device is
+	 *                          factory defaulted first and settings are compared against the defaults.
+     * @param timeoutMs
+     *              Timeout value in ms. If nonzero, function will wait for
+     *              config success and report an error if it times out.
+     *              If zero, no blocking or checking is performed.
+     *
+     * @return Error Code generated by function. 0 indicates no error. 
+     */
+    protected ErrorCode baseConfigAllSettings(BaseMotorControllerConfiguration allConfigs, BaseMotorControllerConfiguration lastKnown, int timeoutMs) {
         
     
         ErrorCollection errorCollection = new ErrorCollection();
     
-        errorCollection.NewError(configFactoryDefault(timeoutMs));
+        BaseMotorControllerConfiguration reference = lastKnown;
+        if (reference == null) {
+            errorCollection.NewError(configFactoryDefault(timeoutMs));
+            reference = BaseMotorControllerUtil.getDefault();
+        }
 		
-        if(BaseMotorControllerUtil.openloopRampDifferent(allConfigs)) errorCollection.NewError(configOpenloopRamp(allConfigs.openloopRamp, timeoutMs));
-		if(BaseMotorControllerUtil.closedloopRampDifferent(allConfigs)) errorCollection.NewError(configClosedloopRamp(allConfigs.closedloopRamp, timeoutMs));
-		if(BaseMotorControllerUtil.peakOutputForwardDifferent(allConfigs)) errorCollection.NewError(configPeakOutputForward(allConfigs.peakOutputForward, timeoutMs));
-		if(BaseMotorControllerUtil.peakOutputReverseDifferent(allConfigs)) errorCollection.NewError(configPeakOutputReverse(allConfigs.peakOutputReverse, timeoutMs));
-		if(BaseMotorControllerUtil.nominalOutputForwardDifferent(allConfigs)) errorCollection.NewError(configNominalOutputForward(allConfigs.nominalOutputForward, timeoutMs));
-		if(BaseMotorControllerUtil.nominalOutputReverseDifferent(allConfigs)) errorCollection.NewError(configNominalOutputReverse(allConfigs.nominalOutputReverse, timeoutMs));
-		if(BaseMotorControllerUtil.neutralDeadbandDifferent(allConfigs)) errorCollection.NewError(configNeutralDeadband(allConfigs.neutralDeadband, timeoutMs));
-		if(BaseMotorControllerUtil.voltageCompSaturationDifferent(allConfigs)) errorCollection.NewError(configVoltageCompSaturation(allConfigs.voltageCompSaturation, timeoutMs));
-		if(BaseMotorControllerUtil.voltageMeasurementFilterDifferent(allConfigs)) errorCollection.NewError(configVoltageMeasurementFilter(allConfigs.voltageMeasurementFilter, timeoutMs));
-		if(BaseMotorControllerUtil.velocityMeasurementPeriodDifferent(allConfigs)) errorCollection.NewError(configVelocityMeasurementPeriod(allConfigs.velocityMeasurementPeriod, timeoutMs));
-		if(BaseMotorControllerUtil.velocityMeasurementWindowDifferent(allConfigs)) errorCollection.NewError(configVelocityMeasurementWindow(allConfigs.velocityMeasurementWindow, timeoutMs));
-		if(BaseMotorControllerUtil.forwardSoftLimitThresholdDifferent(allConfigs)) errorCollection.NewError(configForwardSoftLimitThreshold(allConfigs.forwardSoftLimitThreshold, timeoutMs));
-		if(BaseMotorControllerUtil.reverseSoftLimitThresholdDifferent(allConfigs)) errorCollection.NewError(configReverseSoftLimitThreshold(allConfigs.reverseSoftLimitThreshold, timeoutMs));
-		if(BaseMotorControllerUtil.forwardSoftLimitEnableDifferent(allConfigs)) errorCollection.NewError(configForwardSoftLimitEnable(allConfigs.forwardSoftLimitEnable, timeoutMs));
-		if(BaseMotorControllerUtil.reverseSoftLimitEnableDifferent(allConfigs)) errorCollection.NewError(configReverseSoftLimitEnable(allConfigs.reverseSoftLimitEnable, timeoutMs));
-		if(BaseMotorControllerUtil.auxPIDPolarityDifferent(allConfigs)) errorCollection.NewError(configAuxPIDPolarity(allConfigs.auxPIDPolarity, timeoutMs));
-		if(BaseMotorControllerUtil.motionCruiseVelocityDifferent(allConfigs)) errorCollection.NewError(configMotionCruiseVelocity(allConfigs.motionCruiseVelocity, timeoutMs));
-		if(BaseMotorControllerUtil.motionAccelerationDifferent(allConfigs)) errorCollection.NewError(configMotionAcceleration(allConfigs.motionAcceleration, timeoutMs));
-		if(BaseMotorControllerUtil.motionSCurveStrength(allConfigs)) errorCollection.NewError(configMotionSCurveStrength(allConfigs.motionCurveStrength, timeoutMs));
-		if(BaseMotorControllerUtil.motionProfileTrajectoryPeriodDifferent(allConfigs)) errorCollection.NewError(configMotionProfileTrajectoryPeriod(allConfigs.motionProfileTrajectoryPeriod, timeoutMs));
-		if(BaseMotorControllerUtil.feedbackNotContinuousDifferent(allConfigs)) errorCollection.NewError(configFeedbackNotContinuous(allConfigs.feedbackNotContinuous, timeoutMs));
-		if(BaseMotorControllerUtil.remoteSensorClosedLoopDisableNeutralOnLOSDifferent(allConfigs)) errorCollection.NewError(configRemoteSensorClosedLoopDisableNeutralOnLOS(allConfigs.remoteSensorClosedLoopDisableNeutralOnLOS, timeoutMs));
-		if(BaseMotorControllerUtil.clearPositionOnLimitFDifferent(allConfigs)) errorCollection.NewError(configClearPositionOnLimitF(allConfigs.clearPositionOnLimitF, timeoutMs));
-		if(BaseMotorControllerUtil.clearPositionOnLimitRDifferent(allConfigs)) errorCollection.NewError(configClearPositionOnLimitR(allConfigs.clearPositionOnLimitR, timeoutMs));
-		if(BaseMotorControllerUtil.clearPositionOnQuadIdxDifferent(allConfigs)) errorCollection.NewError(configClearPositionOnQuadIdx(allConfigs.clearPositionOnQuadIdx, timeoutMs));
-		if(BaseMotorControllerUtil.limitSwitchDisableNeutralOnLOSDifferent(allConfigs)) errorCollection.NewError(configLimitSwitchDisableNeutralOnLOS(allConfigs.limitSwitchDisableNeutralOnLOS, timeoutMs));
-		if(BaseMotorControllerUtil.softLimitDisableNeutralOnLOSDifferent(allConfigs)) errorCollection.NewError(configSoftLimitDisableNeutralOnLOS(allConfigs.softLimitDisableNeutralOnLOS, timeoutMs));
-		if(BaseMotorControllerUtil.pulseWidthPeriod_EdgesPerRotDifferent(allConfigs)) errorCollection.NewError(configPulseWidthPeriod_EdgesPerRot(allConfigs.pulseWidthPeriod_EdgesPerRot, timeoutMs));
-		if(BaseMotorControllerUtil.pulseWidthPeriod_FilterWindowSzDifferent(allConfigs)) errorCollection.NewError(configPulseWidthPeriod_FilterWindowSz(allConfigs.pulseWidthPeriod_FilterWindowSz, timeoutMs));
-		if(BaseMotorControllerUtil.trajectoryInterpolationEnableDifferent(allConfigs)) errorCollection.NewError(configMotionProfileTrajectoryInterpolationEnable(allConfigs.trajectoryInterpolationEnable, timeoutMs));
+        if(BaseMotorControllerUtil.openloopRampDifferent(allConfigs, reference)) errorCollection.NewError(configOpenloopRamp(allConfigs.openloopRamp, timeoutMs));
+		if(BaseMotorControllerUtil.closedloopRampDifferent(allConfigs, reference)) errorCollection.NewError(configClosedloopRamp(allConfigs.closedloopRamp, timeoutMs));
+		if(BaseMotorControllerUtil.peakOutputForwardDifferent(allConfigs, reference)) errorCollection.NewError(configPeakOutputForward(allConfigs.peakOutputForward, timeoutMs));
+		if(BaseMotorControllerUtil.peakOutputReverseDifferent(allConfigs, reference)) errorCollection.NewError(configPeakOutputReverse(allConfigs.peakOutputReverse, timeoutMs));
+		if(BaseMotorControllerUtil.nominalOutputForwardDifferent(allConfigs, reference)) errorCollection.NewError(configNominalOutputForward(allConfigs.nominalOutputForward, timeoutMs));
+		if(BaseMotorControllerUtil.nominalOutputReverseDifferent(allConfigs, reference)) errorCollection.NewError(configNominalOutputReverse(allConfigs.nominalOutputReverse, timeoutMs));
+		if(BaseMotorControllerUtil.neutralDeadbandDifferent(allConfigs, reference)) errorCollection.NewError(configNeutralDeadband(allConfigs.neutralDeadband, timeoutMs));
+		if(BaseMotorControllerUtil.voltageCompSaturationDifferent(allConfigs, reference)) errorCollection.NewError(configVoltageCompSaturation(allConfigs.voltageCompSaturation, timeoutMs));
+		if(BaseMotorControllerUtil.voltageMeasurementFilterDifferent(allConfigs, reference)) errorCollection.NewError(configVoltageMeasurementFilter(allConfigs.voltageMeasurementFilter, timeoutMs));
+		if(BaseMotorControllerUtil.velocityMeasurementPeriodDifferent(allConfigs, reference)) errorCollection.NewError(configVelocityMeasurementPeriod(allConfigs.velocityMeasurementPeriod, timeoutMs));
+		if(BaseMotorControllerUtil.velocityMeasurementWindowDifferent(allConfigs, reference)) errorCollection.NewError(configVelocityMeasurementWindow(allConfigs.velocityMeasurementWindow, timeoutMs));
+		if(BaseMotorControllerUtil.forwardSoftLimitThresholdDifferent(allConfigs, reference)) errorCollection.NewError(configForwardSoftLimitThreshold(allConfigs.forwardSoftLimitThreshold, timeoutMs));
+		if(BaseMotorControllerUtil.reverseSoftLimitThresholdDifferent(allConfigs, reference)) errorCollection.NewError(configReverseSoftLimitThreshold(allConfigs.reverseSoftLimitThreshold, timeoutMs));
+		if(BaseMotorControllerUtil.forwardSoftLimitEnableDifferent(allConfigs, reference)) errorCollection.NewError(configForwardSoftLimitEnable(allConfigs.forwardSoftLimitEnable, timeoutMs));
+		if(BaseMotorControllerUtil.reverseSoftLimitEnableDifferent(allConfigs, reference)) errorCollection.NewError(configReverseSoftLimitEnable(allConfigs.reverseSoftLimitEnable, timeoutMs));
+		if(BaseMotorControllerUtil.auxPIDPolarityDifferent(allConfigs, reference)) errorCollection.NewError(configAuxPIDPolarity(allConfigs.auxPIDPolarity, timeoutMs));
+		if(BaseMotorControllerUtil.motionCruiseVelocityDifferent(allConfigs, reference)) errorCollection.NewError(configMotionCruiseVelocity(allConfigs.motionCruiseVelocity, timeoutMs));
+		if(BaseMotorControllerUtil.motionAccelerationDifferent(allConfigs, reference)) errorCollection.NewError(configMotionAcceleration(allConfigs.motionAcceleration, timeoutMs));
+		if(BaseMotorControllerUtil.motionSCurveStrength(allConfigs, reference)) errorCollection.NewError(configMotionSCurveStrength(allConfigs.motionCurveStrength, timeoutMs));
+		if(BaseMotorControllerUtil.motionProfileTrajectoryPeriodDifferent(allConfigs, reference)) errorCollection.NewError(configMotionProfileTrajectoryPeriod(allConfigs.motionProfileTrajectoryPeriod, timeoutMs));
+		if(BaseMotorControllerUtil.feedbackNotContinuousDifferent(allConfigs, reference)) errorCollection.NewError(configFeedbackNotContinuous(allConfigs.feedbackNotContinuous, timeoutMs));
+		if(BaseMotorControllerUtil.remoteSensorClosedLoopDisableNeutralOnLOSDifferent(allConfigs, reference)) errorCollection.NewError(configRemoteSensorClosedLoopDisableNeutralOnLOS(allConfigs.remoteSensorClosedLoopDisableNeutralOnLOS, timeoutMs));
+		if(BaseMotorControllerUtil.clearPositionOnLimitFDifferent(allConfigs, reference)) errorCollection.NewError(configClearPositionOnLimitF(allConfigs.clearPositionOnLimitF, timeoutMs));
+		if(BaseMotorControllerUtil.clearPositionOnLimitRDifferent(allConfigs, reference)) errorCollection.NewError(configClearPositionOnLimitR(allConfigs.clearPositionOnLimitR, timeoutMs));
+		if(BaseMotorControllerUtil.clearPositionOnQuadIdxDifferent(allConfigs, reference)) errorCollection.NewError(configClearPositionOnQuadIdx(allConfigs.clearPositionOnQuadIdx, timeoutMs));
+		if(BaseMotorControllerUtil.limitSwitchDisableNeutralOnLOSDifferent(allConfigs, reference)) errorCollection.NewError(configLimitSwitchDisableNeutralOnLOS(allConfigs.limitSwitchDisableNeutralOnLOS, timeoutMs));
+		if(BaseMotorControllerUtil.softLimitDisableNeutralOnLOSDifferent(allConfigs, reference)) errorCollection.NewError(configSoftLimitDisableNeutralOnLOS(allConfigs.softLimitDisableNeutralOnLOS, timeoutMs));
+		if(BaseMotorControllerUtil.pulseWidthPeriod_EdgesPerRotDifferent(allConfigs, reference)) errorCollection.NewError(configPulseWidthPeriod_EdgesPerRot(allConfigs.pulseWidthPeriod_EdgesPerRot, timeoutMs));
+		if(BaseMotorControllerUtil.pulseWidthPeriod_FilterWindowSzDifferent(allConfigs, reference)) errorCollection.NewError(configPulseWidthPeriod_FilterWindowSz(allConfigs.pulseWidthPeriod_FilterWindowSz, timeoutMs));
+		/* interpolation enable cannot be read back, so send it unless the cache was written by configAllSettings */
+		if(BaseMotorControllerUtil.trajectoryInterpolationEnableDifferent(allConfigs, reference) || (lastKnown != null && !isConfigCacheWritten())) errorCollection.NewError(configMotionProfileTrajectoryInterpolationEnable(allConfigs.trajectoryInterpolationEnable, timeoutMs));
 		
 		//Custom Parameters
-		if(BaseMotorControllerUtil.customParam0Different(allConfigs)) errorCollection.NewError(configSetCustomParam(allConfigs.customParam0, 0, timeoutMs));
-		if(BaseMotorControllerUtil.customParam1Different(allConfigs)) errorCollection.NewError(configSetCustomParam(allConfigs.customParam1, 1, timeoutMs));
+		if(BaseMotorControllerUtil.customParam0Different(allConfigs, reference)) errorCollection.NewError(configSetCustomParam(allConfigs.customParam0, 0, timeoutMs));
+		if(BaseMotorControllerUtil.customParam1Different(allConfigs, reference)) errorCollection.NewError(configSetCustomParam(allConfigs.customParam1, 1, timeoutMs));
 
         //--------Slots---------------//
-        errorCollection.NewError(configureSlotPrivate(allConfigs.slot0, 0, timeoutMs, allConfigs.enableOptimizations));
-        errorCollection.NewError(configureSlotPrivate(allConfigs.slot1, 1, timeoutMs, allConfigs.enableOptimizations));
-        errorCollection.NewError(configureSlotPrivate(allConfigs.slot2, 2, timeoutMs, allConfigs.enableOptimizations));
-        errorCollection.NewError(configureSlotPrivate(allConfigs.slot3, 3, timeoutMs, allConfigs.enableOptimizations));
+        errorCollection.NewError(configureSlotPrivate(allConfigs.slot0, 0, timeoutMs, allConfigs.enableOptimizations, reference.slot0));
+        errorCollection.NewError(configureSlotPrivate(allConfigs.slot1, 1, timeoutMs, allConfigs.enableOptimizations, reference.slot1));
+        errorCollection.NewError(configureSlotPrivate(allConfigs.slot2, 2, timeoutMs, allConfigs.enableOptimizations, reference.slot2));
+        errorCollection.NewError(configureSlotPrivate(allConfigs.slot3, 3, timeoutMs, allConfigs.enableOptimizations, reference.slot3));
 		
         //----------Remote Feedback Filters----------//
-		errorCollection.NewError(configureFilter(allConfigs.remoteFilter0, 0, timeoutMs, allConfigs.enableOptimizations));
-        errorCollection.NewError(configureFilter(allConfigs.remoteFilter1, 1, timeoutMs, allConfigs.enableOptimizations));
+		errorCollection.NewError(configureFilterPrivate(allConfigs.remoteFilter0, 0, timeoutMs, allConfigs.enableOptimizations, reference.remoteFilter0));
+        errorCollection.NewError(configureFilterPrivate(allConfigs.remoteFilter1, 1, timeoutMs, allConfigs.enableOptimizations, reference.remoteFilter1));
             
         return errorCollection._worstError;
     }
 
 
     private ErrorCode configureSlotPrivate( SlotConfiguration slot, int slotIdx, int timeoutMs, boolean enableOptimization) {
+        return configureSlotPrivate(slot, slotIdx, timeoutMs, enableOptimization, BaseMotorControllerUtil.getDefault().slot0);
+    }
+
+    private ErrorCode configureSlotPrivate( SlotConfiguration slot, int slotIdx, int timeoutMs, boolean enableOptimization, SlotConfiguration reference) {
     
         ErrorCollection errorCollection = new ErrorCollection();
         //------ General Close loop ----------//    
 		
 		
         
-		if(SlotConfigurationUtil.kPDifferent(slot) || !enableOptimization) errorCollection.NewError(config_kP(slotIdx, slot.kP, timeoutMs));
-		if(SlotConfigurationUtil.kIDifferent(slot) || !enableOptimization) errorCollection.NewError(config_kI(slotIdx, slot.kI, timeoutMs));
-		if(SlotConfigurationUtil.kDDifferent(slot) || !enableOptimization) errorCollection.NewError(config_kD(slotIdx, slot.kD, timeoutMs));
-		if(SlotConfigurationUtil.kFDifferent(slot) || !enableOptimization) errorCollection.NewError(config_kF(slotIdx, slot.kF, timeoutMs));
-		if(SlotConfigurationUtil.integralZoneDifferent(slot) || !enableOptimization) errorCollection.NewError(config_IntegralZone(slotIdx, slot.integralZone, timeoutMs));
-		if(SlotConfigurationUtil.allowableClosedloopErrorDifferent(slot) || !enableOptimization) errorCollection.NewError(configAllowableClosedloopError(slotIdx, slot.allowableClosedloopError, timeoutMs));
-		if(SlotConfigurationUtil.maxIntegralAccumulatorDifferent(slot) || !enableOptimization) errorCollection.NewError(configMaxIntegralAccumulator(slotIdx, slot.maxIntegralAccumulator, timeoutMs));
-		if(SlotConfigurationUtil.closedLoopPeakOutputDifferent(slot) || !enableOptimization) errorCollection.NewError(configClosedLoopPeakOutput(slotIdx, slot.closedLoopPeakOutput, timeoutMs));
-		if(SlotConfigurationUtil.closedLoopPeriodDifferent(slot) || !enableOptimization) errorCollection.NewError(configClosedLoopPeriod(slotIdx, slot.closedLoopPeriod, timeoutMs));
+		if(SlotConfigurationUtil.kPDifferent(slot, reference) || !enableOptimization) errorCollection.NewError(config_kP(slotIdx, slot.kP, timeoutMs));
+		if(SlotConfigurationUtil.kIDifferent(slot, reference) || !enableOptimization) errorCollection.NewError(config_kI(slotIdx, slot.kI, timeoutMs));
+		if(SlotConfigurationUtil.kDDifferent(slot, reference) || !enableOptimization) errorCollection.NewError(config_kD(slotIdx, slot.kD, timeoutMs));
+		if(SlotConfigurationUtil.kFDifferent(slot, reference) || !enableOptimization) errorCollection.NewError(config_kF(slotIdx, slot.kF, timeoutMs));
+		if(SlotConfigurationUtil.integralZoneDifferent(slot, reference) || !enableOptimization) errorCollection.NewError(config_IntegralZone(slotIdx, slot.integralZone, timeoutMs));
+		if(SlotConfigurationUtil.allowableClosedloopErrorDifferent(slot, reference) || !enableOptimization) errorCollection.NewError(configAllowableClosedloopError(slotIdx, slot.allowableClosedloopError, timeoutMs));
+		if(SlotConfigurationUtil.maxIntegralAccumulatorDifferent(slot, reference) || !enableOptimization) errorCollection.NewError(configMaxIntegralAccumulator(slotIdx, slot.maxIntegralAccumulator, timeoutMs));
+		if(SlotConfigurationUtil.closedLoopPeakOutputDifferent(slot, reference) || !enableOptimization) errorCollection.NewError(configClosedLoopPeakOutput(slotIdx, slot.closedLoopPeakOutput, timeoutMs));
+		if(SlotConfigurationUtil.closedLoopPeriodDifferent(slot, reference) || !enableOptimization) errorCollection.NewError(configClosedLoopPeriod(slotIdx, slot.closedLoopPeriod, timeoutMs));
     
         return errorCollection._worstError;
     
     }
 
+    private ErrorCode configureFilterPrivate( FilterConfiguration filter, int ordinal, int timeoutMs, boolean enableOptimizations, FilterConfiguration reference) {
+		if(FilterConfigUtil.filterConfigurationDifferent(filter, reference) || !enableOptimizations)
+			return configRemoteFeedbackFilter(filter.remoteSensorDeviceID, filter.remoteSensorSource, ordinal, timeoutMs);
+		
+		return ErrorCode.OK;
+	}
+
+    //------Config Cache------//
+
+    /**
+     * Enables caching of the last known device configuration.
+     * When enabled, configAllSettings() skips the factory default and only sends the
+     * settings that differ from the cache.  The cache is filled by a successful
+     * configAllSettings() or getAllConfigs() with a nonzero timeoutMs.
+     *
+     * Individual config routines clear the cache, so the next configAllSettings()
+     * starts again from a factory default.
+     *
+     * By default this feature is disabled.  Enabling an already enabled cache keeps
+     * what it knows.
+     *
+     * @param enable Whether to cache the last known device configuration.
+     */
+    public void enableConfigCache(boolean enable) {
+        if (_configCacheEnabled != enable) {
+            _configCacheEnabled = enable;
+            clearConfigCache();
+        }
+    }
+
+    /**
+     * Forget the last known device configuration, so the next configAllSettings()
+     * factory defaults the device and sends every setting that differs from default.
+     */
+    public void clearConfigCache() {
+        _configCache = null;
+    }
+
+    /**
+     * @return Last known device configuration, or null if caching is disabled or no configuration is known.
+     */
+    protected BaseMotorControllerConfiguration getConfigCache() {
+        return _configCacheEnabled ? _configCache : null;
+    }
+
+    /**
+     * @return true if the last known device configuration should be cached.
+     */
+    protected boolean isConfigCacheEnabled() {
+        return _configCacheEnabled;
+    }
+
+    /**
+     * Start collecting the first error of the configGetParameter() calls that follow,
+     * so a configuration read in many parts is only cached if every part succeeded.
+     */
+    protected void beginConfigRead() {
+        _configReadError = ErrorCode.OK;
+        _configReadTracking = true;
+    }
+
+    /**
+     * Stop collecting configGetParameter() errors.
+     * @return First error since beginConfigRead(), OK if every read succeeded.
+     */
+    protected ErrorCode endConfigRead() {
+        _configReadTracking = false;
+        return _configReadError;
+    }
+
+    /**
+     * Set the last known device configuration.
+     * @param configs Object owned by the cache, or null to forget.
+     * @param written true if configs was written by configAllSettings(), false if it was
+     *        read back, in which case settings that cannot be read are not known.
+     */
+    protected void setConfigCache(BaseMotorControllerConfiguration configs, boolean written) {
+        _configCache = configs;
+        _configCacheWritten = written;
+    }
+
+    /**
+     * @return true if the cache was written by configAllSettings(), so every setting in it is known.
+     */
+    protected boolean isConfigCacheWritten() {
+        return _configCacheWritten;
+    }
+
    
     /**
      * Configures all slot persistant settings (overloaded so timeoutMs is 50 ms
@@ -14,6 +14,7 @@ import com.ctre.phoenix.motorcontrol.can.BaseMotorControllerConfiguration;
  */
 class BaseMotorControllerUtil extends CustomParamConfigUtil {
 	private static BaseMotorControllerConfiguration _default = new VictorSPXConfiguration();
+	static BaseMotorControllerConfiguration getDefault() { return _default; }
 	
 	static boolean openloopRampDifferent (BaseMotorControllerConfiguration settings) { return (!(settings.openloopRamp == _default.openloopRamp)) || !settings.enableOptimizations; }
 	static boolean closedloopRampDifferent (BaseMotorControllerConfiguration settings) { return (!(settings.closedloopRamp == _default.closedloopRamp)) || !settings.enableOptimizations; }
@@ -45,4 +46,77 @@ class BaseMotorControllerUtil extends CustomParamConfigUtil {
 	static boolean pulseWidthPeriod_EdgesPerRotDifferent (BaseMotorControllerConfiguration settings) { return (!(settings.pulseWidthPeriod_EdgesPerRot == _default.pulseWidthPeriod_EdgesPerRot)) || !settings.enableOptimizations; }
 	static boolean pulseWidthPeriod_FilterWindowSzDifferent (BaseMotorControllerConfiguration settings) { return (!(settings.pulseWidthPeriod_FilterWindowSz == _default.pulseWidthPeriod_FilterWindowSz)) || !settings.enableOptimizations; }
 	static boolean trajectoryInterpolationEnableDifferent(BaseMotorControllerConfiguration settings) { return (!(settings.trajectoryInterpolationEnable == _default.trajectoryInterpolationEnable)) || !settings.enableOptimizations; }
+	
+	static boolean openloopRampDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.openloopRamp == reference.openloopRamp)) || !settings.enableOptimizations; }
+	static boolean closedloopRampDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.closedloopRamp == reference.closedloopRamp)) || !settings.enableOptimizations; }
+	static boolean peakOutputForwardDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.peakOutputForward == reference.peakOutputForward)) || !settings.enableOptimizations; }
+	static boolean peakOutputReverseDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.peakOutputReverse == reference.peakOutputReverse)) || !settings.enableOptimizations; }
+	static boolean nominalOutputForwardDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.nominalOutputForward == reference.nominalOutputForward)) || !settings.enableOptimizations; }
+	static boolean nominalOutputReverseDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.nominalOutputReverse == reference.nominalOutputReverse)) || !settings.enableOptimizations; }
+	static boolean neutralDeadbandDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.neutralDeadband == reference.neutralDeadband)) || !settings.enableOptimizations; }
+	static boolean voltageCompSaturationDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.voltageCompSaturation == reference.voltageCompSaturation)) || !settings.enableOptimizations; }
+	static boolean voltageMeasurementFilterDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.voltageMeasurementFilter == reference.voltageMeasurementFilter)) || !settings.enableOptimizations; }
+	static boolean velocityMeasurementPeriodDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.velocityMeasurementPeriod == reference.velocityMeasurementPeriod)) || !settings.enableOptimizations; }
+	static boolean velocityMeasurementWindowDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.velocityMeasurementWindow == reference.velocityMeasurementWindow)) || !settings.enableOptimizations; }
+	static boolean forwardSoftLimitThresholdDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.forwardSoftLimitThreshold == reference.forwardSoftLimitThreshold)) || !settings.enableOptimizations; }
+	static boolean reverseSoftLimitThresholdDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.reverseSoftLimitThreshold == reference.reverseSoftLimitThreshold)) || !settings.enableOptimizations; }
+	static boolean forwardSoftLimitEnableDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.forwardSoftLimitEnable == reference.forwardSoftLimitEnable)) || !settings.enableOptimizations; }
+	static boolean reverseSoftLimitEnableDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.reverseSoftLimitEnable == reference.reverseSoftLimitEnable)) || !settings.enableOptimizations; }
+	static boolean auxPIDPolarityDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.auxPIDPolarity == reference.auxPIDPolarity)) || !settings.enableOptimizations; }
+	static boolean motionCruiseVelocityDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.motionCruiseVelocity == reference.motionCruiseVelocity)) || !settings.enableOptimizations; }
+	static boolean motionAccelerationDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.motionAcceleration == reference.motionAcceleration)) || !settings.enableOptimizations; }
+	static boolean motionSCurveStrength (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (! (settings.motionCurveStrength == reference.motionCurveStrength)) || !settings.enableOptimizations; }
+	static boolean motionProfileTrajectoryPeriodDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.motionProfileTrajectoryPeriod == reference.motionProfileTrajectoryPeriod)) || !settings.enableOptimizations; }
+	static boolean feedbackNotContinuousDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.feedbackNotContinuous == reference.feedbackNotContinuous)) || !settings.enableOptimizations; }
+	static boolean remoteSensorClosedLoopDisableNeutralOnLOSDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.remoteSensorClosedLoopDisableNeutralOnLOS == reference.remoteSensorClosedLoopDisableNeutralOnLOS)) || !settings.enableOptimizations; }
+	static boolean clearPositionOnLimitFDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.clearPositionOnLimitF == reference.clearPositionOnLimitF)) || !settings.enableOptimizations; }
+	static boolean clearPositionOnLimitRDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.clearPositionOnLimitR == reference.clearPositionOnLimitR)) || !settings.enableOptimizations; }
+	static boolean clearPositionOnQuadIdxDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.clearPositionOnQuadIdx == reference.clearPositionOnQuadIdx)) || !settings.enableOptimizations; }
+	static boolean limitSwitchDisableNeutralOnLOSDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.limitSwitchDisableNeutralOnLOS == reference.limitSwitchDisableNeutralOnLOS)) || !settings.enableOptimizations; }
+	static boolean softLimitDisableNeutralOnLOSDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.softLimitDisableNeutralOnLOS == reference.softLimitDisableNeutralOnLOS)) || !settings.enableOptimizations; }
+	static boolean pulseWidthPeriod_EdgesPerRotDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.pulseWidthPeriod_EdgesPerRot == reference.pulseWidthPeriod_EdgesPerRot)) || !settings.enableOptimizations; }
+	static boolean pulseWidthPeriod_FilterWindowSzDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.pulseWidthPeriod_FilterWindowSz == reference.pulseWidthPeriod_FilterWindowSz)) || !settings.enableOptimizations; }
+	static boolean trajectoryInterpolationEnableDifferent (BaseMotorControllerConfiguration settings, BaseMotorControllerConfiguration reference) { return (!(settings.trajectoryInterpolationEnable == reference.trajectoryInterpolationEnable)) || !settings.enableOptimizations; }
+	
+	static void copy (BaseMotorControllerConfiguration source, BaseMotorControllerConfiguration destination) {
+		SlotConfigurationUtil.copy(source.slot0, destination.slot0);
+		SlotConfigurationUtil.copy(source.slot1, destination.slot1);
+		SlotConfigurationUtil.copy(source.slot2, destination.slot2);
+		SlotConfigurationUtil.copy(source.slot3, destination.slot3);
+		FilterConfigUtil.copy(source.remoteFilter0, destination.remoteFilter0);
+		FilterConfigUtil.copy(source.remoteFilter1, destination.remoteFilter1);
+		destination.openloopRamp = source.openloopRamp;
+		destination.closedloopRamp = source.closedloopRamp;
+		destination.peakOutputForward = source.peakOutputForward;
+		destination.peakOutputReverse = source.peakOutputReverse;
+		destination.nominalOutputForward = source.nominalOutputForward;
+		destination.nominalOutputReverse = source.nominalOutputReverse;
+		destination.neutralDeadband = source.neutralDeadband;
+		destination.voltageCompSaturation = source.voltageCompSaturation;
+		destination.voltageMeasurementFilter = source.voltageMeasurementFilter;
+		destination.velocityMeasurementPeriod = source.velocityMeasurementPeriod;
+		destination.velocityMeasurementWindow = source.velocityMeasurementWindow;
+		destination.forwardSoftLimitThreshold = source.forwardSoftLimitThreshold;
+		destination.reverseSoftLimitThreshold = source.reverseSoftLimitThreshold;
+		destination.forwardSoftLimitEnable = source.forwardSoftLimitEnable;
+		destination.reverseSoftLimitEnable = source.reverseSoftLimitEnable;
+		destination.auxPIDPolarity = source.auxPIDPolarity;
+		destination.motionCruiseVelocity = source.motionCruiseVelocity;
+		destination.motionAcceleration = source.motionAcceleration;
+		destination.motionCurveStrength = source.motionCurveStrength;
+		destination.motionProfileTrajectoryPeriod = source.motionProfileTrajectoryPeriod;
+		destination.feedbackNotContinuous = source.feedbackNotContinuous;
+		destination.remoteSensorClosedLoopDisableNeutralOnLOS = source.remoteSensorClosedLoopDisableNeutralOnLOS;
+		destination.clearPositionOnLimitF = source.clearPositionOnLimitF;
+		destination.clearPositionOnLimitR = source.clearPositionOnLimitR;
+		destination.clearPositionOnQuadIdx = source.clearPositionOnQuadIdx;
+		destination.limitSwitchDisableNeutralOnLOS = source.limitSwitchDisableNeutralOnLOS;
+		destination.softLimitDisableNeutralOnLOS = source.softLimitDisableNeutralOnLOS;
+		destination.pulseWidthPeriod_EdgesPerRot = source.pulseWidthPeriod_EdgesPerRot;
+		destination.pulseWidthPeriod_FilterWindowSz = source.pulseWidthPeriod_FilterWindowSz;
+		destination.trajectoryInterpolationEnable = source.trajectoryInterpolationEnable;
+		destination.customParam0 = source.customParam0;
+		destination.customParam1 = source.customParam1;
+		destination.enableOptimizations = source.enableOptimizations;
+	}
 }
\ No newline at end of file
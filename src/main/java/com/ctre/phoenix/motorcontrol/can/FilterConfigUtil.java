@@ -9,4 +9,13 @@ class FilterConfigUtil {
 	static boolean remoteSensorDeviceIDDifferent (FilterConfiguration settings) { return (!(settings.remoteSensorDeviceID == _default.remoteSensorDeviceID)); }
 	static boolean remoteSensorSourceDifferent (FilterConfiguration settings) { return (!(settings.remoteSensorSource == _default.remoteSensorSource)); }
 	static boolean filterConfigurationDifferent (FilterConfiguration settings) { return remoteSensorDeviceIDDifferent(settings) || remoteSensorSourceDifferent(settings); }
+	
+	static boolean remoteSensorDeviceIDDifferent (FilterConfiguration settings, FilterConfiguration reference) { return (!(settings.remoteSensorDeviceID == reference.remoteSensorDeviceID)); }
+	static boolean remoteSensorSourceDifferent (FilterConfiguration settings, FilterConfiguration reference) { return (!(settings.remoteSensorSource == reference.remoteSensorSource)); }
+	static boolean filterConfigurationDifferent (FilterConfiguration settings, FilterConfiguration reference) { return remoteSensorDeviceIDDifferent(settings, reference) || remoteSensorSourceDifferent(settings, reference); }
+	
+	static void copy (FilterConfiguration source, FilterConfiguration destination) {
+		destination.remoteSensorDeviceID = source.remoteSensorDeviceID;
+		destination.remoteSensorSource = source.remoteSensorSource;
+	}
 }
\ No newline at end of file
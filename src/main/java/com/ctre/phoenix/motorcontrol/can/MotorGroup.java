@@ -0,0 +1,191 @@
+package com.ctre.phoenix.motorcontrol.can;
+
+import com.ctre.phoenix.ConfigurationBatch;
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ErrorCollection;
+import com.ctre.phoenix.motorcontrol.ControlMode;
+import com.ctre.phoenix.motorcontrol.DemandType;
+import com.ctre.phoenix.motorcontrol.InvertType;
+import com.ctre.phoenix.motorcontrol.MotorGroupSnapshot;
+import com.ctre.phoenix.motorcontrol.NeutralMode;
+
+/**
+ * Master motor controller and the followers mechanically linked to it.
+ *
+ * Followers are put in follower mode when the group is created, so set() only sends the
+ * master's demand and the followers track it in firmware.
+ * Every member caches its configuration (see enableConfigCache), so configAllSettings()
+ * only sends settings that changed, and setNeutralMode() is skipped when unchanged.
+ *
+ * Example:
+ *	MotorGroup left = new MotorGroup(_leftMaster, _leftFollower1, _leftFollower2);
+ *	left.configAllSettings(_talonConfigs, _victorConfigs, 30);
+ *	left.set(ControlMode.PercentOutput, forward);
+ *	left.snapshot(_leftStatus);
+ */
+public class MotorGroup {
+	private final BaseMotorController _master;
+	private final BaseMotorController[] _followers;
+	private NeutralMode _neutralMode = null;
+
+	/**
+	 * Constructor for MotorGroup
+	 * @param master Motor controller that receives the demand
+	 * @param followers Motor controllers that follow the master
+	 */
+	public MotorGroup(BaseMotorController master, BaseMotorController... followers) {
+		_master = master;
+		_followers = followers.clone();
+		_master.enableConfigCache(true);
+		for (BaseMotorController follower : _followers) {
+			follower.enableConfigCache(true);
+			follower.follow(_master);
+			follower.setInverted(InvertType.FollowMaster);
+		}
+	}
+
+	/**
+	 * @return master motor controller
+	 */
+	public BaseMotorController getMaster() {
+		return _master;
+	}
+	/**
+	 * @return number of followers
+	 */
+	public int getFollowerCount() {
+		return _followers.length;
+	}
+	/**
+	 * @param idx Index of the follower, in constructor order
+	 * @return follower motor controller
+	 */
+	public BaseMotorController getFollower(int idx) {
+		return _followers[idx];
+	}
+
+	//--- Output ---/
+	/**
+	 * Sets the group's output.  Only the master is sent a demand.
+	 * @param mode Control mode of the master
+	 * @param outputValue Demand of the master, see BaseMotorController.set()
+	 */
+	public void set(ControlMode mode, double outputValue) {
+		_master.set(mode, outputValue);
+	}
+	/**
+	 * Sets the group's output.  Only the master is sent a demand.
+	 * @param mode Control mode of the master
+	 * @param demand0 Primary demand of the master
+	 * @param demand1Type Type of the auxiliary demand
+	 * @param demand1 Auxiliary demand of the master
+	 */
+	public void set(ControlMode mode, double demand0, DemandType demand1Type, double demand1) {
+		_master.set(mode, demand0, demand1Type, demand1);
+	}
+	/**
+	 * Neutral the master, which the followers track.
+	 */
+	public void neutralOutput() {
+		_master.neutralOutput();
+	}
+	/**
+	 * Sets brake/coast of every member.  Nothing is sent if the mode has not changed.
+	 * @param neutralMode Mode of operation during neutral output
+	 */
+	public void setNeutralMode(NeutralMode neutralMode) {
+		if (neutralMode == _neutralMode) {
+			return;
+		}
+		_neutralMode = neutralMode;
+		_master.setNeutralMode(neutralMode);
+		for (BaseMotorController follower : _followers) {
+			follower.setNeutralMode(neutralMode);
+		}
+	}
+	/**
+	 * Inverts the master.  Followers follow or oppose it, see setFollowerOpposed().
+	 * @param invert Invert state of the master
+	 */
+	public void setInverted(boolean invert) {
+		_master.setInverted(invert);
+	}
+	/**
+	 * Makes a follower drive opposite to the master, e.g. on the other side of a gearbox.
+	 * @param idx Index of the follower, in constructor order
+	 * @param opposed true to oppose the master, false to follow it
+	 */
+	public void setFollowerOpposed(int idx, boolean opposed) {
+		_followers[idx].setInverted(opposed ? InvertType.OpposeMaster : InvertType.FollowMaster);
+	}
+
+	//--- Configuration ---/
+	/**
+	 * Configure every member, sending only settings that differ from each member's cached configuration.
+	 * Members are configured together, see ConfigurationBatch.  Only the first call, or a call
+	 * after a member's cache was cleared, factory defaults that member; calling again with the
+	 * same configurations only reads them back, and resends settings whose read back differs.
+	 *
+	 * @param talonConfigs Configuration of TalonSRX members, may be null if there are none
+	 * @param victorConfigs Configuration of VictorSPX members, may be null if there are none
+	 * @param timeoutMs Timeout value in ms used to confirm each member.
+	 * @return Worst error of any member.
+	 */
+	public ErrorCollection configAllSettings(TalonSRXConfiguration talonConfigs, VictorSPXConfiguration victorConfigs,
+			int timeoutMs) {
+		ConfigurationBatch batch = new ConfigurationBatch(_followers.length + 1);
+		add(batch, _master, talonConfigs, victorConfigs);
+		for (BaseMotorController follower : _followers) {
+			add(batch, follower, talonConfigs, victorConfigs);
+		}
+		ErrorCollection retval = new ErrorCollection();
+		for (ErrorCollection errors : batch.apply(timeoutMs)) {
+			retval.NewError(errors._worstError);
+		}
+		return retval;
+	}
+	private static void add(ConfigurationBatch batch, BaseMotorController member,
+			TalonSRXConfiguration talonConfigs, VictorSPXConfiguration victorConfigs) {
+		if (member instanceof TalonSRX && talonConfigs != null) {
+			batch.add((TalonSRX) member, talonConfigs);
+		} else if (member instanceof VictorSPX && victorConfigs != null) {
+			batch.add((VictorSPX) member, victorConfigs);
+		}
+	}
+
+	//--- Status ---/
+	/**
+	 * Snapshot the master and aggregate the followers' current, temperature and faults in one call.
+	 * Output current is only polled from members that measure it (TalonSRX).
+	 *
+	 * @param toFill Caller supplied object to fill.
+	 * @return Last Error Code generated by the master.
+	 */
+	public ErrorCode snapshot(MotorGroupSnapshot toFill) {
+		ErrorCode retval = _master.snapshot(toFill.master);
+		double total = (_master instanceof TalonSRX) ? toFill.master.outputCurrent : 0;
+		double maxCurrent = total;
+		double maxTemperature = toFill.master.temperature;
+		int faults = toFill.master.faults;
+		int faultedCount = (faults != 0) ? 1 : 0;
+		for (BaseMotorController follower : _followers) {
+			if (follower instanceof TalonSRX) {
+				double current = follower.getOutputCurrent();
+				total += current;
+				if (current > maxCurrent) { maxCurrent = current; }
+			}
+			double temperature = follower.getTemperature();
+			if (temperature > maxTemperature) { maxTemperature = temperature; }
+			int bits = follower.getFaultBits();
+			faults |= bits;
+			if (bits != 0) { ++faultedCount; }
+		}
+		toFill.memberCount = _followers.length + 1;
+		toFill.totalOutputCurrent = total;
+		toFill.maxOutputCurrent = maxCurrent;
+		toFill.maxTemperature = maxTemperature;
+		toFill.faults = faults;
+		toFill.faultedCount = faultedCount;
+		return retval;
+	}
+}
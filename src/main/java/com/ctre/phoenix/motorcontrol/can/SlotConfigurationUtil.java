@@ -15,4 +15,26 @@ class SlotConfigurationUtil {
 	static boolean maxIntegralAccumulatorDifferent (SlotConfiguration settings) { return (!(settings.maxIntegralAccumulator == _default.maxIntegralAccumulator)); }
 	static boolean closedLoopPeakOutputDifferent (SlotConfiguration settings) { return (!(settings.closedLoopPeakOutput == _default.closedLoopPeakOutput)); }
 	static boolean closedLoopPeriodDifferent (SlotConfiguration settings) { return (!(settings.closedLoopPeriod == _default.closedLoopPeriod)); }
+	
+	static boolean kPDifferent (SlotConfiguration settings, SlotConfiguration reference) { return (!(settings.kP == reference.kP)); }
+	static boolean kIDifferent (SlotConfiguration settings, SlotConfiguration reference) { return (!(settings.kI == reference.kI)); }
+	static boolean kDDifferent (SlotConfiguration settings, SlotConfiguration reference) { return (!(settings.kD == reference.kD)); }
+	static boolean kFDifferent (SlotConfiguration settings, SlotConfiguration reference) { return (!(settings.kF == reference.kF)); }
+	static boolean integralZoneDifferent (SlotConfiguration settings, SlotConfiguration reference) { return (!(settings.integralZone == reference.integralZone)); }
+	static boolean allowableClosedloopErrorDifferent (SlotConfiguration settings, SlotConfiguration reference) { return (!(settings.allowableClosedloopError == reference.allowableClosedloopError)); }
+	static boolean maxIntegralAccumulatorDifferent (SlotConfiguration settings, SlotConfiguration reference) { return (!(settings.maxIntegralAccumulator == reference.maxIntegralAccumulator)); }
+	static boolean closedLoopPeakOutputDifferent (SlotConfiguration settings, SlotConfiguration reference) { return (!(settings.closedLoopPeakOutput == reference.closedLoopPeakOutput)); }
+	static boolean closedLoopPeriodDifferent (SlotConfiguration settings, SlotConfiguration reference) { return (!(settings.closedLoopPeriod == reference.closedLoopPeriod)); }
+	
+	static void copy (SlotConfiguration source, SlotConfiguration destination) {
+		destination.kP = source.kP;
+		destination.kI = source.kI;
+		destination.kD = source.kD;
+		destination.kF = source.kF;
+		destination.integralZone = source.integralZone;
+		destination.allowableClosedloopError = source.allowableClosedloopError;
+		destination.maxIntegralAccumulator = source.maxIntegralAccumulator;
+		destination.closedLoopPeakOutput = source.closedLoopPeakOutput;
+		destination.closedLoopPeriod = source.closedLoopPeriod;
+	}
 }
\ No newline at end of file
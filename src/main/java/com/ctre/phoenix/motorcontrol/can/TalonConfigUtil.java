@@ -5,6 +5,7 @@ package com.ctre.phoenix.motorcontrol.can;
  */
 class TalonConfigUtil {
 	private static TalonSRXConfiguration _default = new TalonSRXConfiguration();
+	static TalonSRXConfiguration getDefault() { return _default; }
 	
 	static boolean forwardLimitSwitchSourceDifferent (TalonSRXConfiguration settings) { return (!(settings.forwardLimitSwitchSource == _default.forwardLimitSwitchSource)) || !settings.enableOptimizations; }
 	static boolean reverseLimitSwitchSourceDifferent (TalonSRXConfiguration settings) { return (!(settings.reverseLimitSwitchSource == _default.reverseLimitSwitchSource)) || !settings.enableOptimizations; }
@@ -26,4 +27,44 @@ class TalonConfigUtil {
 	static boolean reverseLimitSwitchDifferent (TalonSRXConfiguration settings) {
 		return reverseLimitSwitchDeviceIDDifferent(settings) || reverseLimitSwitchNormalDifferent(settings) || reverseLimitSwitchSourceDifferent(settings);
 	}
+	
+	static boolean forwardLimitSwitchSourceDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.forwardLimitSwitchSource == reference.forwardLimitSwitchSource)) || !settings.enableOptimizations; }
+	static boolean reverseLimitSwitchSourceDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.reverseLimitSwitchSource == reference.reverseLimitSwitchSource)) || !settings.enableOptimizations; }
+	static boolean forwardLimitSwitchDeviceIDDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.forwardLimitSwitchDeviceID == reference.forwardLimitSwitchDeviceID)) || !settings.enableOptimizations; }
+	static boolean reverseLimitSwitchDeviceIDDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.reverseLimitSwitchDeviceID == reference.reverseLimitSwitchDeviceID)) || !settings.enableOptimizations; }
+	static boolean forwardLimitSwitchNormalDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.forwardLimitSwitchNormal == reference.forwardLimitSwitchNormal)) || !settings.enableOptimizations; }
+	static boolean reverseLimitSwitchNormalDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.reverseLimitSwitchNormal == reference.reverseLimitSwitchNormal)) || !settings.enableOptimizations; }
+	static boolean sum0TermDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.sum0Term == reference.sum0Term)) || !settings.enableOptimizations; }
+	static boolean sum1TermDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.sum1Term == reference.sum1Term)) || !settings.enableOptimizations; }
+	static boolean diff0TermDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.diff0Term == reference.diff0Term)) || !settings.enableOptimizations; }
+	static boolean diff1TermDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.diff1Term == reference.diff1Term)) || !settings.enableOptimizations; }
+	static boolean peakCurrentLimitDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.peakCurrentLimit == reference.peakCurrentLimit)) || !settings.enableOptimizations; }
+	static boolean peakCurrentDurationDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.peakCurrentDuration == reference.peakCurrentDuration)) || !settings.enableOptimizations; }
+	static boolean continuousCurrentLimitDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) { return (!(settings.continuousCurrentLimit == reference.continuousCurrentLimit)) || !settings.enableOptimizations; }
+	
+	static boolean forwardLimitSwitchDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) {
+		return forwardLimitSwitchDeviceIDDifferent(settings, reference) || forwardLimitSwitchNormalDifferent(settings, reference) || forwardLimitSwitchSourceDifferent(settings, reference);
+	}
+	static boolean reverseLimitSwitchDifferent (TalonSRXConfiguration settings, TalonSRXConfiguration reference) {
+		return reverseLimitSwitchDeviceIDDifferent(settings, reference) || reverseLimitSwitchNormalDifferent(settings, reference) || reverseLimitSwitchSourceDifferent(settings, reference);
+	}
+	
+	static void copy (TalonSRXConfiguration source, TalonSRXConfiguration destination) {
+		BaseMotorControllerUtil.copy(source, destination);
+		TalonSRXPIDSetConfigUtil.copy(source.primaryPID, destination.primaryPID);
+		TalonSRXPIDSetConfigUtil.copy(source.auxiliaryPID, destination.auxiliaryPID);
+		destination.forwardLimitSwitchSource = source.forwardLimitSwitchSource;
+		destination.reverseLimitSwitchSource = source.reverseLimitSwitchSource;
+		destination.forwardLimitSwitchDeviceID = source.forwardLimitSwitchDeviceID;
+		destination.reverseLimitSwitchDeviceID = source.reverseLimitSwitchDeviceID;
+		destination.forwardLimitSwitchNormal = source.forwardLimitSwitchNormal;
+		destination.reverseLimitSwitchNormal = source.reverseLimitSwitchNormal;
+		destination.sum0Term = source.sum0Term;
+		destination.sum1Term = source.sum1Term;
+		destination.diff0Term = source.diff0Term;
+		destination.diff1Term = source.diff1Term;
+		destination.peakCurrentLimit = source.peakCurrentLimit;
+		destination.peakCurrentDuration = source.peakCurrentDuration;
+		destination.continuousCurrentLimit = source.continuousCurrentLimit;
+	}
 }
\ No newline at end of file
@@ -8,7 +8,6 @@ import com.ctre.phoenix.motorcontrol.LimitSwitchSource;
 import com.ctre.phoenix.motorcontrol.SensorCollection;
 import com.ctre.phoenix.motorcontrol.StatusFrameEnhanced;
 import com.ctre.phoenix.motorcontrol.VelocityMeasPeriod;
-import com.ctre.phoenix.motorcontrol.can.MotControllerJNI;
 import com.ctre.phoenix.ErrorCollection;
 import com.ctre.phoenix.ParamEnum;
 import com.ctre.phoenix.motorcontrol.SensorTerm;
@@ -299,7 +298,8 @@ public class TalonSRX extends com.ctre.phoenix.motorcontrol.can.BaseMotorControl
      * @return Error Code generated by function. 0 indicates no error. 
 	 */
 	public ErrorCode configPeakCurrentLimit(int amps, int timeoutMs) {
-		int retval =  MotControllerJNI.ConfigPeakCurrentLimit(m_handle, amps, timeoutMs);
+		clearConfigCache();
+		int retval =  m_backend.ConfigPeakCurrentLimit(m_handle, amps, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -344,7 +344,8 @@ public class TalonSRX extends com.ctre.phoenix.motorcontrol.can.BaseMotorControl
      * @return Error Code generated by function. 0 indicates no error. 
 	 */
 	public ErrorCode configPeakCurrentDuration(int milliseconds, int timeoutMs) {
-		int retval = MotControllerJNI.ConfigPeakCurrentDuration(m_handle, milliseconds, timeoutMs);
+		clearConfigCache();
+		int retval = m_backend.ConfigPeakCurrentDuration(m_handle, milliseconds, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -390,7 +391,8 @@ public class TalonSRX extends com.ctre.phoenix.motorcontrol.can.BaseMotorControl
      * @return Error Code generated by function. 0 indicates no error. 
 	 */
 	public ErrorCode configContinuousCurrentLimit(int amps, int timeoutMs) {
-		int retval =  MotControllerJNI.ConfigContinuousCurrentLimit(m_handle, amps, timeoutMs);
+		clearConfigCache();
+		int retval =  m_backend.ConfigContinuousCurrentLimit(m_handle, amps, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -425,7 +427,7 @@ public class TalonSRX extends com.ctre.phoenix.motorcontrol.can.BaseMotorControl
 	 * @see #configContinuousCurrentLimit(int,int)
 	 */
 	public void enableCurrentLimit(boolean enable) {
-		MotControllerJNI.EnableCurrentLimit(m_handle, enable);
+		m_backend.EnableCurrentLimit(m_handle, enable);
 	}
 	
     /**
@@ -443,13 +445,17 @@ public class TalonSRX extends com.ctre.phoenix.motorcontrol.can.BaseMotorControl
      * @return Error Code generated by function. 0 indicates no error. 
      */
 	public ErrorCode configurePID(TalonSRXPIDSetConfiguration pid, int pidIdx, int timeoutMs, boolean enableOptimizations) {
+        return configurePID(pid, pidIdx, timeoutMs, enableOptimizations, TalonConfigUtil.getDefault().primaryPID);
+	}
+
+	private ErrorCode configurePID(TalonSRXPIDSetConfiguration pid, int pidIdx, int timeoutMs, boolean enableOptimizations, TalonSRXPIDSetConfiguration reference) {
         ErrorCollection errorCollection = new ErrorCollection();
 
         //------ sensor selection ----------//      
 	
-		if(TalonSRXPIDSetConfigUtil.selectedFeedbackCoefficientDifferent(pid) || !enableOptimizations)
+		if(TalonSRXPIDSetConfigUtil.selectedFeedbackCoefficientDifferent(pid, reference) || !enableOptimizations)
 			errorCollection.NewError(configSelectedFeedbackCoefficient(pid.selectedFeedbackCoefficient, pidIdx, timeoutMs));
-		if(TalonSRXPIDSetConfigUtil.selectedFeedbackSensorDifferent(pid) || !enableOptimizations)
+		if(TalonSRXPIDSetConfigUtil.selectedFeedbackSensorDifferent(pid, reference) || !enableOptimizations)
 			errorCollection.NewError(configSelectedFeedbackSensor(pid.selectedFeedbackSensor, pidIdx, timeoutMs));
         
 
@@ -515,28 +521,33 @@ public class TalonSRX extends com.ctre.phoenix.motorcontrol.can.BaseMotorControl
 	public ErrorCode configAllSettings(TalonSRXConfiguration allConfigs, int timeoutMs) {
         ErrorCollection errorCollection = new ErrorCollection();
 
-        errorCollection.NewError(baseConfigAllSettings(allConfigs, timeoutMs));
+        TalonSRXConfiguration lastKnown = (TalonSRXConfiguration) getConfigCache();
+        TalonSRXConfiguration reference = (lastKnown != null) ? lastKnown : TalonConfigUtil.getDefault();
+
+        errorCollection.NewError(baseConfigAllSettings(allConfigs, lastKnown, timeoutMs));
 
 
         //--------PIDs---------------//
-		errorCollection.NewError(configurePID(allConfigs.primaryPID, 0, timeoutMs, allConfigs.enableOptimizations));
-		errorCollection.NewError(configurePID(allConfigs.auxiliaryPID, 1, timeoutMs, allConfigs.enableOptimizations));
+		errorCollection.NewError(configurePID(allConfigs.primaryPID, 0, timeoutMs, allConfigs.enableOptimizations, reference.primaryPID));
+		errorCollection.NewError(configurePID(allConfigs.auxiliaryPID, 1, timeoutMs, allConfigs.enableOptimizations, reference.auxiliaryPID));
 		        
-		if(TalonConfigUtil.forwardLimitSwitchDifferent(allConfigs)) 
-			errorCollection.NewError(MotControllerJNI.ConfigForwardLimitSwitchSource(m_handle, allConfigs.forwardLimitSwitchSource.value,
+		if(TalonConfigUtil.forwardLimitSwitchDifferent(allConfigs, reference)) 
+			errorCollection.NewError(m_backend.ConfigForwardLimitSwitchSource(m_handle, allConfigs.forwardLimitSwitchSource.value,
 				allConfigs.forwardLimitSwitchNormal.value, allConfigs.forwardLimitSwitchDeviceID, timeoutMs));
-		if(TalonConfigUtil.reverseLimitSwitchDifferent(allConfigs)) 
-			errorCollection.NewError(MotControllerJNI.ConfigReverseLimitSwitchSource(m_handle, allConfigs.reverseLimitSwitchSource.value,
+		if(TalonConfigUtil.reverseLimitSwitchDifferent(allConfigs, reference)) 
+			errorCollection.NewError(m_backend.ConfigReverseLimitSwitchSource(m_handle, allConfigs.reverseLimitSwitchSource.value,
 				allConfigs.reverseLimitSwitchNormal.value, allConfigs.reverseLimitSwitchDeviceID, timeoutMs));
 		
-		if(TalonConfigUtil.sum0TermDifferent(allConfigs)) errorCollection.NewError(configSensorTerm(SensorTerm.Sum0, allConfigs.sum0Term, timeoutMs));
-		if(TalonConfigUtil.sum1TermDifferent(allConfigs)) errorCollection.NewError(configSensorTerm(SensorTerm.Sum1, allConfigs.sum1Term, timeoutMs));
-		if(TalonConfigUtil.diff0TermDifferent(allConfigs)) errorCollection.NewError(configSensorTerm(SensorTerm.Diff0, allConfigs.diff0Term, timeoutMs));
-		if(TalonConfigUtil.diff1TermDifferent(allConfigs)) errorCollection.NewError(configSensorTerm(SensorTerm.Diff1, allConfigs.diff1Term, timeoutMs));
+		if(TalonConfigUtil.sum0TermDifferent(allConfigs, reference)) errorCollection.NewError(configSensorTerm(SensorTerm.Sum0, allConfigs.sum0Term, timeoutMs));
+		if(TalonConfigUtil.sum1TermDifferent(allConfigs, reference)) errorCollection.NewError(configSensorTerm(SensorTerm.Sum1, allConfigs.sum1Term, timeoutMs));
+		if(TalonConfigUtil.diff0TermDifferent(allConfigs, reference)) errorCollection.NewError(configSensorTerm(SensorTerm.Diff0, allConfigs.diff0Term, timeoutMs));
+		if(TalonConfigUtil.diff1TermDifferent(allConfigs, reference)) errorCollection.NewError(configSensorTerm(SensorTerm.Diff1, allConfigs.diff1Term, timeoutMs));
 		
-		if(TalonConfigUtil.peakCurrentLimitDifferent(allConfigs)) errorCollection.NewError(configPeakCurrentLimit(allConfigs.peakCurrentLimit, timeoutMs));
-		if(TalonConfigUtil.peakCurrentDurationDifferent(allConfigs)) errorCollection.NewError(configPeakCurrentDuration(allConfigs.peakCurrentDuration, timeoutMs));
-		if(TalonConfigUtil.continuousCurrentLimitDifferent(allConfigs)) errorCollection.NewError(configContinuousCurrentLimit(allConfigs.continuousCurrentLimit, timeoutMs));
+		if(TalonConfigUtil.peakCurrentLimitDifferent(allConfigs, reference)) errorCollection.NewError(configPeakCurrentLimit(allConfigs.peakCurrentLimit, timeoutMs));
+		if(TalonConfigUtil.peakCurrentDurationDifferent(allConfigs, reference)) errorCollection.NewError(configPeakCurrentDuration(allConfigs.peakCurrentDuration, timeoutMs));
+		if(TalonConfigUtil.continuousCurrentLimitDifferent(allConfigs, reference)) errorCollection.NewError(configContinuousCurrentLimit(allConfigs.continuousCurrentLimit, timeoutMs));
+
+        updateConfigCache(allConfigs, lastKnown, timeoutMs, errorCollection._worstError, true);
 
         return errorCollection._worstError; 	
 
@@ -564,7 +575,7 @@ public class TalonSRX extends com.ctre.phoenix.motorcontrol.can.BaseMotorControl
      *              If zero, no blocking or checking is performed.
      */
     public void getAllConfigs(TalonSRXConfiguration allConfigs, int timeoutMs) {
-    
+        beginConfigRead();
         baseGetAllConfigs(allConfigs, timeoutMs);
     
         getPIDConfigs(allConfigs.primaryPID, 0, timeoutMs);
@@ -584,7 +595,27 @@ public class TalonSRX extends com.ctre.phoenix.motorcontrol.can.BaseMotorControl
         allConfigs.peakCurrentLimit        = (int) configGetParameter(ParamEnum.ePeakCurrentLimitAmps, 0, timeoutMs);
         allConfigs.peakCurrentDuration     = (int) configGetParameter(ParamEnum.ePeakCurrentLimitMs, 0, timeoutMs);
         allConfigs.continuousCurrentLimit  = (int) configGetParameter(ParamEnum.eContinuousCurrentLimitAmps, 0, timeoutMs);
-    
+
+        updateConfigCache(allConfigs, (TalonSRXConfiguration) getConfigCache(), timeoutMs, endConfigRead(), false);
+    }
+
+    /**
+     * Remember the configuration now known to be in the device.
+     * Only confirmed (nonzero timeoutMs) and error free transfers are cached.
+     */
+    private void updateConfigCache(TalonSRXConfiguration allConfigs, TalonSRXConfiguration cache, int timeoutMs, ErrorCode err, boolean written) {
+        if (!isConfigCacheEnabled()) {
+            return;
+        }
+        if (timeoutMs == 0 || err != ErrorCode.OK) {
+            setConfigCache(null, false);
+            return;
+        }
+        if (cache == null) {
+            cache = new TalonSRXConfiguration();
+        }
+        TalonConfigUtil.copy(allConfigs, cache);
+        setConfigCache(cache, written);
     }
     /**
      * Gets all persistant settings (overloaded so timeoutMs is 50 ms).
@@ -8,4 +8,12 @@ public class TalonSRXPIDSetConfigUtil {
 	
 	static boolean selectedFeedbackSensorDifferent (TalonSRXPIDSetConfiguration settings) { return (!(settings.selectedFeedbackSensor == _default.selectedFeedbackSensor)); }
 	static boolean selectedFeedbackCoefficientDifferent (TalonSRXPIDSetConfiguration settings) { return (!(settings.selectedFeedbackCoefficient == _default.selectedFeedbackCoefficient)); }
+	
+	static boolean selectedFeedbackSensorDifferent (TalonSRXPIDSetConfiguration settings, TalonSRXPIDSetConfiguration reference) { return (!(settings.selectedFeedbackSensor == reference.selectedFeedbackSensor)); }
+	static boolean selectedFeedbackCoefficientDifferent (TalonSRXPIDSetConfiguration settings, TalonSRXPIDSetConfiguration reference) { return (!(settings.selectedFeedbackCoefficient == reference.selectedFeedbackCoefficient)); }
+	
+	static void copy (TalonSRXPIDSetConfiguration source, TalonSRXPIDSetConfiguration destination) {
+		destination.selectedFeedbackSensor = source.selectedFeedbackSensor;
+		destination.selectedFeedbackCoefficient = source.selectedFeedbackCoefficient;
+	}
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ package com.ctre.phoenix.motorcontrol.can;
  */
 class VictorConfigUtil {
 	private static VictorSPXConfiguration _default = new VictorSPXConfiguration();
+	static VictorSPXConfiguration getDefault() { return _default; }
 	
 	static boolean forwardLimitSwitchSourceDifferent (VictorSPXConfiguration settings) { return (!(settings.forwardLimitSwitchSource == _default.forwardLimitSwitchSource)) || !settings.enableOptimizations; }
 	static boolean reverseLimitSwitchSourceDifferent (VictorSPXConfiguration settings) { return (!(settings.reverseLimitSwitchSource == _default.reverseLimitSwitchSource)) || !settings.enableOptimizations; }
@@ -23,4 +24,38 @@ class VictorConfigUtil {
 	static boolean reverseLimitSwitchDifferent (VictorSPXConfiguration settings) {
 		return reverseLimitSwitchDeviceIDDifferent(settings) || reverseLimitSwitchNormalDifferent(settings) || reverseLimitSwitchSourceDifferent(settings);
 	}
+	
+	static boolean forwardLimitSwitchSourceDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.forwardLimitSwitchSource == reference.forwardLimitSwitchSource)) || !settings.enableOptimizations; }
+	static boolean reverseLimitSwitchSourceDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.reverseLimitSwitchSource == reference.reverseLimitSwitchSource)) || !settings.enableOptimizations; }
+	static boolean forwardLimitSwitchDeviceIDDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.forwardLimitSwitchDeviceID == reference.forwardLimitSwitchDeviceID)) || !settings.enableOptimizations; }
+	static boolean reverseLimitSwitchDeviceIDDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.reverseLimitSwitchDeviceID == reference.reverseLimitSwitchDeviceID)) || !settings.enableOptimizations; }
+	static boolean forwardLimitSwitchNormalDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.forwardLimitSwitchNormal == reference.forwardLimitSwitchNormal)) || !settings.enableOptimizations; }
+	static boolean reverseLimitSwitchNormalDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.reverseLimitSwitchNormal == reference.reverseLimitSwitchNormal)) || !settings.enableOptimizations; }
+	static boolean sum0TermDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.sum0Term == reference.sum0Term)) || !settings.enableOptimizations; }
+	static boolean sum1TermDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.sum1Term == reference.sum1Term)) || !settings.enableOptimizations; }
+	static boolean diff0TermDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.diff0Term == reference.diff0Term)) || !settings.enableOptimizations; }
+	static boolean diff1TermDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) { return (!(settings.diff1Term == reference.diff1Term)) || !settings.enableOptimizations; }
+	
+	static boolean forwardLimitSwitchDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) {
+		return forwardLimitSwitchDeviceIDDifferent(settings, reference) || forwardLimitSwitchNormalDifferent(settings, reference) || forwardLimitSwitchSourceDifferent(settings, reference);
+	}
+	static boolean reverseLimitSwitchDifferent (VictorSPXConfiguration settings, VictorSPXConfiguration reference) {
+		return reverseLimitSwitchDeviceIDDifferent(settings, reference) || reverseLimitSwitchNormalDifferent(settings, reference) || reverseLimitSwitchSourceDifferent(settings, reference);
+	}
+	
+	static void copy (VictorSPXConfiguration source, VictorSPXConfiguration destination) {
+		BaseMotorControllerUtil.copy(source, destination);
+		VictorSPXPIDSetConfigUtil.copy(source.primaryPID, destination.primaryPID);
+		VictorSPXPIDSetConfigUtil.copy(source.auxiliaryPID, destination.auxiliaryPID);
+		destination.forwardLimitSwitchSource = source.forwardLimitSwitchSource;
+		destination.reverseLimitSwitchSource = source.reverseLimitSwitchSource;
+		destination.forwardLimitSwitchDeviceID = source.forwardLimitSwitchDeviceID;
+		destination.reverseLimitSwitchDeviceID = source.reverseLimitSwitchDeviceID;
+		destination.forwardLimitSwitchNormal = source.forwardLimitSwitchNormal;
+		destination.reverseLimitSwitchNormal = source.reverseLimitSwitchNormal;
+		destination.sum0Term = source.sum0Term;
+		destination.sum1Term = source.sum1Term;
+		destination.diff0Term = source.diff0Term;
+		destination.diff1Term = source.diff1Term;
+	}
 }
\ No newline at end of file
@@ -41,16 +41,21 @@ public class VictorSPX extends com.ctre.phoenix.motorcontrol.can.BaseMotorContro
      * @return Error Code generated by function. 0 indicates no error. 
      */
 	ErrorCode configurePID(VictorSPXPIDSetConfiguration pid, int pidIdx, int timeoutMs, boolean enableOptimizations) {
+        return configurePID(pid, pidIdx, timeoutMs, enableOptimizations, VictorConfigUtil.getDefault().primaryPID, false);
+	}
+
+	private ErrorCode configurePID(VictorSPXPIDSetConfiguration pid, int pidIdx, int timeoutMs, boolean enableOptimizations, VictorSPXPIDSetConfiguration reference, boolean referenceCached) {
         ErrorCollection errorCollection = new ErrorCollection();
         
         //------ sensor selection ----------//      
 		
-		if(VictorSPXPIDSetConfigUtil.selectedFeedbackCoefficientDifferent(pid) || !enableOptimizations)
+		if(VictorSPXPIDSetConfigUtil.selectedFeedbackCoefficientDifferent(pid, reference) || !enableOptimizations)
             errorCollection.NewError(configSelectedFeedbackCoefficient(pid.selectedFeedbackCoefficient, pidIdx, timeoutMs));
         
-        /* This is ignored because Victor's firmware default value is impossible to set in API */
-		//if(VictorSPXPIDSetConfigUtil.selectedFeedbackSensorDifferent(pid) || !enableOptimizations)
-        errorCollection.NewError(configSelectedFeedbackSensor(pid.selectedFeedbackSensor, pidIdx, timeoutMs));
+        /* The firmware default is impossible to set in API, so the default reference cannot skip this.
+         * getAllConfigs reads the sensor back, so a cache it filled can, as well as one written here. */
+		if(!referenceCached || VictorSPXPIDSetConfigUtil.selectedFeedbackSensorDifferent(pid, reference) || !enableOptimizations)
+            errorCollection.NewError(configSelectedFeedbackSensor(pid.selectedFeedbackSensor, pidIdx, timeoutMs));
         
 
         return errorCollection._worstError;
@@ -116,25 +121,30 @@ public class VictorSPX extends com.ctre.phoenix.motorcontrol.can.BaseMotorContro
 	
         ErrorCollection errorCollection = new ErrorCollection();
         
-        errorCollection.NewError(baseConfigAllSettings(allConfigs, timeoutMs));
+        VictorSPXConfiguration lastKnown = (VictorSPXConfiguration) getConfigCache();
+        VictorSPXConfiguration reference = (lastKnown != null) ? lastKnown : VictorConfigUtil.getDefault();
+
+        errorCollection.NewError(baseConfigAllSettings(allConfigs, lastKnown, timeoutMs));
         
 
         //--------PIDs---------------//
 
-		errorCollection.NewError(configurePID(allConfigs.primaryPID, 0, timeoutMs, allConfigs.enableOptimizations));
-		errorCollection.NewError(configurePID(allConfigs.auxiliaryPID, 1, timeoutMs, allConfigs.enableOptimizations));
+		errorCollection.NewError(configurePID(allConfigs.primaryPID, 0, timeoutMs, allConfigs.enableOptimizations, reference.primaryPID, lastKnown != null));
+		errorCollection.NewError(configurePID(allConfigs.auxiliaryPID, 1, timeoutMs, allConfigs.enableOptimizations, reference.auxiliaryPID, lastKnown != null));
 		
-		if(VictorConfigUtil.forwardLimitSwitchDifferent(allConfigs)) 
-			errorCollection.NewError(MotControllerJNI.ConfigForwardLimitSwitchSource(m_handle, allConfigs.forwardLimitSwitchSource.value,
+		if(VictorConfigUtil.forwardLimitSwitchDifferent(allConfigs, reference)) 
+			errorCollection.NewError(m_backend.ConfigForwardLimitSwitchSource(m_handle, allConfigs.forwardLimitSwitchSource.value,
 				allConfigs.forwardLimitSwitchNormal.value, allConfigs.forwardLimitSwitchDeviceID, timeoutMs));
-		if(VictorConfigUtil.reverseLimitSwitchDifferent(allConfigs)) 
-			errorCollection.NewError(MotControllerJNI.ConfigReverseLimitSwitchSource(m_handle, allConfigs.reverseLimitSwitchSource.value,
+		if(VictorConfigUtil.reverseLimitSwitchDifferent(allConfigs, reference)) 
+			errorCollection.NewError(m_backend.ConfigReverseLimitSwitchSource(m_handle, allConfigs.reverseLimitSwitchSource.value,
 				allConfigs.reverseLimitSwitchNormal.value, allConfigs.reverseLimitSwitchDeviceID, timeoutMs));
 		
-		if(VictorConfigUtil.sum0TermDifferent(allConfigs)) errorCollection.NewError(configSensorTerm(SensorTerm.Sum0, allConfigs.sum0Term, timeoutMs));
-		if(VictorConfigUtil.sum1TermDifferent(allConfigs)) errorCollection.NewError(configSensorTerm(SensorTerm.Sum1, allConfigs.sum1Term, timeoutMs));
-		if(VictorConfigUtil.diff0TermDifferent(allConfigs)) errorCollection.NewError(configSensorTerm(SensorTerm.Diff0, allConfigs.diff0Term, timeoutMs));
-		if(VictorConfigUtil.diff1TermDifferent(allConfigs)) errorCollection.NewError(configSensorTerm(SensorTerm.Diff1, allConfigs.diff1Term, timeoutMs));
+		if(VictorConfigUtil.sum0TermDifferent(allConfigs, reference)) errorCollection.NewError(configSensorTerm(SensorTerm.Sum0, allConfigs.sum0Term, timeoutMs));
+		if(VictorConfigUtil.sum1TermDifferent(allConfigs, reference)) errorCollection.NewError(configSensorTerm(SensorTerm.Sum1, allConfigs.sum1Term, timeoutMs));
+		if(VictorConfigUtil.diff0TermDifferent(allConfigs, reference)) errorCollection.NewError(configSensorTerm(SensorTerm.Diff0, allConfigs.diff0Term, timeoutMs));
+		if(VictorConfigUtil.diff1TermDifferent(allConfigs, reference)) errorCollection.NewError(configSensorTerm(SensorTerm.Diff1, allConfigs.diff1Term, timeoutMs));
+
+        updateConfigCache(allConfigs, lastKnown, timeoutMs, errorCollection._worstError, true);
 
         return errorCollection._worstError;
 
@@ -160,7 +170,7 @@ public class VictorSPX extends com.ctre.phoenix.motorcontrol.can.BaseMotorContro
      *              If zero, no blocking or checking is performed.
      */
     public void getAllConfigs(VictorSPXConfiguration allConfigs, int timeoutMs) {
-    
+        beginConfigRead();
         baseGetAllConfigs(allConfigs, timeoutMs);
     
         getPIDConfigs(allConfigs.primaryPID, 0, timeoutMs);
@@ -176,7 +186,27 @@ public class VictorSPX extends com.ctre.phoenix.motorcontrol.can.BaseMotorContro
         allConfigs.reverseLimitSwitchDeviceID = (int) configGetParameter(ParamEnum.eLimitSwitchRemoteDevID, 1, timeoutMs);
         allConfigs.forwardLimitSwitchNormal = LimitSwitchNormal.valueOf(configGetParameter(ParamEnum.eLimitSwitchNormClosedAndDis, 0, timeoutMs));
         allConfigs.reverseLimitSwitchNormal = LimitSwitchNormal.valueOf(configGetParameter(ParamEnum.eLimitSwitchNormClosedAndDis, 1, timeoutMs));
-    
+
+        updateConfigCache(allConfigs, (VictorSPXConfiguration) getConfigCache(), timeoutMs, endConfigRead(), false);
+    }
+
+    /**
+     * Remember the configuration now known to be in the device.
+     * Only confirmed (nonzero timeoutMs) and error free transfers are cached.
+     */
+    private void updateConfigCache(VictorSPXConfiguration allConfigs, VictorSPXConfiguration cache, int timeoutMs, ErrorCode err, boolean written) {
+        if (!isConfigCacheEnabled()) {
+            return;
+        }
+        if (timeoutMs == 0 || err != ErrorCode.OK) {
+            setConfigCache(null, false);
+            return;
+        }
+        if (cache == null) {
+            cache = new VictorSPXConfiguration();
+        }
+        VictorConfigUtil.copy(allConfigs, cache);
+        setConfigCache(cache, written);
     }
     /**
      * Gets all persistant settings (overloaded so timeoutMs is 50 ms).
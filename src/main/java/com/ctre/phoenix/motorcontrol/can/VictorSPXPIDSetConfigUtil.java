@@ -8,4 +8,12 @@ public class VictorSPXPIDSetConfigUtil {
 	
 	static boolean selectedFeedbackSensorDifferent (VictorSPXPIDSetConfiguration settings) { return (!(settings.selectedFeedbackSensor == _default.selectedFeedbackSensor)); }
 	static boolean selectedFeedbackCoefficientDifferent (VictorSPXPIDSetConfiguration settings) { return (!(settings.selectedFeedbackCoefficient == _default.selectedFeedbackCoefficient)); }
+	
+	static boolean selectedFeedbackSensorDifferent (VictorSPXPIDSetConfiguration settings, VictorSPXPIDSetConfiguration reference) { return (!(settings.selectedFeedbackSensor == reference.selectedFeedbackSensor)); }
+	static boolean selectedFeedbackCoefficientDifferent (VictorSPXPIDSetConfiguration settings, VictorSPXPIDSetConfiguration reference) { return (!(settings.selectedFeedbackCoefficient == reference.selectedFeedbackCoefficient)); }
+	
+	static void copy (VictorSPXPIDSetConfiguration source, VictorSPXPIDSetConfiguration destination) {
+		destination.selectedFeedbackSensor = source.selectedFeedbackSensor;
+		destination.selectedFeedbackCoefficient = source.selectedFeedbackCoefficient;
+	}
 }
\ No newline at end of file
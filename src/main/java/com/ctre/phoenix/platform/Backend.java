@@ -0,0 +1,117 @@
+package com.ctre.phoenix.platform;
+
+import java.io.File;
+
+import com.ctre.phoenix.CANifierJNIBackend;
+import com.ctre.phoenix.CTREJNIWrapper;
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ICANifierBackend;
+import com.ctre.phoenix.Logger;
+import com.ctre.phoenix.motion.BuffTrajPointStreamJNIBackend;
+import com.ctre.phoenix.motion.IBuffTrajPointStreamBackend;
+import com.ctre.phoenix.motorcontrol.can.IMotControllerBackend;
+import com.ctre.phoenix.motorcontrol.can.MotControllerJNIBackend;
+import com.ctre.phoenix.platform.sim.SimBuffTrajPointStreamBackend;
+import com.ctre.phoenix.platform.sim.SimCANifierBackend;
+import com.ctre.phoenix.platform.sim.SimMotControllerBackend;
+import com.ctre.phoenix.platform.sim.SimPigeonImuBackend;
+import com.ctre.phoenix.sensors.IPigeonImuBackend;
+import com.ctre.phoenix.sensors.PigeonImuJNIBackend;
+
+/**
+ * Selects what device objects talk to.
+ *
+ * Each device object binds to the current backend when it is constructed, so select the
+ * backend before creating devices.
+ *
+ * The default is chosen by the system property phoenix.backend...
+ *	native: always use CTRE_PhoenixCCI.
+ *	sim:    always use the pure-Java simulation.
+ *	unset:  use CTRE_PhoenixCCI.  Off the robot, fall back to the pure-Java simulation if
+ *	        it does not load.
+ * Either way a CTRE_PhoenixCCI that did not load is reported through Logger as an error,
+ * so a robot never silently runs without controlling its CAN devices.
+ */
+public class Backend {
+	private static volatile IMotControllerBackend _motController;
+	private static volatile IPigeonImuBackend _pigeonImu;
+	private static volatile ICANifierBackend _canifier;
+	private static volatile IBuffTrajPointStreamBackend _buffTrajPointStream;
+	private static volatile boolean _simulation;
+
+	static {
+		String selected = System.getProperty("phoenix.backend", "");
+		if (selected.equals("sim")) {
+			useSimulation();
+		} else if (selected.equals("native") || CTREJNIWrapper.isLibraryLoaded() || isRobot()) {
+			if (!CTREJNIWrapper.isLibraryLoaded()) {
+				Logger.log(ErrorCode.GeneralError, "CTRE_PhoenixCCI did not load, CAN devices will not be controlled");
+			}
+			useNative();
+		} else {
+			Logger.log(ErrorCode.GeneralError, "CTRE_PhoenixCCI did not load, using the Java simulation backend."
+					+ " Set phoenix.backend=sim to select it explicitly");
+			useSimulation();
+		}
+	}
+
+	/**
+	 * @return true if running on a roboRIO, which always has the lvuser home directory
+	 */
+	private static boolean isRobot() {
+		return new File("/home/lvuser").isDirectory();
+	}
+
+	/**
+	 * Use CTRE_PhoenixCCI for devices created after this call.
+	 */
+	public static synchronized void useNative() {
+		use(new MotControllerJNIBackend(), new PigeonImuJNIBackend(),
+				new CANifierJNIBackend(), new BuffTrajPointStreamJNIBackend());
+		_simulation = false;
+	}
+
+	/**
+	 * Use a fresh pure-Java simulation for devices created after this call.
+	 * Devices created earlier keep their old backend.
+	 */
+	public static synchronized void useSimulation() {
+		SimBuffTrajPointStreamBackend streams = new SimBuffTrajPointStreamBackend();
+		use(new SimMotControllerBackend(streams), new SimPigeonImuBackend(),
+				new SimCANifierBackend(), streams);
+		_simulation = true;
+	}
+
+	/**
+	 * Use caller supplied backends for devices created after this call.
+	 * Motor controllers must accept stream handles created by buffTrajPointStream.
+	 */
+	public static synchronized void use(IMotControllerBackend motController, IPigeonImuBackend pigeonImu,
+			ICANifierBackend canifier, IBuffTrajPointStreamBackend buffTrajPointStream) {
+		_motController = motController;
+		_pigeonImu = pigeonImu;
+		_canifier = canifier;
+		_buffTrajPointStream = buffTrajPointStream;
+		_simulation = false;
+	}
+
+	/**
+	 * @return true if the current backend is the pure-Java simulation.
+	 */
+	public static boolean isSimulation() {
+		return _simulation;
+	}
+
+	public static IMotControllerBackend getMotController() {
+		return _motController;
+	}
+	public static IPigeonImuBackend getPigeonImu() {
+		return _pigeonImu;
+	}
+	public static ICANifierBackend getCANifier() {
+		return _canifier;
+	}
+	public static IBuffTrajPointStreamBackend getBuffTrajPointStream() {
+		return _buffTrajPointStream;
+	}
+}
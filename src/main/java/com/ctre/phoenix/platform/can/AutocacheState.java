@@ -1,5 +1,7 @@
 package com.ctre.phoenix.platform.can;
 
+import com.ctre.phoenix.EnumLookup;
+
 /**
  * Keeps track of cache state
  */
@@ -13,18 +15,15 @@ public enum AutocacheState {
 	 */
 	Enabled(1);
 
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<AutocacheState> _lookup = new EnumLookup<AutocacheState>(AutocacheState.values(), e -> e.value, null);
 	/**
 	 * Get AutocacheState of specified value
 	 * @param value Value of autocacheState
 	 * @return AutocacheState of specified value
 	 */
 	public static AutocacheState valueOf(int value) {
-		for (AutocacheState frame : values()) {
-			if (frame.value == value) {
-				return frame;
-			}
-		}
-		return null;
+		return _lookup.get(value);
 	}
 
 	/**
@@ -0,0 +1,78 @@
+package com.ctre.phoenix.platform.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.motion.IBuffTrajPointStreamBackend;
+import com.ctre.phoenix.motion.TrajectoryPoint;
+
+/**
+ * Buffered trajectory point streams kept in Java memory.
+ * Streams are read by SimMotControllerBackend when a motion profile is started.
+ */
+public class SimBuffTrajPointStreamBackend implements IBuffTrajPointStreamBackend {
+
+	private final ConcurrentHashMap<Long, List<TrajectoryPoint>> _streams = new ConcurrentHashMap<Long, List<TrajectoryPoint>>();
+
+	public long Create1() {
+		long handle = SimDevice.nextHandle();
+		_streams.put(handle, new ArrayList<TrajectoryPoint>());
+		return handle;
+	}
+	public void DestroyAll() {
+		_streams.clear();
+	}
+	public int Destroy(long handle) {
+		return _streams.remove(handle) != null ? ErrorCode.OK.value : ErrorCode.InvalidHandle.value;
+	}
+	public int Clear(long handle) {
+		List<TrajectoryPoint> points = _streams.get(handle);
+		if (points == null) {
+			return ErrorCode.InvalidHandle.value;
+		}
+		synchronized (points) {
+			points.clear();
+		}
+		return ErrorCode.OK.value;
+	}
+	public int Write(long handle, double position, double velocity, double arbFeedFwd, double auxiliaryPos,
+			double auxiliaryVel, double auxiliaryArbFeedFwd, int profileSlotSelect0, int profileSlotSelect1,
+			boolean isLastPoint, boolean zeroPos, int timeDur, boolean useAuxPID) {
+		List<TrajectoryPoint> points = _streams.get(handle);
+		if (points == null) {
+			return ErrorCode.InvalidHandle.value;
+		}
+		TrajectoryPoint pt = new TrajectoryPoint();
+		pt.position = position;
+		pt.velocity = velocity;
+		pt.arbFeedFwd = arbFeedFwd;
+		pt.auxiliaryPos = auxiliaryPos;
+		pt.auxiliaryVel = auxiliaryVel;
+		pt.auxiliaryArbFeedFwd = auxiliaryArbFeedFwd;
+		pt.profileSlotSelect0 = profileSlotSelect0;
+		pt.profileSlotSelect1 = profileSlotSelect1;
+		pt.isLastPoint = isLastPoint;
+		pt.zeroPos = zeroPos;
+		pt.timeDur = timeDur;
+		pt.useAuxPID = useAuxPID;
+		synchronized (points) {
+			points.add(pt);
+		}
+		return ErrorCode.OK.value;
+	}
+
+	/**
+	 * @return copy of the points in a stream, or null if handle is unknown.
+	 */
+	List<TrajectoryPoint> copyPoints(long handle) {
+		List<TrajectoryPoint> points = _streams.get(handle);
+		if (points == null) {
+			return null;
+		}
+		synchronized (points) {
+			return new ArrayList<TrajectoryPoint>(points);
+		}
+	}
+}
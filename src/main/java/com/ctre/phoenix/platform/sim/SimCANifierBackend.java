@@ -0,0 +1,185 @@
+package com.ctre.phoenix.platform.sim;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ICANifierBackend;
+import com.ctre.phoenix.ParamEnum;
+
+/**
+ * CANifiers simulated in Java memory.
+ * Outputs are stored, general inputs read back whatever was last driven on the pin,
+ * and the quadrature position changes only when set by the caller.
+ */
+public class SimCANifierBackend implements ICANifierBackend {
+	private static final int PIN_COUNT = 11;
+
+	private final ConcurrentHashMap<Long, Device> _devices = new ConcurrentHashMap<Long, Device>();
+	private final Device _detached = new Device(0, false);
+	private volatile double _busVoltage = 12.0;
+
+	private static final class Device extends SimDevice {
+		int outputBits;
+		final int[] ledDutyCycle = new int[3];
+		final int[] pwmDutyCycle = new int[4];
+		final boolean[] pwmEnabled = new boolean[4];
+		int quadPosition;
+
+		Device(int deviceNumber, boolean valid) {
+			super(deviceNumber, valid);
+			loadDefaults();
+		}
+
+		@Override
+		void loadDefaults() {
+			setParam(ParamEnum.eSampleVelocityPeriod, 0, 100);
+			setParam(ParamEnum.eSampleVelocityWindow, 0, 64);
+		}
+	}
+
+	private Device dev(long handle) {
+		Device d = _devices.get(handle);
+		return d != null ? d : _detached;
+	}
+
+	/**
+	 * @param volts Bus voltage reported by every simulated CANifier.
+	 */
+	public void setBusVoltage(double volts) {
+		_busVoltage = volts;
+	}
+
+	/**
+	 * @param handle handle of device.
+	 * @return device number the handle was created with, or 0 if the handle is unknown.
+	 */
+	public int getDeviceNumber(long handle) {
+		return dev(handle).deviceNumber;
+	}
+
+	public long JNI_new_CANifier(int deviceNumber) {
+		long handle = SimDevice.nextHandle();
+		_devices.put(handle, new Device(deviceNumber, true));
+		return handle;
+	}
+	public int JNI_destroy_CANifier(long handle) {
+		return _devices.remove(handle) != null ? ErrorCode.OK.value : ErrorCode.InvalidHandle.value;
+	}
+	public void JNI_SetLEDOutput(long handle, int dutyCycle, int ledChannel) {
+		Device d = dev(handle);
+		synchronized (d) { d.ledDutyCycle[ledChannel] = dutyCycle; }
+	}
+	public void JNI_SetGeneralOutputs(long handle, int outputBits, int isOutputBits) {
+		Device d = dev(handle);
+		synchronized (d) { d.outputBits = outputBits & isOutputBits; }
+	}
+	public void JNI_SetGeneralOutput(long handle, int outputPin, boolean outputValue, boolean outputEnable) {
+		Device d = dev(handle);
+		synchronized (d) {
+			if (outputValue && outputEnable) {
+				d.outputBits |= (1 << outputPin);
+			} else {
+				d.outputBits &= ~(1 << outputPin);
+			}
+		}
+	}
+	public void JNI_SetPWMOutput(long handle, int pwmChannel, int dutyCycle) {
+		Device d = dev(handle);
+		synchronized (d) { d.pwmDutyCycle[pwmChannel] = dutyCycle; }
+	}
+	public void JNI_EnablePWMOutput(long handle, int pwmChannel, boolean bEnable) {
+		Device d = dev(handle);
+		synchronized (d) { d.pwmEnabled[pwmChannel] = bEnable; }
+	}
+	public void JNI_GetGeneralInputs(long handle, boolean[] allPins) {
+		Device d = dev(handle);
+		synchronized (d) {
+			for (int i = 0; i < PIN_COUNT && i < allPins.length; ++i) {
+				allPins[i] = (d.outputBits & (1 << i)) != 0;
+			}
+		}
+	}
+	public boolean JNI_GetGeneralInput(long handl, int inputPin) {
+		Device d = dev(handl);
+		synchronized (d) { return (d.outputBits & (1 << inputPin)) != 0; }
+	}
+	public void JNI_GetPWMInput(long handle, int pwmChannel, double[] pulseWidthAndPeriod) {
+		pulseWidthAndPeriod[0] = 0;
+		pulseWidthAndPeriod[1] = 0;
+	}
+	public int JNI_GetLastError(long handle) {
+		return dev(handle).status();
+	}
+	public double JNI_GetBatteryVoltage(long handle) {
+		return _busVoltage;
+	}
+	public int JNI_GetQuadraturePosition(long handle) {
+		Device d = dev(handle);
+		synchronized (d) { return d.quadPosition; }
+	}
+	public int JNI_SetQuadraturePosition(long handle, int newPosition, int timeoutMs) {
+		Device d = dev(handle);
+		synchronized (d) { d.quadPosition = newPosition; }
+		return d.status();
+	}
+	public int JNI_GetQuadratureVelocity(long handle) {
+		return 0;
+	}
+	public int JNI_ConfigVelocityMeasurementPeriod(long handle, int period, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eSampleVelocityPeriod, 0, period);
+	}
+	public int JNI_ConfigVelocityMeasurementWindow(long handle, int windowSize, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eSampleVelocityWindow, 0, windowSize);
+	}
+	public int JNI_ConfigClearPositionOnLimitF(long handle, boolean clearPositionOnLimitF, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eClearPositionOnLimitF, 0, clearPositionOnLimitF);
+	}
+	public int JNI_ConfigClearPositionOnLimitR(long handle, boolean clearPositionOnLimitR, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eClearPositionOnLimitR, 0, clearPositionOnLimitR);
+	}
+	public int JNI_ConfigClearPositionOnQuadIdx(long handle, boolean clearPositionOnQuadIdx, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eClearPositionOnQuadIdx, 0, clearPositionOnQuadIdx);
+	}
+	public int JNI_ConfigSetCustomParam(long handle, int newValue, int paramIndex, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eCustomParam, paramIndex, newValue);
+	}
+	public int JNI_ConfigGetCustomParam(long handle, int paramIndex, int timoutMs) {
+		return (int) dev(handle).getParam(ParamEnum.eCustomParam, paramIndex);
+	}
+	public int JNI_ConfigSetParameter(long handle, int param, double value, int subValue, int ordinal, int timeoutMs) {
+		return dev(handle).setParam(param, ordinal, value);
+	}
+	public double JNI_ConfigGetParameter(long handle, int param, int ordinal, int timeoutMs) {
+		return dev(handle).getParam(param, ordinal);
+	}
+	public int JNI_ConfigFactoryDefault(long handle, int timeoutMs) {
+		return dev(handle).factoryDefault();
+	}
+	public int JNI_SetStatusFramePeriod(long handle, int statusFrame, int periodMs, int timeoutMs) {
+		return dev(handle).setStatusFramePeriod(statusFrame, periodMs);
+	}
+	public int JNI_GetStatusFramePeriod(long handle, int frame, int timeoutMs) {
+		return dev(handle).getStatusFramePeriod(frame, 100);
+	}
+	public int JNI_SetControlFramePeriod(long handle, int frame, int periodMs) {
+		return dev(handle).setControlFramePeriod(frame, periodMs);
+	}
+	public int JNI_GetFirmwareVersion(long handle) {
+		return 0;
+	}
+	public boolean JNI_HasResetOccurred(long handle) {
+		return false;
+	}
+	public int JNI_GetFaults(long handle) {
+		return 0;
+	}
+	public int JNI_GetStickyFaults(long handle) {
+		return 0;
+	}
+	public int JNI_ClearStickyFaults(long handle, int timeoutMs) {
+		return dev(handle).status();
+	}
+	public double JNI_GetBusVoltage(long handle) {
+		return _busVoltage;
+	}
+}
@@ -0,0 +1,87 @@
+package com.ctre.phoenix.platform.sim;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ParamEnum;
+
+/**
+ * State common to every simulated device: parameters, custom parameters and frame periods.
+ * Simulated configs are applied immediately, so timeoutMs is ignored.
+ * All members are guarded by the device's monitor.
+ */
+class SimDevice {
+	private static final AtomicLong _nextHandle = new AtomicLong(1);
+
+	/** Handles are unique across all simulated device types. */
+	static long nextHandle() {
+		return _nextHandle.getAndIncrement();
+	}
+
+	final int deviceNumber;
+	final boolean valid;
+	private final HashMap<Long, Double> _params = new HashMap<Long, Double>();
+	private final HashMap<Integer, Integer> _statusFramePeriods = new HashMap<Integer, Integer>();
+	private final HashMap<Integer, Integer> _controlFramePeriods = new HashMap<Integer, Integer>();
+	private final long _createdNs = System.nanoTime();
+
+	SimDevice(int deviceNumber, boolean valid) {
+		this.deviceNumber = deviceNumber;
+		this.valid = valid;
+	}
+
+	/** @return InvalidHandle for the placeholder used in place of unknown handles. */
+	int status() {
+		return valid ? ErrorCode.OK.value : ErrorCode.InvalidHandle.value;
+	}
+
+	synchronized int setParam(int param, int ordinal, double value) {
+		_params.put(key(param, ordinal), value);
+		return status();
+	}
+	int setParam(ParamEnum param, int ordinal, double value) {
+		return setParam(param.value, ordinal, value);
+	}
+	int setParam(ParamEnum param, int ordinal, boolean value) {
+		return setParam(param.value, ordinal, value ? 1 : 0);
+	}
+	synchronized double getParam(int param, int ordinal) {
+		Double value = _params.get(key(param, ordinal));
+		return value != null ? value : 0;
+	}
+	double getParam(ParamEnum param, int ordinal) {
+		return getParam(param.value, ordinal);
+	}
+	/** Remove every parameter, then load the device type's defaults. */
+	synchronized int factoryDefault() {
+		_params.clear();
+		loadDefaults();
+		return status();
+	}
+	/** Override to set the device type's factory defaults. */
+	void loadDefaults() {
+	}
+
+	synchronized int setStatusFramePeriod(int frame, int periodMs) {
+		_statusFramePeriods.put(frame, periodMs);
+		return status();
+	}
+	synchronized int getStatusFramePeriod(int frame, int defaultPeriodMs) {
+		Integer value = _statusFramePeriods.get(frame);
+		return value != null ? value : defaultPeriodMs;
+	}
+	synchronized int setControlFramePeriod(int frame, int periodMs) {
+		_controlFramePeriods.put(frame, periodMs);
+		return status();
+	}
+
+	/** @return seconds since the device was created */
+	double upTimeSec() {
+		return (System.nanoTime() - _createdNs) / 1e9;
+	}
+
+	private static long key(int param, int ordinal) {
+		return ((long) param << 32) | (ordinal & 0xFFFFFFFFL);
+	}
+}
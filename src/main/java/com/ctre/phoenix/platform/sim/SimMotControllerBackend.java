@@ -0,0 +1,808 @@
+package com.ctre.phoenix.platform.sim;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ParamEnum;
+import com.ctre.phoenix.motion.SetValueMotionProfile;
+import com.ctre.phoenix.motion.TrajectoryPoint;
+import com.ctre.phoenix.motorcontrol.ControlMode;
+import com.ctre.phoenix.motorcontrol.DemandType;
+import com.ctre.phoenix.motorcontrol.InvertType;
+import com.ctre.phoenix.motorcontrol.StatusFrameEnhanced;
+import com.ctre.phoenix.motorcontrol.VelocityMeasPeriod;
+import com.ctre.phoenix.motorcontrol.can.IMotControllerBackend;
+
+/**
+ * Motor controllers simulated in Java memory.
+ *
+ * Each device keeps its parameters, status frame periods and motion profile buffers.
+ * The mechanism is modeled as an ideal motor: velocity is the output times the free speed,
+ * and closed-loop modes track their target as fast as the free speed allows.
+ * State is advanced whenever a status signal is read.
+ */
+public class SimMotControllerBackend implements IMotControllerBackend {
+	/** Number of points the API-side (top) motion profile buffer holds. */
+	public static final int TOP_BUFFER_CAPACITY = 2048;
+	/** Number of points the firmware-side (bottom) motion profile buffer holds. */
+	public static final int BOTTOM_BUFFER_CAPACITY = 128;
+
+	private final ConcurrentHashMap<Long, Device> _devices = new ConcurrentHashMap<Long, Device>();
+	private final Device _detached = new Device(0, false);
+	private final SimBuffTrajPointStreamBackend _streams;
+
+	private volatile double _freeSpeed = 4096;
+	private volatile double _busVoltage = 12.0;
+	private volatile double _freeCurrent = 2.0;
+
+	/**
+	 * Constructor for SimMotControllerBackend
+	 * @param streams Stream backend that startMotionProfile reads from.
+	 */
+	public SimMotControllerBackend(SimBuffTrajPointStreamBackend streams) {
+		_streams = streams;
+	}
+
+	/**
+	 * @param unitsPer100ms Sensor velocity of every simulated mechanism at full output.
+	 */
+	public void setFreeSpeed(double unitsPer100ms) {
+		_freeSpeed = unitsPer100ms;
+	}
+	/**
+	 * @param volts Bus voltage reported by every simulated motor controller.
+	 */
+	public void setBusVoltage(double volts) {
+		_busVoltage = volts;
+	}
+	/**
+	 * @param amps Output current reported at full output.
+	 */
+	public void setFreeCurrent(double amps) {
+		_freeCurrent = amps;
+	}
+
+	private Device dev(long handle) {
+		Device d = _devices.get(handle);
+		return d != null ? d : _detached;
+	}
+
+	private final class Device extends SimDevice {
+		int mode = ControlMode.Disabled.value;
+		double demand0;
+		double demand1;
+		int demand1Type;
+		int invertType;
+		boolean sensorPhase;
+		boolean trajectoryInterpolation = true;
+		final int[] profileSlot = new int[2];
+		double integralAccum;
+
+		volatile double output;
+		double position;
+		double velocity;
+		double auxPosition;
+		double closedLoopTarget;
+		long lastUpdateNs = System.nanoTime();
+
+		final ArrayDeque<TrajectoryPoint> topBuffer = new ArrayDeque<TrajectoryPoint>();
+		final ArrayDeque<TrajectoryPoint> btmBuffer = new ArrayDeque<TrajectoryPoint>();
+		TrajectoryPoint activePoint;
+		double activeElapsedMs;
+		boolean hasUnderrun;
+		boolean isUnderrun;
+		boolean streaming;
+
+		Device(int deviceNumber, boolean valid) {
+			super(deviceNumber, valid);
+			loadDefaults();
+		}
+
+		@Override
+		void loadDefaults() {
+			setParam(ParamEnum.ePeakPosOutput, 0, 1.0);
+			setParam(ParamEnum.ePeakNegOutput, 0, -1.0);
+			setParam(ParamEnum.eNeutralDeadband, 0, 0.04);
+			setParam(ParamEnum.eBatteryVoltageFilterSize, 0, 32);
+			setParam(ParamEnum.eSampleVelocityPeriod, 0, VelocityMeasPeriod.Period_100Ms.value);
+			setParam(ParamEnum.eSampleVelocityWindow, 0, 64);
+			setParam(ParamEnum.ePulseWidthPeriod_EdgesPerRot, 0, 1);
+			setParam(ParamEnum.ePulseWidthPeriod_FilterWindowSz, 0, 1);
+			for (int slot = 0; slot < 4; ++slot) {
+				setParam(ParamEnum.eProfileParamSlot_PeakOutput, slot, 1.0);
+				setParam(ParamEnum.ePIDLoopPeriod, slot, 1);
+			}
+			for (int pid = 0; pid < 2; ++pid) {
+				setParam(ParamEnum.eSelectedSensorCoefficient, pid, 1.0);
+			}
+			trajectoryInterpolation = true;
+		}
+
+		synchronized void setDemand(int mode, double demand0, double demand1, int demand1Type) {
+			update();
+			if (mode != this.mode || demand0 != this.demand0) {
+				/* profile timing restarts whenever it is (re)enabled */
+				activeElapsedMs = 0;
+			}
+			this.mode = mode;
+			this.demand0 = demand0;
+			this.demand1 = demand1;
+			this.demand1Type = demand1Type;
+		}
+
+		/** Advance the simulated mechanism to now. */
+		synchronized void update() {
+			long now = System.nanoTime();
+			double dt100ms = (now - lastUpdateNs) / 1e8;
+			lastUpdateNs = now;
+
+			if (mode == ControlMode.PercentOutput.value) {
+				closedLoopTarget = 0;
+				runOpenLoop(demand0 + arbFeedFwd(), dt100ms);
+			} else if (mode == ControlMode.Follower.value) {
+				runOpenLoop(masterOutput(), dt100ms);
+			} else if (mode == ControlMode.Velocity.value) {
+				closedLoopTarget = demand0;
+				runVelocity(demand0, dt100ms);
+			} else if (mode == ControlMode.Position.value) {
+				closedLoopTarget = demand0;
+				runPosition(demand0, _freeSpeed, dt100ms);
+			} else if (mode == ControlMode.MotionMagic.value) {
+				closedLoopTarget = demand0;
+				double cruise = getParam(ParamEnum.eMotMag_VelCruise, 0);
+				runPosition(demand0, (cruise > 0) ? cruise : _freeSpeed, dt100ms);
+			} else if (mode == ControlMode.MotionProfile.value || mode == ControlMode.MotionProfileArc.value) {
+				runProfile(dt100ms);
+			} else {
+				/* Current, Disabled and anything else are neutral */
+				output = 0;
+				velocity = 0;
+			}
+		}
+
+		private double arbFeedFwd() {
+			return (demand1Type == DemandType.ArbitraryFeedForward.value) ? demand1 : 0;
+		}
+
+		private double masterOutput() {
+			int masterNumber = ((int) demand0) & 0x3F;
+			for (Device d : _devices.values()) {
+				if (d != this && d.deviceNumber == masterNumber) {
+					return (invertType == InvertType.OpposeMaster.value) ? -d.output : d.output;
+				}
+			}
+			return 0;
+		}
+
+		private void runOpenLoop(double out, double dt100ms) {
+			if (Math.abs(out) < getParam(ParamEnum.eNeutralDeadband, 0)) {
+				out = 0;
+			}
+			out = clampOutput(out);
+			output = out;
+			velocity = out * _freeSpeed;
+			position += velocity * dt100ms;
+		}
+
+		private void runVelocity(double target, double dt100ms) {
+			output = clampOutput(target / _freeSpeed);
+			velocity = output * _freeSpeed;
+			position += velocity * dt100ms;
+		}
+
+		private void runPosition(double target, double maxSpeed, double dt100ms) {
+			double maxStep = Math.abs(maxSpeed) * dt100ms;
+			double step = target - position;
+			if (step > maxStep) { step = maxStep; }
+			if (step < -maxStep) { step = -maxStep; }
+			position += step;
+			velocity = (dt100ms > 0) ? step / dt100ms : 0;
+			output = clampOutput(velocity / _freeSpeed);
+		}
+
+		private void runProfile(double dt100ms) {
+			if (streaming) {
+				fillBottomBuffer();
+			}
+			int setValue = (int) demand0;
+			if (setValue != SetValueMotionProfile.Enable.value) {
+				/* Disable and Hold both stop the mechanism where it is */
+				output = 0;
+				velocity = 0;
+				return;
+			}
+			activeElapsedMs += dt100ms * 100;
+			if (activePoint == null) {
+				/* profile clock starts once the first point is available */
+				activePoint = btmBuffer.poll();
+				if (activePoint == null) {
+					activeElapsedMs = 0;
+				}
+			}
+			isUnderrun = false;
+			while (activePoint != null && !activePoint.isLastPoint && activeElapsedMs >= pointDurationMs(activePoint)) {
+				if (btmBuffer.isEmpty()) {
+					isUnderrun = true;
+					hasUnderrun = true;
+					break;
+				}
+				activeElapsedMs -= pointDurationMs(activePoint);
+				activePoint = btmBuffer.poll();
+			}
+			if (activePoint == null) {
+				isUnderrun = true;
+				hasUnderrun = true;
+				output = 0;
+				velocity = 0;
+				return;
+			}
+			closedLoopTarget = activePoint.position;
+			position = activePoint.position;
+			velocity = activePoint.velocity;
+			auxPosition = activePoint.auxiliaryPos;
+			output = clampOutput(velocity / _freeSpeed + activePoint.arbFeedFwd);
+		}
+
+		private double pointDurationMs(TrajectoryPoint pt) {
+			return pt.timeDur + getParam(ParamEnum.eMotionProfileTrajectoryPointDurationMs, 0);
+		}
+
+		private double clampOutput(double out) {
+			double peakFwd = getParam(ParamEnum.ePeakPosOutput, 0);
+			double peakRev = getParam(ParamEnum.ePeakNegOutput, 0);
+			if (out > peakFwd) { out = peakFwd; }
+			if (out < peakRev) { out = peakRev; }
+			if (out > 0 && getParam(ParamEnum.eForwardSoftLimitEnable, 0) != 0
+					&& position >= getParam(ParamEnum.eForwardSoftLimitThreshold, 0)) {
+				out = 0;
+			}
+			if (out < 0 && getParam(ParamEnum.eReverseSoftLimitEnable, 0) != 0
+					&& position <= getParam(ParamEnum.eReverseSoftLimitThreshold, 0)) {
+				out = 0;
+			}
+			return out;
+		}
+
+		synchronized int fillBottomBuffer() {
+			while (!topBuffer.isEmpty() && btmBuffer.size() < BOTTOM_BUFFER_CAPACITY) {
+				btmBuffer.add(topBuffer.poll());
+			}
+			return status();
+		}
+
+		synchronized int push(TrajectoryPoint pt) {
+			if (topBuffer.size() >= TOP_BUFFER_CAPACITY) {
+				return ErrorCode.BufferFull.value;
+			}
+			topBuffer.add(pt);
+			return status();
+		}
+
+		synchronized int clearProfile() {
+			topBuffer.clear();
+			btmBuffer.clear();
+			activePoint = null;
+			activeElapsedMs = 0;
+			isUnderrun = false;
+			streaming = false;
+			return status();
+		}
+
+		synchronized int startProfile(List<TrajectoryPoint> points, int controlMode) {
+			clearProfile();
+			topBuffer.addAll(points);
+			streaming = true;
+			fillBottomBuffer();
+			setDemand(controlMode, SetValueMotionProfile.Enable.value, 0, DemandType.Neutral.value);
+			return status();
+		}
+
+		synchronized void fillProfileStatus(int[] toFill) {
+			update();
+			/* written in place, toFill may be the 9 or 11 element layout */
+			boolean active = activePoint != null;
+			boolean mpMode = mode == ControlMode.MotionProfile.value || mode == ControlMode.MotionProfileArc.value;
+			fill(toFill, 0, TOP_BUFFER_CAPACITY - topBuffer.size());
+			fill(toFill, 1, topBuffer.size());
+			fill(toFill, 2, btmBuffer.size());
+			fill(toFill, 3, hasUnderrun ? 1 : 0);
+			fill(toFill, 4, isUnderrun ? 1 : 0);
+			fill(toFill, 5, active ? 1 : 0);
+			fill(toFill, 6, (active && activePoint.isLastPoint) ? 1 : 0);
+			fill(toFill, 7, active ? activePoint.profileSlotSelect0 : 0);
+			fill(toFill, 8, mpMode ? (int) demand0 : SetValueMotionProfile.Disable.value);
+			fill(toFill, 9, active ? activePoint.timeDur : 0);
+			fill(toFill, 10, active ? activePoint.profileSlotSelect1 : 0);
+		}
+		private void fill(int[] toFill, int idx, int value) {
+			if (idx < toFill.length) {
+				toFill[idx] = value;
+			}
+		}
+
+		synchronized boolean isProfileFinished() {
+			update();
+			return activePoint != null && activePoint.isLastPoint && btmBuffer.isEmpty() && topBuffer.isEmpty();
+		}
+
+		synchronized TrajectoryPoint active() {
+			update();
+			return activePoint;
+		}
+
+		synchronized int sensorPosition(int pidIdx) {
+			update();
+			return (int) ((pidIdx == 0) ? position : auxPosition);
+		}
+		synchronized int sensorVelocity(int pidIdx) {
+			update();
+			return (int) ((pidIdx == 0) ? velocity : 0);
+		}
+		synchronized int setSensorPosition(int pos, int pidIdx) {
+			update();
+			if (pidIdx == 0) {
+				position = pos;
+			} else {
+				auxPosition = pos;
+			}
+			return status();
+		}
+		synchronized double motorOutput() {
+			update();
+			return output;
+		}
+		synchronized int closedLoopError(int pidIdx) {
+			update();
+			if (pidIdx != 0 || mode == ControlMode.PercentOutput.value || mode == ControlMode.Follower.value) {
+				return 0;
+			}
+			double actual = (mode == ControlMode.Velocity.value) ? velocity : position;
+			return (int) (closedLoopTarget - actual);
+		}
+		synchronized int closedLoopTarget(int pidIdx) {
+			update();
+			return (pidIdx == 0) ? (int) closedLoopTarget : 0;
+		}
+	}
+
+	public long Create(int baseArbId) {
+		long handle = SimDevice.nextHandle();
+		_devices.put(handle, new Device(baseArbId & 0x3F, true));
+		return handle;
+	}
+	public int JNI_destroy_MotController(long handle) {
+		return _devices.remove(handle) != null ? ErrorCode.OK.value : ErrorCode.InvalidHandle.value;
+	}
+	public int GetDeviceNumber(long handle) {
+		return dev(handle).deviceNumber;
+	}
+	public void SetDemand(long handle, int mode, int demand0, int demand1) {
+		dev(handle).setDemand(mode, demand0, demand1, DemandType.Neutral.value);
+	}
+	public void Set_4(long handle, int mode, double demand0, double demand1, int demand1Type) {
+		dev(handle).setDemand(mode, demand0, demand1, demand1Type);
+	}
+	public void SetNeutralMode(long handle, int neutralMode) {
+		/* neutral mode does not change the ideal model */
+	}
+	public void SetSensorPhase(long handle, boolean PhaseSensor) {
+		Device d = dev(handle);
+		synchronized (d) { d.sensorPhase = PhaseSensor; }
+	}
+	public void SetInverted(long handle, boolean invert) {
+		SetInverted_2(handle, invert ? InvertType.InvertMotorOutput.value : InvertType.None.value);
+	}
+	public void SetInverted_2(long handle, int invert) {
+		Device d = dev(handle);
+		synchronized (d) { d.invertType = invert; }
+	}
+	public int ConfigFactoryDefault(long handle, int timeoutMs) {
+		return dev(handle).factoryDefault();
+	}
+	public int ConfigOpenLoopRamp(long handle, double secondsFromNeutralToFull, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eOpenloopRamp, 0, secondsFromNeutralToFull);
+	}
+	public int ConfigClosedLoopRamp(long handle, double secondsFromNeutralToFull, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eClosedloopRamp, 0, secondsFromNeutralToFull);
+	}
+	public int ConfigPeakOutputForward(long handle, double percentOut, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.ePeakPosOutput, 0, percentOut);
+	}
+	public int ConfigPeakOutputReverse(long handle, double percentOut, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.ePeakNegOutput, 0, percentOut);
+	}
+	public int ConfigNominalOutputForward(long handle, double percentOut, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eNominalPosOutput, 0, percentOut);
+	}
+	public int ConfigNominalOutputReverse(long handle, double percentOut, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eNominalNegOutput, 0, percentOut);
+	}
+	public int ConfigNeutralDeadband(long handle, double percentDeadband, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eNeutralDeadband, 0, percentDeadband);
+	}
+	public int ConfigVoltageCompSaturation(long handle, double voltage, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eNominalBatteryVoltage, 0, voltage);
+	}
+	public int ConfigVoltageMeasurementFilter(long handle, int filterWindowSamples, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eBatteryVoltageFilterSize, 0, filterWindowSamples);
+	}
+	public void EnableVoltageCompensation(long handle, boolean enable) {
+		/* bus voltage is constant in simulation */
+	}
+	public boolean GetInverted(long handle) {
+		Device d = dev(handle);
+		synchronized (d) { return d.invertType == InvertType.InvertMotorOutput.value; }
+	}
+	public double GetBusVoltage(long handle) {
+		return _busVoltage;
+	}
+	public double GetMotorOutputPercent(long handle) {
+		return dev(handle).motorOutput();
+	}
+	public double GetOutputCurrent(long handle) {
+		return Math.abs(dev(handle).motorOutput()) * _freeCurrent;
+	}
+	public double GetTemperature(long handle) {
+		return 25.0;
+	}
+	public int ConfigRemoteFeedbackFilter(long handle, int deviceID, int remoteSensorSource, int remoteOrdinal, int timeoutMs) {
+		Device d = dev(handle);
+		d.setParam(ParamEnum.eRemoteSensorDeviceID.value, remoteOrdinal, deviceID);
+		return d.setParam(ParamEnum.eRemoteSensorSource.value, remoteOrdinal, remoteSensorSource);
+	}
+	public int ConfigSelectedFeedbackSensor(long handle, int feedbackDevice, int pidIdx, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eFeedbackSensorType.value, pidIdx, feedbackDevice);
+	}
+	public int ConfigSensorTerm(long handle, int sensorTerm, int feedbackDevice, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eSensorTerm.value, sensorTerm, feedbackDevice);
+	}
+	public int GetSelectedSensorPosition(long handle, int pidIdx) {
+		return dev(handle).sensorPosition(pidIdx);
+	}
+	public int GetSelectedSensorVelocity(long handle, int pidIdx) {
+		return dev(handle).sensorVelocity(pidIdx);
+	}
+	public int SetSelectedSensorPosition(long handle, int sensorPos, int pidIdx, int timeoutMs) {
+		return dev(handle).setSensorPosition(sensorPos, pidIdx);
+	}
+	public int SetControlFramePeriod(long handle, int frame, int periodMs) {
+		return dev(handle).setControlFramePeriod(frame, periodMs);
+	}
+	public int SetStatusFramePeriod(long handle, int frame, int periodMs, int timeoutMs) {
+		return dev(handle).setStatusFramePeriod(frame, periodMs);
+	}
+	public int GetStatusFramePeriod(long handle, int frame, int timeoutMs) {
+		return dev(handle).getStatusFramePeriod(frame, defaultStatusFramePeriod(frame));
+	}
+	private static int defaultStatusFramePeriod(int frame) {
+		if (frame == StatusFrameEnhanced.Status_1_General.value) { return 10; }
+		if (frame == StatusFrameEnhanced.Status_2_Feedback0.value) { return 20; }
+		return 160;
+	}
+	public int ConfigVelocityMeasurementPeriod(long handle, int period, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eSampleVelocityPeriod, 0, period);
+	}
+	public int ConfigVelocityMeasurementWindow(long handle, int windowSize, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eSampleVelocityWindow, 0, windowSize);
+	}
+	public int ConfigForwardLimitSwitchSource(long handle, int type, int normalOpenOrClose, int deviceID, int timeoutMs) {
+		return configLimitSwitch(dev(handle), 0, type, normalOpenOrClose, deviceID);
+	}
+	public int ConfigReverseLimitSwitchSource(long handle, int type, int normalOpenOrClose, int deviceID, int timeoutMs) {
+		return configLimitSwitch(dev(handle), 1, type, normalOpenOrClose, deviceID);
+	}
+	private static int configLimitSwitch(Device d, int ordinal, int type, int normalOpenOrClose, int deviceID) {
+		d.setParam(ParamEnum.eLimitSwitchSource.value, ordinal, type);
+		d.setParam(ParamEnum.eLimitSwitchNormClosedAndDis.value, ordinal, normalOpenOrClose);
+		return d.setParam(ParamEnum.eLimitSwitchRemoteDevID.value, ordinal, deviceID);
+	}
+	public void OverrideLimitSwitchesEnable(long handle, boolean enable) {
+		/* simulated limit switches are never closed */
+	}
+	public int ConfigForwardSoftLimitThreshold(long handle, int forwardSensorLimit, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eForwardSoftLimitThreshold, 0, forwardSensorLimit);
+	}
+	public int ConfigReverseSoftLimitThreshold(long handle, int reverseSensorLimit, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eReverseSoftLimitThreshold, 0, reverseSensorLimit);
+	}
+	public int ConfigForwardSoftLimitEnable(long handle, boolean enable, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eForwardSoftLimitEnable, 0, enable);
+	}
+	public int ConfigReverseSoftLimitEnable(long handle, boolean enable, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eReverseSoftLimitEnable, 0, enable);
+	}
+	public void OverrideSoftLimitsEnable(long handle, boolean enable) {
+		/* soft limits are applied from their enable parameters */
+	}
+	public int Config_kP(long handle, int slotIdx, double value, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eProfileParamSlot_P, slotIdx, value);
+	}
+	public int Config_kI(long handle, int slotIdx, double value, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eProfileParamSlot_I, slotIdx, value);
+	}
+	public int Config_kD(long handle, int slotIdx, double value, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eProfileParamSlot_D, slotIdx, value);
+	}
+	public int Config_kF(long handle, int slotIdx, double value, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eProfileParamSlot_F, slotIdx, value);
+	}
+	public int Config_IntegralZone(long handle, int slotIdx, double izone, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eProfileParamSlot_IZone, slotIdx, izone);
+	}
+	public int ConfigAllowableClosedloopError(long handle, int slotIdx, int allowableClosedLoopError, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eProfileParamSlot_AllowableErr, slotIdx, allowableClosedLoopError);
+	}
+	public int ConfigMaxIntegralAccumulator(long handle, int slotIdx, double iaccum, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eProfileParamSlot_MaxIAccum, slotIdx, iaccum);
+	}
+	public int SetIntegralAccumulator(long handle, double iaccum, int pidIdx, int timeoutMs) {
+		Device d = dev(handle);
+		synchronized (d) { d.integralAccum = iaccum; }
+		return d.status();
+	}
+	public int GetClosedLoopError(long handle, int pidIdx) {
+		return dev(handle).closedLoopError(pidIdx);
+	}
+	public double GetIntegralAccumulator(long handle, int pidIdx) {
+		Device d = dev(handle);
+		synchronized (d) { return d.integralAccum; }
+	}
+	public double GetErrorDerivative(long handle, int pidIdx) {
+		return 0;
+	}
+	public void SelectProfileSlot(long handle, int slotIdx, int pidIdx) {
+		Device d = dev(handle);
+		synchronized (d) { d.profileSlot[pidIdx & 1] = slotIdx; }
+	}
+	public int GetActiveTrajectoryPosition(long handle) {
+		return GetActiveTrajectoryPosition3(handle, 0);
+	}
+	public int GetActiveTrajectoryVelocity(long handle) {
+		return GetActiveTrajectoryVelocity3(handle, 0);
+	}
+	public double GetActiveTrajectoryHeading(long handle) {
+		TrajectoryPoint pt = dev(handle).active();
+		return pt != null ? pt.auxiliaryPos : 0;
+	}
+	public int GetActiveTrajectoryPosition3(long handle, int pidIdx) {
+		TrajectoryPoint pt = dev(handle).active();
+		return pt == null ? 0 : (int) ((pidIdx == 0) ? pt.position : pt.auxiliaryPos);
+	}
+	public int GetActiveTrajectoryVelocity3(long handle, int pidIdx) {
+		TrajectoryPoint pt = dev(handle).active();
+		return pt == null ? 0 : (int) ((pidIdx == 0) ? pt.velocity : pt.auxiliaryVel);
+	}
+	public double GetActiveTrajectoryArbFeedFwd3(long handle, int pidIdx) {
+		TrajectoryPoint pt = dev(handle).active();
+		return pt == null ? 0 : ((pidIdx == 0) ? pt.arbFeedFwd : pt.auxiliaryArbFeedFwd);
+	}
+	public int ConfigMotionCruiseVelocity(long handle, int sensorUnitsPer100ms, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eMotMag_VelCruise, 0, sensorUnitsPer100ms);
+	}
+	public int ConfigMotionAcceleration(long handle, int sensorUnitsPer100msPerSec, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eMotMag_Accel, 0, sensorUnitsPer100msPerSec);
+	}
+	public int ConfigMotionSCurveStrength(long m_handle, int curveStrength, int timeoutMs) {
+		return dev(m_handle).setParam(ParamEnum.eMotMag_SCurveLevel, 0, curveStrength);
+	}
+	public int ClearMotionProfileTrajectories(long handle) {
+		return dev(handle).clearProfile();
+	}
+	public int GetMotionProfileTopLevelBufferCount(long handle) {
+		Device d = dev(handle);
+		synchronized (d) { return d.topBuffer.size(); }
+	}
+	public int PushMotionProfileTrajectory(long handle, double position, double velocity, double headingDeg,
+			int profileSlotSelect, boolean isLastPoint, boolean zeroPos) {
+		return PushMotionProfileTrajectory2(handle, position, velocity, headingDeg, profileSlotSelect, 0, isLastPoint, zeroPos, 0);
+	}
+	public int PushMotionProfileTrajectory2(long handle, double position, double velocity, double headingDeg,
+			int profileSlotSelect0, int profileSlotSelect1, boolean isLastPoint, boolean zeroPos, int durationMs) {
+		return PushMotionProfileTrajectory3(handle, position, velocity, 0, headingDeg, 0, 0,
+				profileSlotSelect0, profileSlotSelect1, isLastPoint, zeroPos, durationMs, false);
+	}
+	public int PushMotionProfileTrajectory3(long handle, double position, double velocity, double arbFeedFwd,
+			double auxiliaryPos, double auxiliaryVel, double auxiliaryArbFeedFwd, int profileSlotSelect0,
+			int profileSlotSelect1, boolean isLastPoint, boolean zeroPos0, int timeDur, boolean useAuxPID) {
+		TrajectoryPoint pt = new TrajectoryPoint();
+		pt.position = position;
+		pt.velocity = velocity;
+		pt.arbFeedFwd = arbFeedFwd;
+		pt.auxiliaryPos = auxiliaryPos;
+		pt.auxiliaryVel = auxiliaryVel;
+		pt.auxiliaryArbFeedFwd = auxiliaryArbFeedFwd;
+		pt.profileSlotSelect0 = profileSlotSelect0;
+		pt.profileSlotSelect1 = profileSlotSelect1;
+		pt.isLastPoint = isLastPoint;
+		pt.zeroPos = zeroPos0;
+		pt.timeDur = timeDur;
+		pt.useAuxPID = useAuxPID;
+		return dev(handle).push(pt);
+	}
+	public int StartMotionProfile(long handle, long streamHandle, int minBufferedPts, int controlMode) {
+		List<TrajectoryPoint> points = _streams.copyPoints(streamHandle);
+		if (points == null) {
+			return ErrorCode.InvalidHandle.value;
+		}
+		return dev(handle).startProfile(points, controlMode);
+	}
+	public boolean IsMotionProfileTopLevelBufferFull(long handle) {
+		Device d = dev(handle);
+		synchronized (d) { return d.topBuffer.size() >= TOP_BUFFER_CAPACITY; }
+	}
+	public boolean IsMotionProfileFinished(long handle) {
+		return dev(handle).isProfileFinished();
+	}
+	public int ProcessMotionProfileBuffer(long handle) {
+		return dev(handle).fillBottomBuffer();
+	}
+	public int GetMotionProfileStatus(long handle, int[] toFill_9) {
+		Device d = dev(handle);
+		d.fillProfileStatus(toFill_9);
+		return d.status();
+	}
+	public int GetMotionProfileStatus2(long handle, int[] toFill_11) {
+		Device d = dev(handle);
+		d.fillProfileStatus(toFill_11);
+		return d.status();
+	}
+	public int ClearMotionProfileHasUnderrun(long handle, int timeoutMs) {
+		Device d = dev(handle);
+		synchronized (d) { d.hasUnderrun = false; }
+		return d.status();
+	}
+	public int ChangeMotionControlFramePeriod(long handle, int periodMs) {
+		return dev(handle).status();
+	}
+	public int ConfigMotionProfileTrajectoryPeriod(long handle, int periodMs, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eMotionProfileTrajectoryPointDurationMs, 0, periodMs);
+	}
+	public int ConfigMotionProfileTrajectoryInterpolationEnable(long handle, boolean enable, int timeoutMs) {
+		Device d = dev(handle);
+		synchronized (d) { d.trajectoryInterpolation = enable; }
+		return d.status();
+	}
+	public int ConfigFeedbackNotContinuous(long handle, boolean feedbackNotContinuous, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eFeedbackNotContinuous, 0, feedbackNotContinuous);
+	}
+	public int ConfigRemoteSensorClosedLoopDisableNeutralOnLOS(long handle, boolean remoteSensorClosedLoopDisableNeutralOnLOS, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eRemoteSensorClosedLoopDisableNeutralOnLOS, 0, remoteSensorClosedLoopDisableNeutralOnLOS);
+	}
+	public int ConfigClearPositionOnLimitF(long handle, boolean clearPositionOnLimitF, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eClearPositionOnLimitF, 0, clearPositionOnLimitF);
+	}
+	public int ConfigClearPositionOnLimitR(long handle, boolean clearPositionOnLimitR, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eClearPositionOnLimitR, 0, clearPositionOnLimitR);
+	}
+	public int ConfigClearPositionOnQuadIdx(long handle, boolean clearPositionOnQuadIdx, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eClearPositionOnQuadIdx, 0, clearPositionOnQuadIdx);
+	}
+	public int ConfigLimitSwitchDisableNeutralOnLOS(long handle, boolean limitSwitchDisableNeutralOnLOS, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eLimitSwitchDisableNeutralOnLOS, 0, limitSwitchDisableNeutralOnLOS);
+	}
+	public int ConfigSoftLimitDisableNeutralOnLOS(long handle, boolean softLimitDisableNeutralOnLOS, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eSoftLimitDisableNeutralOnLOS, 0, softLimitDisableNeutralOnLOS);
+	}
+	public int ConfigPulseWidthPeriod_EdgesPerRot(long handle, int pulseWidthPeriod_EdgesPerRot, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.ePulseWidthPeriod_EdgesPerRot, 0, pulseWidthPeriod_EdgesPerRot);
+	}
+	public int ConfigPulseWidthPeriod_FilterWindowSz(long handle, int pulseWidthPeriod_FilterWindowSz, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.ePulseWidthPeriod_FilterWindowSz, 0, pulseWidthPeriod_FilterWindowSz);
+	}
+	public int GetLastError(long handle) {
+		return dev(handle).status();
+	}
+	public int GetFirmwareVersion(long handle) {
+		return 0;
+	}
+	public boolean HasResetOccurred(long handle) {
+		return false;
+	}
+	public int ConfigSetCustomParam(long handle, int newValue, int paramIndex, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eCustomParam, paramIndex, newValue);
+	}
+	public int ConfigGetCustomParam(long handle, int paramIndex, int timoutMs) {
+		return (int) dev(handle).getParam(ParamEnum.eCustomParam, paramIndex);
+	}
+	public int ConfigSetParameter(long handle, int param, double value, int subValue, int ordinal, int timeoutMs) {
+		return dev(handle).setParam(param, ordinal, value);
+	}
+	public double ConfigGetParameter(long handle, int param, int ordinal, int timeoutMs) {
+		return dev(handle).getParam(param, ordinal);
+	}
+	public int ConfigPeakCurrentLimit(long handle, int amps, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.ePeakCurrentLimitAmps, 0, amps);
+	}
+	public int ConfigPeakCurrentDuration(long handle, int milliseconds, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.ePeakCurrentLimitMs, 0, milliseconds);
+	}
+	public int ConfigContinuousCurrentLimit(long handle, int amps, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eContinuousCurrentLimitAmps, 0, amps);
+	}
+	public int EnableCurrentLimit(long handle, boolean enable) {
+		return dev(handle).status();
+	}
+	public int GetAnalogIn(long handle) {
+		return GetSelectedSensorPosition(handle, 0) & 0x3FF;
+	}
+	public int SetAnalogPosition(long handle, int newPosition, int timeoutMs) {
+		return dev(handle).status();
+	}
+	public int GetAnalogInRaw(long handle) {
+		return GetAnalogIn(handle);
+	}
+	public int GetAnalogInVel(long handle) {
+		return GetSelectedSensorVelocity(handle, 0);
+	}
+	public int GetQuadraturePosition(long handle) {
+		return GetSelectedSensorPosition(handle, 0);
+	}
+	public int SetQuadraturePosition(long handle, int newPosition, int timeoutMs) {
+		return SetSelectedSensorPosition(handle, newPosition, 0, timeoutMs);
+	}
+	public int GetQuadratureVelocity(long handle) {
+		return GetSelectedSensorVelocity(handle, 0);
+	}
+	public int GetPulseWidthPosition(long handle) {
+		return GetSelectedSensorPosition(handle, 0);
+	}
+	public int SetPulseWidthPosition(long handle, int newPosition, int timeoutMs) {
+		return SetSelectedSensorPosition(handle, newPosition, 0, timeoutMs);
+	}
+	public int GetPulseWidthVelocity(long handle) {
+		return GetSelectedSensorVelocity(handle, 0);
+	}
+	public int GetPulseWidthRiseToFallUs(long handle) {
+		return 0;
+	}
+	public int GetPulseWidthRiseToRiseUs(long handle) {
+		return 0;
+	}
+	public int GetPinStateQuadA(long handle) {
+		return 0;
+	}
+	public int GetPinStateQuadB(long handle) {
+		return 0;
+	}
+	public int GetPinStateQuadIdx(long handle) {
+		return 0;
+	}
+	public int IsFwdLimitSwitchClosed(long handle) {
+		return 0;
+	}
+	public int IsRevLimitSwitchClosed(long handle) {
+		return 0;
+	}
+	public int GetFaults(long handle) {
+		return 0;
+	}
+	public int GetStickyFaults(long handle) {
+		return 0;
+	}
+	public int ClearStickyFaults(long handle, int timeoutMs) {
+		return dev(handle).status();
+	}
+	public int SelectDemandType(long handle, int enable) {
+		return dev(handle).status();
+	}
+	public int SetMPEOutput(long handle, int mpeOutput) {
+		return dev(handle).status();
+	}
+	public int EnableHeadingHold(long handle, int enable) {
+		return dev(handle).status();
+	}
+	public int GetClosedLoopTarget(long handle, int pidIdx) {
+		return dev(handle).closedLoopTarget(pidIdx);
+	}
+	public int ConfigSelectedFeedbackCoefficient(long handle, double coefficient, int pidIdx, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eSelectedSensorCoefficient, pidIdx, coefficient);
+	}
+	public int ConfigClosedLoopPeakOutput(long handle, int slotIdx, double percentOut, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eProfileParamSlot_PeakOutput, slotIdx, percentOut);
+	}
+	public int ConfigClosedLoopPeriod(long handle, int slotIdx, int loopTimeMs, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.ePIDLoopPeriod, slotIdx, loopTimeMs);
+	}
+}
@@ -0,0 +1,250 @@
+package com.ctre.phoenix.platform.sim;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ParamEnum;
+import com.ctre.phoenix.sensors.IPigeonImuBackend;
+
+/**
+ * Pigeon IMUs simulated in Java memory.
+ * Each device is stationary, level and Ready.  Its yaw, fused heading and accumulated Z
+ * angle change only when set or added to by the caller.
+ */
+public class SimPigeonImuBackend implements IPigeonImuBackend {
+	private static final int STATE_READY = 2;
+
+	private final ConcurrentHashMap<Long, Device> _devices = new ConcurrentHashMap<Long, Device>();
+	private final Device _detached = new Device(0, false);
+
+	private static final class Device extends SimDevice {
+		double yaw;
+		double fusedHeading;
+		double accumZ;
+
+		Device(int deviceNumber, boolean valid) {
+			super(deviceNumber, valid);
+		}
+
+		synchronized int setYaw(double angleDeg) {
+			yaw = angleDeg;
+			return status();
+		}
+		synchronized int setFusedHeading(double angleDeg) {
+			fusedHeading = angleDeg;
+			return status();
+		}
+	}
+
+	private Device dev(long handle) {
+		Device d = _devices.get(handle);
+		return d != null ? d : _detached;
+	}
+
+	/**
+	 * Rotate a simulated Pigeon, for example from a drivetrain model.
+	 * @param handle handle of device.
+	 * @param deltaDeg Degrees to add to yaw, fused heading and accumulated Z angle.
+	 */
+	public void rotate(long handle, double deltaDeg) {
+		Device d = dev(handle);
+		synchronized (d) {
+			d.yaw += deltaDeg;
+			d.fusedHeading += deltaDeg;
+			d.accumZ += deltaDeg;
+		}
+	}
+
+	/**
+	 * @param handle handle of device.
+	 * @return device number the handle was created with, or 0 if the handle is unknown.
+	 */
+	public int getDeviceNumber(long handle) {
+		return dev(handle).deviceNumber;
+	}
+
+	public long JNI_new_PigeonImu_Talon(int talonID) {
+		return JNI_new_PigeonImu(talonID);
+	}
+	public long JNI_new_PigeonImu(int deviceNumber) {
+		long handle = SimDevice.nextHandle();
+		_devices.put(handle, new Device(deviceNumber, true));
+		return handle;
+	}
+	public int JNI_destroy_PigeonImu(long handle) {
+		return _devices.remove(handle) != null ? ErrorCode.OK.value : ErrorCode.InvalidHandle.value;
+	}
+	public int JNI_ConfigSetCustomParam(long handle, int newValue, int paramIndex, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eCustomParam, paramIndex, newValue);
+	}
+	public int JNI_ConfigGetCustomParam(long handle, int paramIndex, int timoutMs) {
+		return (int) dev(handle).getParam(ParamEnum.eCustomParam, paramIndex);
+	}
+	public int JNI_ConfigSetParameter(long handle, int param, double value, int subValue, int ordinal, int timeoutMs) {
+		return dev(handle).setParam(param, ordinal, value);
+	}
+	public double JNI_ConfigGetParameter(long handle, int param, int ordinal, int timeoutMs) {
+		return dev(handle).getParam(param, ordinal);
+	}
+	public int JNI_ConfigFactoryDefault(long handle, int timeoutMs) {
+		return dev(handle).factoryDefault();
+	}
+	public int JNI_SetStatusFramePeriod(long handle, int statusFrame, int periodMs, int timeoutMs) {
+		return dev(handle).setStatusFramePeriod(statusFrame, periodMs);
+	}
+	public int JNI_SetYaw(long handle, double angleDeg, int timeoutMs) {
+		return dev(handle).setYaw(angleDeg);
+	}
+	public int JNI_AddYaw(long handle, double angleDeg, int timeoutMs) {
+		Device d = dev(handle);
+		synchronized (d) { return d.setYaw(d.yaw + angleDeg); }
+	}
+	public int JNI_SetYawToCompass(long handle, int timeoutMs) {
+		return dev(handle).setYaw(0);
+	}
+	public int JNI_SetFusedHeading(long handle, double angleDeg, int timeoutMs) {
+		return dev(handle).setFusedHeading(angleDeg);
+	}
+	public int JNI_AddFusedHeading(long handle, double angleDeg, int timeoutMs) {
+		Device d = dev(handle);
+		synchronized (d) { return d.setFusedHeading(d.fusedHeading + angleDeg); }
+	}
+	public int JNI_SetFusedHeadingToCompass(long handle, int timeoutMs) {
+		return dev(handle).setFusedHeading(0);
+	}
+	public int JNI_SetAccumZAngle(long handle, double angleDeg, int timeoutMs) {
+		Device d = dev(handle);
+		synchronized (d) { d.accumZ = angleDeg; }
+		return d.status();
+	}
+	public int JNI_SetTemperatureCompensationDisable(long handle, int bTempCompDisable, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eTempCompDisable.value, 0, bTempCompDisable);
+	}
+	public int JNI_SetCompassDeclination(long handle, double angleDegOffset, int timeoutMs) {
+		return dev(handle).setParam(ParamEnum.eCompassOffset, 0, angleDegOffset);
+	}
+	public int JNI_SetCompassAngle(long handle, double angleDeg, int timeoutMs) {
+		return dev(handle).status();
+	}
+	public int JNI_EnterCalibrationMode(long handle, int calMode, int timeoutMs) {
+		/* calibration completes immediately */
+		return dev(handle).status();
+	}
+	public int JNI_GetGeneralStatus(long handle, double[] params) {
+		Device d = dev(handle);
+		params[0] = STATE_READY;
+		params[1] = 0;
+		params[2] = 0;
+		params[3] = 0;
+		params[4] = tempC();
+		params[5] = (int) d.upTimeSec();
+		params[6] = 0;
+		params[7] = 0;
+		return d.status();
+	}
+	public int JNI_Get6dQuaternion(long handle, double[] wxyz) {
+		Device d = dev(handle);
+		double halfYaw;
+		synchronized (d) { halfYaw = Math.toRadians(d.yaw) / 2; }
+		wxyz[0] = Math.cos(halfYaw);
+		wxyz[1] = 0;
+		wxyz[2] = 0;
+		wxyz[3] = Math.sin(halfYaw);
+		return d.status();
+	}
+	public int JNI_GetYawPitchRoll(long handle, double[] ypr) {
+		Device d = dev(handle);
+		synchronized (d) { ypr[0] = d.yaw; }
+		ypr[1] = 0;
+		ypr[2] = 0;
+		return d.status();
+	}
+	public int JNI_GetAccumGyro(long handle, double[] xyz_deg) {
+		Device d = dev(handle);
+		xyz_deg[0] = 0;
+		xyz_deg[1] = 0;
+		synchronized (d) { xyz_deg[2] = d.accumZ; }
+		return d.status();
+	}
+	public double JNI_GetAbsoluteCompassHeading(long handle) {
+		return 0;
+	}
+	public double JNI_GetCompassHeading(long handle) {
+		return 0;
+	}
+	public double JNI_GetCompassFieldStrength(long handle) {
+		return 0;
+	}
+	public double JNI_GetTemp(long handle) {
+		return tempC();
+	}
+	private static double tempC() {
+		return 25.0;
+	}
+	public int JNI_GetUpTime(long handle) {
+		return (int) dev(handle).upTimeSec();
+	}
+	public int JNI_GetRawMagnetometer(long handle, short[] rm_xyz) {
+		rm_xyz[0] = rm_xyz[1] = rm_xyz[2] = 0;
+		return dev(handle).status();
+	}
+	public int JNI_GetBiasedMagnetometer(long handle, short[] bm_xyz) {
+		bm_xyz[0] = bm_xyz[1] = bm_xyz[2] = 0;
+		return dev(handle).status();
+	}
+	public int JNI_GetBiasedAccelerometer(long handle, short[] ba_xyz) {
+		/* level, so gravity is entirely on Z (Q2.14) */
+		ba_xyz[0] = 0;
+		ba_xyz[1] = 0;
+		ba_xyz[2] = 16384;
+		return dev(handle).status();
+	}
+	public int JNI_GetRawGyro(long handle, double[] xyz_dps) {
+		xyz_dps[0] = xyz_dps[1] = xyz_dps[2] = 0;
+		return dev(handle).status();
+	}
+	public int JNI_GetAccelerometerAngles(long handle, double[] tiltAngles) {
+		tiltAngles[0] = tiltAngles[1] = tiltAngles[2] = 0;
+		return dev(handle).status();
+	}
+	public int JNI_GetFusedHeading(long handle, double[] params) {
+		Device d = dev(handle);
+		synchronized (d) { params[0] = d.fusedHeading; }
+		params[1] = 0; /* not fusing the compass */
+		params[2] = d.valid ? 1 : 0;
+		return d.status();
+	}
+	public int JNI_GetState(long handle) {
+		return dev(handle).valid ? STATE_READY : 0;
+	}
+	public int JNI_GetResetCount(long handle) {
+		return 0;
+	}
+	public int JNI_GetResetFlags(long handle) {
+		return 0;
+	}
+	public int JNI_GetFirmwareVersion(long handle) {
+		return 0;
+	}
+	public int JNI_GetLastError(long handle) {
+		return dev(handle).status();
+	}
+	public boolean JNI_HasResetOccurred(long handle) {
+		return false;
+	}
+	public int JNI_GetStatusFramePeriod(long handle, int frame, int timeoutMs) {
+		return dev(handle).getStatusFramePeriod(frame, 100);
+	}
+	public int JNI_SetControlFramePeriod(long handle, int frame, int periodMs) {
+		return dev(handle).setControlFramePeriod(frame, periodMs);
+	}
+	public int JNI_GetFaults(long handle) {
+		return 0;
+	}
+	public int JNI_GetStickyFaults(long handle) {
+		return 0;
+	}
+	public int JNI_ClearStickyFaults(long handle, int timeoutMs) {
+		return dev(handle).status();
+	}
+}
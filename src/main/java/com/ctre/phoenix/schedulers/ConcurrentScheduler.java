@@ -1,14 +1,138 @@
 package com.ctre.phoenix.schedulers;
-import java.util.ArrayList;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 import com.ctre.phoenix.ILoopable;
 
 /**
  * Scheduler that wil run its ILoopables in concurrency
+ *
+ * ILoopables may be added from any thread, including while process() is running.
+ * Registration publishes a new immutable array of tasks, so process() never locks or allocates.
+ * register() returns a handle that can be used to start, stop or inspect the ILoopable in constant time.
+ * Handles are invalidated by removeAll(), a stale handle is ignored rather than
+ * reaching an ILoopable added afterwards.
+ *
+ * By default every ILoopable runs serially on the thread calling process().
+ * After setParallel(), ILoopables are dispatched to worker threads instead, and process()
+ * waits for them only until the cycle's deadline.  An ILoopable still running from an
+ * earlier cycle is skipped rather than queued, so one slow ILoopable cannot delay the others.
+ * An overrun counts once as a deadline miss, and each cycle it then causes to be skipped
+ * counts as a skip.  Use setRunOnCaller() to keep latency-critical ILoopables on the calling thread.
+ *
+ * An ILoopable's onLoop() never runs on two threads at once.  stop(), stopAll(), removeAll()
+ * and setSerial() wait for any onLoop() still running on a worker before returning.
  */
 public class ConcurrentScheduler implements ILoopable {
-	ArrayList<ILoopable> _loops = new ArrayList<ILoopable>();
-	ArrayList<Boolean> _enabs = new ArrayList<Boolean>();
+
+	/** Per-ILoopable state */
+	final class Task implements Runnable {
+		final ILoopable loop;
+		final int handle;
+		volatile boolean enabled;
+		volatile boolean runOnCaller;
+
+		/* set while onLoop() runs, see processParallel() */
+		final AtomicBoolean running = new AtomicBoolean(false);
+		/* dispatched to a worker this cycle, only touched by the thread calling process() */
+		boolean dispatched;
+		/* thread running onLoop(), so an ILoopable stopping itself does not wait for itself */
+		volatile Thread runner;
+		volatile long skipCount;
+		volatile long deadlineMissCount;
+
+		/* execution time accounting, written only by the thread running the task */
+		volatile long lastNs;
+		volatile long maxNs;
+		volatile long totalNs;
+		volatile long count;
+
+		Task(ILoopable loop, int handle, boolean enabled) {
+			this.loop = loop;
+			this.handle = handle;
+			this.enabled = enabled;
+		}
+
+		/** Worker thread entry, the task has already been marked as running */
+		public void run() {
+			try {
+				runner = Thread.currentThread();
+				runHere();
+			} finally {
+				runner = null;
+				running.set(false);
+				Thread waiter = _waiter;
+				if (waiter != null) {
+					LockSupport.unpark(waiter);
+				}
+			}
+		}
+
+		void runHere() {
+			long start = System.nanoTime();
+			loop.onLoop();
+			record(System.nanoTime() - start);
+		}
+
+		/** Run on the calling thread unless a worker is still running it */
+		void runOnCaller() {
+			if (!running.compareAndSet(false, true)) {
+				++skipCount;
+				return;
+			}
+			try {
+				runner = Thread.currentThread();
+				runHere();
+			} finally {
+				runner = null;
+				running.set(false);
+			}
+		}
+
+		/** Wait for onLoop() to return if a worker is running it */
+		void awaitIdle() {
+			while (running.get() && runner != Thread.currentThread()) {
+				LockSupport.parkNanos(this, IDLE_POLL_NS);
+			}
+		}
+
+		void record(long elapsedNs) {
+			lastNs = elapsedNs;
+			if (elapsedNs > maxNs) { maxNs = elapsedNs; }
+			totalNs += elapsedNs;
+			++count;
+		}
+
+		void resetTimes() {
+			lastNs = 0;
+			maxNs = 0;
+			totalNs = 0;
+			count = 0;
+			skipCount = 0;
+			deadlineMissCount = 0;
+		}
+	}
+
+	private static final Task[] NO_TASKS = new Task[0];
+	/** Poll period while waiting for workers outside of process() */
+	private static final long IDLE_POLL_NS = 1000000L;
+	/* a handle is the task's index in its low bits and the generation above them */
+	private static final int INDEX_BITS = 16;
+	private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+	private static final int GENERATION_MASK = 0x7FFF;
+
+	private volatile Task[] _tasks = NO_TASKS;
+	/* bumped by removeAll() so older handles no longer match */
+	private int _generation = 0;
+
+	private volatile Executor _executor = null;
+	private ExecutorService _ownedExecutor = null;
+	private volatile long _deadlineNs = 0;
+	private volatile Thread _waiter = null;
 
 	/**
 	 * Add ILoopable to schedule
@@ -16,56 +140,141 @@ public class ConcurrentScheduler implements ILoopable {
 	 * @param enable Whether to enable ILoopable
 	 */
 	public void add(ILoopable aLoop, boolean enable) {
-		_loops.add(aLoop);
-		_enabs.add(enable);
+		register(aLoop, enable);
 	}
 	/**
 	 * Add ILoopable to scheduler
 	 * @param aLoop ILoopable to add
 	 */
 	public void add(ILoopable aLoop) {
-		add(aLoop, true);
+		register(aLoop, true);
 	}
 
 	/**
-	 * Remove all ILoopables from scheduler
+	 * Add ILoopable to schedule and get its handle
+	 * @param aLoop ILoopable to add to schedule
+	 * @param enable Whether to enable ILoopable
+	 * @return handle of the ILoopable, for use with start(int), stop(int) and the timing getters.
+	 */
+	public synchronized int register(ILoopable aLoop, boolean enable) {
+		Task[] old = _tasks;
+		if (old.length > INDEX_MASK) {
+			throw new IllegalStateException("ConcurrentScheduler is full");
+		}
+		Task[] tasks = new Task[old.length + 1];
+		System.arraycopy(old, 0, tasks, 0, old.length);
+		tasks[old.length] = new Task(aLoop, (_generation << INDEX_BITS) | old.length, enable);
+		_tasks = tasks;
+		return tasks[old.length].handle;
+	}
+	/**
+	 * Add ILoopable to scheduler and get its handle
+	 * @param aLoop ILoopable to add
+	 * @return handle of the ILoopable
+	 */
+	public int register(ILoopable aLoop) {
+		return register(aLoop, true);
+	}
+
+	/**
+	 * Remove all ILoopables from scheduler, waiting for any still running on a worker.
+	 * Previously returned handles are no longer valid, and are ignored if passed in.
+	 * Handles only repeat after 32768 calls.
 	 */
 	public void removeAll() {
-		_loops.clear();
-		_enabs.clear();
+		Task[] tasks;
+		synchronized (this) {
+			tasks = _tasks;
+			_tasks = NO_TASKS;
+			_generation = (_generation + 1) & GENERATION_MASK;
+		}
+		for (Task t : tasks) {
+			t.awaitIdle();
+		}
 	}
 
 	/**
-	 * Start an ILoopable
-	 * @param toStart ILoopable to start
+	 * @return number of ILoopables in the scheduler
 	 */
-	public void start(ILoopable toStart) {
-		for (int i = 0; i < _loops.size(); ++i) {
-			ILoopable lp = (ILoopable) _loops.get(i);
+	public int size() {
+		return _tasks.length;
+	}
 
-			if (lp == toStart) {
-				_enabs.set(i, true);
-				lp.onStart();
-				return;
-			}
+	/**
+	 * @param handle Handle returned by register()
+	 * @return Task for handle, or null if handle is not valid.
+	 */
+	Task task(int handle) {
+		Task[] tasks = _tasks;
+		int idx = handle & INDEX_MASK;
+		if (handle < 0 || idx >= tasks.length || tasks[idx].handle != handle) {
+			return null;
 		}
+		return tasks[idx];
+	}
 
+	/**
+	 * Start an ILoopable
+	 * @param handle Handle returned by register()
+	 */
+	public void start(int handle) {
+		Task t = task(handle);
+		if (t != null) {
+			t.enabled = true;
+			t.loop.onStart();
+		}
 	}
 
 	/**
 	 * Stop an ILoopable
+	 * @param handle Handle returned by register()
+	 */
+	public void stop(int handle) {
+		Task t = task(handle);
+		if (t != null) {
+			t.enabled = false;
+			t.awaitIdle();
+			t.loop.onStop();
+		}
+	}
+
+	/**
+	 * Start an ILoopable.  Prefer start(int), which does not search.
+	 * @param toStart ILoopable to start
+	 */
+	public void start(ILoopable toStart) {
+		start(indexOf(toStart));
+	}
+
+	/**
+	 * Stop an ILoopable.  Prefer stop(int), which does not search.
 	 * @param toStop ILoopable to stop
 	 */
 	public void stop(ILoopable toStop) {
-		for (int i = 0; i < (int) _loops.size(); ++i) {
-			ILoopable lp = (ILoopable) _loops.get(i);
+		stop(indexOf(toStop));
+	}
 
-			if (lp == toStop) {
-				_enabs.set(i, false);
-				lp.onStop();
-				return;
+	/**
+	 * @param aLoop ILoopable to find
+	 * @return handle of first matching ILoopable, or -1 if not found.
+	 */
+	public int indexOf(ILoopable aLoop) {
+		Task[] tasks = _tasks;
+		for (int i = 0; i < tasks.length; ++i) {
+			if (tasks[i].loop == aLoop) {
+				return tasks[i].handle;
 			}
 		}
+		return -1;
+	}
+
+	/**
+	 * @param handle Handle returned by register()
+	 * @return true if the ILoopable is enabled
+	 */
+	public boolean isEnabled(int handle) {
+		Task t = task(handle);
+		return t != null && t.enabled;
 	}
 
 	//--- Loopable ---/
@@ -73,12 +282,12 @@ public class ConcurrentScheduler implements ILoopable {
 	 * Start all ILoopables
 	 */
 	public void startAll() { // All Loops
-
-		for (ILoopable loop : _loops) {
-			loop.onStart();
+		Task[] tasks = _tasks;
+		for (Task t : tasks) {
+			t.loop.onStart();
 		}
-		for (int i = 0; i < _enabs.size(); ++i) {
-			_enabs.set(i,  true);
+		for (Task t : tasks) {
+			t.enabled = true;
 		}
 	}
 
@@ -86,31 +295,205 @@ public class ConcurrentScheduler implements ILoopable {
 	 * Stop all ILoopables
 	 */
 	public void stopAll() { // All Loops
-		for (ILoopable loop : _loops) {
-			loop.onStop();
+		Task[] tasks = _tasks;
+		for (Task t : tasks) {
+			t.enabled = false;
 		}
-		for (int i = 0; i < _enabs.size(); ++i) {
-			_enabs.set(i,  false);
+		for (Task t : tasks) {
+			t.awaitIdle();
+			t.loop.onStop();
 		}
 	}
 
 	/**
 	 * Process every ILoopable
-	 * 
+	 *
 	 * Call this every loop
 	 */
 	public void process() {
-		for (int i = 0; i < (int) _loops.size(); ++i) {
-			ILoopable loop = (ILoopable) _loops.get(i);
-			boolean en = (boolean) _enabs.get(i);
-			if (en) {
-				loop.onLoop();
+		Executor executor = _executor;
+		if (executor != null) {
+			processParallel(executor);
+			return;
+		}
+		Task[] tasks = _tasks;
+		for (int i = 0; i < tasks.length; ++i) {
+			Task t = tasks[i];
+			if (t.enabled) {
+				t.runOnCaller();
 			} else {
 				/* Current ILoopable is turned off, don't call onLoop for it */
 			}
 		}
 	}
 
+	private void processParallel(Executor executor) {
+		long deadline = System.nanoTime() + _deadlineNs;
+		Task[] tasks = _tasks;
+		_waiter = Thread.currentThread();
+
+		/* dispatch to workers first so they overlap with the caller's ILoopables */
+		for (int i = 0; i < tasks.length; ++i) {
+			Task t = tasks[i];
+			t.dispatched = false;
+			if (!t.enabled || t.runOnCaller) {
+				continue;
+			}
+			if (!t.running.compareAndSet(false, true)) {
+				/* still running from an earlier cycle, skip rather than queue */
+				++t.skipCount;
+				continue;
+			}
+			try {
+				executor.execute(t);
+			} catch (RuntimeException e) {
+				t.running.set(false);
+				throw e;
+			}
+			t.dispatched = true;
+		}
+		for (int i = 0; i < tasks.length; ++i) {
+			Task t = tasks[i];
+			if (t.enabled && t.runOnCaller) {
+				t.runOnCaller();
+			}
+		}
+
+		/* wait for this cycle's workers until the deadline, an overrun is counted once */
+		for (int i = 0; i < tasks.length; ++i) {
+			Task t = tasks[i];
+			if (!t.dispatched) {
+				continue;
+			}
+			while (t.running.get()) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					break;
+				}
+				LockSupport.parkNanos(this, remaining);
+			}
+		}
+		for (int i = 0; i < tasks.length; ++i) {
+			Task t = tasks[i];
+			if (t.dispatched && t.running.get()) {
+				++t.deadlineMissCount;
+			}
+		}
+		_waiter = null;
+	}
+
+	//--- Execution mode ---/
+	/**
+	 * Run ILoopables on a pool of worker threads owned by this scheduler.
+	 * @param threadCount Number of worker threads.
+	 * @param deadlineMs Time process() waits for workers each cycle.
+	 */
+	public synchronized void setParallel(int threadCount, int deadlineMs) {
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount, (r) -> {
+			Thread t = new Thread(r, "ConcurrentScheduler worker");
+			t.setDaemon(true);
+			return t;
+		});
+		setParallel(pool, deadlineMs);
+		_ownedExecutor = pool;
+	}
+	/**
+	 * Run ILoopables on caller supplied worker threads.
+	 * @param executor Executor to dispatch ILoopables to.
+	 * @param deadlineMs Time process() waits for workers each cycle.
+	 */
+	public synchronized void setParallel(Executor executor, int deadlineMs) {
+		shutdownOwnedExecutor();
+		_deadlineNs = deadlineMs * 1000000L;
+		_executor = executor;
+	}
+	/**
+	 * Run every ILoopable on the thread calling process().  This is the default.
+	 * Waits for any ILoopable still running on a worker.
+	 */
+	public synchronized void setSerial() {
+		_executor = null;
+		shutdownOwnedExecutor();
+		for (Task t : _tasks) {
+			t.awaitIdle();
+		}
+	}
+	private void shutdownOwnedExecutor() {
+		if (_ownedExecutor != null) {
+			_ownedExecutor.shutdown();
+			_ownedExecutor = null;
+		}
+	}
+	/**
+	 * Keep an ILoopable on the thread calling process() in parallel mode.
+	 * @param handle Handle returned by register()
+	 * @param runOnCaller true to run on the caller, false to dispatch to workers.
+	 */
+	public void setRunOnCaller(int handle, boolean runOnCaller) {
+		Task t = task(handle);
+		if (t != null) {
+			t.runOnCaller = runOnCaller;
+		}
+	}
+
+	//--- Execution time ---/
+	/**
+	 * @param handle Handle returned by register()
+	 * @return duration of the most recent onLoop() in nanoseconds
+	 */
+	public long getLastExecutionNs(int handle) {
+		Task t = task(handle);
+		return t != null ? t.lastNs : 0;
+	}
+	/**
+	 * @param handle Handle returned by register()
+	 * @return longest onLoop() in nanoseconds
+	 */
+	public long getMaxExecutionNs(int handle) {
+		Task t = task(handle);
+		return t != null ? t.maxNs : 0;
+	}
+	/**
+	 * @param handle Handle returned by register()
+	 * @return sum of all onLoop() durations in nanoseconds
+	 */
+	public long getTotalExecutionNs(int handle) {
+		Task t = task(handle);
+		return t != null ? t.totalNs : 0;
+	}
+	/**
+	 * @param handle Handle returned by register()
+	 * @return number of times onLoop() was called
+	 */
+	public long getExecutionCount(int handle) {
+		Task t = task(handle);
+		return t != null ? t.count : 0;
+	}
+	/**
+	 * @param handle Handle returned by register()
+	 * @return number of cycles, in parallel mode, the ILoopable was dispatched and still running at the deadline
+	 */
+	public long getDeadlineMissCount(int handle) {
+		Task t = task(handle);
+		return t != null ? t.deadlineMissCount : 0;
+	}
+	/**
+	 * @param handle Handle returned by register()
+	 * @return number of cycles, in parallel mode, the ILoopable was skipped because it was still running
+	 */
+	public long getSkipCount(int handle) {
+		Task t = task(handle);
+		return t != null ? t.skipCount : 0;
+	}
+	/**
+	 * Clear execution time accounting of every ILoopable
+	 */
+	public void resetExecutionTimes() {
+		for (Task t : _tasks) {
+			t.resetTimes();
+		}
+	}
+
 	/**
 	 * Start all ILoopables
 	 */
@@ -138,4 +521,4 @@ public class ConcurrentScheduler implements ILoopable {
 	public boolean isDone() {
 		return false;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,245 @@
+package com.ctre.phoenix.schedulers;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ILoopable;
+import com.ctre.phoenix.Logger;
+
+/**
+ * Scheduler that calls an ILoopable (typically a SequentialScheduler or
+ * ConcurrentScheduler) at a fixed rate from its own thread.
+ *
+ * Each period is scheduled from the start time, not from the end of the previous period,
+ * so the rate does not drift.  If a period overruns, the missed periods are skipped
+ * rather than run back to back.
+ *
+ * Start jitter (how late each period begins) is recorded into a histogram, along with
+ * the number of overruns.
+ *
+ * If the ILoopable throws, the exception is logged through Logger, the scheduler stops
+ * and onStop is still called.  isRunning() then returns false and start() may be called again.
+ */
+public class PeriodicScheduler {
+	private final ILoopable _loop;
+	private final long _periodNs;
+	private final long _bucketWidthNs;
+	private final long[] _jitterBuckets;
+
+	private volatile Thread _thread = null;
+	private volatile boolean _running = false;
+	/* true while the thread is calling onLoop, false once it is on its way to onStop */
+	private volatile boolean _looping = false;
+
+	private volatile long _periodCount = 0;
+	private volatile long _overrunCount = 0;
+	private volatile long _maxJitterNs = 0;
+	private volatile long _totalJitterNs = 0;
+
+	/**
+	 * Constructor for PeriodicScheduler
+	 * @param loop ILoopable to call every period
+	 * @param periodMs Period in ms
+	 * @param bucketWidthUs Width of each jitter histogram bucket in microseconds
+	 * @param bucketCount Number of jitter histogram buckets.  The last bucket collects everything beyond.
+	 */
+	public PeriodicScheduler(ILoopable loop, int periodMs, int bucketWidthUs, int bucketCount) {
+		if (periodMs <= 0) {
+			throw new IllegalArgumentException("periodMs must be positive");
+		}
+		_loop = loop;
+		_periodNs = periodMs * 1000000L;
+		_bucketWidthNs = bucketWidthUs * 1000L;
+		_jitterBuckets = new long[bucketCount];
+	}
+	/**
+	 * Constructor for PeriodicScheduler, with 50 jitter buckets of 100us.
+	 * @param loop ILoopable to call every period
+	 * @param periodMs Period in ms
+	 */
+	public PeriodicScheduler(ILoopable loop, int periodMs) {
+		this(loop, periodMs, 100, 50);
+	}
+	/**
+	 * Constructor for PeriodicScheduler that uses the period the SequentialScheduler was created with.
+	 * @param scheduler SequentialScheduler to call every period
+	 */
+	public PeriodicScheduler(SequentialScheduler scheduler) {
+		this(scheduler, scheduler.getPeriodMs());
+	}
+
+	/**
+	 * Call the ILoopable's onStart, then begin calling onLoop every period.
+	 * If the scheduler is still finishing a stop, waits for its onStop first.
+	 * Called from the ILoopable's onLoop after stop(), keeps calling onLoop instead.
+	 */
+	public synchronized void start() {
+		Thread thread = _thread;
+		if (thread == Thread.currentThread()) {
+			if (_looping) {
+				/* stopped and restarted from onLoop, keep going */
+				_running = true;
+				return;
+			}
+			/* restarted from onStop, this thread is about to exit */
+		} else if (thread != null) {
+			if (_running) {
+				return;
+			}
+			join(thread);
+		}
+		_running = true;
+		_thread = new Thread(this::run, "PeriodicScheduler");
+		_thread.setDaemon(true);
+		_thread.start();
+	}
+	/**
+	 * Stop calling onLoop, then call the ILoopable's onStop.
+	 * Blocks until the current period completes, unless called from the ILoopable itself,
+	 * in which case onStop is called once the current onLoop returns.
+	 */
+	public synchronized void stop() {
+		Thread thread = _thread;
+		if (thread == null) {
+			return;
+		}
+		_running = false;
+		if (thread == Thread.currentThread()) {
+			return;
+		}
+		LockSupport.unpark(thread);
+		join(thread);
+		_thread = null;
+	}
+	private static void join(Thread thread) {
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	/**
+	 * @return true if started, false once stopped or after the ILoopable threw
+	 */
+	public boolean isRunning() {
+		return _running;
+	}
+
+	private void run() {
+		try {
+			_loop.onStart();
+			_looping = true;
+			loop();
+		} catch (RuntimeException e) {
+			Logger.log(ErrorCode.GeneralError, "PeriodicScheduler: " + e);
+		} finally {
+			_looping = false;
+			_running = false;
+			try {
+				_loop.onStop();
+			} catch (RuntimeException e) {
+				Logger.log(ErrorCode.GeneralError, "PeriodicScheduler: " + e);
+			}
+			/* not synchronized, stop() and start() hold the monitor while joining this thread */
+			if (_thread == Thread.currentThread()) {
+				_thread = null;
+			}
+		}
+	}
+
+	private void loop() {
+		long next = System.nanoTime();
+		while (_running) {
+			long now = System.nanoTime();
+			while (_running && now < next) {
+				LockSupport.parkNanos(this, next - now);
+				now = System.nanoTime();
+			}
+			if (!_running) {
+				break;
+			}
+			recordJitter(now - next);
+
+			_loop.onLoop();
+
+			next += _periodNs;
+			long end = System.nanoTime();
+			if (end > next) {
+				/* overran, skip the periods already missed */
+				++_overrunCount;
+				long missed = (end - next) / _periodNs + 1;
+				next += missed * _periodNs;
+			}
+		}
+	}
+
+	private void recordJitter(long jitterNs) {
+		int idx = (_bucketWidthNs > 0) ? (int) Math.min(jitterNs / _bucketWidthNs, _jitterBuckets.length - 1) : 0;
+		if (_jitterBuckets.length > 0) {
+			++_jitterBuckets[idx];
+		}
+		if (jitterNs > _maxJitterNs) { _maxJitterNs = jitterNs; }
+		_totalJitterNs += jitterNs;
+		++_periodCount;
+	}
+
+	/**
+	 * @return period in ms
+	 */
+	public int getPeriodMs() {
+		return (int) (_periodNs / 1000000L);
+	}
+	/**
+	 * @return number of periods run
+	 */
+	public long getPeriodCount() {
+		return _periodCount;
+	}
+	/**
+	 * @return number of periods that ended after the next one should have started
+	 */
+	public long getOverrunCount() {
+		return _overrunCount;
+	}
+	/**
+	 * @return latest any period started, in nanoseconds
+	 */
+	public long getMaxJitterNs() {
+		return _maxJitterNs;
+	}
+	/**
+	 * @return average lateness of period starts, in nanoseconds
+	 */
+	public double getMeanJitterNs() {
+		long count = _periodCount;
+		return (count > 0) ? (double) _totalJitterNs / count : 0;
+	}
+	/**
+	 * @return width of each jitter histogram bucket in microseconds
+	 */
+	public int getJitterBucketWidthUs() {
+		return (int) (_bucketWidthNs / 1000L);
+	}
+	/**
+	 * Copy the jitter histogram.
+	 * Bucket i counts periods that started [i, i+1) bucket widths late.
+	 * @param toFill Caller supplied array, at least as long as the bucket count.
+	 * @return number of buckets
+	 */
+	public int getJitterHistogram(long[] toFill) {
+		int count = Math.min(toFill.length, _jitterBuckets.length);
+		System.arraycopy(_jitterBuckets, 0, toFill, 0, count);
+		return count;
+	}
+	/**
+	 * Clear jitter and overrun statistics
+	 */
+	public void resetStatistics() {
+		Arrays.fill(_jitterBuckets, 0);
+		_periodCount = 0;
+		_overrunCount = 0;
+		_maxJitterNs = 0;
+		_totalJitterNs = 0;
+	}
+}
@@ -14,12 +14,19 @@ public class SequentialScheduler implements com.ctre.phoenix.ILoopable
 
 	/**
 	 * Constructor for SequentialScheduler
-	 * @param periodMs Not used, pass 0
+	 * @param periodMs Period used when driven by a PeriodicScheduler, pass 0 if calling process() yourself
 	 */
 	public SequentialScheduler(int periodMs)
 	{
 		_periodMs = periodMs;
 	}
+	/**
+	 * @return period passed to the constructor, in ms
+	 */
+	public int getPeriodMs()
+	{
+		return _periodMs;
+	}
 	/**
 	 * Add ILoopable to scheduler
 	 * @param aLoop ILoopable to add
@@ -0,0 +1,55 @@
+package com.ctre.phoenix.sensors;
+
+/**
+ * Operations behind every Pigeon IMU object.
+ * Mirrors PigeonImuJNI so the natives can be replaced, for example by a simulated device.
+ * See com.ctre.phoenix.platform.Backend for selecting the implementation.
+ */
+public interface IPigeonImuBackend {
+	long JNI_new_PigeonImu_Talon(int talonID);
+	long JNI_new_PigeonImu(int deviceNumber);
+	int JNI_destroy_PigeonImu(long handle);
+	int JNI_ConfigSetCustomParam(long handle, int newValue, int paramIndex, int timeoutMs);
+	int JNI_ConfigGetCustomParam(long handle, int paramIndex, int timoutMs);
+	int JNI_ConfigSetParameter(long handle, int param, double value, int subValue, int ordinal, int timeoutMs);
+	double JNI_ConfigGetParameter(long handle, int param, int ordinal, int timeoutMs);
+	int JNI_ConfigFactoryDefault(long handle, int timeoutMs);
+	int JNI_SetStatusFramePeriod(long handle, int statusFrame, int periodMs, int timeoutMs);
+	int JNI_SetYaw(long handle, double angleDeg, int timeoutMs);
+	int JNI_AddYaw(long handle, double angleDeg, int timeoutMs);
+	int JNI_SetYawToCompass(long handle, int timeoutMs);
+	int JNI_SetFusedHeading(long handle, double angleDeg, int timeoutMs);
+	int JNI_AddFusedHeading(long handle, double angleDeg, int timeoutMs);
+	int JNI_SetFusedHeadingToCompass(long handle, int timeoutMs);
+	int JNI_SetAccumZAngle(long handle, double angleDeg, int timeoutMs);
+	int JNI_SetTemperatureCompensationDisable(long handle, int bTempCompDisable, int timeoutMs);
+	int JNI_SetCompassDeclination(long handle, double angleDegOffset, int timeoutMs);
+	int JNI_SetCompassAngle(long handle, double angleDeg, int timeoutMs);
+	int JNI_EnterCalibrationMode(long handle, int calMode, int timeoutMs);
+	int JNI_GetGeneralStatus(long handle, double[] params);
+	int JNI_Get6dQuaternion(long handle, double[] wxyz);
+	int JNI_GetYawPitchRoll(long handle, double[] ypr);
+	int JNI_GetAccumGyro(long handle, double[] xyz_deg);
+	double JNI_GetAbsoluteCompassHeading(long handle);
+	double JNI_GetCompassHeading(long handle);
+	double JNI_GetCompassFieldStrength(long handle);
+	double JNI_GetTemp(long handle);
+	int JNI_GetUpTime(long handle);
+	int JNI_GetRawMagnetometer(long handle, short[] rm_xyz);
+	int JNI_GetBiasedMagnetometer(long handle, short[] bm_xyz);
+	int JNI_GetBiasedAccelerometer(long handle, short[] ba_xyz);
+	int JNI_GetRawGyro(long handle, double[] xyz_dps);
+	int JNI_GetAccelerometerAngles(long handle, double[] tiltAngles);
+	int JNI_GetFusedHeading(long handle, double[] params);
+	int JNI_GetState(long handle);
+	int JNI_GetResetCount(long handle);
+	int JNI_GetResetFlags(long handle);
+	int JNI_GetFirmwareVersion(long handle);
+	int JNI_GetLastError(long handle);
+	boolean JNI_HasResetOccurred(long handle);
+	int JNI_GetStatusFramePeriod(long handle, int frame, int timeoutMs);
+	int JNI_SetControlFramePeriod(long handle, int frame, int periodMs);
+	int JNI_GetFaults(long handle);
+	int JNI_GetStickyFaults(long handle);
+	int JNI_ClearStickyFaults(long handle, int timeoutMs);
+}
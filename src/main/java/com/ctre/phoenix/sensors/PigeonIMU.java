@@ -21,12 +21,15 @@
  * (INCLUDING NEGLIGENCE), BREACH OF WARRANTY, OR OTHERWISE
  */
 package com.ctre.phoenix.sensors;
+import com.ctre.phoenix.ControlFramePeriods;
+import com.ctre.phoenix.EnumLookup;
 import com.ctre.phoenix.ErrorCode;
 import com.ctre.phoenix.ParamEnum;
 import com.ctre.phoenix.motorcontrol.can.TalonSRX;
 import com.ctre.phoenix.ErrorCollection;
 import com.ctre.phoenix.ParamEnum;
 import com.ctre.phoenix.CustomParamConfigUtil;
+import com.ctre.phoenix.platform.Backend;
 
 //import edu.wpi.first.wpilibj.hal.FRCNetComm.tResourceType;
 //import edu.wpi.first.wpilibj.hal.HAL;
@@ -37,6 +40,9 @@ import com.ctre.phoenix.CustomParamConfigUtil;
  */
 public class PigeonIMU {
 	private long m_handle;
+	private final IPigeonImuBackend m_backend = Backend.getPigeonImu();
+	private final ControlFramePeriods<PigeonIMU_ControlFrame> _controlFramePeriods = new ControlFramePeriods<PigeonIMU_ControlFrame>(
+			PigeonIMU_ControlFrame.values(), e -> e.value);
 
 	/** Data object for holding fusion information. */
 	public static class FusionStatus {
@@ -117,18 +123,15 @@ public class PigeonIMU {
 			this.value = initValue;
 		}
 
+		/** Keep singleton lookup to quickly decode enum via int */
+		private static final EnumLookup<CalibrationMode> _lookup = new EnumLookup<CalibrationMode>(CalibrationMode.values(), e -> e.value, Unknown);
 		/**
 		 * Get a CalibrationMode of specified value
 		 * @param value Value of CalibrationMode
 		 * @return CalibrationMode of specified value
 		 */
 		public static CalibrationMode valueOf(int value) {
-			for (CalibrationMode e : CalibrationMode.values()) {
-				if (e.value == value) {
-					return e;
-				}
-			}
-			return Unknown;
+			return _lookup.get(value);
 		}
 	};
 
@@ -164,18 +167,15 @@ public class PigeonIMU {
 			this.value = initValue;
 		}
 
+		/** Keep singleton lookup to quickly decode enum via int */
+		private static final EnumLookup<PigeonState> _lookup = new EnumLookup<PigeonState>(PigeonState.values(), e -> e.value, Unknown);
 		/**
 		 * Get a PigeonState of specified value
 		 * @param value Value of PigeonState
 		 * @return PigeonState of specified value
 		 */
 		public static PigeonState valueOf(int value) {
-			for (PigeonState e : PigeonState.values()) {
-				if (e.value == value) {
-					return e;
-				}
-			}
-			return Unknown;
+			return _lookup.get(value);
 		}
 	};
 
@@ -331,7 +331,7 @@ public class PigeonIMU {
 	 *            CAN Device Id of Pigeon [0,62]
 	 */
 	public PigeonIMU(int deviceNumber) {
-		m_handle = PigeonImuJNI.JNI_new_PigeonImu(deviceNumber);
+		m_handle = m_backend.JNI_new_PigeonImu(deviceNumber);
 		m_deviceNumber = deviceNumber;
 	}
 
@@ -340,11 +340,11 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
     public ErrorCode DestroyObject() {
-        return ErrorCode.valueOf(PigeonImuJNI.JNI_destroy_PigeonImu(m_handle));
+        return ErrorCode.valueOf(m_backend.JNI_destroy_PigeonImu(m_handle));
     }
 
     //public static void DestroyAllPigeonIMUs() {
-    //    PigeonImuJNI.JNI_destroy_AllPigeonImus();
+    //    m_backend.JNI_destroy_AllPigeonImus();
     //}
 
 	/**
@@ -356,7 +356,7 @@ public class PigeonIMU {
 	 */
 	public PigeonIMU(TalonSRX talonSrx) {
 		m_deviceNumber = talonSrx.getDeviceID();
-		m_handle = PigeonImuJNI.JNI_new_PigeonImu_Talon(m_deviceNumber);
+		m_handle = m_backend.JNI_new_PigeonImu_Talon(m_deviceNumber);
 	}
 
 	/**
@@ -370,7 +370,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setYaw(double angleDeg, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetYaw(m_handle, angleDeg, timeoutMs);
+		int retval = m_backend.JNI_SetYaw(m_handle, angleDeg, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -394,7 +394,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode addYaw(double angleDeg, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_AddYaw(m_handle, angleDeg, timeoutMs);
+		int retval = m_backend.JNI_AddYaw(m_handle, angleDeg, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -417,7 +417,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setYawToCompass(int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetYawToCompass(m_handle, timeoutMs);
+		int retval = m_backend.JNI_SetYawToCompass(m_handle, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -440,7 +440,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setFusedHeading(double angleDeg, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetFusedHeading(m_handle, angleDeg, timeoutMs);
+		int retval = m_backend.JNI_SetFusedHeading(m_handle, angleDeg, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -464,7 +464,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode addFusedHeading(double angleDeg, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_AddFusedHeading(m_handle, angleDeg, timeoutMs);
+		int retval = m_backend.JNI_AddFusedHeading(m_handle, angleDeg, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -487,7 +487,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setFusedHeadingToCompass(int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetFusedHeadingToCompass(m_handle, timeoutMs);
+		int retval = m_backend.JNI_SetFusedHeadingToCompass(m_handle, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -510,7 +510,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setAccumZAngle(double angleDeg, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetAccumZAngle(m_handle, angleDeg, timeoutMs);
+		int retval = m_backend.JNI_SetAccumZAngle(m_handle, angleDeg, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -554,7 +554,7 @@ public class PigeonIMU {
      * @return Error Code generated by function. 0 indicates no error.
      */
 	public ErrorCode setTemperatureCompensationDisable(boolean bTempCompDisable, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetTemperatureCompensationDisable(m_handle, bTempCompDisable ? 1 : 0, timeoutMs);
+		int retval = m_backend.JNI_SetTemperatureCompensationDisable(m_handle, bTempCompDisable ? 1 : 0, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
     /**
@@ -580,7 +580,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setCompassDeclination(double angleDegOffset, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetCompassDeclination(m_handle, angleDegOffset, timeoutMs);
+		int retval = m_backend.JNI_SetCompassDeclination(m_handle, angleDegOffset, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -607,7 +607,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setCompassAngle(double angleDeg, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetCompassAngle(m_handle, angleDeg, timeoutMs);
+		int retval = m_backend.JNI_SetCompassAngle(m_handle, angleDeg, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -638,7 +638,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode enterCalibrationMode(CalibrationMode calMode, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_EnterCalibrationMode(m_handle, calMode.value, timeoutMs);
+		int retval = m_backend.JNI_EnterCalibrationMode(m_handle, calMode.value, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -663,7 +663,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode getGeneralStatus(GeneralStatus toFill) {
-		int retval = PigeonImuJNI.JNI_GetGeneralStatus(m_handle, _generalStatus);
+		int retval = m_backend.JNI_GetGeneralStatus(m_handle, _generalStatus);
 		toFill.state = PigeonState.valueOf((int) _generalStatus[0]);
 		toFill.currentMode = CalibrationMode.valueOf((int) _generalStatus[1]);
 		toFill.calibrationError = (int) _generalStatus[2];
@@ -687,7 +687,7 @@ public class PigeonIMU {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode getLastError() {
-		int retval = PigeonImuJNI.JNI_GetLastError(m_handle);
+		int retval = m_backend.JNI_GetLastError(m_handle);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -700,7 +700,7 @@ public class PigeonIMU {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode get6dQuaternion(double[] wxyz) {
-		int retval = PigeonImuJNI.JNI_Get6dQuaternion(m_handle, wxyz);
+		int retval = m_backend.JNI_Get6dQuaternion(m_handle, wxyz);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -713,7 +713,7 @@ public class PigeonIMU {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode getYawPitchRoll(double[] ypr_deg) {
-		int retval = PigeonImuJNI.JNI_GetYawPitchRoll(m_handle, ypr_deg);
+		int retval = m_backend.JNI_GetYawPitchRoll(m_handle, ypr_deg);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -724,7 +724,7 @@ public class PigeonIMU {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode getAccumGyro(double[] xyz_deg) {
-		int retval = PigeonImuJNI.JNI_GetAccumGyro(m_handle, xyz_deg);
+		int retval = m_backend.JNI_GetAccumGyro(m_handle, xyz_deg);
 		return ErrorCode.valueOf(retval);
 	}
 
@@ -733,7 +733,7 @@ public class PigeonIMU {
 	 * @return compass heading [0,360) degrees.
 	 */
 	public double getAbsoluteCompassHeading() {
-		double retval = PigeonImuJNI.JNI_GetAbsoluteCompassHeading(m_handle);
+		double retval = m_backend.JNI_GetAbsoluteCompassHeading(m_handle);
 		return retval;
 	}
 
@@ -743,7 +743,7 @@ public class PigeonIMU {
 	 *         SetCompassHeading to modify the wrap-around portion.
 	 */
 	public double getCompassHeading() {
-		double retval = PigeonImuJNI.JNI_GetCompassHeading(m_handle);
+		double retval = m_backend.JNI_GetCompassHeading(m_handle);
 		return retval;
 	}
 
@@ -752,7 +752,7 @@ public class PigeonIMU {
 	 * @return field strength in Microteslas (uT).
 	 */
 	public double getCompassFieldStrength() {
-		double retval = PigeonImuJNI.JNI_GetCompassFieldStrength(m_handle);
+		double retval = m_backend.JNI_GetCompassFieldStrength(m_handle);
 		return retval;
 	}
 	/**
@@ -761,7 +761,7 @@ public class PigeonIMU {
 	 * @return Temperature in ('C)
 	 */
 	public double getTemp() {
-		double retval = PigeonImuJNI.JNI_GetTemp(m_handle);
+		double retval = m_backend.JNI_GetTemp(m_handle);
 		return retval;
 	}
 
@@ -771,7 +771,7 @@ public class PigeonIMU {
 	 * @return PigeonState enum
 	 */
 	public PigeonState getState() {
-		int retval = PigeonImuJNI.JNI_GetState(m_handle);
+		int retval = m_backend.JNI_GetState(m_handle);
 		return PigeonState.valueOf(retval);
 	}
 
@@ -782,7 +782,7 @@ public class PigeonIMU {
 	 *         255.
 	 */
 	public int getUpTime() {
-		int retval = PigeonImuJNI.JNI_GetUpTime(m_handle);
+		int retval = m_backend.JNI_GetUpTime(m_handle);
 		return retval;
 	}
 	/**
@@ -793,7 +793,7 @@ public class PigeonIMU {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode getRawMagnetometer(short[] rm_xyz) {
-		int retval = PigeonImuJNI.JNI_GetRawMagnetometer(m_handle, rm_xyz);
+		int retval = m_backend.JNI_GetRawMagnetometer(m_handle, rm_xyz);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -804,7 +804,7 @@ public class PigeonIMU {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode getBiasedMagnetometer(short[] bm_xyz) {
-		int retval = PigeonImuJNI.JNI_GetBiasedMagnetometer(m_handle, bm_xyz);
+		int retval = m_backend.JNI_GetBiasedMagnetometer(m_handle, bm_xyz);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -815,7 +815,7 @@ public class PigeonIMU {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode getBiasedAccelerometer(short[] ba_xyz) {
-		int retval = PigeonImuJNI.JNI_GetBiasedAccelerometer(m_handle, ba_xyz);
+		int retval = m_backend.JNI_GetBiasedAccelerometer(m_handle, ba_xyz);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -825,7 +825,7 @@ public class PigeonIMU {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode getRawGyro(double[] xyz_dps) {
-		int retval = PigeonImuJNI.JNI_GetRawGyro(m_handle, xyz_dps);
+		int retval = m_backend.JNI_GetRawGyro(m_handle, xyz_dps);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -835,7 +835,7 @@ public class PigeonIMU {
 	 * @return The last ErrorCode generated.
 	 */
 	public ErrorCode getAccelerometerAngles(double[] tiltAngles) {
-		int retval = PigeonImuJNI.JNI_GetAccelerometerAngles(m_handle, tiltAngles);
+		int retval = m_backend.JNI_GetAccelerometerAngles(m_handle, tiltAngles);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -846,7 +846,7 @@ public class PigeonIMU {
 	 * @return The fused heading in degrees.
 	 */
 	public double getFusedHeading(FusionStatus toFill) {
-		int errorCode = PigeonImuJNI.JNI_GetFusedHeading(m_handle, _fusionStatus);
+		int errorCode = m_backend.JNI_GetFusedHeading(m_handle, _fusionStatus);
 
 		if (toFill != null) {
 			toFill.heading = _fusionStatus[0];
@@ -863,7 +863,7 @@ public class PigeonIMU {
 	 * @return The fused heading in degrees.
 	 */
 	public double getFusedHeading() {
-		PigeonImuJNI.JNI_GetFusedHeading(m_handle, _fusionStatus);
+		m_backend.JNI_GetFusedHeading(m_handle, _fusionStatus);
 
 		return _fusionStatus[0];
 	}
@@ -875,7 +875,7 @@ public class PigeonIMU {
 	 * cycled at least once.
 	 */
 	public int getFirmwareVersion() {
-		int k = PigeonImuJNI.JNI_GetFirmwareVersion(m_handle);
+		int k = m_backend.JNI_GetFirmwareVersion(m_handle);
 		return k;
 	}
 
@@ -883,7 +883,7 @@ public class PigeonIMU {
 	 * @return true iff a reset has occurred since last call.
 	 */
 	public boolean hasResetOccurred() {
-		boolean k = PigeonImuJNI.JNI_HasResetOccurred(m_handle);
+		boolean k = m_backend.JNI_HasResetOccurred(m_handle);
 		return k;
 	}
 
@@ -905,7 +905,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSetCustomParam(int newValue, int paramIndex, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_ConfigSetCustomParam(m_handle, newValue, paramIndex, timeoutMs);
+		int retval = m_backend.JNI_ConfigSetCustomParam(m_handle, newValue, paramIndex, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -942,7 +942,7 @@ public class PigeonIMU {
 	 * @return Value of the custom param.
 	 */
 	public int configGetCustomParam(int paramIndex, int timoutMs) {
-		int retval = PigeonImuJNI.JNI_ConfigGetCustomParam(m_handle, paramIndex, timoutMs);
+		int retval = m_backend.JNI_ConfigGetCustomParam(m_handle, paramIndex, timoutMs);
 		return retval;
 	}
 	/**
@@ -1028,7 +1028,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode configSetParameter(int param, double value, int subValue, int ordinal, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_ConfigSetParameter(m_handle, param, value, subValue, ordinal,
+		int retval = m_backend.JNI_ConfigSetParameter(m_handle, param, value, subValue, ordinal,
 				timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
@@ -1104,7 +1104,7 @@ public class PigeonIMU {
 	 * @return Value of parameter.
 	 */
 	public double configGetParameter(int param, int ordinal, int timeoutMs) {
-		return PigeonImuJNI.JNI_ConfigGetParameter(m_handle, param, ordinal, timeoutMs);
+		return m_backend.JNI_ConfigGetParameter(m_handle, param, ordinal, timeoutMs);
 	}
 	/**
 	 * Gets a parameter.
@@ -1133,7 +1133,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setStatusFramePeriod(PigeonIMU_StatusFrame statusFrame, int periodMs, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetStatusFramePeriod(m_handle, statusFrame.value, periodMs, timeoutMs);
+		int retval = m_backend.JNI_SetStatusFramePeriod(m_handle, statusFrame.value, periodMs, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1163,7 +1163,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setStatusFramePeriod(int statusFrame, int periodMs, int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_SetStatusFramePeriod(m_handle, statusFrame, periodMs, timeoutMs);
+		int retval = m_backend.JNI_SetStatusFramePeriod(m_handle, statusFrame, periodMs, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1192,7 +1192,7 @@ public class PigeonIMU {
 	 * @return Period of the given status frame.
 	 */
 	public int getStatusFramePeriod(PigeonIMU_StatusFrame frame, int timeoutMs) {
-		return PigeonImuJNI.JNI_GetStatusFramePeriod(m_handle, frame.value, timeoutMs);
+		return m_backend.JNI_GetStatusFramePeriod(m_handle, frame.value, timeoutMs);
 	}
 	/**
 	 * Gets the period of the given status frame.
@@ -1215,8 +1215,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setControlFramePeriod(PigeonIMU_ControlFrame frame, int periodMs) {
-		int retval = PigeonImuJNI.JNI_SetControlFramePeriod(m_handle, frame.value, periodMs);
-		return ErrorCode.valueOf(retval);
+		return setControlFramePeriod(frame.value, periodMs);
 	}
 	/**
 	 * Sets the period of the given control frame.
@@ -1228,9 +1227,24 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode setControlFramePeriod(int frame, int periodMs) {
-		int retval = PigeonImuJNI.JNI_SetControlFramePeriod(m_handle, frame, periodMs);
+		int retval = m_backend.JNI_SetControlFramePeriod(m_handle, frame, periodMs);
+		if (retval == ErrorCode.OK.value) {
+			_controlFramePeriods.set(frame, periodMs);
+		}
 		return ErrorCode.valueOf(retval);
 	}
+	/**
+	 * Gets the period of the given control frame, as last set through this object.
+	 * The device does not report control frame periods, so this is what the
+	 * robot API was asked to send.
+	 *
+	 * @param frame
+	 *            Frame to read.
+	 * @return Period in ms of the frame, 0 if never set.
+	 */
+	public int getControlFramePeriod(int frame) {
+		return _controlFramePeriods.get(frame, 0);
+	}
 
 	// ------ Faults ----------//
 	/**
@@ -1241,7 +1255,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode getFaults(PigeonIMU_Faults toFill) {
-		int bits = PigeonImuJNI.JNI_GetFaults(m_handle);
+		int bits = m_backend.JNI_GetFaults(m_handle);
 		toFill.update(bits);
 		return getLastError();
 	}
@@ -1253,7 +1267,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode getStickyFaults(PigeonIMU_StickyFaults toFill) {
-		int bits = PigeonImuJNI.JNI_GetStickyFaults(m_handle);
+		int bits = m_backend.JNI_GetStickyFaults(m_handle);
 		toFill.update(bits);
 		return getLastError();
 	}
@@ -1267,7 +1281,7 @@ public class PigeonIMU {
 	 * @return Error Code generated by function. 0 indicates no error.
 	 */
 	public ErrorCode clearStickyFaults(int timeoutMs) {
-		int retval = PigeonImuJNI.JNI_ClearStickyFaults(m_handle, timeoutMs);
+		int retval = m_backend.JNI_ClearStickyFaults(m_handle, timeoutMs);
 		return ErrorCode.valueOf(retval);
 	}
 	/**
@@ -1356,7 +1370,7 @@ public class PigeonIMU {
      * @return Error Code generated by function. 0 indicates no error. 
      */
 	public ErrorCode configFactoryDefault(int timeoutMs) {
-		return ErrorCode.valueOf(PigeonImuJNI.JNI_ConfigFactoryDefault(m_handle, timeoutMs));
+		return ErrorCode.valueOf(m_backend.JNI_ConfigFactoryDefault(m_handle, timeoutMs));
 	}
     /**
      * Configures all peristant settings to defaults (overloaded so timeoutMs is 50 ms).
@@ -1,5 +1,7 @@
 package com.ctre.phoenix.sensors;
 
+import com.ctre.phoenix.EnumLookup;
+
 /** Enumerated type for control frame types. */
 public enum PigeonIMU_ControlFrame {
 	/**
@@ -20,17 +22,14 @@ public enum PigeonIMU_ControlFrame {
 		this.value = initValue;
 	}
 
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<PigeonIMU_ControlFrame> _lookup = new EnumLookup<PigeonIMU_ControlFrame>(PigeonIMU_ControlFrame.values(), e -> e.value, null);
 	/**
 	 * Int to enum cast
 	 * @param value value of control frame
 	 * @return PigeonIMU_ControlFrame of specified value
 	 */
 	public static PigeonIMU_ControlFrame valueOf(int value) {
-		for (PigeonIMU_ControlFrame mode : values()) {
-			if (mode.value == value) {
-				return mode;
-			}
-		}
-		return null;
+		return _lookup.get(value);
 	}
 }
@@ -1,5 +1,7 @@
 package com.ctre.phoenix.sensors;
 
+import com.ctre.phoenix.EnumLookup;
+
 /**
  * Enumerated types for frame rate ms.
  */
@@ -62,17 +64,14 @@ public enum PigeonIMU_StatusFrame {
 		this.value = initValue;
 	}
 
+	/** Keep singleton lookup to quickly decode enum via int, the raw and biased mag frames share a value and decode to RawStatus_4_Mag */
+	private static final EnumLookup<PigeonIMU_StatusFrame> _lookup = new EnumLookup<PigeonIMU_StatusFrame>(PigeonIMU_StatusFrame.values(), e -> e.value, null, true);
 	/**
 	 * Get StatusFrame of specified value
 	 * @param value value of status frame
 	 * @return PigeonIMU_StatusFrame of specified value
 	 */
 	public static PigeonIMU_StatusFrame valueOf(int value) {
-		for (PigeonIMU_StatusFrame mode : values()) {
-			if (mode.value == value) {
-				return mode;
-			}
-		}
-		return null;
+		return _lookup.get(value);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.ctre.phoenix.sensors;
+
+/**
+ * IPigeonImuBackend implemented with the CTRE_PhoenixCCI natives.
+ */
+public class PigeonImuJNIBackend implements IPigeonImuBackend {
+	public long JNI_new_PigeonImu_Talon(int talonID) {
+		return PigeonImuJNI.JNI_new_PigeonImu_Talon(talonID);
+	}
+	public long JNI_new_PigeonImu(int deviceNumber) {
+		return PigeonImuJNI.JNI_new_PigeonImu(deviceNumber);
+	}
+	public int JNI_destroy_PigeonImu(long handle) {
+		return PigeonImuJNI.JNI_destroy_PigeonImu(handle);
+	}
+	public int JNI_ConfigSetCustomParam(long handle, int newValue, int paramIndex, int timeoutMs) {
+		return PigeonImuJNI.JNI_ConfigSetCustomParam(handle, newValue, paramIndex, timeoutMs);
+	}
+	public int JNI_ConfigGetCustomParam(long handle, int paramIndex, int timoutMs) {
+		return PigeonImuJNI.JNI_ConfigGetCustomParam(handle, paramIndex, timoutMs);
+	}
+	public int JNI_ConfigSetParameter(long handle, int param, double value, int subValue, int ordinal, int timeoutMs) {
+		return PigeonImuJNI.JNI_ConfigSetParameter(handle, param, value, subValue, ordinal, timeoutMs);
+	}
+	public double JNI_ConfigGetParameter(long handle, int param, int ordinal, int timeoutMs) {
+		return PigeonImuJNI.JNI_ConfigGetParameter(handle, param, ordinal, timeoutMs);
+	}
+	public int JNI_ConfigFactoryDefault(long handle, int timeoutMs) {
+		return PigeonImuJNI.JNI_ConfigFactoryDefault(handle, timeoutMs);
+	}
+	public int JNI_SetStatusFramePeriod(long handle, int statusFrame, int periodMs, int timeoutMs) {
+		return PigeonImuJNI.JNI_SetStatusFramePeriod(handle, statusFrame, periodMs, timeoutMs);
+	}
+	public int JNI_SetYaw(long handle, double angleDeg, int timeoutMs) {
+		return PigeonImuJNI.JNI_SetYaw(handle, angleDeg, timeoutMs);
+	}
+	public int JNI_AddYaw(long handle, double angleDeg, int timeoutMs) {
+		return PigeonImuJNI.JNI_AddYaw(handle, angleDeg, timeoutMs);
+	}
+	public int JNI_SetYawToCompass(long handle, int timeoutMs) {
+		return PigeonImuJNI.JNI_SetYawToCompass(handle, timeoutMs);
+	}
+	public int JNI_SetFusedHeading(long handle, double angleDeg, int timeoutMs) {
+		return PigeonImuJNI.JNI_SetFusedHeading(handle, angleDeg, timeoutMs);
+	}
+	public int JNI_AddFusedHeading(long handle, double angleDeg, int timeoutMs) {
+		return PigeonImuJNI.JNI_AddFusedHeading(handle, angleDeg, timeoutMs);
+	}
+	public int JNI_SetFusedHeadingToCompass(long handle, int timeoutMs) {
+		return PigeonImuJNI.JNI_SetFusedHeadingToCompass(handle, timeoutMs);
+	}
+	public int JNI_SetAccumZAngle(long handle, double angleDeg, int timeoutMs) {
+		return PigeonImuJNI.JNI_SetAccumZAngle(handle, angleDeg, timeoutMs);
+	}
+	public int JNI_SetTemperatureCompensationDisable(long handle, int bTempCompDisable, int timeoutMs) {
+		return PigeonImuJNI.JNI_SetTemperatureCompensationDisable(handle, bTempCompDisable, timeoutMs);
+	}
+	public int JNI_SetCompassDeclination(long handle, double angleDegOffset, int timeoutMs) {
+		return PigeonImuJNI.JNI_SetCompassDeclination(handle, angleDegOffset, timeoutMs);
+	}
+	public int JNI_SetCompassAngle(long handle, double angleDeg, int timeoutMs) {
+		return PigeonImuJNI.JNI_SetCompassAngle(handle, angleDeg, timeoutMs);
+	}
+	public int JNI_EnterCalibrationMode(long handle, int calMode, int timeoutMs) {
+		return PigeonImuJNI.JNI_EnterCalibrationMode(handle, calMode, timeoutMs);
+	}
+	public int JNI_GetGeneralStatus(long handle, double[] params) {
+		return PigeonImuJNI.JNI_GetGeneralStatus(handle, params);
+	}
+	public int JNI_Get6dQuaternion(long handle, double[] wxyz) {
+		return PigeonImuJNI.JNI_Get6dQuaternion(handle, wxyz);
+	}
+	public int JNI_GetYawPitchRoll(long handle, double[] ypr) {
+		return PigeonImuJNI.JNI_GetYawPitchRoll(handle, ypr);
+	}
+	public int JNI_GetAccumGyro(long handle, double[] xyz_deg) {
+		return PigeonImuJNI.JNI_GetAccumGyro(handle, xyz_deg);
+	}
+	public double JNI_GetAbsoluteCompassHeading(long handle) {
+		return PigeonImuJNI.JNI_GetAbsoluteCompassHeading(handle);
+	}
+	public double JNI_GetCompassHeading(long handle) {
+		return PigeonImuJNI.JNI_GetCompassHeading(handle);
+	}
+	public double JNI_GetCompassFieldStrength(long handle) {
+		return PigeonImuJNI.JNI_GetCompassFieldStrength(handle);
+	}
+	public double JNI_GetTemp(long handle) {
+		return PigeonImuJNI.JNI_GetTemp(handle);
+	}
+	public int JNI_GetUpTime(long handle) {
+		return PigeonImuJNI.JNI_GetUpTime(handle);
+	}
+	public int JNI_GetRawMagnetometer(long handle, short[] rm_xyz) {
+		return PigeonImuJNI.JNI_GetRawMagnetometer(handle, rm_xyz);
+	}
+	public int JNI_GetBiasedMagnetometer(long handle, short[] bm_xyz) {
+		return PigeonImuJNI.JNI_GetBiasedMagnetometer(handle, bm_xyz);
+	}
+	public int JNI_GetBiasedAccelerometer(long handle, short[] ba_xyz) {
+		return PigeonImuJNI.JNI_GetBiasedAccelerometer(handle, ba_xyz);
+	}
+	public int JNI_GetRawGyro(long handle, double[] xyz_dps) {
+		return PigeonImuJNI.JNI_GetRawGyro(handle, xyz_dps);
+	}
+	public int JNI_GetAccelerometerAngles(long handle, double[] tiltAngles) {
+		return PigeonImuJNI.JNI_GetAccelerometerAngles(handle, tiltAngles);
+	}
+	public int JNI_GetFusedHeading(long handle, double[] params) {
+		return PigeonImuJNI.JNI_GetFusedHeading(handle, params);
+	}
+	public int JNI_GetState(long handle) {
+		return PigeonImuJNI.JNI_GetState(handle);
+	}
+	public int JNI_GetResetCount(long handle) {
+		return PigeonImuJNI.JNI_GetResetCount(handle);
+	}
+	public int JNI_GetResetFlags(long handle) {
+		return PigeonImuJNI.JNI_GetResetFlags(handle);
+	}
+	public int JNI_GetFirmwareVersion(long handle) {
+		return PigeonImuJNI.JNI_GetFirmwareVersion(handle);
+	}
+	public int JNI_GetLastError(long handle) {
+		return PigeonImuJNI.JNI_GetLastError(handle);
+	}
+	public boolean JNI_HasResetOccurred(long handle) {
+		return PigeonImuJNI.JNI_HasResetOccurred(handle);
+	}
+	public int JNI_GetStatusFramePeriod(long handle, int frame, int timeoutMs) {
+		return PigeonImuJNI.JNI_GetStatusFramePeriod(handle, frame, timeoutMs);
+	}
+	public int JNI_SetControlFramePeriod(long handle, int frame, int periodMs) {
+		return PigeonImuJNI.JNI_SetControlFramePeriod(handle, frame, periodMs);
+	}
+	public int JNI_GetFaults(long handle) {
+		return PigeonImuJNI.JNI_GetFaults(handle);
+	}
+	public int JNI_GetStickyFaults(long handle) {
+		return PigeonImuJNI.JNI_GetStickyFaults(handle);
+	}
+	public int JNI_ClearStickyFaults(long handle, int timeoutMs) {
+		return PigeonImuJNI.JNI_ClearStickyFaults(handle, timeoutMs);
+	}
+}
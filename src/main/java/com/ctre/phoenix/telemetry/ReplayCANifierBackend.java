@@ -0,0 +1,74 @@
+package com.ctre.phoenix.telemetry;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ctre.phoenix.platform.sim.SimCANifierBackend;
+
+/**
+ * CANifiers whose getters return recorded samples, see TelemetryReplay.
+ */
+/* package */ class ReplayCANifierBackend extends SimCANifierBackend {
+	private final TelemetryReplay _replay;
+	private final ConcurrentHashMap<Long, int[]> _columns = new ConcurrentHashMap<Long, int[]>();
+
+	ReplayCANifierBackend(TelemetryReplay replay) {
+		_replay = replay;
+	}
+
+	/** @return column of the handle's signal, -1 if not recorded */
+	private int column(long handle, TelemetrySignal signal) {
+		int[] columns = _columns.get(handle);
+		if (columns == null) {
+			columns = _replay.getLog().findColumns(TelemetrySource.CANifier, getDeviceNumber(handle));
+			_columns.put(handle, columns);
+		}
+		return columns[signal.value];
+	}
+
+	@Override
+	public int JNI_destroy_CANifier(long handle) {
+		_columns.remove(handle);
+		return super.JNI_destroy_CANifier(handle);
+	}
+	@Override
+	public void JNI_GetGeneralInputs(long handle, boolean[] allPins) {
+		int c = column(handle, TelemetrySignal.GeneralInputs);
+		if (c < 0) {
+			super.JNI_GetGeneralInputs(handle, allPins);
+			return;
+		}
+		long bits = _replay.getRaw(c);
+		for (int i = 0; i < allPins.length; ++i) {
+			allPins[i] = (bits & (1L << i)) != 0;
+		}
+	}
+	@Override
+	public boolean JNI_GetGeneralInput(long handle, int inputPin) {
+		int c = column(handle, TelemetrySignal.GeneralInputs);
+		return (c >= 0) ? (_replay.getRaw(c) & (1L << inputPin)) != 0 : super.JNI_GetGeneralInput(handle, inputPin);
+	}
+	@Override
+	public int JNI_GetQuadraturePosition(long handle) {
+		int c = column(handle, TelemetrySignal.QuadraturePosition);
+		return (c >= 0) ? (int) _replay.getRaw(c) : super.JNI_GetQuadraturePosition(handle);
+	}
+	@Override
+	public int JNI_GetQuadratureVelocity(long handle) {
+		int c = column(handle, TelemetrySignal.QuadratureVelocity);
+		return (c >= 0) ? (int) _replay.getRaw(c) : super.JNI_GetQuadratureVelocity(handle);
+	}
+	@Override
+	public double JNI_GetBusVoltage(long handle) {
+		int c = column(handle, TelemetrySignal.BusVoltage);
+		return (c >= 0) ? _replay.getValue(c) : super.JNI_GetBusVoltage(handle);
+	}
+	@Override
+	public double JNI_GetBatteryVoltage(long handle) {
+		return JNI_GetBusVoltage(handle);
+	}
+	@Override
+	public int JNI_GetFaults(long handle) {
+		int c = column(handle, TelemetrySignal.Faults);
+		return (c >= 0) ? (int) _replay.getRaw(c) : super.JNI_GetFaults(handle);
+	}
+}
@@ -0,0 +1,85 @@
+package com.ctre.phoenix.telemetry;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ctre.phoenix.platform.sim.SimBuffTrajPointStreamBackend;
+import com.ctre.phoenix.platform.sim.SimMotControllerBackend;
+
+/**
+ * Motor controllers whose getters return recorded samples, see TelemetryReplay.
+ * The simulation's SensorCollection getters follow the selected sensor, so they replay too.
+ */
+/* package */ class ReplayMotControllerBackend extends SimMotControllerBackend {
+	private final TelemetryReplay _replay;
+	private final ConcurrentHashMap<Long, int[]> _columns = new ConcurrentHashMap<Long, int[]>();
+	private final ConcurrentHashMap<Long, TelemetrySource> _kinds = new ConcurrentHashMap<Long, TelemetrySource>();
+
+	ReplayMotControllerBackend(TelemetryReplay replay, SimBuffTrajPointStreamBackend streams) {
+		super(streams);
+		_replay = replay;
+	}
+
+	/** @return column of the handle's signal, -1 if not recorded */
+	private int column(long handle, TelemetrySignal signal) {
+		int[] columns = _columns.get(handle);
+		if (columns == null) {
+			columns = _replay.getLog().findColumns(_kinds.get(handle), GetDeviceNumber(handle));
+			_columns.put(handle, columns);
+		}
+		return columns[signal.value];
+	}
+
+	@Override
+	public long Create(int baseArbId) {
+		long handle = super.Create(baseArbId);
+		/* TalonSRX and VictorSPX differ in their base arbitration ID, see their constructors */
+		_kinds.put(handle, ((baseArbId & 0x02040000) == 0x02040000) ? TelemetrySource.TalonSRX : TelemetrySource.VictorSPX);
+		return handle;
+	}
+	@Override
+	public int JNI_destroy_MotController(long handle) {
+		_columns.remove(handle);
+		_kinds.remove(handle);
+		return super.JNI_destroy_MotController(handle);
+	}
+	@Override
+	public int GetSelectedSensorPosition(long handle, int pidIdx) {
+		int c = (pidIdx == 0) ? column(handle, TelemetrySignal.SelectedSensorPosition) : -1;
+		return (c >= 0) ? (int) _replay.getRaw(c) : super.GetSelectedSensorPosition(handle, pidIdx);
+	}
+	@Override
+	public int GetSelectedSensorVelocity(long handle, int pidIdx) {
+		int c = (pidIdx == 0) ? column(handle, TelemetrySignal.SelectedSensorVelocity) : -1;
+		return (c >= 0) ? (int) _replay.getRaw(c) : super.GetSelectedSensorVelocity(handle, pidIdx);
+	}
+	@Override
+	public int GetClosedLoopError(long handle, int pidIdx) {
+		int c = (pidIdx == 0) ? column(handle, TelemetrySignal.ClosedLoopError) : -1;
+		return (c >= 0) ? (int) _replay.getRaw(c) : super.GetClosedLoopError(handle, pidIdx);
+	}
+	@Override
+	public double GetMotorOutputPercent(long handle) {
+		int c = column(handle, TelemetrySignal.MotorOutputPercent);
+		return (c >= 0) ? _replay.getValue(c) : super.GetMotorOutputPercent(handle);
+	}
+	@Override
+	public double GetBusVoltage(long handle) {
+		int c = column(handle, TelemetrySignal.BusVoltage);
+		return (c >= 0) ? _replay.getValue(c) : super.GetBusVoltage(handle);
+	}
+	@Override
+	public double GetOutputCurrent(long handle) {
+		int c = column(handle, TelemetrySignal.OutputCurrent);
+		return (c >= 0) ? _replay.getValue(c) : super.GetOutputCurrent(handle);
+	}
+	@Override
+	public double GetTemperature(long handle) {
+		int c = column(handle, TelemetrySignal.Temperature);
+		return (c >= 0) ? _replay.getValue(c) : super.GetTemperature(handle);
+	}
+	@Override
+	public int GetFaults(long handle) {
+		int c = column(handle, TelemetrySignal.Faults);
+		return (c >= 0) ? (int) _replay.getRaw(c) : super.GetFaults(handle);
+	}
+}
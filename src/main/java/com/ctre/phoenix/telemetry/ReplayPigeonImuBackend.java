@@ -0,0 +1,57 @@
+package com.ctre.phoenix.telemetry;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ctre.phoenix.platform.sim.SimPigeonImuBackend;
+
+/**
+ * Pigeons whose getters return recorded samples, see TelemetryReplay.
+ * Fused heading follows the recorded yaw.
+ */
+/* package */ class ReplayPigeonImuBackend extends SimPigeonImuBackend {
+	private final TelemetryReplay _replay;
+	private final ConcurrentHashMap<Long, int[]> _columns = new ConcurrentHashMap<Long, int[]>();
+
+	ReplayPigeonImuBackend(TelemetryReplay replay) {
+		_replay = replay;
+	}
+
+	/** @return column of the handle's signal, -1 if not recorded */
+	private int column(long handle, TelemetrySignal signal) {
+		int[] columns = _columns.get(handle);
+		if (columns == null) {
+			columns = _replay.getLog().findColumns(TelemetrySource.PigeonIMU, getDeviceNumber(handle));
+			_columns.put(handle, columns);
+		}
+		return columns[signal.value];
+	}
+
+	@Override
+	public int JNI_destroy_PigeonImu(long handle) {
+		_columns.remove(handle);
+		return super.JNI_destroy_PigeonImu(handle);
+	}
+	@Override
+	public int JNI_GetYawPitchRoll(long handle, double[] ypr) {
+		int retval = super.JNI_GetYawPitchRoll(handle, ypr);
+		int yaw = column(handle, TelemetrySignal.Yaw);
+		int pitch = column(handle, TelemetrySignal.Pitch);
+		int roll = column(handle, TelemetrySignal.Roll);
+		if (yaw >= 0) { ypr[0] = _replay.getValue(yaw); }
+		if (pitch >= 0) { ypr[1] = _replay.getValue(pitch); }
+		if (roll >= 0) { ypr[2] = _replay.getValue(roll); }
+		return retval;
+	}
+	@Override
+	public int JNI_GetFusedHeading(long handle, double[] params) {
+		int retval = super.JNI_GetFusedHeading(handle, params);
+		int yaw = column(handle, TelemetrySignal.Yaw);
+		if (yaw >= 0) { params[0] = _replay.getValue(yaw); }
+		return retval;
+	}
+	@Override
+	public int JNI_GetFaults(long handle) {
+		int c = column(handle, TelemetrySignal.Faults);
+		return (c >= 0) ? (int) _replay.getRaw(c) : super.JNI_GetFaults(handle);
+	}
+}
@@ -0,0 +1,56 @@
+package com.ctre.phoenix.telemetry;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of a telemetry log, shared by the recorder and reader.
+ *
+ * All multi-byte fixed fields are big endian.
+ *
+ * Header:
+ *	int  MAGIC
+ *	int  VERSION
+ *	long wall clock time recording started (ms since epoch)
+ *	int  column count
+ *	per column: byte TelemetrySource, int device number, byte TelemetrySignal
+ *
+ * Then chunks until end of file:
+ *	int  payload length in bytes
+ *	int  row count
+ *	int  CRC-32 of the payload, so a chunk torn by a power loss is detected and dropped
+ *	payload: the time column (us since recording started) followed by each column in
+ *	         header order, each as row count zigzag varint deltas from the previous row.
+ *	         The first row of each chunk is a delta from zero, so chunks decode independently.
+ */
+/* package */ class TelemetryFormat {
+	static final int MAGIC = 0x50485854; /* "PHXT" */
+	static final int VERSION = 2;
+	/** Header bytes before the per-column entries */
+	static final int HEADER_BYTES = 20;
+	/** Header bytes of one column */
+	static final int COLUMN_HEADER_BYTES = 6;
+	static final int CHUNK_HEADER_BYTES = 12;
+	/** Longest encoding of one varint */
+	static final int MAX_VARINT_BYTES = 10;
+
+	static void putVarLong(ByteBuffer buf, long value) {
+		long zigzag = (value << 1) ^ (value >> 63);
+		while ((zigzag & ~0x7FL) != 0) {
+			buf.put((byte) ((zigzag & 0x7F) | 0x80));
+			zigzag >>>= 7;
+		}
+		buf.put((byte) zigzag);
+	}
+
+	static long getVarLong(ByteBuffer buf) {
+		long zigzag = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = buf.get();
+			zigzag |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return (zigzag >>> 1) ^ -(zigzag & 1);
+	}
+}
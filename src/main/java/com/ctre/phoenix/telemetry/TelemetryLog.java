@@ -0,0 +1,225 @@
+package com.ctre.phoenix.telemetry;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Telemetry log written by TelemetryRecorder, decoded into memory.
+ *
+ * A log cut short, for example by a power loss while recording, is read up to the last
+ * complete chunk.  A chunk whose payload does not match its CRC, as when its pages were
+ * only partly written, ends the log.
+ */
+public class TelemetryLog {
+	private final long _startTimeMs;
+	private final TelemetrySource[] _sources;
+	private final int[] _deviceNumbers;
+	private final TelemetrySignal[] _signals;
+	private final long[] _timeUs;
+	private final long[][] _columns;
+
+	private TelemetryLog(long startTimeMs, TelemetrySource[] sources, int[] deviceNumbers,
+			TelemetrySignal[] signals, long[] timeUs, long[][] columns) {
+		_startTimeMs = startTimeMs;
+		_sources = sources;
+		_deviceNumbers = deviceNumbers;
+		_signals = signals;
+		_timeUs = timeUs;
+		_columns = columns;
+	}
+
+	/**
+	 * Read and decode a log file
+	 * @param path File written by TelemetryRecorder
+	 * @return decoded log
+	 * @throws IOException if the file cannot be read, is not a telemetry log, has a corrupt
+	 *         header or has no samples
+	 */
+	public static TelemetryLog read(String path) throws IOException {
+		ByteBuffer buf;
+		try (RandomAccessFile file = new RandomAccessFile(path, "r")) {
+			FileChannel channel = file.getChannel();
+			buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (buf.remaining() < TelemetryFormat.HEADER_BYTES || buf.getInt() != TelemetryFormat.MAGIC) {
+			throw new IOException(path + " is not a telemetry log");
+		}
+		int version = buf.getInt();
+		if (version != TelemetryFormat.VERSION) {
+			throw new IOException(path + " has unsupported telemetry log version " + version);
+		}
+		long startTimeMs = buf.getLong();
+		int columnCount = buf.getInt();
+		if (columnCount < 0 || buf.remaining() < (long) columnCount * TelemetryFormat.COLUMN_HEADER_BYTES) {
+			throw new IOException(path + " has a corrupt header, " + columnCount + " columns");
+		}
+		TelemetrySource[] sources = new TelemetrySource[columnCount];
+		int[] deviceNumbers = new int[columnCount];
+		TelemetrySignal[] signals = new TelemetrySignal[columnCount];
+		for (int c = 0; c < columnCount; ++c) {
+			sources[c] = TelemetrySource.valueOf(buf.get());
+			deviceNumbers[c] = buf.getInt();
+			signals[c] = TelemetrySignal.valueOf(buf.get());
+			if (sources[c] == null || signals[c] == null) {
+				throw new IOException(path + " has a corrupt header, column " + c + " is unknown");
+			}
+		}
+
+		/* count rows first so every column is allocated once */
+		int firstChunk = buf.position();
+		int rowCount = 0;
+		CRC32 crc = new CRC32();
+		while (buf.remaining() >= TelemetryFormat.CHUNK_HEADER_BYTES) {
+			int length = buf.getInt();
+			int rows = buf.getInt();
+			int checksum = buf.getInt();
+			if (rows <= 0 || length <= 0 || length > buf.remaining()) {
+				break;
+			}
+			ByteBuffer payload = buf.slice();
+			payload.limit(length);
+			crc.reset();
+			crc.update(payload);
+			if ((int) crc.getValue() != checksum) {
+				break;
+			}
+			buf.position(buf.position() + length);
+			rowCount += rows;
+		}
+
+		if (rowCount == 0) {
+			throw new IOException(path + " contains no samples");
+		}
+
+		long[] timeUs = new long[rowCount];
+		long[][] columns = new long[columnCount][rowCount];
+		buf.position(firstChunk);
+		int row = 0;
+		while (row < rowCount) {
+			buf.getInt();
+			int rows = buf.getInt();
+			buf.getInt();
+			decodeColumn(buf, timeUs, row, rows);
+			for (int c = 0; c < columnCount; ++c) {
+				decodeColumn(buf, columns[c], row, rows);
+			}
+			row += rows;
+		}
+		return new TelemetryLog(startTimeMs, sources, deviceNumbers, signals, timeUs, columns);
+	}
+
+	private static void decodeColumn(ByteBuffer buf, long[] values, int firstRow, int rows) {
+		long value = 0;
+		for (int r = firstRow; r < firstRow + rows; ++r) {
+			value += TelemetryFormat.getVarLong(buf);
+			values[r] = value;
+		}
+	}
+
+	/**
+	 * @return wall clock time recording started, in ms since epoch
+	 */
+	public long getStartTimeMs() {
+		return _startTimeMs;
+	}
+	/**
+	 * @return number of samples
+	 */
+	public int getRowCount() {
+		return _timeUs.length;
+	}
+	/**
+	 * @return number of columns per sample, excluding time
+	 */
+	public int getColumnCount() {
+		return _columns.length;
+	}
+	/**
+	 * @param row Sample index
+	 * @return time of the sample in us since recording started
+	 */
+	public long getTimeUs(int row) {
+		return _timeUs[row];
+	}
+	/**
+	 * @param timeUs Time in us since recording started
+	 * @return index of the last sample at or before timeUs, 0 if timeUs precedes every sample
+	 */
+	public int findRow(long timeUs) {
+		int idx = Arrays.binarySearch(_timeUs, timeUs);
+		if (idx < 0) {
+			idx = -idx - 2; /* insertion point - 1 */
+		}
+		return Math.max(idx, 0);
+	}
+	/**
+	 * @param column Column index
+	 * @return kind of device the column was sampled from, null if not known to this version
+	 */
+	public TelemetrySource getSource(int column) {
+		return _sources[column];
+	}
+	/**
+	 * @param column Column index
+	 * @return device number the column was sampled from
+	 */
+	public int getDeviceNumber(int column) {
+		return _deviceNumbers[column];
+	}
+	/**
+	 * @param column Column index
+	 * @return signal of the column, null if not known to this version
+	 */
+	public TelemetrySignal getSignal(int column) {
+		return _signals[column];
+	}
+	/**
+	 * @param source Kind of device
+	 * @param deviceNumber Device number
+	 * @param signal Signal
+	 * @return index of the first matching column, or -1 if not recorded
+	 */
+	public int findColumn(TelemetrySource source, int deviceNumber, TelemetrySignal signal) {
+		for (int c = 0; c < _columns.length; ++c) {
+			if (_sources[c] == source && _deviceNumbers[c] == deviceNumber && _signals[c] == signal) {
+				return c;
+			}
+		}
+		return -1;
+	}
+	/**
+	 * @param source Kind of device
+	 * @param deviceNumber Device number
+	 * @return column of every signal of the device, indexed by TelemetrySignal.value, -1 if not recorded
+	 */
+	public int[] findColumns(TelemetrySource source, int deviceNumber) {
+		TelemetrySignal[] all = TelemetrySignal.values();
+		int[] columns = new int[all.length];
+		for (TelemetrySignal signal : all) {
+			columns[signal.value] = findColumn(source, deviceNumber, signal);
+		}
+		return columns;
+	}
+	/**
+	 * @param column Column index
+	 * @param row Sample index
+	 * @return value as stored, see TelemetrySignal.scale
+	 */
+	public long getRaw(int column, int row) {
+		return _columns[column][row];
+	}
+	/**
+	 * @param column Column index
+	 * @param row Sample index
+	 * @return value in the signal's units
+	 */
+	public double getValue(int column, int row) {
+		TelemetrySignal signal = _signals[column];
+		long raw = _columns[column][row];
+		return (signal != null) ? signal.decode(raw) : raw;
+	}
+}
@@ -0,0 +1,451 @@
+package com.ctre.phoenix.telemetry;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import com.ctre.phoenix.CANifier;
+import com.ctre.phoenix.CANifierFaults;
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.ILoopable;
+import com.ctre.phoenix.Logger;
+import com.ctre.phoenix.motorcontrol.MotorStatusSnapshot;
+import com.ctre.phoenix.motorcontrol.can.BaseMotorController;
+import com.ctre.phoenix.motorcontrol.can.TalonSRX;
+import com.ctre.phoenix.sensors.PigeonIMU;
+import com.ctre.phoenix.sensors.PigeonIMU_Faults;
+
+/**
+ * Records device signals to a compact binary log, see TelemetryFormat.
+ *
+ * Register devices with add(), then call start() and sample() once per loop.
+ * Each sample() fills one row of preallocated columns.  Full chunks are handed to a
+ * background thread that delta-encodes them and copies them into a memory-mapped file,
+ * so sample() never touches the disk, never blocks and does not allocate.
+ * If the writer falls behind and no empty chunk is available, samples are dropped and
+ * counted, see getDroppedSampleCount().
+ *
+ * Can be added to a scheduler as an ILoopable: onStart() starts, onLoop() samples
+ * and onStop() stops.
+ */
+public class TelemetryRecorder implements ILoopable {
+	private static final int CHUNK_COUNT = 4;
+	private static final int MAP_BYTES = 4 * 1024 * 1024;
+
+	/** Device registered for sampling, fills its columns of one row */
+	private static abstract class Source {
+		final TelemetrySource kind;
+		final int deviceNumber;
+		final TelemetrySignal[] signals;
+		Source(TelemetrySource kind, int deviceNumber, TelemetrySignal... signals) {
+			this.kind = kind;
+			this.deviceNumber = deviceNumber;
+			this.signals = signals;
+		}
+		abstract void sample(long[][] columns, int firstColumn, int row);
+	}
+
+	private static final class MotorControllerSource extends Source {
+		final BaseMotorController device;
+		final MotorStatusSnapshot snapshot = new MotorStatusSnapshot();
+		MotorControllerSource(BaseMotorController device) {
+			super((device instanceof TalonSRX) ? TelemetrySource.TalonSRX : TelemetrySource.VictorSPX, device.getDeviceID(),
+					TelemetrySignal.SelectedSensorPosition, TelemetrySignal.SelectedSensorVelocity,
+					TelemetrySignal.ClosedLoopError, TelemetrySignal.MotorOutputPercent,
+					TelemetrySignal.BusVoltage, TelemetrySignal.OutputCurrent,
+					TelemetrySignal.Temperature, TelemetrySignal.Faults);
+			this.device = device;
+		}
+		void sample(long[][] columns, int c, int row) {
+			device.snapshot(snapshot);
+			columns[c++][row] = snapshot.selectedSensorPosition;
+			columns[c++][row] = snapshot.selectedSensorVelocity;
+			columns[c++][row] = snapshot.closedLoopError;
+			columns[c++][row] = TelemetrySignal.MotorOutputPercent.encode(snapshot.motorOutputPercent);
+			columns[c++][row] = TelemetrySignal.BusVoltage.encode(snapshot.busVoltage);
+			columns[c++][row] = TelemetrySignal.OutputCurrent.encode(snapshot.outputCurrent);
+			columns[c++][row] = TelemetrySignal.Temperature.encode(snapshot.temperature);
+			columns[c][row] = snapshot.faults;
+		}
+	}
+
+	private static final class PigeonIMUSource extends Source {
+		final PigeonIMU device;
+		final double[] ypr = new double[3];
+		final PigeonIMU_Faults faults = new PigeonIMU_Faults();
+		PigeonIMUSource(PigeonIMU device) {
+			super(TelemetrySource.PigeonIMU, device.getDeviceID(),
+					TelemetrySignal.Yaw, TelemetrySignal.Pitch, TelemetrySignal.Roll,
+					TelemetrySignal.Faults);
+			this.device = device;
+		}
+		void sample(long[][] columns, int c, int row) {
+			device.getYawPitchRoll(ypr);
+			device.getFaults(faults);
+			columns[c++][row] = TelemetrySignal.Yaw.encode(ypr[0]);
+			columns[c++][row] = TelemetrySignal.Pitch.encode(ypr[1]);
+			columns[c++][row] = TelemetrySignal.Roll.encode(ypr[2]);
+			columns[c][row] = faults.toBitfield();
+		}
+	}
+
+	private static final class CANifierSource extends Source {
+		final CANifier device;
+		final CANifier.PinValues pins = new CANifier.PinValues();
+		final CANifierFaults faults = new CANifierFaults();
+		CANifierSource(CANifier device) {
+			super(TelemetrySource.CANifier, device.getDeviceID(),
+					TelemetrySignal.GeneralInputs, TelemetrySignal.QuadraturePosition,
+					TelemetrySignal.QuadratureVelocity, TelemetrySignal.BusVoltage,
+					TelemetrySignal.Faults);
+			this.device = device;
+		}
+		void sample(long[][] columns, int c, int row) {
+			device.getGeneralInputs(pins);
+			device.getFaults(faults);
+			columns[c++][row] = pinBits(pins);
+			columns[c++][row] = device.getQuadraturePosition();
+			columns[c++][row] = device.getQuadratureVelocity();
+			columns[c++][row] = TelemetrySignal.BusVoltage.encode(device.getBusVoltage());
+			columns[c][row] = faults.toBitfield();
+		}
+		static int pinBits(CANifier.PinValues pins) {
+			int bits = 0;
+			if (pins.QUAD_IDX) bits |= 1 << CANifier.GeneralPin.QUAD_IDX.value;
+			if (pins.QUAD_B) bits |= 1 << CANifier.GeneralPin.QUAD_B.value;
+			if (pins.QUAD_A) bits |= 1 << CANifier.GeneralPin.QUAD_A.value;
+			if (pins.LIMR) bits |= 1 << CANifier.GeneralPin.LIMR.value;
+			if (pins.LIMF) bits |= 1 << CANifier.GeneralPin.LIMF.value;
+			if (pins.SDA) bits |= 1 << CANifier.GeneralPin.SDA.value;
+			if (pins.SCL) bits |= 1 << CANifier.GeneralPin.SCL.value;
+			if (pins.SPI_CS_PWM3) bits |= 1 << CANifier.GeneralPin.SPI_CS.value;
+			if (pins.SPI_MISO_PWM2) bits |= 1 << CANifier.GeneralPin.SPI_MISO_PWM2P.value;
+			if (pins.SPI_MOSI_PWM1) bits |= 1 << CANifier.GeneralPin.SPI_MOSI_PWM1P.value;
+			if (pins.SPI_CLK_PWM0) bits |= 1 << CANifier.GeneralPin.SPI_CLK_PWM0P.value;
+			return bits;
+		}
+	}
+
+	/** Preallocated rows, passed between sample() and the writer thread */
+	private static final class Chunk {
+		final long[] timeUs;
+		final long[][] columns;
+		int rows;
+		Chunk(int columnCount, int rowCapacity) {
+			timeUs = new long[rowCapacity];
+			columns = new long[columnCount][rowCapacity];
+		}
+	}
+
+	private final String _path;
+	private final int _rowsPerChunk;
+	private final ArrayList<Source> _sources = new ArrayList<Source>();
+	private Source[] _sourceArray = null;
+	private int _columnCount = 0;
+
+	private ArrayBlockingQueue<Chunk> _empty = null;
+	private ArrayBlockingQueue<Chunk> _full = null;
+	private Chunk _current = null;
+	private long _startNs = 0;
+	private volatile long _droppedSamples = 0;
+	private volatile long _recordedSamples = 0;
+
+	private Thread _writer = null;
+	private volatile boolean _running = false;
+	private volatile boolean _writeFailed = false;
+	private FileChannel _channel = null;
+	private MappedByteBuffer _map = null;
+	private long _mapPos = 0;
+	private ByteBuffer _encoded = null;
+	private final CRC32 _crc = new CRC32(); /* writer thread only */
+
+	/**
+	 * Constructor for TelemetryRecorder
+	 * @param path File to write, replaced if it exists
+	 * @param rowsPerChunk Samples buffered before a chunk is handed to the writer, e.g. 100
+	 */
+	public TelemetryRecorder(String path, int rowsPerChunk) {
+		_path = path;
+		_rowsPerChunk = rowsPerChunk;
+	}
+
+	/**
+	 * Record the signals of a TalonSRX or VictorSPX.  Call before start().
+	 * @param motorController Motor controller to sample
+	 */
+	public synchronized void add(BaseMotorController motorController) {
+		add(new MotorControllerSource(motorController));
+	}
+	/**
+	 * Record the signals of a PigeonIMU.  Call before start().
+	 * @param pigeon PigeonIMU to sample
+	 */
+	public synchronized void add(PigeonIMU pigeon) {
+		add(new PigeonIMUSource(pigeon));
+	}
+	/**
+	 * Record the signals of a CANifier.  Call before start().
+	 * @param canifier CANifier to sample
+	 */
+	public synchronized void add(CANifier canifier) {
+		add(new CANifierSource(canifier));
+	}
+	private void add(Source source) {
+		if (_running) {
+			throw new IllegalStateException("Devices must be added before start()");
+		}
+		_sources.add(source);
+		_columnCount += source.signals.length;
+	}
+
+	/**
+	 * Create the log file and start the writer thread.
+	 * @return Error Code.  GeneralError if the file could not be created.
+	 */
+	public synchronized ErrorCode start() {
+		if (_running) {
+			return ErrorCode.OK;
+		}
+		_sourceArray = _sources.toArray(new Source[_sources.size()]);
+		_empty = new ArrayBlockingQueue<Chunk>(CHUNK_COUNT);
+		_full = new ArrayBlockingQueue<Chunk>(CHUNK_COUNT);
+		for (int i = 0; i < CHUNK_COUNT; ++i) {
+			_empty.add(new Chunk(_columnCount, _rowsPerChunk));
+		}
+		_current = _empty.poll();
+		_encoded = ByteBuffer.allocate(TelemetryFormat.CHUNK_HEADER_BYTES
+				+ (_columnCount + 1) * _rowsPerChunk * TelemetryFormat.MAX_VARINT_BYTES);
+		_droppedSamples = 0;
+		_recordedSamples = 0;
+		_writeFailed = false;
+		try {
+			RandomAccessFile file = new RandomAccessFile(_path, "rw");
+			file.setLength(0);
+			_channel = file.getChannel();
+			_mapPos = 0;
+			_map = null;
+			writeHeader();
+		} catch (IOException e) {
+			Logger.log(ErrorCode.GeneralError, "TelemetryRecorder " + _path + ": " + e.getMessage());
+			closeChannel();
+			return ErrorCode.GeneralError;
+		}
+		_startNs = System.nanoTime();
+		_running = true;
+		_writer = new Thread(this::writeLoop, "TelemetryRecorder");
+		_writer.setDaemon(true);
+		_writer.start();
+		return ErrorCode.OK;
+	}
+
+	/**
+	 * Sample every registered device into the next row.  Call once per loop.
+	 */
+	public void sample() {
+		if (!_running) {
+			return;
+		}
+		Chunk chunk = _current;
+		if (chunk == null) {
+			chunk = _current = _empty.poll();
+			if (chunk == null) {
+				/* writer is behind, drop rather than wait */
+				++_droppedSamples;
+				return;
+			}
+		}
+		int row = chunk.rows;
+		chunk.timeUs[row] = (System.nanoTime() - _startNs) / 1000;
+		int column = 0;
+		Source[] sources = _sourceArray;
+		for (int i = 0; i < sources.length; ++i) {
+			sources[i].sample(chunk.columns, column, row);
+			column += sources[i].signals.length;
+		}
+		chunk.rows = row + 1;
+		++_recordedSamples;
+		if (chunk.rows == _rowsPerChunk) {
+			_full.offer(chunk);
+			_current = null;
+		}
+	}
+
+	/**
+	 * Write any buffered samples, stop the writer thread and close the file.
+	 * Blocks until the file is complete, so call from the loop's stop path.
+	 */
+	public synchronized void stop() {
+		if (!_running) {
+			return;
+		}
+		if (_current != null && _current.rows > 0) {
+			_full.offer(_current);
+		}
+		_current = null;
+		_running = false;
+		try {
+			_writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		_writer = null;
+		try {
+			if (_map != null) {
+				_map.force();
+			}
+			/* mapping grows the file in large steps, trim the unused tail */
+			_channel.truncate(_mapPos + (_map != null ? _map.position() : 0));
+		} catch (IOException e) {
+			Logger.log(ErrorCode.GeneralError, "TelemetryRecorder " + _path + ": " + e.getMessage());
+		}
+		closeChannel();
+	}
+
+	private void closeChannel() {
+		if (_channel != null) {
+			try {
+				_channel.close();
+			} catch (IOException e) {
+				/* nothing more to do */
+			}
+		}
+		_channel = null;
+		_map = null;
+	}
+
+	private void writeHeader() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(TelemetryFormat.HEADER_BYTES + _columnCount * TelemetryFormat.COLUMN_HEADER_BYTES);
+		header.putInt(TelemetryFormat.MAGIC);
+		header.putInt(TelemetryFormat.VERSION);
+		header.putLong(System.currentTimeMillis());
+		header.putInt(_columnCount);
+		for (Source s : _sourceArray) {
+			for (TelemetrySignal signal : s.signals) {
+				header.put((byte) s.kind.value);
+				header.putInt(s.deviceNumber);
+				header.put((byte) signal.value);
+			}
+		}
+		header.flip();
+		write(header);
+	}
+
+	private void writeLoop() {
+		while (true) {
+			Chunk chunk;
+			try {
+				chunk = _full.poll(20, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				break;
+			}
+			if (chunk == null) {
+				if (!_running) {
+					break;
+				}
+				continue;
+			}
+			if (!_writeFailed) {
+				try {
+					encode(chunk);
+					write(_encoded);
+				} catch (IOException e) {
+					_writeFailed = true;
+					Logger.log(ErrorCode.GeneralError, "TelemetryRecorder " + _path + ": " + e.getMessage());
+				}
+			}
+			chunk.rows = 0;
+			_empty.offer(chunk);
+		}
+	}
+
+	private void encode(Chunk chunk) {
+		ByteBuffer buf = _encoded;
+		buf.clear();
+		buf.position(TelemetryFormat.CHUNK_HEADER_BYTES);
+		encodeColumn(buf, chunk.timeUs, chunk.rows);
+		for (int c = 0; c < _columnCount; ++c) {
+			encodeColumn(buf, chunk.columns[c], chunk.rows);
+		}
+		buf.putInt(0, buf.position() - TelemetryFormat.CHUNK_HEADER_BYTES);
+		buf.putInt(4, chunk.rows);
+		_crc.reset();
+		_crc.update(buf.array(), TelemetryFormat.CHUNK_HEADER_BYTES, buf.position() - TelemetryFormat.CHUNK_HEADER_BYTES);
+		buf.putInt(8, (int) _crc.getValue());
+		buf.flip();
+	}
+
+	private static void encodeColumn(ByteBuffer buf, long[] values, int rows) {
+		long prev = 0;
+		for (int r = 0; r < rows; ++r) {
+			TelemetryFormat.putVarLong(buf, values[r] - prev);
+			prev = values[r];
+		}
+	}
+
+	/** Copy into the mapped file, mapping the next region when the current one is full */
+	private void write(ByteBuffer src) throws IOException {
+		if (_map == null || _map.remaining() < src.remaining()) {
+			long pos = _mapPos + (_map != null ? _map.position() : 0);
+			_map = _channel.map(FileChannel.MapMode.READ_WRITE, pos, Math.max(MAP_BYTES, src.remaining()));
+			_mapPos = pos;
+		}
+		_map.put(src);
+	}
+
+	/**
+	 * @return true while recording
+	 */
+	public boolean isRecording() {
+		return _running;
+	}
+	/**
+	 * @return number of columns per sample, excluding time
+	 */
+	public int getColumnCount() {
+		return _columnCount;
+	}
+	/**
+	 * @return number of samples recorded since start()
+	 */
+	public long getRecordedSampleCount() {
+		return _recordedSamples;
+	}
+	/**
+	 * @return number of samples dropped since start() because the writer fell behind
+	 */
+	public long getDroppedSampleCount() {
+		return _droppedSamples;
+	}
+
+	//--- Loopable ---/
+	/**
+	 * Start recording
+	 */
+	public void onStart() {
+		start();
+	}
+	/**
+	 * Sample all devices
+	 */
+	public void onLoop() {
+		sample();
+	}
+	/**
+	 * @return false, this is never done
+	 */
+	public boolean isDone() {
+		return false;
+	}
+	/**
+	 * Stop recording
+	 */
+	public void onStop() {
+		stop();
+	}
+}
@@ -0,0 +1,138 @@
+package com.ctre.phoenix.telemetry;
+
+import com.ctre.phoenix.platform.Backend;
+import com.ctre.phoenix.platform.sim.SimBuffTrajPointStreamBackend;
+
+/**
+ * Plays a TelemetryLog back through the regular device getters.
+ *
+ * After install(), devices created with a device type and number found in the log return the
+ * recorded values of the current sample from their getters, including SensorCollection.
+ * Signals that were not recorded, and every setter, behave as in the Java simulation.
+ *
+ * The current sample is moved explicitly with step() and seek(), which is deterministic and
+ * runs as fast as the code under test, or follows the wall clock with update() after
+ * setTimeScale().
+ */
+public class TelemetryReplay {
+	private final TelemetryLog _log;
+	private volatile int _row = 0;
+
+	private double _timeScale = 1.0;
+	private long _wallStartNs = 0;
+	private long _logStartUs = 0;
+
+	/**
+	 * Constructor for TelemetryReplay, positioned at the first sample
+	 * @param log Log to play back
+	 */
+	public TelemetryReplay(TelemetryLog log) {
+		_log = log;
+	}
+
+	/**
+	 * Make devices created after this call read from this replay.
+	 * Select another backend with com.ctre.phoenix.platform.Backend to stop.
+	 */
+	public void install() {
+		SimBuffTrajPointStreamBackend streams = new SimBuffTrajPointStreamBackend();
+		Backend.use(new ReplayMotControllerBackend(this, streams), new ReplayPigeonImuBackend(this),
+				new ReplayCANifierBackend(this), streams);
+	}
+
+	/**
+	 * @return log being played back
+	 */
+	public TelemetryLog getLog() {
+		return _log;
+	}
+
+	//--- Position ---/
+	/**
+	 * Move to the next sample.
+	 * @return false if already at the last sample
+	 */
+	public boolean step() {
+		int row = _row;
+		if (row + 1 >= _log.getRowCount()) {
+			return false;
+		}
+		_row = row + 1;
+		return true;
+	}
+	/**
+	 * Move to the last sample at or before a time.
+	 * @param timeUs Time in us since recording started
+	 */
+	public void seek(long timeUs) {
+		_row = _log.findRow(timeUs);
+		restartClock();
+	}
+	/**
+	 * Move to a sample.
+	 * @param row Sample index, clamped to the log
+	 */
+	public void seekRow(int row) {
+		_row = Math.max(0, Math.min(row, _log.getRowCount() - 1));
+		restartClock();
+	}
+	/**
+	 * @return index of the current sample
+	 */
+	public int getRow() {
+		return _row;
+	}
+	/**
+	 * @return time of the current sample in us since recording started
+	 */
+	public long getTimeUs() {
+		return (_log.getRowCount() > 0) ? _log.getTimeUs(_row) : 0;
+	}
+	/**
+	 * @return true when at the last sample
+	 */
+	public boolean isFinished() {
+		return _row + 1 >= _log.getRowCount();
+	}
+
+	//--- Wall clock ---/
+	/**
+	 * Set how fast update() plays back.
+	 * @param scale Log time per wall clock time, 1.0 for real time, 10.0 for ten times faster.
+	 */
+	public void setTimeScale(double scale) {
+		_timeScale = scale;
+		restartClock();
+	}
+	/**
+	 * Move to the sample matching the wall clock time since the last seek or setTimeScale,
+	 * multiplied by the time scale.  Call once per loop.
+	 */
+	public void update() {
+		long elapsedUs = (long) ((System.nanoTime() - _wallStartNs) / 1000 * _timeScale);
+		int row = _log.findRow(_logStartUs + elapsedUs);
+		if (row > _row) {
+			_row = row;
+		}
+	}
+	private void restartClock() {
+		_wallStartNs = System.nanoTime();
+		_logStartUs = getTimeUs();
+	}
+
+	//--- Values of the current sample ---/
+	/**
+	 * @param column Column index
+	 * @return value of the current sample as stored
+	 */
+	public long getRaw(int column) {
+		return _log.getRaw(column, _row);
+	}
+	/**
+	 * @param column Column index
+	 * @return value of the current sample in the signal's units
+	 */
+	public double getValue(int column) {
+		return _log.getValue(column, _row);
+	}
+}
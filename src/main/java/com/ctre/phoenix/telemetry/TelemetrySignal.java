@@ -0,0 +1,83 @@
+package com.ctre.phoenix.telemetry;
+
+import com.ctre.phoenix.EnumLookup;
+
+/**
+ * Signals a TelemetryRecorder can sample.
+ *
+ * Every signal is stored as an integer.  Signals with a fractional value are stored
+ * multiplied by their scale, e.g. bus voltage is stored in millivolts.
+ */
+public enum TelemetrySignal {
+	/** Selected sensor position of PID[0] (sensor units) */
+	SelectedSensorPosition(0, 1),
+	/** Selected sensor velocity of PID[0] (sensor units per 100ms) */
+	SelectedSensorVelocity(1, 1),
+	/** Closed-loop error of PID[0] (sensor units) */
+	ClosedLoopError(2, 1),
+	/** Motor output [-1,+1], stored in 1/10000 */
+	MotorOutputPercent(3, 10000),
+	/** Bus voltage, stored in millivolts */
+	BusVoltage(4, 1000),
+	/** Output current, stored in milliamps */
+	OutputCurrent(5, 1000),
+	/** Temperature, stored in 1/100 'C */
+	Temperature(6, 100),
+	/** Fault flags as a bit field */
+	Faults(7, 1),
+	/** Pigeon yaw, stored in 1/1000 degree */
+	Yaw(8, 1000),
+	/** Pigeon pitch, stored in 1/1000 degree */
+	Pitch(9, 1000),
+	/** Pigeon roll, stored in 1/1000 degree */
+	Roll(10, 1000),
+	/** CANifier general inputs, LSB->MSB in the order of CANifier.GeneralPin */
+	GeneralInputs(11, 1),
+	/** CANifier quadrature position */
+	QuadraturePosition(12, 1),
+	/** CANifier quadrature velocity */
+	QuadratureVelocity(13, 1);
+
+	/**
+	 * Value of TelemetrySignal, as stored in the log
+	 */
+	public final int value;
+	/**
+	 * Stored integer per unit of the signal
+	 */
+	public final double scale;
+
+	/**
+	 * Create TelemetrySignal of specified value
+	 * @param value Value of TelemetrySignal
+	 * @param scale Stored integer per unit
+	 */
+	TelemetrySignal(int value, double scale) {
+		this.value = value;
+		this.scale = scale;
+	}
+	/**
+	 * @param signalValue Value in the signal's units
+	 * @return Integer stored in the log
+	 */
+	public long encode(double signalValue) {
+		return Math.round(signalValue * scale);
+	}
+	/**
+	 * @param stored Integer stored in the log
+	 * @return Value in the signal's units
+	 */
+	public double decode(long stored) {
+		return stored / scale;
+	}
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<TelemetrySignal> _lookup = new EnumLookup<TelemetrySignal>(TelemetrySignal.values(), e -> e.value, null);
+	/**
+	 * Get TelemetrySignal of specified value
+	 * @param value Value of TelemetrySignal
+	 * @return TelemetrySignal of specified value, or null if unknown
+	 */
+	public static TelemetrySignal valueOf(int value) {
+		return _lookup.get(value);
+	}
+}
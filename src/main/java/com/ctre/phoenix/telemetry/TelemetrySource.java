@@ -0,0 +1,48 @@
+package com.ctre.phoenix.telemetry;
+
+import com.ctre.phoenix.EnumLookup;
+
+/**
+ * Kind of device a telemetry column was sampled from
+ */
+public enum TelemetrySource {
+	/**
+	 * TalonSRX
+	 */
+	TalonSRX(0),
+	/**
+	 * PigeonIMU
+	 */
+	PigeonIMU(1),
+	/**
+	 * CANifier
+	 */
+	CANifier(2),
+	/**
+	 * VictorSPX, kept apart from TalonSRX since both may use the same device number
+	 */
+	VictorSPX(3);
+
+	/**
+	 * Value of TelemetrySource, as stored in the log
+	 */
+	public final int value;
+
+	/**
+	 * Create TelemetrySource of specified value
+	 * @param value Value of TelemetrySource
+	 */
+	TelemetrySource(int value) {
+		this.value = value;
+	}
+	/** Keep singleton lookup to quickly decode enum via int */
+	private static final EnumLookup<TelemetrySource> _lookup = new EnumLookup<TelemetrySource>(TelemetrySource.values(), e -> e.value, null);
+	/**
+	 * Get TelemetrySource of specified value
+	 * @param value Value of TelemetrySource
+	 * @return TelemetrySource of specified value, or null if unknown
+	 */
+	public static TelemetrySource valueOf(int value) {
+		return _lookup.get(value);
+	}
+}
@@ -0,0 +1,177 @@
+package com.ctre.phoenix.time;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Histogram of durations in nanoseconds.
+ *
+ * Buckets are log-linear, in the style of HdrHistogram: each power of two is split into
+ * 32 equal sub-buckets, so any recorded value is known to within about 3%.
+ * Values below 64ns are exact, values above ~68s are counted in the last bucket.
+ * Recording never allocates.
+ */
+public class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_VALUE_BITS = 36;
+	/* log-linear buckets up to 2^MAX_VALUE_BITS, plus one overflow bucket */
+	private static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + 1;
+
+	private final long[] _counts = new long[BUCKET_COUNT];
+	private long _totalCount = 0;
+	private long _min = Long.MAX_VALUE;
+	private long _max = 0;
+	private double _sum = 0;
+
+	/**
+	 * @param valueNs Duration in ns
+	 * @return index of the bucket the duration is counted in
+	 */
+	static int bucketIndex(long valueNs)
+	{
+		if (valueNs < 2 * SUB_BUCKET_COUNT)
+			return valueNs < 0 ? 0 : (int)valueNs;
+		int exponent = 63 - Long.numberOfLeadingZeros(valueNs);
+		if (exponent >= MAX_VALUE_BITS)
+			return BUCKET_COUNT - 1;
+		int shift = exponent - SUB_BUCKET_BITS;
+		return shift * SUB_BUCKET_COUNT + (int)(valueNs >> shift);
+	}
+	/**
+	 * @param index Bucket index
+	 * @return smallest duration counted in the bucket, in ns
+	 */
+	public static long getBucketLowerNs(int index)
+	{
+		if (index < 2 * SUB_BUCKET_COUNT)
+			return index;
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long sub = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+		return sub << shift;
+	}
+	/**
+	 * @param index Bucket index
+	 * @return largest duration counted in the bucket, in ns
+	 */
+	public static long getBucketUpperNs(int index)
+	{
+		if (index >= BUCKET_COUNT - 1)
+			return Long.MAX_VALUE;
+		return getBucketLowerNs(index + 1) - 1;
+	}
+	/**
+	 * @return number of buckets
+	 */
+	public static int getBucketCount()
+	{
+		return BUCKET_COUNT;
+	}
+
+	/**
+	 * Count a duration
+	 * @param valueNs Duration in ns
+	 */
+	public void record(long valueNs)
+	{
+		++_counts[bucketIndex(valueNs)];
+		++_totalCount;
+		if (valueNs < _min) _min = valueNs;
+		if (valueNs > _max) _max = valueNs;
+		_sum += valueNs;
+	}
+	/**
+	 * Clear all counts
+	 */
+	public void reset()
+	{
+		Arrays.fill(_counts, 0);
+		_totalCount = 0;
+		_min = Long.MAX_VALUE;
+		_max = 0;
+		_sum = 0;
+	}
+
+	/**
+	 * @return number of durations recorded
+	 */
+	public long getTotalCount()
+	{
+		return _totalCount;
+	}
+	/**
+	 * @param index Bucket index
+	 * @return number of durations counted in the bucket
+	 */
+	public long getCount(int index)
+	{
+		return _counts[index];
+	}
+	/**
+	 * @return shortest duration recorded in ns, 0 if empty
+	 */
+	public long getMinNs()
+	{
+		return _totalCount > 0 ? _min : 0;
+	}
+	/**
+	 * @return longest duration recorded in ns
+	 */
+	public long getMaxNs()
+	{
+		return _max;
+	}
+	/**
+	 * @return average duration in ns
+	 */
+	public double getMeanNs()
+	{
+		return _totalCount > 0 ? _sum / _totalCount : 0;
+	}
+	/**
+	 * @param percentile Percentile [0,100]
+	 * @return duration in ns that the given percentage of recorded durations are at or below.
+	 * 		Accurate to the width of one bucket.
+	 */
+	public long getValueAtPercentile(double percentile)
+	{
+		if (_totalCount == 0)
+			return 0;
+		long target = (long)Math.ceil(percentile / 100.0 * _totalCount);
+		if (target < 1)
+			target = 1;
+		long cumulative = 0;
+		for (int i = 0; i < BUCKET_COUNT; ++i) {
+			cumulative += _counts[i];
+			if (cumulative >= target)
+				return Math.min(getBucketUpperNs(i), _max);
+		}
+		return _max;
+	}
+
+	/**
+	 * Print the percentile distribution in the HdrHistogram text format.
+	 * @param out Stream to print to
+	 * @param unitNs Nanoseconds per printed unit, e.g. 1000000.0 to print ms
+	 */
+	public void outputPercentileDistribution(PrintStream out, double unitNs)
+	{
+		out.println("       Value     Percentile TotalCount 1/(1-Percentile)");
+		out.println();
+		long cumulative = 0;
+		for (int i = 0; i < BUCKET_COUNT; ++i) {
+			if (_counts[i] == 0)
+				continue;
+			cumulative += _counts[i];
+			double fraction = (double)cumulative / _totalCount;
+			long value = Math.min(getBucketUpperNs(i), _max);
+			if (fraction < 1.0)
+				out.println(String.format("%12.3f %14.12f %10d %14.2f", value / unitNs, fraction, cumulative, 1.0 / (1.0 - fraction)));
+			else
+				out.println(String.format("%12.3f %14.12f %10d", value / unitNs, fraction, cumulative));
+		}
+		out.println(String.format("#[Mean    = %12.3f, Min        = %12.3f]", getMeanNs() / unitNs, getMinNs() / unitNs));
+		out.println(String.format("#[Max     = %12.3f, Total count = %12d]", getMaxNs() / unitNs, _totalCount));
+	}
+}
@@ -1,37 +1,208 @@
 package com.ctre.phoenix.time;
 
+import java.util.Arrays;
+
 /**
- * Stopwatch to track time in milliseconds
+ * Stopwatch to track elapsed time
+ *
+ * Time is measured with System.nanoTime(), so it is monotonic and unaffected by
+ * wall clock adjustments.
+ *
+ * Call lap() to time repeated sections of code.  The most recent laps are kept for
+ * min/max/mean/99th percentile, and every lap since resetLaps() is counted in a
+ * LatencyHistogram.  lap() does not allocate once the first lap has been recorded.
  */
 public class StopWatch
 {
+	private static final int DEFAULT_WINDOW = 128;
+
 	private long _t0 = 0;
-	private long _t1 = 0;
-	
+	private long _lapT0 = 0;
+
+	private final int _windowSize;
+	private long[] _window = null;
+	private long[] _scratch = null;
+	private LatencyHistogram _histogram = null;
+	private int _windowIdx = 0;
+	private long _lapCount = 0;
+	private long _lastLapNs = 0;
+
+	/**
+	 * Constructor for StopWatch, keeping the last 128 laps for rolling statistics
+	 */
+	public StopWatch()
+	{
+		this(DEFAULT_WINDOW);
+	}
+	/**
+	 * Constructor for StopWatch
+	 * @param windowSize Number of most recent laps used for rolling statistics
+	 */
+	public StopWatch(int windowSize)
+	{
+		_windowSize = windowSize < 1 ? 1 : windowSize;
+	}
+
 	/**
 	 * Start the stopwatch
 	 */
 	public void start()
 	{
-		_t0 = System.currentTimeMillis();
+		_t0 = System.nanoTime();
+		_lapT0 = _t0;
 	}
-	
+
 	/**
 	 * @return Current time elapsed since start in s
 	 */
 	public double getDuration()
 	{
-		return (double)getDurationMs() / 1000;
+		return (double)getDurationNs() / 1000000000;
 	}
 	/**
 	 * @return Current time elapsed since start in ms
 	 */
 	public int getDurationMs()
 	{
-		_t1 = System.currentTimeMillis();
-		long retval = _t1 - _t0;
+		return (int)(getDurationNs() / 1000000);
+	}
+	/**
+	 * @return Current time elapsed since start in ns
+	 */
+	public long getDurationNs()
+	{
+		long retval = System.nanoTime() - _t0;
 		if(retval < 0)
 			retval = 0;
-		return (int)retval;
+		return retval;
+	}
+
+	//--- Laps ---/
+	/**
+	 * Record the time since start() or the previous lap(), and begin the next lap.
+	 * @return Duration of the lap in ns
+	 */
+	public long lap()
+	{
+		long now = System.nanoTime();
+		long lapNs = now - _lapT0;
+		_lapT0 = now;
+		recordLap(lapNs);
+		return lapNs;
+	}
+	/**
+	 * Record a lap timed elsewhere, e.g. from getDurationNs().
+	 * @param lapNs Duration of the lap in ns
+	 */
+	public void recordLap(long lapNs)
+	{
+		if (_window == null) {
+			_window = new long[_windowSize];
+			_scratch = new long[_windowSize];
+			_histogram = new LatencyHistogram();
+		}
+		_window[_windowIdx] = lapNs;
+		if (++_windowIdx >= _windowSize)
+			_windowIdx = 0;
+		++_lapCount;
+		_lastLapNs = lapNs;
+		_histogram.record(lapNs);
+	}
+	/**
+	 * Clear lap statistics and histogram
+	 */
+	public void resetLaps()
+	{
+		_windowIdx = 0;
+		_lapCount = 0;
+		_lastLapNs = 0;
+		if (_histogram != null)
+			_histogram.reset();
+	}
+
+	private int windowCount()
+	{
+		return (int)Math.min(_lapCount, _windowSize);
+	}
+	/**
+	 * @return number of laps since resetLaps()
+	 */
+	public long getLapCount()
+	{
+		return _lapCount;
+	}
+	/**
+	 * @return Duration of the most recent lap in ns
+	 */
+	public long getLastLapNs()
+	{
+		return _lastLapNs;
+	}
+	/**
+	 * @return Shortest recent lap in ns
+	 */
+	public long getMinLapNs()
+	{
+		int n = windowCount();
+		if (n == 0)
+			return 0;
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < n; ++i)
+			if (_window[i] < min) min = _window[i];
+		return min;
+	}
+	/**
+	 * @return Longest recent lap in ns
+	 */
+	public long getMaxLapNs()
+	{
+		int n = windowCount();
+		long max = 0;
+		for (int i = 0; i < n; ++i)
+			if (_window[i] > max) max = _window[i];
+		return max;
+	}
+	/**
+	 * @return Average of recent laps in ns
+	 */
+	public double getMeanLapNs()
+	{
+		int n = windowCount();
+		if (n == 0)
+			return 0;
+		double sum = 0;
+		for (int i = 0; i < n; ++i)
+			sum += _window[i];
+		return sum / n;
+	}
+	/**
+	 * @param percentile Percentile [0,100]
+	 * @return Duration in ns that the given percentage of recent laps are at or below
+	 */
+	public long getPercentileLapNs(double percentile)
+	{
+		int n = windowCount();
+		if (n == 0)
+			return 0;
+		System.arraycopy(_window, 0, _scratch, 0, n);
+		Arrays.sort(_scratch, 0, n);
+		int idx = (int)Math.ceil(percentile / 100.0 * n) - 1;
+		if (idx < 0) idx = 0;
+		if (idx >= n) idx = n - 1;
+		return _scratch[idx];
+	}
+	/**
+	 * @return 99th percentile of recent laps in ns
+	 */
+	public long getP99LapNs()
+	{
+		return getPercentileLapNs(99);
+	}
+	/**
+	 * @return Histogram of every lap since resetLaps(), null if no laps have been recorded
+	 */
+	public LatencyHistogram getHistogram()
+	{
+		return _histogram;
 	}
-}
\ No newline at end of file
+}
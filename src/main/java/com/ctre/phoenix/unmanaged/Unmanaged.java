@@ -22,6 +22,8 @@
  */
 package com.ctre.phoenix.unmanaged;
 
+import com.ctre.phoenix.CTREJNIWrapper;
+
 /**
  * Handles enabling when used in a non-FRC manner
  */
@@ -32,6 +34,7 @@ public class Unmanaged {
      * @param timeoutMs Timeout before disabling
      */
     public static void feedEnable(int timeoutMs) {
+        if (!CTREJNIWrapper.isLibraryLoaded()) { return; }
         UnmanagedJNI.JNI_FeedEnable(timeoutMs);
     }
 
@@ -39,6 +42,7 @@ public class Unmanaged {
      * @return true if non-FRC enabled
      */
     public static boolean getEnableState() {
+        if (!CTREJNIWrapper.isLibraryLoaded()) { return true; }
         return  UnmanagedJNI.JNI_GetEnableState();
     }
 
@@ -46,6 +50,7 @@ public class Unmanaged {
      * @return Phoenix version
      */
     public static int getPhoenixVersion() {
+        if (!CTREJNIWrapper.isLibraryLoaded()) { return 0; }
         return UnmanagedJNI.JNI_GetPhoenixVersion();
     }
 
@@ -61,6 +66,7 @@ public class Unmanaged {
      * you are using any of the Phoenix CAN device classes.
      */
     public static void loadPhoenix() {
+        if (!CTREJNIWrapper.isLibraryLoaded()) { return; }
         UnmanagedJNI.JNI_LoadPhoenix();
     }
 }
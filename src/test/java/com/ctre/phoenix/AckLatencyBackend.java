@@ -0,0 +1,46 @@
+package com.ctre.phoenix;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ctre.phoenix.motorcontrol.can.IMotControllerBackend;
+
+/**
+ * Motor controller backend that waits for an acknowledgement on every confirmed config call.
+ *
+ * Wraps another backend, typically the simulation, and sleeps latencyMs in each Config*
+ * call made with a nonzero timeoutMs, as a device answering over CAN would.
+ */
+class AckLatencyBackend {
+	/** Number of calls that waited for an acknowledgement */
+	final AtomicInteger acks = new AtomicInteger();
+	/** Number of calls that did not wait */
+	final AtomicInteger unconfirmed = new AtomicInteger();
+	final IMotControllerBackend backend;
+
+	/**
+	 * @param wrapped Backend that does the work
+	 * @param latencyMs Time each acknowledgement takes
+	 */
+	AckLatencyBackend(final IMotControllerBackend wrapped, final int latencyMs) {
+		backend = (IMotControllerBackend) Proxy.newProxyInstance(IMotControllerBackend.class.getClassLoader(),
+				new Class<?>[] { IMotControllerBackend.class }, (proxy, method, args) -> {
+					if (method.getName().startsWith("Config") && args != null
+							&& args[args.length - 1] instanceof Integer) {
+						/* every Config* call ends with timeoutMs */
+						if ((Integer) args[args.length - 1] != 0) {
+							acks.incrementAndGet();
+							Thread.sleep(latencyMs);
+						} else {
+							unconfirmed.incrementAndGet();
+						}
+					}
+					try {
+						return method.invoke(wrapped, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+	}
+}
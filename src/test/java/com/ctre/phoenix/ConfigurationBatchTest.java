@@ -0,0 +1,88 @@
+package com.ctre.phoenix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ctre.phoenix.motorcontrol.can.TalonSRX;
+import com.ctre.phoenix.motorcontrol.can.TalonSRXConfiguration;
+import com.ctre.phoenix.platform.Backend;
+
+public class ConfigurationBatchTest {
+	private static final int LATENCY_MS = 2;
+	private static final int DEVICES = 4;
+
+	private AckLatencyBackend _backend;
+	private TalonSRXConfiguration _configs;
+
+	@Before
+	public void setUp() {
+		Backend.useSimulation();
+		_backend = new AckLatencyBackend(Backend.getMotController(), LATENCY_MS);
+		Backend.use(_backend.backend, Backend.getPigeonImu(), Backend.getCANifier(), Backend.getBuffTrajPointStream());
+		_configs = new TalonSRXConfiguration();
+		_configs.openloopRamp = 0.25;
+		_configs.peakOutputForward = 0.8;
+		_configs.motionCruiseVelocity = 1200;
+	}
+
+	@After
+	public void tearDown() {
+		Backend.useSimulation();
+	}
+
+	private ConfigurationBatch batch(int parallelism, int firstId) {
+		ConfigurationBatch batch = new ConfigurationBatch(parallelism);
+		for (int i = 0; i < DEVICES; ++i) {
+			batch.add(new TalonSRX(firstId + i), _configs);
+		}
+		return batch;
+	}
+
+	private static long applyMs(ConfigurationBatch batch, int timeoutMs) {
+		long start = System.nanoTime();
+		for (ErrorCollection errors : batch.apply(timeoutMs)) {
+			assertEquals(ErrorCode.OK, errors._worstError);
+		}
+		return (System.nanoTime() - start) / 1000000;
+	}
+
+	@Test
+	public void sendPassDoesNotWaitForAcks() {
+		applyMs(batch(DEVICES, 1), 0);
+		assertEquals(0, _backend.acks.get());
+		assertTrue(_backend.unconfirmed.get() > 0);
+	}
+
+	@Test
+	public void verifyPassRunsDevicesInParallel() {
+		long serialMs = applyMs(batch(1, 1), 30);
+		long parallelMs = applyMs(batch(DEVICES, 11), 30);
+		assertTrue("parallel " + parallelMs + "ms, serial " + serialMs + "ms", parallelMs * 2 < serialMs);
+	}
+
+	@Test
+	public void settingsAreApplied() {
+		TalonSRX talon = new TalonSRX(21);
+		ConfigurationBatch batch = new ConfigurationBatch(DEVICES);
+		batch.add(talon, _configs);
+		applyMs(batch, 30);
+
+		TalonSRXConfiguration readBack = new TalonSRXConfiguration();
+		talon.getAllConfigs(readBack, 30);
+		assertEquals(0.25, readBack.openloopRamp, 1e-3);
+		assertEquals(0.8, readBack.peakOutputForward, 1e-3);
+		assertEquals(1200, readBack.motionCruiseVelocity);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsDuplicateDevice() {
+		TalonSRX talon = new TalonSRX(31);
+		ConfigurationBatch batch = new ConfigurationBatch(DEVICES);
+		batch.add(talon, _configs);
+		batch.add(talon, _configs);
+	}
+}
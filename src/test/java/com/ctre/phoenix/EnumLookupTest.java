@@ -0,0 +1,178 @@
+package com.ctre.phoenix;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import com.ctre.phoenix.GadgeteerUartClient.GadgeteerConnection;
+import com.ctre.phoenix.GadgeteerUartClient.GadgeteerProxyType;
+import com.ctre.phoenix.motion.SetValueMotionProfile;
+import com.ctre.phoenix.motorcontrol.FeedbackDevice;
+import com.ctre.phoenix.motorcontrol.LimitSwitchNormal;
+import com.ctre.phoenix.motorcontrol.LimitSwitchSource;
+import com.ctre.phoenix.motorcontrol.RemoteFeedbackDevice;
+import com.ctre.phoenix.motorcontrol.RemoteLimitSwitchSource;
+import com.ctre.phoenix.motorcontrol.RemoteSensorSource;
+import com.ctre.phoenix.motorcontrol.SensorTerm;
+import com.ctre.phoenix.motorcontrol.VelocityMeasPeriod;
+import com.ctre.phoenix.platform.can.AutocacheState;
+import com.ctre.phoenix.sensors.PigeonIMU;
+import com.ctre.phoenix.sensors.PigeonIMU_ControlFrame;
+import com.ctre.phoenix.sensors.PigeonIMU_StatusFrame;
+import com.ctre.phoenix.telemetry.TelemetrySignal;
+import com.ctre.phoenix.telemetry.TelemetrySource;
+
+public class EnumLookupTest {
+	/** An int-valued enum, how its valueOf(int) decoded before EnumLookup */
+	private static class Decoder {
+		final Class<? extends Enum<?>> type;
+		/** Name of the constant returned for unknown values, null if null is returned */
+		final String unknown;
+		/** true if valueOf searched values(), false if it filled a map in declaration order */
+		final boolean searched;
+
+		Decoder(Class<? extends Enum<?>> type, String unknown, boolean searched) {
+			this.type = type;
+			this.unknown = unknown;
+			this.searched = searched;
+		}
+	}
+
+	private static final Decoder[] DECODERS = {
+		new Decoder(ErrorCode.class, "GeneralError", false),
+		new Decoder(CANifierStatusFrame.class, null, true),
+		new Decoder(CANifierControlFrame.class, null, true),
+		new Decoder(CANifier.LEDChannel.class, null, true),
+		new Decoder(CANifier.PWMChannel.class, null, true),
+		new Decoder(CANifier.GeneralPin.class, null, true),
+		new Decoder(GadgeteerProxyType.class, "Unknown", true),
+		new Decoder(GadgeteerConnection.class, "Unknown", true),
+		new Decoder(VelocityPeriod.class, "Period_100Ms", false),
+		new Decoder(SetValueMotionProfile.class, "Invalid", true),
+		new Decoder(FeedbackDevice.class, "QuadEncoder", false),
+		new Decoder(LimitSwitchNormal.class, "NormallyOpen", false),
+		new Decoder(LimitSwitchSource.class, "FeedbackConnector", false),
+		new Decoder(RemoteFeedbackDevice.class, "RemoteSensor0", false),
+		new Decoder(RemoteLimitSwitchSource.class, "Deactivated", false),
+		new Decoder(RemoteSensorSource.class, "Off", false),
+		new Decoder(SensorTerm.class, "Sum0", false),
+		new Decoder(VelocityMeasPeriod.class, "Period_100Ms", false),
+		new Decoder(AutocacheState.class, null, true),
+		new Decoder(PigeonIMU.CalibrationMode.class, "Unknown", true),
+		new Decoder(PigeonIMU.PigeonState.class, "Unknown", true),
+		new Decoder(PigeonIMU_ControlFrame.class, null, true),
+		new Decoder(PigeonIMU_StatusFrame.class, null, true),
+		new Decoder(TelemetrySignal.class, null, true),
+		new Decoder(TelemetrySource.class, null, true),
+	};
+
+	/** The int value of a constant, some enums keep it private */
+	private static int valueOf(Enum<?> e) throws ReflectiveOperationException {
+		Field field = e.getDeclaringClass().getDeclaredField("value");
+		field.setAccessible(true);
+		return field.getInt(e);
+	}
+
+	private static Object reference(Decoder decoder, int value) throws ReflectiveOperationException {
+		Object found = null;
+		for (Enum<?> e : decoder.type.getEnumConstants()) {
+			if (valueOf(e) == value) {
+				found = e;
+				if (decoder.searched) {
+					break;
+				}
+			}
+		}
+		if (found == null && decoder.unknown != null) {
+			found = decoder.type.getField(decoder.unknown).get(null);
+		}
+		return found;
+	}
+
+	@Test
+	public void decodesAsBefore() throws ReflectiveOperationException {
+		for (Decoder decoder : DECODERS) {
+			Method valueOf = decoder.type.getMethod("valueOf", int.class);
+			for (int value = -2000; value <= 2000; ++value) {
+				assertSame(decoder.type.getName() + " " + value, reference(decoder, value), valueOf.invoke(null, value));
+			}
+			for (Enum<?> e : decoder.type.getEnumConstants()) {
+				int value = valueOf(e);
+				for (int near = value - 1; near <= value + 1; ++near) {
+					assertSame(decoder.type.getName() + " " + near, reference(decoder, near), valueOf.invoke(null, near));
+				}
+			}
+		}
+	}
+
+	private static int ordinal(Enum<?> e) {
+		return e == null ? -1 : e.ordinal();
+	}
+
+	/** Decodes through every valueOf(int) backed by EnumLookup, directly so nothing is boxed */
+	private static int decodeAll(int value) {
+		int sink = ordinal(ErrorCode.valueOf(value));
+		sink += ordinal(CANifierStatusFrame.valueOf(value));
+		sink += ordinal(CANifierControlFrame.valueOf(value));
+		sink += ordinal(CANifier.LEDChannel.valueOf(value));
+		sink += ordinal(CANifier.PWMChannel.valueOf(value));
+		sink += ordinal(CANifier.GeneralPin.valueOf(value));
+		sink += ordinal(GadgeteerProxyType.valueOf(value));
+		sink += ordinal(GadgeteerConnection.valueOf(value));
+		sink += ordinal(VelocityPeriod.valueOf(value));
+		sink += ordinal(SetValueMotionProfile.valueOf(value));
+		sink += ordinal(FeedbackDevice.valueOf(value));
+		sink += ordinal(LimitSwitchNormal.valueOf(value));
+		sink += ordinal(LimitSwitchSource.valueOf(value));
+		sink += ordinal(RemoteFeedbackDevice.valueOf(value));
+		sink += ordinal(RemoteLimitSwitchSource.valueOf(value));
+		sink += ordinal(RemoteSensorSource.valueOf(value));
+		sink += ordinal(SensorTerm.valueOf(value));
+		sink += ordinal(VelocityMeasPeriod.valueOf(value));
+		sink += ordinal(AutocacheState.valueOf(value));
+		sink += ordinal(PigeonIMU.CalibrationMode.valueOf(value));
+		sink += ordinal(PigeonIMU.PigeonState.valueOf(value));
+		sink += ordinal(PigeonIMU_ControlFrame.valueOf(value));
+		sink += ordinal(PigeonIMU_StatusFrame.valueOf(value));
+		sink += ordinal(TelemetrySignal.valueOf(value));
+		sink += ordinal(TelemetrySource.valueOf(value));
+		return sink;
+	}
+
+	private static int decodeRange() {
+		int sink = 0;
+		for (int value = -2000; value <= 2000; ++value) {
+			sink += decodeAll(value);
+		}
+		/* sparse values, decoded by binary search */
+		sink += decodeAll(PigeonIMU_StatusFrame.CondStatus_11_GyroAccum.value);
+		sink += decodeAll(CANifierStatusFrame.Status_8_Misc.value);
+		return sink;
+	}
+
+	@Test
+	public void decodeDoesNotAllocate() {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assertTrue("thread allocation counter not supported", threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+		long id = Thread.currentThread().getId();
+
+		int sink = decodeRange();
+		/* what reading the counter costs, to take off the measurement */
+		long before = threads.getThreadAllocatedBytes(id);
+		long overhead = threads.getThreadAllocatedBytes(id) - before;
+
+		before = threads.getThreadAllocatedBytes(id);
+		for (int i = 0; i < 10; ++i) {
+			sink += decodeRange();
+		}
+		long allocated = threads.getThreadAllocatedBytes(id) - before - overhead;
+
+		assertTrue("decoding allocated " + allocated + " bytes (" + sink + ")", allocated <= 0);
+	}
+}
@@ -0,0 +1,31 @@
+package com.ctre.phoenix;
+
+import static org.junit.Assert.assertSame;
+
+import java.util.HashMap;
+
+import org.junit.Test;
+
+public class ErrorCodeTest {
+	/** valueOf(int) as it was, a map filled in declaration order */
+	private static ErrorCode mapValueOf(HashMap<Integer, ErrorCode> map, int value) {
+		ErrorCode retval = map.get(value);
+		if (retval != null)
+			return retval;
+		return ErrorCode.GeneralError;
+	}
+
+	@Test
+	public void decodesAsTheMapDid() {
+		HashMap<Integer, ErrorCode> map = new HashMap<Integer, ErrorCode>();
+		for (ErrorCode type : ErrorCode.values()) {
+			map.put(type.value, type);
+		}
+		for (int value = -2000; value <= 2000; ++value) {
+			assertSame("value " + value, mapValueOf(map, value), ErrorCode.valueOf(value));
+		}
+		for (int value : new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE }) {
+			assertSame("value " + value, mapValueOf(map, value), ErrorCode.valueOf(value));
+		}
+	}
+}